@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.sheet.processor;
+
+import java.util.List;
+import javax.lang.model.element.TypeElement;
+
+/**
+ * The source of a generated bean accessor.
+ */
+final class AccessorSource {
+
+    private static final String INDENT = "    ";
+
+    private final String packageName;
+    private final String simpleName;
+    private final String beanTypeName;
+    private final boolean instantiable;
+    private final List<Property> properties;
+
+    private final StringBuilder source = new StringBuilder();
+
+    AccessorSource(
+            String packageName,
+            String simpleName,
+            TypeElement beanType,
+            boolean instantiable,
+            List<Property> properties) {
+        this.packageName = packageName;
+        this.simpleName = simpleName;
+        this.beanTypeName = beanType.getQualifiedName().toString();
+        this.instantiable = instantiable;
+        this.properties = properties;
+    }
+
+    @Override
+    public String toString() {
+        source.setLength(0);
+        if (!packageName.isEmpty()) {
+            line(0, "package " + packageName + ";");
+            line(0, "");
+        }
+        line(0, "/**");
+        line(0, " * Bean accessor of {@link " + beanTypeName + "}, generated by "
+                + BeanAccessorProcessor.class.getName() + ".");
+        line(0, " */");
+        line(0, "@SuppressWarnings({\"rawtypes\", \"unchecked\"})");
+        line(0, "public final class " + simpleName + " implements " + BeanAccessorProcessor.BEAN_ACCESSOR + "<"
+                + beanTypeName + "> {");
+        line(0, "");
+        propertyArrays();
+        beanClassMethod();
+        newInstanceMethod();
+        line(1, "@Override");
+        line(1, "public String[] getPropertyNames() {");
+        line(2, "return PROPERTY_NAMES;");
+        line(1, "}");
+        line(0, "");
+        line(1, "@Override");
+        line(1, "public Class<?> getPropertyType(int index) {");
+        line(2, "return PROPERTY_TYPES[index];");
+        line(1, "}");
+        line(0, "");
+        booleanSwitchMethod("isReadable", true);
+        booleanSwitchMethod("isWritable", false);
+        getMethod();
+        setMethod();
+        line(0, "}");
+        return source.toString();
+    }
+
+    private void propertyArrays() {
+        StringBuilder names = new StringBuilder();
+        StringBuilder types = new StringBuilder();
+        for (Property property : properties) {
+            if (names.length() > 0) {
+                names.append(", ");
+                types.append(", ");
+            }
+            names.append('"').append(property.getName()).append('"');
+            types.append(property.getType()).append(".class");
+        }
+        line(1, "private static final String[] PROPERTY_NAMES = {" + names + "};");
+        line(0, "");
+        line(1, "private static final Class<?>[] PROPERTY_TYPES = {" + types + "};");
+        line(0, "");
+    }
+
+    private void beanClassMethod() {
+        line(1, "@Override");
+        line(1, "public Class<" + beanTypeName + "> getBeanClass() {");
+        line(2, "return " + beanTypeName + ".class;");
+        line(1, "}");
+        line(0, "");
+    }
+
+    private void newInstanceMethod() {
+        line(1, "@Override");
+        line(1, "public " + beanTypeName + " newInstance() {");
+        if (instantiable) {
+            line(2, "return new " + beanTypeName + "();");
+        } else {
+            line(2, "throw new UnsupportedOperationException(\"No accessible no-argument constructor: " + beanTypeName
+                    + "\");");
+        }
+        line(1, "}");
+        line(0, "");
+    }
+
+    private void booleanSwitchMethod(String methodName, boolean readable) {
+        line(1, "@Override");
+        line(1, "public boolean " + methodName + "(int index) {");
+        line(2, "switch (index) {");
+        boolean any = false;
+        for (int i = 0; i < properties.size(); i++) {
+            Property property = properties.get(i);
+            if ((readable ? property.getGetterName() : property.getSetterName()) != null) {
+                line(3, "case " + i + ":");
+                any = true;
+            }
+        }
+        if (any) {
+            line(4, "return true;");
+        }
+        line(3, "default:");
+        line(4, "return false;");
+        line(2, "}");
+        line(1, "}");
+        line(0, "");
+    }
+
+    private void getMethod() {
+        line(1, "@Override");
+        line(1, "public Object get(" + beanTypeName + " bean, int index) {");
+        line(2, "switch (index) {");
+        for (int i = 0; i < properties.size(); i++) {
+            Property property = properties.get(i);
+            if (property.getGetterName() != null) {
+                line(3, "case " + i + ":");
+                line(4, "return bean." + property.getGetterName() + "();");
+            }
+        }
+        line(3, "default:");
+        line(4, "return null;");
+        line(2, "}");
+        line(1, "}");
+        line(0, "");
+    }
+
+    private void setMethod() {
+        line(1, "@Override");
+        line(1, "public void set(" + beanTypeName + " bean, int index, Object value) {");
+        line(2, "switch (index) {");
+        for (int i = 0; i < properties.size(); i++) {
+            Property property = properties.get(i);
+            if (property.getSetterName() != null) {
+                line(3, "case " + i + ":");
+                line(4, "bean." + property.getSetterName() + "((" + property.getCastType() + ") value);");
+                line(4, "return;");
+            }
+        }
+        line(3, "default:");
+        line(4, "return;");
+        line(2, "}");
+        line(1, "}");
+    }
+
+    private void line(int indent, String text) {
+        if (!text.isEmpty()) {
+            for (int i = 0; i < indent; i++) {
+                source.append(INDENT);
+            }
+            source.append(text);
+        }
+        source.append('\n');
+    }
+}
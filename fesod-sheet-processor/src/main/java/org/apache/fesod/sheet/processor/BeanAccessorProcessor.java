@@ -0,0 +1,397 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.sheet.processor;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Generates a {@code BeanAccessor} for each class with fields annotated with {@code @ExcelProperty}.
+ * <p>
+ * The accessor creates the objects and reads and writes their JavaBeans properties with plain method calls, and is
+ * registered as a service so that the read and write paths use it instead of reflection. Classes that can not be
+ * accessed from their package, such as private or inner classes, are skipped. So are the classes with an
+ * {@code @ExcelProperty} field that has neither a getter nor a setter in source, such as the ones whose accessors are
+ * added by Lombok: they are accessed through reflection.
+ */
+@SupportedAnnotationTypes(BeanAccessorProcessor.EXCEL_PROPERTY)
+public class BeanAccessorProcessor extends AbstractProcessor {
+
+    static final String EXCEL_PROPERTY = "org.apache.fesod.sheet.annotation.ExcelProperty";
+
+    static final String BEAN_ACCESSOR = "org.apache.fesod.sheet.metadata.bean.BeanAccessor";
+
+    static final String ACCESSOR_SUFFIX = "_BeanAccessor";
+
+    private static final String SERVICE_FILE = "META-INF/services/" + BEAN_ACCESSOR;
+
+    /**
+     * The accessors generated in all the rounds.
+     */
+    private final Set<String> accessorNames = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeServiceFile();
+            return false;
+        }
+        Set<TypeElement> beanTypes = new LinkedHashSet<>();
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() == ElementKind.FIELD) {
+                    beanTypes.add((TypeElement) element.getEnclosingElement());
+                }
+            }
+        }
+        for (TypeElement beanType : beanTypes) {
+            if (!isAccessible(beanType)) {
+                processingEnv
+                        .getMessager()
+                        .printMessage(
+                                Diagnostic.Kind.NOTE,
+                                "No bean accessor generated, the class is not accessible from its package",
+                                beanType);
+                continue;
+            }
+            List<Property> properties = properties(beanType);
+            String missingProperty = missingProperty(beanType, properties);
+            if (missingProperty != null) {
+                processingEnv
+                        .getMessager()
+                        .printMessage(
+                                Diagnostic.Kind.NOTE,
+                                "No bean accessor generated, the property '" + missingProperty
+                                        + "' has neither a getter nor a setter in source",
+                                beanType);
+                continue;
+            }
+            generateAccessor(beanType, properties);
+        }
+        return false;
+    }
+
+    /**
+     * Find an {@code @ExcelProperty} field of the class or its superclasses that is not a property.
+     *
+     * @return the name of the field, or null if there is none
+     */
+    private static String missingProperty(TypeElement beanType, List<Property> properties) {
+        Set<String> propertyNames = new LinkedHashSet<>();
+        for (Property property : properties) {
+            propertyNames.add(property.getName());
+        }
+        TypeElement type = beanType;
+        while (type != null && !type.getQualifiedName().contentEquals(Object.class.getName())) {
+            for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+                if (!field.getModifiers().contains(Modifier.STATIC)
+                        && isExcelProperty(field)
+                        && !propertyNames.contains(field.getSimpleName().toString())) {
+                    return field.getSimpleName().toString();
+                }
+            }
+            type = superclass(type);
+        }
+        return null;
+    }
+
+    private static boolean isExcelProperty(VariableElement field) {
+        for (AnnotationMirror annotationMirror : field.getAnnotationMirrors()) {
+            TypeElement annotationType = (TypeElement) annotationMirror.getAnnotationType().asElement();
+            if (annotationType.getQualifiedName().contentEquals(EXCEL_PROPERTY)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Whether the generated accessor in the same package can use the class.
+     */
+    private static boolean isAccessible(TypeElement beanType) {
+        if (beanType.getKind() != ElementKind.CLASS) {
+            return false;
+        }
+        Element element = beanType;
+        while (element instanceof TypeElement) {
+            TypeElement typeElement = (TypeElement) element;
+            NestingKind nestingKind = typeElement.getNestingKind();
+            if (nestingKind != NestingKind.TOP_LEVEL && nestingKind != NestingKind.MEMBER) {
+                return false;
+            }
+            if (typeElement.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            if (nestingKind == NestingKind.MEMBER && !typeElement.getModifiers().contains(Modifier.STATIC)) {
+                return false;
+            }
+            element = typeElement.getEnclosingElement();
+        }
+        return true;
+    }
+
+    private void generateAccessor(TypeElement beanType, List<Property> properties) {
+        PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(beanType);
+        String packageName =
+                packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+        String accessorSimpleName = flatName(beanType) + ACCESSOR_SUFFIX;
+        String accessorName = packageName.isEmpty() ? accessorSimpleName : packageName + "." + accessorSimpleName;
+        try {
+            JavaFileObject sourceFile = processingEnv.getFiler().createSourceFile(accessorName, beanType);
+            try (Writer writer = sourceFile.openWriter()) {
+                writer.write(new AccessorSource(
+                                packageName,
+                                accessorSimpleName,
+                                beanType,
+                                hasNoArgConstructor(beanType),
+                                properties)
+                        .toString());
+            }
+            accessorNames.add(accessorName);
+        } catch (IOException e) {
+            processingEnv
+                    .getMessager()
+                    .printMessage(Diagnostic.Kind.ERROR, "Can not generate bean accessor: " + e.getMessage(), beanType);
+        }
+    }
+
+    /**
+     * The name of the class with the names of the enclosing classes, joined with '_'.
+     */
+    private static String flatName(TypeElement beanType) {
+        StringBuilder flatName = new StringBuilder(beanType.getSimpleName());
+        Element element = beanType.getEnclosingElement();
+        while (element instanceof TypeElement) {
+            flatName.insert(0, element.getSimpleName() + "_");
+            element = element.getEnclosingElement();
+        }
+        return flatName.toString();
+    }
+
+    private static boolean hasNoArgConstructor(TypeElement beanType) {
+        if (beanType.getModifiers().contains(Modifier.ABSTRACT)) {
+            return false;
+        }
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(beanType.getEnclosedElements())) {
+            if (constructor.getParameters().isEmpty() && !constructor.getModifiers().contains(Modifier.PRIVATE)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The properties the JavaBeans introspector finds: the public getters and setters of the class and its
+     * superclasses, up to {@link Object}.
+     */
+    private List<Property> properties(TypeElement beanType) {
+        Map<String, ExecutableElement> getterMap = new LinkedHashMap<>();
+        Map<String, ExecutableElement> setterMap = new LinkedHashMap<>();
+        TypeElement type = beanType;
+        while (type != null && !type.getQualifiedName().contentEquals(Object.class.getName())) {
+            for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+                Set<Modifier> modifiers = method.getModifiers();
+                if (!modifiers.contains(Modifier.PUBLIC) || modifiers.contains(Modifier.STATIC)) {
+                    continue;
+                }
+                String methodName = method.getSimpleName().toString();
+                int parameterCount = method.getParameters().size();
+                TypeKind returnKind = method.getReturnType().getKind();
+                if (parameterCount == 0
+                        && methodName.startsWith("is")
+                        && methodName.length() > 2
+                        && returnKind == TypeKind.BOOLEAN) {
+                    // The "is" getter wins over the "get" getter
+                    String propertyName = decapitalize(methodName.substring(2));
+                    ExecutableElement getter = getterMap.get(propertyName);
+                    if (getter == null || getter.getSimpleName().toString().startsWith("get")) {
+                        getterMap.put(propertyName, method);
+                    }
+                } else if (parameterCount == 0
+                        && methodName.startsWith("get")
+                        && methodName.length() > 3
+                        && returnKind != TypeKind.VOID) {
+                    String propertyName = decapitalize(methodName.substring(3));
+                    getterMap.putIfAbsent(propertyName, method);
+                } else if (parameterCount == 1
+                        && methodName.startsWith("set")
+                        && methodName.length() > 3
+                        && returnKind == TypeKind.VOID) {
+                    setterMap.putIfAbsent(decapitalize(methodName.substring(3)), method);
+                }
+            }
+            type = superclass(type);
+        }
+
+        Set<String> propertyNames = new TreeSet<>(getterMap.keySet());
+        propertyNames.addAll(setterMap.keySet());
+        List<Property> properties = new ArrayList<>();
+        for (String propertyName : propertyNames) {
+            ExecutableElement getter = getterMap.get(propertyName);
+            ExecutableElement setter = setterMap.get(propertyName);
+            TypeMirror propertyType;
+            if (getter != null) {
+                propertyType = erasure(getter.getReturnType());
+                if (setter != null
+                        && !processingEnv
+                                .getTypeUtils()
+                                .isSameType(propertyType, erasure(setterType(setter)))) {
+                    // The introspector only pairs a setter of the same type
+                    setter = null;
+                }
+            } else {
+                propertyType = erasure(setterType(setter));
+            }
+            properties.add(new Property(
+                    propertyName,
+                    propertyType.toString(),
+                    getter == null ? null : getter.getSimpleName().toString(),
+                    setter == null ? null : setter.getSimpleName().toString(),
+                    propertyType.getKind().isPrimitive()
+                            ? boxedName(propertyType)
+                            : propertyType.toString()));
+        }
+        return properties;
+    }
+
+    private static TypeMirror setterType(ExecutableElement setter) {
+        return setter.getParameters().get(0).asType();
+    }
+
+    private TypeMirror erasure(TypeMirror typeMirror) {
+        return processingEnv.getTypeUtils().erasure(typeMirror);
+    }
+
+    private String boxedName(TypeMirror primitiveType) {
+        return processingEnv
+                .getTypeUtils()
+                .boxedClass(processingEnv.getTypeUtils().getPrimitiveType(primitiveType.getKind()))
+                .getQualifiedName()
+                .toString();
+    }
+
+    private static TypeElement superclass(TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+        if (superclass.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        return (TypeElement) ((DeclaredType) superclass).asElement();
+    }
+
+    /**
+     * The same as {@code java.beans.Introspector#decapitalize}.
+     */
+    static String decapitalize(String name) {
+        if (name.isEmpty()) {
+            return name;
+        }
+        if (name.length() > 1 && Character.isUpperCase(name.charAt(1)) && Character.isUpperCase(name.charAt(0))) {
+            return name;
+        }
+        char[] chars = name.toCharArray();
+        chars[0] = Character.toLowerCase(chars[0]);
+        return new String(chars);
+    }
+
+    /**
+     * Register the accessors, keeping the ones of an earlier incremental compilation that still exist.
+     */
+    private void writeServiceFile() {
+        if (accessorNames.isEmpty()) {
+            return;
+        }
+        Filer filer = processingEnv.getFiler();
+        Set<String> serviceNames = new TreeSet<>(accessorNames);
+        try {
+            FileObject existing = filer.getResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(existing.openInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    line = line.trim();
+                    if (line.isEmpty() || line.startsWith("#")) {
+                        continue;
+                    }
+                    // The accessor of a renamed or deleted class would fail the service loading
+                    if (processingEnv.getElementUtils().getTypeElement(line) == null) {
+                        processingEnv
+                                .getMessager()
+                                .printMessage(
+                                        Diagnostic.Kind.NOTE, "Drop the bean accessor that no longer exists: " + line);
+                        continue;
+                    }
+                    serviceNames.add(line);
+                }
+            }
+        } catch (IOException ignore) {
+            // no earlier file
+        }
+        try {
+            FileObject serviceFile = filer.createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+            try (Writer writer = serviceFile.openWriter()) {
+                for (String serviceName : serviceNames) {
+                    writer.write(serviceName);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv
+                    .getMessager()
+                    .printMessage(Diagnostic.Kind.ERROR, "Can not register the bean accessors: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.sheet.processor;
+
+/**
+ * A JavaBeans property of the class an accessor is generated for.
+ */
+final class Property {
+
+    private final String name;
+    /**
+     * The erased type, as written in source.
+     */
+    private final String type;
+    /**
+     * Null if the property can not be read.
+     */
+    private final String getterName;
+    /**
+     * Null if the property can not be written.
+     */
+    private final String setterName;
+    /**
+     * The type the value is cast to before calling the setter, boxed for primitives.
+     */
+    private final String castType;
+
+    Property(String name, String type, String getterName, String setterName, String castType) {
+        this.name = name;
+        this.type = type;
+        this.getterName = getterName;
+        this.setterName = setterName;
+        this.castType = castType;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    String getType() {
+        return type;
+    }
+
+    String getGetterName() {
+        return getterName;
+    }
+
+    String getSetterName() {
+        return setterName;
+    }
+
+    String getCastType() {
+        return castType;
+    }
+}
@@ -0,0 +1,399 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.sheet.processor;
+
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.TreeMap;
+import javax.annotation.processing.Processor;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import org.apache.fesod.sheet.FesodSheet;
+import org.apache.fesod.sheet.metadata.bean.BeanAccessor;
+import org.apache.fesod.sheet.metadata.bean.BeanAccessors;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Compiles beans with the processor and uses the generated accessors.
+ */
+public class BeanAccessorProcessorTest {
+
+    private static final String DEMO_DATA = "package demo;\n"
+            + "\n"
+            + "import org.apache.fesod.sheet.annotation.ExcelProperty;\n"
+            + "\n"
+            + "public class DemoData extends BaseData {\n"
+            + "    @ExcelProperty(\"name\")\n"
+            + "    private String name;\n"
+            + "    @ExcelProperty(\"age\")\n"
+            + "    private int age;\n"
+            + "    @ExcelProperty(\"active\")\n"
+            + "    private boolean active;\n"
+            + "    @ExcelProperty(\"chain\")\n"
+            + "    private String chain;\n"
+            + "    private String writeOnly;\n"
+            + "\n"
+            + "    public String getName() { return name; }\n"
+            + "    public void setName(String name) { this.name = name; }\n"
+            + "    public int getAge() { return age; }\n"
+            + "    public void setAge(int age) { this.age = age; }\n"
+            + "    public boolean isActive() { return active; }\n"
+            + "    public void setActive(boolean active) { this.active = active; }\n"
+            + "    public String getChain() { return chain; }\n"
+            + "    public DemoData setChain(String chain) { this.chain = chain; return this; }\n"
+            + "    public String getUpperName() { return name == null ? null : name.toUpperCase(); }\n"
+            + "    public void setWriteOnly(String writeOnly) { this.writeOnly = writeOnly; }\n"
+            + "    public String getURL() { return null; }\n"
+            + "\n"
+            + "    public static class Nested {\n"
+            + "        @ExcelProperty(\"value\")\n"
+            + "        private java.util.List<String> value;\n"
+            + "        public java.util.List<String> getValue() { return value; }\n"
+            + "        public void setValue(java.util.List<String> value) { this.value = value; }\n"
+            + "    }\n"
+            + "\n"
+            + "    private static class Hidden {\n"
+            + "        @ExcelProperty(\"value\")\n"
+            + "        private String value;\n"
+            + "    }\n"
+            + "}\n";
+
+    private static final String BASE_DATA = "package demo;\n"
+            + "\n"
+            + "public class BaseData {\n"
+            + "    private Long id;\n"
+            + "    public Long getId() { return id; }\n"
+            + "    public void setId(Long id) { this.id = id; }\n"
+            + "}\n";
+
+    private static final String LOMBOK_DATA = "package lombokdemo;\n"
+            + "\n"
+            + "import lombok.Getter;\n"
+            + "import lombok.Setter;\n"
+            + "import org.apache.fesod.sheet.annotation.ExcelProperty;\n"
+            + "\n"
+            + "@Getter\n"
+            + "@Setter\n"
+            + "public class LombokData {\n"
+            + "    @ExcelProperty(\"name\")\n"
+            + "    private String name;\n"
+            + "    @ExcelProperty(\"age\")\n"
+            + "    private Integer age;\n"
+            + "}\n";
+
+    private static final String FIELD_ONLY_DATA = "package fielddemo;\n"
+            + "\n"
+            + "import org.apache.fesod.sheet.annotation.ExcelProperty;\n"
+            + "\n"
+            + "public class FieldOnlyData {\n"
+            + "    @ExcelProperty(\"name\")\n"
+            + "    private String name;\n"
+            + "    @ExcelProperty(\"age\")\n"
+            + "    public Integer age;\n"
+            + "    public String getName() { return name; }\n"
+            + "    public void setName(String name) { this.name = name; }\n"
+            + "}\n";
+
+    private static final String STALE_DATA = "package staledemo;\n"
+            + "\n"
+            + "import org.apache.fesod.sheet.annotation.ExcelProperty;\n"
+            + "\n"
+            + "public class StaleData {\n"
+            + "    @ExcelProperty(\"name\")\n"
+            + "    private String name;\n"
+            + "    public String getName() { return name; }\n"
+            + "    public void setName(String name) { this.name = name; }\n"
+            + "%s"
+            + "}\n";
+
+    private static final String STALE_DATA_AGE = "    @ExcelProperty(\"age\")\n"
+            + "    private Integer age;\n"
+            + "    public Integer getAge() { return age; }\n"
+            + "    public void setAge(Integer age) { this.age = age; }\n";
+
+    private static final String SERVICE_FILE = "META-INF/services/" + BeanAccessorProcessor.BEAN_ACCESSOR;
+
+    @TempDir
+    static Path tempDir;
+
+    private static Path classesDir;
+
+    private static ClassLoader classLoader;
+
+    @BeforeAll
+    static void compile() throws Exception {
+        Map<String, String> sources = new TreeMap<>();
+        sources.put("demo/DemoData.java", DEMO_DATA);
+        sources.put("demo/BaseData.java", BASE_DATA);
+        classesDir = compile("classes", sources, new BeanAccessorProcessor());
+        classLoader = classLoader(classesDir);
+    }
+
+    @Test
+    void generatesAccessorsForAccessibleClasses() throws Exception {
+        Assertions.assertTrue(Files.exists(classesDir.resolve("demo/DemoData_BeanAccessor.class")));
+        Assertions.assertTrue(Files.exists(classesDir.resolve("demo/DemoData_Nested_BeanAccessor.class")));
+        Assertions.assertFalse(Files.exists(classesDir.resolve("demo/DemoData_Hidden_BeanAccessor.class")));
+        List<String> services = Files.readAllLines(classesDir.resolve(SERVICE_FILE));
+        Assertions.assertEquals(
+                Arrays.asList("demo.DemoData_BeanAccessor", "demo.DemoData_Nested_BeanAccessor"), services);
+    }
+
+    @Test
+    void findsTheSamePropertiesAsTheIntrospector() throws Exception {
+        for (String className : new String[] {"demo.DemoData", "demo.DemoData$Nested"}) {
+            Class<?> beanClass = classLoader.loadClass(className);
+            BeanAccessor<?> beanAccessor = BeanAccessors.get(beanClass);
+            Assertions.assertTrue(beanAccessor.getClass().getName().endsWith(BeanAccessorProcessor.ACCESSOR_SUFFIX));
+
+            Assertions.assertEquals(properties(beanClass), properties(beanAccessor), className);
+        }
+    }
+
+    @Test
+    void readsAndWritesWithTheGeneratedAccessor() throws Exception {
+        Class<?> beanClass = classLoader.loadClass("demo.DemoData");
+        List<Object> data = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Object bean = beanClass.getConstructor().newInstance();
+            beanClass.getMethod("setName", String.class).invoke(bean, "Name" + i);
+            beanClass.getMethod("setAge", int.class).invoke(bean, i);
+            beanClass.getMethod("setActive", boolean.class).invoke(bean, i % 2 == 0);
+            beanClass.getMethod("setChain", String.class).invoke(bean, "Chain" + i);
+            data.add(bean);
+        }
+        File file = tempDir.resolve("demo.xlsx").toFile();
+        FesodSheet.write(file, beanClass).sheet().doWrite(data);
+
+        List<Object> rows = FesodSheet.read(file, beanClass, null).sheet().doReadSync();
+
+        Assertions.assertEquals(10, rows.size());
+        for (int i = 0; i < 10; i++) {
+            Object row = rows.get(i);
+            Assertions.assertEquals("Name" + i, beanClass.getMethod("getName").invoke(row));
+            Assertions.assertEquals(i, beanClass.getMethod("getAge").invoke(row));
+            Assertions.assertEquals(i % 2 == 0, beanClass.getMethod("isActive").invoke(row));
+            Assertions.assertEquals("Chain" + i, beanClass.getMethod("getChain").invoke(row));
+        }
+    }
+
+    @Test
+    void usesTheGettersAndSettersAddedByLombok() throws Exception {
+        Processor lombokProcessor = (Processor) Class.forName("lombok.launch.AnnotationProcessorHider$AnnotationProcessor")
+                .getConstructor()
+                .newInstance();
+        Path lombokClassesDir = compile(
+                "lombokClasses",
+                Collections.singletonMap("lombokdemo/LombokData.java", LOMBOK_DATA),
+                lombokProcessor,
+                new BeanAccessorProcessor());
+        Class<?> beanClass = classLoader(lombokClassesDir).loadClass("lombokdemo.LombokData");
+
+        BeanAccessor<?> beanAccessor = BeanAccessors.get(beanClass);
+        Assertions.assertEquals(properties(beanClass), properties(beanAccessor));
+        Assertions.assertEquals(2, beanAccessor.getPropertyNames().length);
+
+        List<Object> data = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Object bean = beanClass.getConstructor().newInstance();
+            beanClass.getMethod("setName", String.class).invoke(bean, "Name" + i);
+            beanClass.getMethod("setAge", Integer.class).invoke(bean, i);
+            data.add(bean);
+        }
+        File file = tempDir.resolve("lombok.xlsx").toFile();
+        FesodSheet.write(file, beanClass).sheet().doWrite(data);
+
+        List<Object> rows = FesodSheet.read(file, beanClass, null).sheet().doReadSync();
+
+        Assertions.assertEquals(10, rows.size());
+        for (int i = 0; i < 10; i++) {
+            Assertions.assertEquals("Name" + i, beanClass.getMethod("getName").invoke(rows.get(i)));
+            Assertions.assertEquals(i, beanClass.getMethod("getAge").invoke(rows.get(i)));
+        }
+    }
+
+    @Test
+    void skipsClassesWithPropertyFieldsWithoutAccessors() throws Exception {
+        Path fieldClassesDir = compile(
+                "fieldClasses",
+                Collections.singletonMap("fielddemo/FieldOnlyData.java", FIELD_ONLY_DATA),
+                new BeanAccessorProcessor());
+
+        Assertions.assertTrue(Files.exists(fieldClassesDir.resolve("fielddemo/FieldOnlyData.class")));
+        Assertions.assertFalse(Files.exists(fieldClassesDir.resolve("fielddemo/FieldOnlyData_BeanAccessor.class")));
+    }
+
+    @Test
+    void ignoresGeneratedAccessorsMissingProperties() throws Exception {
+        // The accessor is generated for the class without the age, then the class gets it
+        Path staleClassesDir = compile(
+                "staleClasses",
+                Collections.singletonMap("staledemo/StaleData.java", String.format(STALE_DATA, "")),
+                new BeanAccessorProcessor());
+        Path currentClassesDir = compile(
+                "currentClasses",
+                Collections.singletonMap("staledemo/StaleData.java", String.format(STALE_DATA, STALE_DATA_AGE)));
+        Class<?> beanClass = classLoader(currentClassesDir, staleClassesDir).loadClass("staledemo.StaleData");
+        Assertions.assertNotNull(ServiceLoader.load(BeanAccessor.class, beanClass.getClassLoader())
+                .iterator()
+                .next());
+
+        BeanAccessor<?> beanAccessor = BeanAccessors.get(beanClass);
+
+        Assertions.assertFalse(beanAccessor.getClass().getName().endsWith(BeanAccessorProcessor.ACCESSOR_SUFFIX));
+        Assertions.assertEquals(properties(beanClass), properties(beanAccessor));
+    }
+
+    @Test
+    void skipsRegisteredAccessorsThatCanNotBeLoaded() throws Exception {
+        String source = String.format(STALE_DATA, STALE_DATA_AGE)
+                .replace("staledemo", "brokendemo")
+                .replace("StaleData", "BrokenData");
+        Path brokenClassesDir = compile(
+                "brokenClasses",
+                Collections.singletonMap("brokendemo/BrokenData.java", source),
+                new BeanAccessorProcessor());
+        // The accessor of a class that was deleted, listed first
+        Path serviceFile = brokenClassesDir.resolve(SERVICE_FILE);
+        List<String> services = new ArrayList<>();
+        services.add("brokendemo.DeletedData_BeanAccessor");
+        services.addAll(Files.readAllLines(serviceFile));
+        Files.write(serviceFile, services);
+        Class<?> beanClass = classLoader(brokenClassesDir).loadClass("brokendemo.BrokenData");
+
+        BeanAccessor<?> beanAccessor = BeanAccessors.get(beanClass);
+
+        Assertions.assertEquals("brokendemo.BrokenData_BeanAccessor", beanAccessor.getClass().getName());
+        Assertions.assertEquals(properties(beanClass), properties(beanAccessor));
+    }
+
+    @Test
+    void dropsRegisteredAccessorsThatNoLongerExist() throws Exception {
+        // Registered by an earlier compilation of a class that was deleted since
+        Path serviceFile = tempDir.resolve("incrementalClasses").resolve(SERVICE_FILE);
+        Files.createDirectories(serviceFile.getParent());
+        Files.write(serviceFile, Collections.singletonList("incrementaldemo.DeletedData_BeanAccessor"));
+
+        String source = String.format(STALE_DATA, STALE_DATA_AGE)
+                .replace("staledemo", "incrementaldemo")
+                .replace("StaleData", "KeptData");
+        Path incrementalClassesDir = compile(
+                "incrementalClasses",
+                Collections.singletonMap("incrementaldemo/KeptData.java", source),
+                new BeanAccessorProcessor());
+
+        Assertions.assertEquals(
+                Collections.singletonList("incrementaldemo.KeptData_BeanAccessor"),
+                Files.readAllLines(incrementalClassesDir.resolve(SERVICE_FILE)));
+    }
+
+    /**
+     * Compile the sources with the processors, without annotation processing when there is none.
+     *
+     * @param classesDirName the directory in the temporary directory to compile to
+     * @param sources        key: path of the source value: content of the source
+     * @return the directory of the classes
+     */
+    private static Path compile(String classesDirName, Map<String, String> sources, Processor... processors)
+            throws IOException {
+        Path sourceDir = tempDir.resolve("src-" + classesDirName);
+        List<File> sourceFiles = new ArrayList<>();
+        for (Map.Entry<String, String> source : sources.entrySet()) {
+            Path sourceFile = sourceDir.resolve(source.getKey());
+            Files.createDirectories(sourceFile.getParent());
+            Files.write(sourceFile, source.getValue().getBytes(StandardCharsets.UTF_8));
+            sourceFiles.add(sourceFile.toFile());
+        }
+        Path outputDir = Files.createDirectories(tempDir.resolve(classesDirName));
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        StringWriter output = new StringWriter();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null)) {
+            Iterable<? extends JavaFileObject> compilationUnits = fileManager.getJavaFileObjectsFromFiles(sourceFiles);
+            List<String> options = new ArrayList<>(Arrays.asList(
+                    "-classpath", System.getProperty("java.class.path"), "-d", outputDir.toString()));
+            if (processors.length == 0) {
+                options.add("-proc:none");
+            }
+            JavaCompiler.CompilationTask task =
+                    compiler.getTask(output, fileManager, null, options, null, compilationUnits);
+            if (processors.length > 0) {
+                task.setProcessors(Arrays.asList(processors));
+            }
+            Assertions.assertTrue(task.call(), output.toString());
+        }
+        return outputDir;
+    }
+
+    private static ClassLoader classLoader(Path... classesDirs) throws IOException {
+        URL[] urls = new URL[classesDirs.length];
+        for (int i = 0; i < classesDirs.length; i++) {
+            urls[i] = classesDirs[i].toUri().toURL();
+        }
+        return new URLClassLoader(urls, BeanAccessorProcessorTest.class.getClassLoader());
+    }
+
+    private static Map<String, String> properties(Class<?> beanClass) throws Exception {
+        Map<String, String> properties = new TreeMap<>();
+        for (PropertyDescriptor propertyDescriptor :
+                Introspector.getBeanInfo(beanClass, Object.class).getPropertyDescriptors()) {
+            properties.put(
+                    propertyDescriptor.getName(),
+                    describe(
+                            propertyDescriptor.getPropertyType(),
+                            propertyDescriptor.getReadMethod() != null,
+                            propertyDescriptor.getWriteMethod() != null));
+        }
+        return properties;
+    }
+
+    private static Map<String, String> properties(BeanAccessor<?> beanAccessor) {
+        Map<String, String> properties = new TreeMap<>();
+        for (int i = 0; i < beanAccessor.getPropertyNames().length; i++) {
+            properties.put(
+                    beanAccessor.getPropertyNames()[i],
+                    describe(beanAccessor.getPropertyType(i), beanAccessor.isReadable(i), beanAccessor.isWritable(i)));
+        }
+        return properties;
+    }
+
+    private static String describe(Class<?> type, boolean readable, boolean writable) {
+        return type.getName() + (readable ? " readable" : "") + (writable ? " writable" : "");
+    }
+}
@@ -30,12 +30,14 @@ import java.util.Collection;
 import java.util.function.Supplier;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.fesod.sheet.context.WriteContext;
+import org.apache.fesod.sheet.write.AsyncWritePipeline;
 import org.apache.fesod.sheet.write.ExcelBuilder;
 import org.apache.fesod.sheet.write.ExcelBuilderImpl;
 import org.apache.fesod.sheet.write.metadata.WriteSheet;
 import org.apache.fesod.sheet.write.metadata.WriteTable;
 import org.apache.fesod.sheet.write.metadata.WriteWorkbook;
 import org.apache.fesod.sheet.write.metadata.fill.FillConfig;
+import org.apache.fesod.sheet.write.metadata.holder.WriteWorkbookHolder;
 
 /**
  * Excel Writer This tool is used to write value out to Excel via POI. This object can perform the following two
@@ -51,6 +53,10 @@ import org.apache.fesod.sheet.write.metadata.fill.FillConfig;
 public class ExcelWriter implements Closeable {
 
     private final ExcelBuilder excelBuilder;
+    /**
+     * Writes in the background, null when writing on the calling thread.
+     */
+    private final AsyncWritePipeline asyncWritePipeline;
 
     /**
      * Create new writer
@@ -59,6 +65,13 @@ public class ExcelWriter implements Closeable {
      */
     public ExcelWriter(WriteWorkbook writeWorkbook) {
         excelBuilder = new ExcelBuilderImpl(writeWorkbook);
+        WriteWorkbookHolder writeWorkbookHolder = excelBuilder.writeContext().writeWorkbookHolder();
+        if (writeWorkbookHolder.getAsyncWriteQueueSize() > 0) {
+            asyncWritePipeline = new AsyncWritePipeline(
+                    writeWorkbookHolder.getAsyncWriteQueueSize(), writeWorkbookHolder.getAsyncSupplierThreads());
+        } else {
+            asyncWritePipeline = null;
+        }
     }
 
     /**
@@ -80,7 +93,7 @@ public class ExcelWriter implements Closeable {
      * @return this current writer
      */
     public ExcelWriter write(Supplier<Collection<?>> supplier, WriteSheet writeSheet) {
-        return write(supplier.get(), writeSheet, null);
+        return write(supplier, writeSheet, null);
     }
 
     /**
@@ -92,6 +105,10 @@ public class ExcelWriter implements Closeable {
      * @return this
      */
     public ExcelWriter write(Collection<?> data, WriteSheet writeSheet, WriteTable writeTable) {
+        if (asyncWritePipeline != null) {
+            asyncWritePipeline.write(() -> excelBuilder.addContent(data, writeSheet, writeTable));
+            return this;
+        }
         excelBuilder.addContent(data, writeSheet, writeTable);
         return this;
     }
@@ -105,6 +122,10 @@ public class ExcelWriter implements Closeable {
      * @return this
      */
     public ExcelWriter write(Supplier<Collection<?>> supplier, WriteSheet writeSheet, WriteTable writeTable) {
+        if (asyncWritePipeline != null) {
+            asyncWritePipeline.write(supplier, data -> excelBuilder.addContent(data, writeSheet, writeTable));
+            return this;
+        }
         excelBuilder.addContent(supplier.get(), writeSheet, writeTable);
         return this;
     }
@@ -129,6 +150,10 @@ public class ExcelWriter implements Closeable {
      * @return
      */
     public ExcelWriter fill(Object data, FillConfig fillConfig, WriteSheet writeSheet) {
+        if (asyncWritePipeline != null) {
+            asyncWritePipeline.write(() -> excelBuilder.fill(data, fillConfig, writeSheet));
+            return this;
+        }
         excelBuilder.fill(data, fillConfig, writeSheet);
         return this;
     }
@@ -141,7 +166,7 @@ public class ExcelWriter implements Closeable {
      * @return
      */
     public ExcelWriter fill(Supplier<Object> supplier, WriteSheet writeSheet) {
-        return fill(supplier.get(), null, writeSheet);
+        return fill(supplier, null, writeSheet);
     }
 
     /**
@@ -153,21 +178,39 @@ public class ExcelWriter implements Closeable {
      * @return
      */
     public ExcelWriter fill(Supplier<Object> supplier, FillConfig fillConfig, WriteSheet writeSheet) {
+        if (asyncWritePipeline != null) {
+            asyncWritePipeline.write(supplier, data -> excelBuilder.fill(data, fillConfig, writeSheet));
+            return this;
+        }
         excelBuilder.fill(supplier.get(), fillConfig, writeSheet);
         return this;
     }
 
     /**
      * Close IO
+     * <p>
+     * When writing in the background, waits until every batch is written first, and throws the exception of a batch
+     * that was not thrown yet.
      */
     public void finish() {
-        if (excelBuilder != null) {
-            excelBuilder.finish(false);
+        if (excelBuilder == null) {
+            return;
+        }
+        if (asyncWritePipeline != null) {
+            try {
+                asyncWritePipeline.finish();
+            } catch (RuntimeException | Error e) {
+                excelBuilder.finish(true);
+                throw e;
+            }
         }
+        excelBuilder.finish(false);
     }
 
     /**
      * The context of the entire writing process
+     * <p>
+     * When writing in the background, it is changed by the writing thread until {@link #finish()}.
      *
      * @return
      */
@@ -33,6 +33,7 @@ import org.apache.fesod.common.util.StringUtils;
 import org.apache.fesod.sheet.analysis.csv.CsvExcelReadExecutor;
 import org.apache.fesod.sheet.analysis.v03.XlsSaxAnalyser;
 import org.apache.fesod.sheet.analysis.v07.XlsxSaxAnalyser;
+import org.apache.fesod.sheet.analysis.v07.XlsxStreamingAnalyser;
 import org.apache.fesod.sheet.context.AnalysisContext;
 import org.apache.fesod.sheet.context.csv.CsvReadContext;
 import org.apache.fesod.sheet.context.csv.DefaultCsvReadContext;
@@ -54,6 +55,7 @@ import org.apache.fesod.sheet.util.DateUtils;
 import org.apache.fesod.sheet.util.FileUtils;
 import org.apache.fesod.sheet.util.NumberDataFormatterUtils;
 import org.apache.fesod.sheet.util.NumberUtils;
+import org.apache.fesod.sheet.util.ThreadUtils;
 import org.apache.poi.hssf.OldExcelFormatException;
 import org.apache.poi.hssf.record.crypto.Biff8EncryptionKey;
 import org.apache.poi.poifs.crypt.Decryptor;
@@ -160,7 +162,11 @@ public class ExcelAnalyserImpl implements ExcelAnalyser {
                 // Directly create a context and executor for processing XLSX files
                 XlsxReadContext xlsxReadContext = new DefaultXlsxReadContext(readWorkbook, ExcelTypeEnum.XLSX);
                 analysisContext = xlsxReadContext;
-                excelReadExecutor = new XlsxSaxAnalyser(xlsxReadContext, null);
+                if (XlsxStreamingAnalyser.support(xlsxReadContext)) {
+                    excelReadExecutor = new XlsxStreamingAnalyser(xlsxReadContext);
+                } else {
+                    excelReadExecutor = new XlsxSaxAnalyser(xlsxReadContext, null);
+                }
                 break;
             case CSV:
                 // Create a context and executor for processing CSV files
@@ -226,6 +232,11 @@ public class ExcelAnalyserImpl implements ExcelAnalyser {
 
         Throwable throwable = null;
 
+        try {
+            ThreadUtils.shutdownAndAwait(readWorkbookHolder.getConvertExecutorService());
+        } catch (Throwable t) {
+            throwable = t;
+        }
         try {
             if (readWorkbookHolder.getReadCache() != null) {
                 readWorkbookHolder.getReadCache().destroy();
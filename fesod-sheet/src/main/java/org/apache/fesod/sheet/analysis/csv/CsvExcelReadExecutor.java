@@ -32,7 +32,6 @@ import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
@@ -52,7 +51,7 @@ import org.apache.fesod.sheet.exception.ExcelAnalysisStopSheetException;
 import org.apache.fesod.sheet.metadata.Cell;
 import org.apache.fesod.sheet.metadata.data.ReadCellData;
 import org.apache.fesod.sheet.read.metadata.ReadSheet;
-import org.apache.fesod.sheet.read.metadata.holder.ReadRowHolder;
+import org.apache.fesod.sheet.read.metadata.holder.ReadSheetHolder;
 import org.apache.fesod.sheet.read.metadata.holder.csv.CsvReadWorkbookHolder;
 import org.apache.fesod.sheet.util.SheetUtils;
 
@@ -110,8 +109,17 @@ public class CsvExcelReadExecutor implements ExcelReadExecutor {
 
                 // Initialize the row index
                 int rowIndex = 0;
+                ReadSheetHolder readSheetHolder = csvReadContext.readSheetHolder();
 
                 for (CSVRecord record : csvParser) {
+                    // Stop once the last row to read has been passed, and skip the rows that are not read
+                    if (readSheetHolder.isAfterEndRow(rowIndex)) {
+                        break;
+                    }
+                    if (!readSheetHolder.isRowInRange(rowIndex)) {
+                        rowIndex++;
+                        continue;
+                    }
                     // Process the current record, incrementing the row index after each processing
                     dealRecord(record, rowIndex++);
                 }
@@ -204,40 +212,35 @@ public class CsvExcelReadExecutor implements ExcelReadExecutor {
      * @param record   The CSV record to be processed.
      * @param rowIndex The index of the current row being processed.
      *                 This method performs the following steps:
-     *                 1. Initializes a `LinkedHashMap` to store cell data, ensuring the order of columns is preserved.
+     *                 1. Takes the cell map of the row from the sheet holder, ordered by column index.
      *                 2. Iterates through each cell in the CSV record using an iterator.
      *                 3. For each cell, creates a `ReadCellData` object and sets its metadata (row index, column index, type, and value).
      *                 - If the cell is not blank, it is treated as a string and optionally trimmed based on the `autoTrim` configuration.
      *                 - If the cell is blank, it is marked as empty.
      *                 4. Adds the processed cell data to the `cellMap`.
      *                 5. Determines the row type: if the `cellMap` is empty, the row is marked as `EMPTY`; otherwise, it is marked as `DATA`.
-     *                 6. Creates a `ReadRowHolder` object with the row's metadata and cell map, and stores it in the context.
-     *                 7. Updates the context's sheet holder with the cell map and row index.
+     *                 6. Gets the `ReadRowHolder` of the row from the sheet holder and stores it in the context.
+     *                 7. Updates the context's sheet holder with the row index.
      *                 8. Notifies the analysis event processor that the row processing has ended.
+     *                 9. Moves the sheet holder on to the cell map of the next row.
      */
     private void dealRecord(CSVRecord record, int rowIndex) {
-        Map<Integer, Cell> cellMap = new LinkedHashMap<>();
+        ReadSheetHolder readSheetHolder = csvReadContext.readSheetHolder();
+        Map<Integer, Cell> cellMap = readSheetHolder.getCellMap();
         Iterator<String> cellIterator = record.iterator();
         int columnIndex = 0;
         Boolean autoTrim =
                 csvReadContext.csvReadWorkbookHolder().globalConfiguration().getAutoTrim();
         Boolean autoStrip =
                 csvReadContext.csvReadWorkbookHolder().globalConfiguration().getAutoStrip();
-        List<Integer> includeColumnIndexes =
-                csvReadContext.readSheetHolder().getReadSheet().getColumnIndexes();
+        boolean hasSkippedCell = false;
 
         while (cellIterator.hasNext()) {
             String cellString = cellIterator.next();
-            int currentColumnIndex = columnIndex++;
-            int targetColumnIndex;
-
-            if (includeColumnIndexes == null) {
-                targetColumnIndex = currentColumnIndex;
-            } else {
-                targetColumnIndex = includeColumnIndexes.indexOf(currentColumnIndex);
-                if (targetColumnIndex < 0) {
-                    continue;
-                }
+            int targetColumnIndex = readSheetHolder.projectColumnIndex(columnIndex++);
+            if (targetColumnIndex < 0) {
+                hasSkippedCell = true;
+                continue;
             }
 
             ReadCellData<String> readCellData = new ReadCellData<>();
@@ -261,14 +264,14 @@ public class CsvExcelReadExecutor implements ExcelReadExecutor {
             cellMap.put(targetColumnIndex, readCellData);
         }
 
-        RowTypeEnum rowType = MapUtils.isEmpty(cellMap) ? RowTypeEnum.EMPTY : RowTypeEnum.DATA;
-        ReadRowHolder readRowHolder = new ReadRowHolder(
-                rowIndex, rowType, csvReadContext.readWorkbookHolder().getGlobalConfiguration(), cellMap);
-        csvReadContext.readRowHolder(readRowHolder);
+        // The cells that are only skipped because they are not in the head class still count
+        boolean empty = MapUtils.isEmpty(cellMap) && !(hasSkippedCell && readSheetHolder.isHeadColumnProjection());
+        RowTypeEnum rowType = empty ? RowTypeEnum.EMPTY : RowTypeEnum.DATA;
+        csvReadContext.readRowHolder(readSheetHolder.readRowHolder(rowIndex, rowType));
 
-        csvReadContext.csvReadSheetHolder().setCellMap(cellMap);
         csvReadContext.csvReadSheetHolder().setRowIndex(rowIndex);
         csvReadContext.analysisEventProcessor().endRow(csvReadContext);
+        readSheetHolder.nextRowCellMap();
     }
 
     /**
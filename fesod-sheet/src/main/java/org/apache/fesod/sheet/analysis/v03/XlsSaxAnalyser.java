@@ -57,6 +57,7 @@ import org.apache.fesod.sheet.exception.ExcelAnalysisException;
 import org.apache.fesod.sheet.exception.ExcelAnalysisStopException;
 import org.apache.fesod.sheet.exception.ExcelAnalysisStopSheetException;
 import org.apache.fesod.sheet.read.metadata.ReadSheet;
+import org.apache.fesod.sheet.read.metadata.holder.ReadSheetHolder;
 import org.apache.fesod.sheet.read.metadata.holder.xls.XlsReadWorkbookHolder;
 import org.apache.poi.hssf.OldExcelFormatException;
 import org.apache.poi.hssf.eventusermodel.EventWorkbookBuilder;
@@ -65,10 +66,13 @@ import org.apache.poi.hssf.eventusermodel.HSSFEventFactory;
 import org.apache.poi.hssf.eventusermodel.HSSFListener;
 import org.apache.poi.hssf.eventusermodel.HSSFRequest;
 import org.apache.poi.hssf.eventusermodel.MissingRecordAwareHSSFListener;
+import org.apache.poi.hssf.eventusermodel.dummyrecord.LastCellOfRowDummyRecord;
+import org.apache.poi.hssf.eventusermodel.dummyrecord.MissingCellDummyRecord;
 import org.apache.poi.hssf.record.BOFRecord;
 import org.apache.poi.hssf.record.BlankRecord;
 import org.apache.poi.hssf.record.BoolErrRecord;
 import org.apache.poi.hssf.record.BoundSheetRecord;
+import org.apache.poi.hssf.record.CellValueRecordInterface;
 import org.apache.poi.hssf.record.DateWindow1904Record;
 import org.apache.poi.hssf.record.EOFRecord;
 import org.apache.poi.hssf.record.FormulaRecord;
@@ -271,6 +275,9 @@ public class XlsSaxAnalyser implements HSSFListener, ExcelReadExecutor {
         if (!handler.support(xlsReadContext, record)) {
             return;
         }
+        if (!isRowInRange(record)) {
+            return;
+        }
 
         try {
             handler.processRecord(xlsReadContext, record);
@@ -282,4 +289,33 @@ public class XlsSaxAnalyser implements HSSFListener, ExcelReadExecutor {
             xlsReadContext.xlsReadWorkbookHolder().setCurrentSheetStopped(Boolean.TRUE);
         }
     }
+
+    /**
+     * Skip the cells of the rows that are not read, and stop reading the sheet once the last row to read has been
+     * passed.
+     */
+    private boolean isRowInRange(Record record) {
+        int rowIndex;
+        if (record instanceof CellValueRecordInterface) {
+            rowIndex = ((CellValueRecordInterface) record).getRow();
+        } else if (record instanceof MissingCellDummyRecord) {
+            rowIndex = ((MissingCellDummyRecord) record).getRow();
+        } else if (record instanceof LastCellOfRowDummyRecord) {
+            rowIndex = ((LastCellOfRowDummyRecord) record).getRow();
+        } else {
+            return true;
+        }
+        ReadSheetHolder readSheetHolder = xlsReadContext.readSheetHolder();
+        if (readSheetHolder == null) {
+            return true;
+        }
+        // The merged cells, hyperlinks and comments are stored after the rows
+        if (readSheetHolder.isAfterEndRow(rowIndex)
+                && xlsReadContext.readWorkbookHolder().getExtraReadSet().isEmpty()) {
+            xlsReadContext.xlsReadWorkbookHolder().setIgnoreRecord(Boolean.TRUE);
+            xlsReadContext.xlsReadWorkbookHolder().setCurrentSheetStopped(Boolean.TRUE);
+            return false;
+        }
+        return readSheetHolder.isRowInRange(rowIndex);
+    }
 }
@@ -25,7 +25,6 @@
 
 package org.apache.fesod.sheet.analysis.v03.handlers;
 
-import java.util.List;
 import org.apache.fesod.sheet.analysis.v03.IgnorableXlsRecordHandler;
 import org.apache.fesod.sheet.context.xls.XlsReadContext;
 import org.apache.fesod.sheet.metadata.data.ReadCellData;
@@ -42,15 +41,9 @@ public class BlankRecordHandler extends AbstractXlsRecordHandler implements Igno
         BlankRecord br = (BlankRecord) record;
         int originalColumnIndex = br.getColumn();
 
-        List<Integer> includeColumnIndexes =
-                xlsReadContext.readSheetHolder().getReadSheet().getColumnIndexes();
-
-        int targetColumnIndex = originalColumnIndex;
-        if (includeColumnIndexes != null) {
-            targetColumnIndex = includeColumnIndexes.indexOf(originalColumnIndex);
-            if (targetColumnIndex < 0) {
-                return;
-            }
+        int targetColumnIndex = xlsReadContext.readSheetHolder().projectColumnIndex(originalColumnIndex);
+        if (targetColumnIndex < 0) {
+            return;
         }
         xlsReadContext
                 .xlsReadSheetHolder()
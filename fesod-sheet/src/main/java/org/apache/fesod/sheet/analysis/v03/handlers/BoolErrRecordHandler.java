@@ -25,7 +25,6 @@
 
 package org.apache.fesod.sheet.analysis.v03.handlers;
 
-import java.util.List;
 import org.apache.fesod.sheet.analysis.v03.IgnorableXlsRecordHandler;
 import org.apache.fesod.sheet.context.xls.XlsReadContext;
 import org.apache.fesod.sheet.enums.CellDataTypeEnum;
@@ -44,15 +43,13 @@ public class BoolErrRecordHandler extends AbstractXlsRecordHandler implements Ig
     public void processRecord(XlsReadContext xlsReadContext, Record record) {
         BoolErrRecord ber = (BoolErrRecord) record;
         int originalColumnIndex = ber.getColumn();
-        List<Integer> includeColumnIndexes =
-                xlsReadContext.readSheetHolder().getReadSheet().getColumnIndexes();
-
-        int targetColumnIndex = originalColumnIndex;
-        if (includeColumnIndexes != null) {
-            targetColumnIndex = includeColumnIndexes.indexOf(originalColumnIndex);
-            if (targetColumnIndex < 0) {
-                return;
+        int targetColumnIndex = xlsReadContext.readSheetHolder().projectColumnIndex(originalColumnIndex);
+        if (targetColumnIndex < 0) {
+            // Only skipped because it's not in the head class, the row still holds data
+            if (xlsReadContext.readSheetHolder().isHeadColumnProjection()) {
+                xlsReadContext.xlsReadSheetHolder().setTempRowType(RowTypeEnum.DATA);
             }
+            return;
         }
         ReadCellData<?> cellData;
         if (ber.isError()) {
@@ -25,14 +25,10 @@
 
 package org.apache.fesod.sheet.analysis.v03.handlers;
 
-import java.util.LinkedHashMap;
-import java.util.List;
 import org.apache.fesod.sheet.analysis.v03.IgnorableXlsRecordHandler;
 import org.apache.fesod.sheet.context.xls.XlsReadContext;
 import org.apache.fesod.sheet.enums.RowTypeEnum;
-import org.apache.fesod.sheet.metadata.Cell;
 import org.apache.fesod.sheet.metadata.data.ReadCellData;
-import org.apache.fesod.sheet.read.metadata.holder.ReadRowHolder;
 import org.apache.fesod.sheet.read.metadata.holder.xls.XlsReadSheetHolder;
 import org.apache.poi.hssf.eventusermodel.dummyrecord.LastCellOfRowDummyRecord;
 import org.apache.poi.hssf.eventusermodel.dummyrecord.MissingCellDummyRecord;
@@ -49,26 +45,17 @@ public class DummyRecordHandler extends AbstractXlsRecordHandler implements Igno
             // End of this row
             LastCellOfRowDummyRecord lcrdr = (LastCellOfRowDummyRecord) record;
             xlsReadSheetHolder.setRowIndex(lcrdr.getRow());
-            xlsReadContext.readRowHolder(new ReadRowHolder(
-                    lcrdr.getRow(),
-                    xlsReadSheetHolder.getTempRowType(),
-                    xlsReadContext.readSheetHolder().getGlobalConfiguration(),
-                    xlsReadSheetHolder.getCellMap()));
+            xlsReadContext.readRowHolder(
+                    xlsReadSheetHolder.readRowHolder(lcrdr.getRow(), xlsReadSheetHolder.getTempRowType()));
             xlsReadContext.analysisEventProcessor().endRow(xlsReadContext);
-            xlsReadSheetHolder.setCellMap(new LinkedHashMap<Integer, Cell>());
+            xlsReadSheetHolder.nextRowCellMap();
             xlsReadSheetHolder.setTempRowType(RowTypeEnum.EMPTY);
         } else if (record instanceof MissingCellDummyRecord) {
             MissingCellDummyRecord mcdr = (MissingCellDummyRecord) record;
             int originalColumnIndex = mcdr.getColumn();
-            List<Integer> includeColumnIndexes =
-                    xlsReadContext.readSheetHolder().getReadSheet().getColumnIndexes();
-
-            int targetColumnIndex = originalColumnIndex;
-            if (includeColumnIndexes != null) {
-                targetColumnIndex = includeColumnIndexes.indexOf(originalColumnIndex);
-                if (targetColumnIndex < 0) {
-                    return;
-                }
+            int targetColumnIndex = xlsReadContext.readSheetHolder().projectColumnIndex(originalColumnIndex);
+            if (targetColumnIndex < 0) {
+                return;
             }
             // Some abnormal XLS, in the case of data already exist, or there will be a "MissingCellDummyRecord"
             // records, so if the existing data, empty data is ignored
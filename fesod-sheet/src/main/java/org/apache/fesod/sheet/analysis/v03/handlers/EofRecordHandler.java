@@ -25,12 +25,9 @@
 
 package org.apache.fesod.sheet.analysis.v03.handlers;
 
-import java.util.LinkedHashMap;
 import org.apache.fesod.common.util.BooleanUtils;
 import org.apache.fesod.sheet.context.xls.XlsReadContext;
 import org.apache.fesod.sheet.enums.RowTypeEnum;
-import org.apache.fesod.sheet.metadata.Cell;
-import org.apache.fesod.sheet.read.metadata.holder.ReadRowHolder;
 import org.apache.fesod.sheet.read.metadata.holder.xls.XlsReadSheetHolder;
 import org.apache.poi.hssf.record.Record;
 
@@ -58,13 +55,10 @@ public class EofRecordHandler extends AbstractXlsRecordHandler {
         if (!xlsReadContext.xlsReadSheetHolder().getCellMap().isEmpty()) {
             XlsReadSheetHolder xlsReadSheetHolder = xlsReadContext.xlsReadSheetHolder();
             // Forge a termination data
-            xlsReadContext.readRowHolder(new ReadRowHolder(
-                    xlsReadContext.xlsReadSheetHolder().getRowIndex() + 1,
-                    xlsReadSheetHolder.getTempRowType(),
-                    xlsReadContext.readSheetHolder().getGlobalConfiguration(),
-                    xlsReadSheetHolder.getCellMap()));
+            xlsReadContext.readRowHolder(xlsReadSheetHolder.readRowHolder(
+                    xlsReadSheetHolder.getRowIndex() + 1, xlsReadSheetHolder.getTempRowType()));
             xlsReadContext.analysisEventProcessor().endRow(xlsReadContext);
-            xlsReadSheetHolder.setCellMap(new LinkedHashMap<Integer, Cell>());
+            xlsReadSheetHolder.nextRowCellMap();
             xlsReadSheetHolder.setTempRowType(RowTypeEnum.EMPTY);
         }
 
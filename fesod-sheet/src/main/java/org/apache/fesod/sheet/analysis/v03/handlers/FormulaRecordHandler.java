@@ -26,7 +26,6 @@
 package org.apache.fesod.sheet.analysis.v03.handlers;
 
 import java.math.BigDecimal;
-import java.util.List;
 import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.fesod.sheet.analysis.v03.IgnorableXlsRecordHandler;
@@ -56,15 +55,13 @@ public class FormulaRecordHandler extends AbstractXlsRecordHandler implements Ig
         FormulaRecord frec = (FormulaRecord) record;
         int originalColumnIndex = frec.getColumn();
 
-        List<Integer> includeColumnIndexes =
-                xlsReadContext.readSheetHolder().getReadSheet().getColumnIndexes();
-
-        int targetColumnIndex = originalColumnIndex;
-        if (includeColumnIndexes != null) {
-            targetColumnIndex = includeColumnIndexes.indexOf(originalColumnIndex);
-            if (targetColumnIndex < 0) {
-                return;
+        int targetColumnIndex = xlsReadContext.readSheetHolder().projectColumnIndex(originalColumnIndex);
+        if (targetColumnIndex < 0) {
+            // Only skipped because it's not in the head class, the row still holds data
+            if (xlsReadContext.readSheetHolder().isHeadColumnProjection()) {
+                xlsReadContext.xlsReadSheetHolder().setTempRowType(RowTypeEnum.DATA);
             }
+            return;
         }
 
         Map<Integer, Cell> cellMap = xlsReadContext.xlsReadSheetHolder().getCellMap();
@@ -25,7 +25,6 @@
 
 package org.apache.fesod.sheet.analysis.v03.handlers;
 
-import java.util.List;
 import java.util.Map;
 import org.apache.fesod.common.util.StringUtils;
 import org.apache.fesod.sheet.analysis.v03.IgnorableXlsRecordHandler;
@@ -48,15 +47,13 @@ public class LabelSstRecordHandler extends AbstractXlsRecordHandler implements I
         LabelSSTRecord lsrec = (LabelSSTRecord) record;
         int originalColumnIndex = lsrec.getColumn();
 
-        List<Integer> includeColumnIndexes =
-                xlsReadContext.readSheetHolder().getReadSheet().getColumnIndexes();
-
-        int targetColumnIndex = originalColumnIndex;
-        if (includeColumnIndexes != null) {
-            targetColumnIndex = includeColumnIndexes.indexOf(originalColumnIndex);
-            if (targetColumnIndex < 0) {
-                return;
+        int targetColumnIndex = xlsReadContext.readSheetHolder().projectColumnIndex(originalColumnIndex);
+        if (targetColumnIndex < 0) {
+            // Only skipped because it's not in the head class, the row still holds data
+            if (xlsReadContext.readSheetHolder().isHeadColumnProjection()) {
+                xlsReadContext.xlsReadSheetHolder().setTempRowType(RowTypeEnum.DATA);
             }
+            return;
         }
 
         ReadCache readCache = xlsReadContext.readWorkbookHolder().getReadCache();
@@ -26,7 +26,6 @@
 package org.apache.fesod.sheet.analysis.v03.handlers;
 
 import java.math.BigDecimal;
-import java.util.List;
 import org.apache.fesod.sheet.analysis.v03.IgnorableXlsRecordHandler;
 import org.apache.fesod.sheet.constant.BuiltinFormats;
 import org.apache.fesod.sheet.context.xls.XlsReadContext;
@@ -46,15 +45,13 @@ public class NumberRecordHandler extends AbstractXlsRecordHandler implements Ign
         NumberRecord nr = (NumberRecord) record;
         int originalColumnIndex = nr.getColumn();
 
-        List<Integer> includeColumnIndexes =
-                xlsReadContext.readSheetHolder().getReadSheet().getColumnIndexes();
-
-        int targetColumnIndex = originalColumnIndex;
-        if (includeColumnIndexes != null) {
-            targetColumnIndex = includeColumnIndexes.indexOf(originalColumnIndex);
-            if (targetColumnIndex < 0) {
-                return;
+        int targetColumnIndex = xlsReadContext.readSheetHolder().projectColumnIndex(originalColumnIndex);
+        if (targetColumnIndex < 0) {
+            // Only skipped because it's not in the head class, the row still holds data
+            if (xlsReadContext.readSheetHolder().isHeadColumnProjection()) {
+                xlsReadContext.xlsReadSheetHolder().setTempRowType(RowTypeEnum.DATA);
             }
+            return;
         }
 
         ReadCellData<?> cellData =
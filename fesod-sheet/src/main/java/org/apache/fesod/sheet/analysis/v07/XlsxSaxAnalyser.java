@@ -35,6 +35,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.parsers.SAXParser;
 import javax.xml.parsers.SAXParserFactory;
@@ -45,16 +49,24 @@ import org.apache.fesod.sheet.analysis.ExcelReadExecutor;
 import org.apache.fesod.sheet.analysis.v07.handlers.sax.SharedStringsTableHandler;
 import org.apache.fesod.sheet.analysis.v07.handlers.sax.XlsxRowHandler;
 import org.apache.fesod.sheet.cache.ReadCache;
+import org.apache.fesod.sheet.context.xlsx.DefaultXlsxReadContext;
 import org.apache.fesod.sheet.context.xlsx.XlsxReadContext;
 import org.apache.fesod.sheet.enums.CellExtraTypeEnum;
 import org.apache.fesod.sheet.exception.ExcelAnalysisException;
+import org.apache.fesod.sheet.exception.ExcelAnalysisStopException;
 import org.apache.fesod.sheet.exception.ExcelAnalysisStopSheetException;
 import org.apache.fesod.sheet.exception.ExcelCommonException;
 import org.apache.fesod.sheet.metadata.CellExtra;
 import org.apache.fesod.sheet.read.metadata.ReadSheet;
 import org.apache.fesod.sheet.read.metadata.holder.xlsx.XlsxReadWorkbookHolder;
+import org.apache.fesod.sheet.util.ClassUtils;
+import org.apache.fesod.sheet.util.DateUtils;
 import org.apache.fesod.sheet.util.FileUtils;
+import org.apache.fesod.sheet.util.NumberDataFormatterUtils;
+import org.apache.fesod.sheet.util.NumberUtils;
 import org.apache.fesod.sheet.util.SheetUtils;
+import org.apache.fesod.sheet.util.ThreadUtils;
+import org.apache.poi.ooxml.POIXMLTypeLoader;
 import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
 import org.apache.poi.openxml4j.exceptions.NotOfficeXmlFileException;
 import org.apache.poi.openxml4j.opc.OPCPackage;
@@ -101,6 +113,10 @@ public class XlsxSaxAnalyser implements ExcelReadExecutor {
     private final XlsxReadContext xlsxReadContext;
     private final List<ReadSheet> sheetList;
     private final Map<Integer, InputStream> sheetMap;
+    /**
+     * key: sheetNo value: the part of the sheet, to open it again
+     */
+    private final Map<Integer, PackagePart> sheetPartMap;
     private final Map<String, CTSheet> ctSheetMap;
     /**
      * excel comments key: sheetNo value: CommentsTable
@@ -132,6 +148,7 @@ public class XlsxSaxAnalyser implements ExcelReadExecutor {
 
         sheetList = new ArrayList<>();
         sheetMap = new HashMap<>();
+        sheetPartMap = new HashMap<>();
         commentsTableMap = new HashMap<>();
         ctSheetMap = new HashMap<>();
         Map<Integer, PackageRelationshipCollection> packageRelationshipCollectionMap = MapUtils.newHashMap();
@@ -156,6 +173,7 @@ public class XlsxSaxAnalyser implements ExcelReadExecutor {
             readSheet.setVeryHidden(ctSheet.getState() == STSheetState.VERY_HIDDEN);
             sheetList.add(readSheet);
             sheetMap.put(index, inputStream);
+            sheetPartMap.put(index, ite.getSheetPart());
             if (xlsxReadContext.readWorkbookHolder().getExtraReadSet().contains(CellExtraTypeEnum.COMMENT)) {
                 Comments comments = ite.getSheetComments();
                 if (comments instanceof CommentsTable) {
@@ -205,7 +223,7 @@ public class XlsxSaxAnalyser implements ExcelReadExecutor {
             return;
         }
         InputStream workbookXml = xssfReader.getWorkbookData();
-        WorkbookDocument ctWorkbook = WorkbookDocument.Factory.parse(workbookXml);
+        WorkbookDocument ctWorkbook = WorkbookDocument.Factory.parse(workbookXml, POIXMLTypeLoader.DEFAULT_XML_OPTIONS);
         CTWorkbook wb = ctWorkbook.getWorkbook();
         CTWorkbookPr prefix = wb.getWorkbookPr();
         if (prefix != null && prefix.getDate1904()) {
@@ -218,14 +236,14 @@ public class XlsxSaxAnalyser implements ExcelReadExecutor {
     private void analysisSharedStringsTable(
             InputStream sharedStringsTableInputStream, XlsxReadWorkbookHolder xlsxReadWorkbookHolder) {
         ContentHandler handler = new SharedStringsTableHandler(xlsxReadWorkbookHolder.getReadCache());
-        parseXmlSource(sharedStringsTableInputStream, handler);
+        parseXmlSource(xlsxReadWorkbookHolder, sharedStringsTableInputStream, handler);
         xlsxReadWorkbookHolder.getReadCache().putFinished();
     }
 
     private void analysisCtSheetMap(XSSFReader xssfReader, XlsxReadWorkbookHolder xlsxReadWorkbookHolder)
             throws Exception {
-        CTWorkbook wb =
-                WorkbookDocument.Factory.parse(xssfReader.getWorkbookData()).getWorkbook();
+        CTWorkbook wb = WorkbookDocument.Factory.parse(xssfReader.getWorkbookData(), POIXMLTypeLoader.DEFAULT_XML_OPTIONS)
+                .getWorkbook();
         for (CTSheet ctSheet : wb.getSheets().getSheetList()) {
             boolean isHidden =
                     (ctSheet.getState() == STSheetState.HIDDEN) || (ctSheet.getState() == STSheetState.VERY_HIDDEN);
@@ -269,12 +287,68 @@ public class XlsxSaxAnalyser implements ExcelReadExecutor {
         return sheetList;
     }
 
-    private void parseXmlSource(InputStream inputStream, ContentHandler handler) {
+    /**
+     * Parse a sheet part, with the byte scanner if it is enabled and the part can be opened again. The part is parsed
+     * again by the SAX parser when the scanner can not handle it.
+     *
+     * @param xlsxReadWorkbookHolder
+     * @param inputStream
+     *            the part, closed after parsing
+     * @param partOpener
+     *            opens the part again, null if it can not be
+     * @param handler
+     */
+    static void parseSheetSource(
+            XlsxReadWorkbookHolder xlsxReadWorkbookHolder,
+            InputStream inputStream,
+            PartOpener partOpener,
+            ContentHandler handler) {
+        if (!xlsxReadWorkbookHolder.getByteScanner() || partOpener == null) {
+            parseXmlSource(xlsxReadWorkbookHolder, inputStream, handler);
+            return;
+        }
+        XlsxSheetScanner xlsxSheetScanner = new XlsxSheetScanner(inputStream, handler);
+        try {
+            if (xlsxSheetScanner.parse()) {
+                return;
+            }
+            log.debug("The sheet is not encoded in UTF-8, parse it with the SAX parser.");
+        } catch (XlsxSheetScanner.ScanException e) {
+            log.debug("The sheet can not be scanned, parse it with the SAX parser.", e);
+        } catch (IOException | SAXException e) {
+            throw new ExcelAnalysisException(e);
+        } finally {
+            try {
+                inputStream.close();
+            } catch (IOException e) {
+                throw new ExcelAnalysisException("Can not close 'inputStream'!");
+            }
+        }
+        InputStream replayInputStream;
+        try {
+            replayInputStream = partOpener.open();
+        } catch (IOException e) {
+            throw new ExcelAnalysisException("Can not open the sheet again", e);
+        }
+        parseXmlSource(xlsxReadWorkbookHolder, replayInputStream, xlsxSheetScanner.replayHandler());
+    }
+
+    /**
+     * Opens a part again.
+     */
+    interface PartOpener {
+        InputStream open() throws IOException;
+    }
+
+    /**
+     * Parse a part with the SAX parser, the input stream is closed.
+     */
+    static void parseXmlSource(
+            XlsxReadWorkbookHolder xlsxReadWorkbookHolder, InputStream inputStream, ContentHandler handler) {
         InputSource inputSource = new InputSource(inputStream);
         try {
             SAXParserFactory saxFactory;
-            String xlsxSAXParserFactoryName =
-                    xlsxReadContext.xlsxReadWorkbookHolder().getSaxParserFactoryName();
+            String xlsxSAXParserFactoryName = xlsxReadWorkbookHolder.getSaxParserFactoryName();
             if (StringUtils.isEmpty(xlsxSAXParserFactoryName)) {
                 saxFactory = SAXParserFactory.newInstance();
             } else {
@@ -312,27 +386,123 @@ public class XlsxSaxAnalyser implements ExcelReadExecutor {
 
     @Override
     public void execute() {
+        int parallelSheets = xlsxReadContext.xlsxReadWorkbookHolder().getParallelSheets();
+        if (parallelSheets > 1) {
+            executeParallel(parallelSheets);
+            return;
+        }
         for (ReadSheet readSheet : sheetList) {
             readSheet = SheetUtils.match(readSheet, xlsxReadContext);
             if (readSheet != null) {
+                xlsxReadContext.currentSheet(readSheet);
+                readSheet(xlsxReadContext, readSheet);
+            }
+        }
+    }
+
+    /**
+     * Read the matched sheets at the same time. Each sheet gets its own context, which shares the workbook holder
+     * (shared strings, styles) with the others. The contexts are prepared on the calling thread in sheet order, so
+     * the listener factory is never called concurrently.
+     *
+     * @param parallelSheets the maximum number of sheets parsed at the same time
+     */
+    private void executeParallel(int parallelSheets) {
+        XlsxReadWorkbookHolder xlsxReadWorkbookHolder = xlsxReadContext.xlsxReadWorkbookHolder();
+        List<XlsxReadContext> sheetContextList = new ArrayList<>();
+        for (ReadSheet readSheet : sheetList) {
+            readSheet = SheetUtils.match(readSheet, xlsxReadContext);
+            if (readSheet != null) {
+                XlsxReadContext sheetContext = new DefaultXlsxReadContext(xlsxReadWorkbookHolder);
+                sheetContext.currentSheet(readSheet);
+                sheetContextList.add(sheetContext);
+            }
+        }
+        if (sheetContextList.isEmpty()) {
+            return;
+        }
+        ExecutorService executorService = ThreadUtils.newFixedDaemonThreadPool(
+                Math.min(parallelSheets, sheetContextList.size()), "fesod-sheet-reader");
+        CompletionService<Void> completionService = new ExecutorCompletionService<>(executorService);
+        Throwable throwable = null;
+        try {
+            for (XlsxReadContext sheetContext : sheetContextList) {
+                completionService.submit(() -> {
+                    readSheetInParallel(sheetContext);
+                    return null;
+                });
+            }
+            for (int i = 0; i < sheetContextList.size() && throwable == null; i++) {
                 try {
-                    xlsxReadContext.currentSheet(readSheet);
-                    parseXmlSource(sheetMap.get(readSheet.getSheetNo()), new XlsxRowHandler(xlsxReadContext));
-                    // Read comments
-                    readComments(readSheet);
-                } catch (ExcelAnalysisStopSheetException e) {
-                    if (log.isDebugEnabled()) {
-                        log.debug("Custom stop!", e);
-                    }
+                    completionService.take().get();
+                } catch (ExecutionException e) {
+                    throwable = e.getCause();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throwable = e;
                 }
-                // The last sheet is read
-                xlsxReadContext.analysisEventProcessor().endSheet(xlsxReadContext);
+            }
+        } finally {
+            // Sheets that have not started yet are dropped, the running ones are waited for, so that no listener is
+            // called after the read returns.
+            ThreadUtils.shutdownAndAwait(executorService);
+        }
+        if (throwable instanceof RuntimeException) {
+            throw (RuntimeException) throwable;
+        }
+        if (throwable instanceof Error) {
+            throw (Error) throwable;
+        }
+        if (throwable != null) {
+            throw new ExcelAnalysisException("Read sheets in parallel failure", throwable);
+        }
+    }
+
+    private void readSheetInParallel(XlsxReadContext sheetContext) {
+        ReadSheet readSheet = sheetContext.readSheetHolder().getReadSheet();
+        try {
+            readSheet(sheetContext, readSheet);
+        } catch (ExcelAnalysisStopException e) {
+            // In parallel mode, a stop only ends the sheet that requested it.
+            if (log.isDebugEnabled()) {
+                log.debug("Custom stop sheet:{}", readSheet.getSheetNo());
+            }
+        } finally {
+            NumberDataFormatterUtils.removeThreadLocalCache();
+            NumberUtils.removeThreadLocalCache();
+            DateUtils.removeThreadLocalCache();
+            ClassUtils.removeThreadLocalCache();
+        }
+    }
+
+    private void readSheet(XlsxReadContext sheetContext, ReadSheet readSheet) {
+        try {
+            PackagePart sheetPart = sheetPartMap.get(readSheet.getSheetNo());
+            try {
+                parseSheetSource(
+                        sheetContext.xlsxReadWorkbookHolder(),
+                        sheetMap.get(readSheet.getSheetNo()),
+                        sheetPart == null ? null : sheetPart::getInputStream,
+                        new XlsxRowHandler(sheetContext));
+            } catch (ExcelAnalysisStopSheetException e) {
+                // Passing the last row to read only ends the rows, the comments are still read
+                if (!sheetContext.xlsxReadSheetHolder().isRowRangeEnded()) {
+                    throw e;
+                }
+            }
+            // Read comments
+            readComments(sheetContext, readSheet);
+        } catch (ExcelAnalysisStopSheetException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Custom stop!", e);
             }
         }
+        // The last sheet is read
+        sheetContext.analysisEventProcessor().endSheet(sheetContext);
     }
 
-    private void readComments(ReadSheet readSheet) {
-        if (!xlsxReadContext.readWorkbookHolder().getExtraReadSet().contains(CellExtraTypeEnum.COMMENT)) {
+    private void readComments(XlsxReadContext sheetContext, ReadSheet readSheet) {
+        if (!sheetContext.readWorkbookHolder().getExtraReadSet().contains(CellExtraTypeEnum.COMMENT)) {
             return;
         }
         CommentsTable commentsTable = commentsTableMap.get(readSheet.getSheetNo());
@@ -348,8 +518,8 @@ public class XlsxSaxAnalyser implements ExcelReadExecutor {
                     cellComment.getString().toString(),
                     cellAddress.getRow(),
                     cellAddress.getColumn());
-            xlsxReadContext.readSheetHolder().setCellExtra(cellExtra);
-            xlsxReadContext.analysisEventProcessor().extra(xlsxReadContext);
+            sheetContext.readSheetHolder().setCellExtra(cellExtra);
+            sheetContext.analysisEventProcessor().extra(sheetContext);
         }
     }
 }
@@ -0,0 +1,762 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.sheet.analysis.v07;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.apache.fesod.sheet.analysis.v07.handlers.sax.XlsxRowHandler;
+import org.apache.fesod.sheet.exception.ExcelAnalysisException;
+import org.xml.sax.Attributes;
+import org.xml.sax.ContentHandler;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * Scan the UTF-8 bytes of a sheet part and report it to a {@link ContentHandler} like a SAX parser that is not
+ * namespace aware.
+ * <p>
+ * Only what sheet parts use is supported: elements, attributes, text, the predefined and numeric character references,
+ * CDATA sections, comments and processing instructions. Element and attribute names are shared strings, and an
+ * attribute value only becomes a string when it is asked for.
+ * <p>
+ * When the part is not encoded in UTF-8, {@link #parse()} reports nothing and returns false. When the scanner meets
+ * something it does not support or that is not well-formed, it throws a {@link ScanException}. In both cases the part
+ * can be parsed again by the SAX parser with the {@link #replayHandler()}, which skips what was already reported.
+ */
+final class XlsxSheetScanner {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    /**
+     * The XML declaration must be in the first bytes to be checked
+     */
+    private static final int PROLOG_SIZE = 512;
+
+    private static final Pattern ENCODING_PATTERN = Pattern.compile("encoding\\s*=\\s*[\"']([^\"']*)[\"']");
+
+    private final InputStream inputStream;
+    private final ContentHandler handler;
+    /**
+     * Checked after each event to end the scan early, null if the handler can not stop
+     */
+    private final XlsxRowHandler rowHandler;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position;
+    private int limit;
+
+    private char[] text = new char[256];
+    private int textLength;
+    /**
+     * Text outside the root element is not reported
+     */
+    private int depth;
+    /**
+     * Names of the open elements
+     */
+    private String[] openNames = new String[16];
+
+    private boolean rootSeen;
+    /**
+     * Start and end element events reported so far
+     */
+    private long elementEvents;
+    /**
+     * Characters reported since the last element event
+     */
+    private long trailingChars;
+
+    private byte[] name = new byte[64];
+    private int nameLength;
+
+    private final NameTable nameTable = new NameTable();
+    private final ScannerAttributes attributes = new ScannerAttributes();
+
+    XlsxSheetScanner(InputStream inputStream, ContentHandler handler) {
+        this.inputStream = inputStream;
+        this.handler = handler;
+        this.rowHandler = handler instanceof XlsxRowHandler ? (XlsxRowHandler) handler : null;
+    }
+
+    /**
+     * Scan the whole part.
+     *
+     * @return false if the part is not encoded in UTF-8 and nothing has been reported
+     */
+    boolean parse() throws IOException, SAXException {
+        if (!readProlog()) {
+            return false;
+        }
+        if (rowHandler != null) {
+            rowHandler.setQuietStop(true);
+        }
+        handler.startDocument();
+        int b;
+        while ((b = read()) >= 0) {
+            if (b == '<') {
+                flushText();
+                readMarkup();
+                if (rowHandler != null && rowHandler.isStopped()) {
+                    break;
+                }
+            } else if (b == '&') {
+                appendText(readReference());
+            } else if (b == '\r') {
+                appendText('\n');
+                skipLineFeed();
+            } else {
+                appendText(readCodePoint(b));
+            }
+        }
+        flushText();
+        if ((rowHandler == null || !rowHandler.isStopped()) && (depth != 0 || !rootSeen)) {
+            throw new ScanException("Unexpected end of the sheet");
+        }
+        handler.endDocument();
+        return true;
+    }
+
+    /**
+     * A handler to parse the part again after {@link #parse()} returned false or threw a {@link ScanException}: the
+     * events that were already reported are skipped, the others are passed to the handler of the scanner.
+     *
+     * @return the handler for the SAX parser
+     */
+    ContentHandler replayHandler() {
+        if (rowHandler != null) {
+            rowHandler.setQuietStop(false);
+        }
+        return new ReplayHandler(handler, elementEvents, trailingChars);
+    }
+
+    private boolean readProlog() throws IOException {
+        while (limit < PROLOG_SIZE) {
+            int read = inputStream.read(buffer, limit, PROLOG_SIZE - limit);
+            if (read < 0) {
+                break;
+            }
+            limit += read;
+        }
+        if (limit >= 2) {
+            int first = buffer[0] & 0xFF;
+            int second = buffer[1] & 0xFF;
+            // UTF-16 or UTF-32
+            if ((first == 0xFE && second == 0xFF) || (first == 0xFF && second == 0xFE) || first == 0 || second == 0) {
+                return false;
+            }
+        }
+        if (limit >= 3 && (buffer[0] & 0xFF) == 0xEF && (buffer[1] & 0xFF) == 0xBB && (buffer[2] & 0xFF) == 0xBF) {
+            position = 3;
+        }
+        String prolog = new String(buffer, position, limit - position, StandardCharsets.ISO_8859_1);
+        if (prolog.startsWith("<?xml")) {
+            int end = prolog.indexOf("?>");
+            if (end < 0) {
+                return false;
+            }
+            Matcher matcher = ENCODING_PATTERN.matcher(prolog.substring(0, end));
+            if (matcher.find()) {
+                String encoding = matcher.group(1).toUpperCase(Locale.ROOT);
+                return "UTF-8".equals(encoding) || "UTF8".equals(encoding);
+            }
+        }
+        return true;
+    }
+
+    private void readMarkup() throws IOException, SAXException {
+        int b = readRequired();
+        if (b == '/') {
+            readName(readRequired());
+            String qName = nameTable.get(name, nameLength);
+            b = skipWhitespace(readRequired());
+            if (b != '>') {
+                throw unexpected(b);
+            }
+            if (depth == 0 || !openNames[depth - 1].equals(qName)) {
+                throw new ScanException("Unexpected end tag in the sheet: " + qName);
+            }
+            openNames[--depth] = null;
+            endElement(qName);
+        } else if (b == '?') {
+            skipUntil("?>");
+        } else if (b == '!') {
+            b = readRequired();
+            if (b == '-' && readRequired() == '-') {
+                skipUntil("-->");
+            } else if (b == '[' && matches("CDATA[")) {
+                readCharacterData();
+            } else {
+                throw new ScanException("Document type declarations are not allowed in the sheet");
+            }
+        } else {
+            readStartTag(b);
+        }
+    }
+
+    private void readStartTag(int first) throws IOException, SAXException {
+        readName(first);
+        String qName = nameTable.get(name, nameLength);
+        if (depth == 0 && rootSeen) {
+            throw new ScanException("More than one root element in the sheet: " + qName);
+        }
+        rootSeen = true;
+        attributes.clear();
+        while (true) {
+            int b = skipWhitespace(readRequired());
+            if (b == '>') {
+                if (depth == openNames.length) {
+                    openNames = Arrays.copyOf(openNames, depth << 1);
+                }
+                openNames[depth++] = qName;
+                startElement(qName);
+                return;
+            }
+            if (b == '/') {
+                b = readRequired();
+                if (b != '>') {
+                    throw unexpected(b);
+                }
+                startElement(qName);
+                endElement(qName);
+                return;
+            }
+            readName(b);
+            String attributeName = nameTable.get(name, nameLength);
+            b = skipWhitespace(readRequired());
+            if (b != '=') {
+                throw unexpected(b);
+            }
+            int quote = skipWhitespace(readRequired());
+            if (quote != '"' && quote != '\'') {
+                throw unexpected(quote);
+            }
+            attributes.startValue(attributeName);
+            while ((b = readRequired()) != quote) {
+                if (b == '&') {
+                    attributes.appendValue(readReference());
+                } else if (b == '<') {
+                    throw unexpected(b);
+                } else if (b == '\r') {
+                    attributes.appendValue(' ');
+                    skipLineFeed();
+                } else if (b == '\n' || b == '\t') {
+                    attributes.appendValue(' ');
+                } else {
+                    attributes.appendValue(readCodePoint(b));
+                }
+            }
+            attributes.endValue();
+        }
+    }
+
+    private void readCharacterData() throws IOException, SAXException {
+        int matched = 0;
+        while (true) {
+            int b = readRequired();
+            if (b == ']') {
+                matched++;
+                continue;
+            }
+            if (b == '>' && matched >= 2) {
+                for (int i = 2; i < matched; i++) {
+                    appendText(']');
+                }
+                break;
+            }
+            for (int i = 0; i < matched; i++) {
+                appendText(']');
+            }
+            matched = 0;
+            if (b == '\r') {
+                appendText('\n');
+                skipLineFeed();
+            } else {
+                appendText(readCodePoint(b));
+            }
+        }
+        flushText();
+    }
+
+    /**
+     * Read a name whose first byte has been read.
+     */
+    private void readName(int first) throws IOException {
+        nameLength = 0;
+        int b = first;
+        while (!isWhitespace(b) && b != '>' && b != '/' && b != '=') {
+            if (b == '<' || b == '"' || b == '\'' || b == '&') {
+                throw unexpected(b);
+            }
+            if (nameLength == name.length) {
+                name = Arrays.copyOf(name, nameLength << 1);
+            }
+            name[nameLength++] = (byte) b;
+            b = peek();
+            if (b < 0) {
+                throw new ScanException("Unexpected end of the sheet");
+            }
+            if (isWhitespace(b) || b == '>' || b == '/' || b == '=') {
+                break;
+            }
+            position++;
+        }
+        if (nameLength == 0) {
+            throw unexpected(b);
+        }
+    }
+
+    /**
+     * Read a character reference whose {@code &} has been read.
+     *
+     * @return the code point
+     */
+    private int readReference() throws IOException {
+        StringBuilder reference = new StringBuilder(8);
+        int b;
+        while ((b = readRequired()) != ';') {
+            if (reference.length() > 10) {
+                throw new ScanException("Invalid character reference in the sheet: &" + reference);
+            }
+            reference.append((char) b);
+        }
+        String value = reference.toString();
+        switch (value) {
+            case "lt":
+                return '<';
+            case "gt":
+                return '>';
+            case "amp":
+                return '&';
+            case "quot":
+                return '"';
+            case "apos":
+                return '\'';
+            default:
+                break;
+        }
+        try {
+            if (value.startsWith("#x")) {
+                return Integer.parseInt(value.substring(2), 16);
+            }
+            if (value.startsWith("#")) {
+                return Integer.parseInt(value.substring(1));
+            }
+        } catch (NumberFormatException e) {
+            throw new ScanException("Invalid character reference in the sheet: &" + value + ";", e);
+        }
+        throw new ScanException("Undeclared entity in the sheet: &" + value + ";");
+    }
+
+    /**
+     * Decode a UTF-8 sequence whose first byte has been read.
+     *
+     * @return the code point
+     */
+    private int readCodePoint(int first) throws IOException {
+        if (first < 0x80) {
+            return first;
+        }
+        int count;
+        int codePoint;
+        if ((first & 0xE0) == 0xC0) {
+            count = 1;
+            codePoint = first & 0x1F;
+        } else if ((first & 0xF0) == 0xE0) {
+            count = 2;
+            codePoint = first & 0x0F;
+        } else if ((first & 0xF8) == 0xF0) {
+            count = 3;
+            codePoint = first & 0x07;
+        } else {
+            throw new ScanException("Invalid UTF-8 byte in the sheet: " + first);
+        }
+        for (int i = 0; i < count; i++) {
+            int b = readRequired();
+            if ((b & 0xC0) != 0x80) {
+                throw new ScanException("Invalid UTF-8 byte in the sheet: " + b);
+            }
+            codePoint = (codePoint << 6) | (b & 0x3F);
+        }
+        return codePoint;
+    }
+
+    private void appendText(int codePoint) {
+        if (textLength + 2 > text.length) {
+            text = Arrays.copyOf(text, text.length << 1);
+        }
+        if (codePoint < Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+            text[textLength++] = (char) codePoint;
+        } else {
+            text[textLength++] = Character.highSurrogate(codePoint);
+            text[textLength++] = Character.lowSurrogate(codePoint);
+        }
+    }
+
+    private void startElement(String qName) throws SAXException {
+        handler.startElement("", "", qName, attributes);
+        elementEvents++;
+        trailingChars = 0;
+    }
+
+    private void endElement(String qName) throws SAXException {
+        handler.endElement("", "", qName);
+        elementEvents++;
+        trailingChars = 0;
+    }
+
+    private void flushText() throws SAXException {
+        if (textLength > 0) {
+            if (depth > 0) {
+                handler.characters(text, 0, textLength);
+                trailingChars += textLength;
+            } else if (!isWhitespace(text, textLength)) {
+                throw new ScanException("Text outside the root element of the sheet");
+            }
+            textLength = 0;
+        }
+    }
+
+    private static boolean isWhitespace(char[] chars, int length) {
+        for (int i = 0; i < length; i++) {
+            if (!isWhitespace(chars[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void skipUntil(String end) throws IOException {
+        int matched = 0;
+        while (matched < end.length()) {
+            int b = readRequired();
+            if (b == end.charAt(matched)) {
+                matched++;
+            } else {
+                matched = b == end.charAt(0) ? 1 : 0;
+            }
+        }
+    }
+
+    private boolean matches(String expected) throws IOException {
+        for (int i = 0; i < expected.length(); i++) {
+            if (readRequired() != expected.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int skipWhitespace(int b) throws IOException {
+        while (isWhitespace(b)) {
+            b = readRequired();
+        }
+        return b;
+    }
+
+    private void skipLineFeed() throws IOException {
+        if (peek() == '\n') {
+            position++;
+        }
+    }
+
+    private static boolean isWhitespace(int b) {
+        return b == ' ' || b == '\n' || b == '\t' || b == '\r';
+    }
+
+    private int read() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position++] & 0xFF;
+    }
+
+    private int readRequired() throws IOException {
+        int b = read();
+        if (b < 0) {
+            throw new ScanException("Unexpected end of the sheet");
+        }
+        return b;
+    }
+
+    private int peek() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position] & 0xFF;
+    }
+
+    private boolean fill() throws IOException {
+        int read;
+        do {
+            read = inputStream.read(buffer, 0, buffer.length);
+        } while (read == 0);
+        position = 0;
+        limit = Math.max(read, 0);
+        return read > 0;
+    }
+
+    private static ScanException unexpected(int b) {
+        return new ScanException("Unexpected character in the sheet: '" + (char) b + "'");
+    }
+
+    /**
+     * The part can not be scanned, it has to be parsed by the SAX parser.
+     */
+    static final class ScanException extends ExcelAnalysisException {
+        ScanException(String message) {
+            super(message);
+        }
+
+        ScanException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+
+    /**
+     * Skips the events that the scanner has already reported.
+     */
+    private static final class ReplayHandler extends DefaultHandler {
+        private final ContentHandler handler;
+        private long skippedElementEvents;
+        private long skippedChars;
+
+        ReplayHandler(ContentHandler handler, long skippedElementEvents, long skippedChars) {
+            this.handler = handler;
+            this.skippedElementEvents = skippedElementEvents;
+            this.skippedChars = skippedChars;
+        }
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attributes)
+                throws SAXException {
+            if (skippedElementEvents > 0) {
+                skippedElementEvents--;
+                return;
+            }
+            skippedChars = 0;
+            handler.startElement(uri, localName, qName, attributes);
+        }
+
+        @Override
+        public void endElement(String uri, String localName, String qName) throws SAXException {
+            if (skippedElementEvents > 0) {
+                skippedElementEvents--;
+                return;
+            }
+            skippedChars = 0;
+            handler.endElement(uri, localName, qName);
+        }
+
+        @Override
+        public void characters(char[] ch, int start, int length) throws SAXException {
+            if (skippedElementEvents > 0) {
+                return;
+            }
+            if (skippedChars > 0) {
+                int skipped = (int) Math.min(skippedChars, length);
+                skippedChars -= skipped;
+                start += skipped;
+                length -= skipped;
+                if (length == 0) {
+                    return;
+                }
+            }
+            handler.characters(ch, start, length);
+        }
+
+        @Override
+        public void endDocument() throws SAXException {
+            handler.endDocument();
+        }
+    }
+
+    /**
+     * Shares the strings of the names, a sheet only uses a few of them.
+     */
+    private static final class NameTable {
+        private static final int SIZE = 256;
+        private static final int MAX_COUNT = SIZE * 3 / 4;
+
+        private final byte[][] keys = new byte[SIZE][];
+        private final String[] values = new String[SIZE];
+        private int count;
+
+        String get(byte[] bytes, int length) {
+            int hash = 0;
+            for (int i = 0; i < length; i++) {
+                hash = 31 * hash + bytes[i];
+            }
+            for (int probe = 0; probe < SIZE; probe++) {
+                int slot = (hash + probe) & (SIZE - 1);
+                byte[] key = keys[slot];
+                if (key == null) {
+                    String value = new String(bytes, 0, length, StandardCharsets.UTF_8);
+                    if (count < MAX_COUNT) {
+                        keys[slot] = Arrays.copyOf(bytes, length);
+                        values[slot] = value;
+                        count++;
+                    }
+                    return value;
+                }
+                if (equals(key, bytes, length)) {
+                    return values[slot];
+                }
+            }
+            return new String(bytes, 0, length, StandardCharsets.UTF_8);
+        }
+
+        private static boolean equals(byte[] key, byte[] bytes, int length) {
+            if (key.length != length) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                if (key[i] != bytes[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Attributes of the current start tag, the values are decoded into one shared buffer.
+     */
+    private static final class ScannerAttributes implements Attributes {
+        private static final String CDATA = "CDATA";
+
+        private String[] names = new String[8];
+        private int[] valueStarts = new int[8];
+        private int[] valueEnds = new int[8];
+        private String[] values = new String[8];
+        private int length;
+
+        private char[] chars = new char[256];
+        private int charsLength;
+
+        void clear() {
+            Arrays.fill(values, 0, length, null);
+            length = 0;
+            charsLength = 0;
+        }
+
+        void startValue(String name) {
+            if (length == names.length) {
+                int capacity = length << 1;
+                names = Arrays.copyOf(names, capacity);
+                valueStarts = Arrays.copyOf(valueStarts, capacity);
+                valueEnds = Arrays.copyOf(valueEnds, capacity);
+                values = Arrays.copyOf(values, capacity);
+            }
+            names[length] = name;
+            valueStarts[length] = charsLength;
+        }
+
+        void appendValue(int codePoint) {
+            if (charsLength + 2 > chars.length) {
+                chars = Arrays.copyOf(chars, chars.length << 1);
+            }
+            if (codePoint < Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+                chars[charsLength++] = (char) codePoint;
+            } else {
+                chars[charsLength++] = Character.highSurrogate(codePoint);
+                chars[charsLength++] = Character.lowSurrogate(codePoint);
+            }
+        }
+
+        void endValue() {
+            valueEnds[length++] = charsLength;
+        }
+
+        @Override
+        public int getLength() {
+            return length;
+        }
+
+        @Override
+        public String getURI(int index) {
+            return index < 0 || index >= length ? null : "";
+        }
+
+        @Override
+        public String getLocalName(int index) {
+            return index < 0 || index >= length ? null : "";
+        }
+
+        @Override
+        public String getQName(int index) {
+            return index < 0 || index >= length ? null : names[index];
+        }
+
+        @Override
+        public String getType(int index) {
+            return index < 0 || index >= length ? null : CDATA;
+        }
+
+        @Override
+        public String getValue(int index) {
+            if (index < 0 || index >= length) {
+                return null;
+            }
+            String value = values[index];
+            if (value == null) {
+                value = new String(chars, valueStarts[index], valueEnds[index] - valueStarts[index]);
+                values[index] = value;
+            }
+            return value;
+        }
+
+        @Override
+        public int getIndex(String uri, String localName) {
+            return -1;
+        }
+
+        @Override
+        public int getIndex(String qName) {
+            for (int i = 0; i < length; i++) {
+                if (names[i].equals(qName)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public String getType(String uri, String localName) {
+            return null;
+        }
+
+        @Override
+        public String getType(String qName) {
+            return getType(getIndex(qName));
+        }
+
+        @Override
+        public String getValue(String uri, String localName) {
+            return null;
+        }
+
+        @Override
+        public String getValue(String qName) {
+            return getValue(getIndex(qName));
+        }
+    }
+}
@@ -0,0 +1,569 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.sheet.analysis.v07;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveInputStream;
+import org.apache.fesod.common.util.MapUtils;
+import org.apache.fesod.sheet.analysis.ExcelReadExecutor;
+import org.apache.fesod.sheet.analysis.v07.handlers.sax.SharedStringsTableHandler;
+import org.apache.fesod.sheet.analysis.v07.handlers.sax.XlsxRowHandler;
+import org.apache.fesod.sheet.cache.ReadCache;
+import org.apache.fesod.sheet.context.xlsx.XlsxReadContext;
+import org.apache.fesod.sheet.enums.CellExtraTypeEnum;
+import org.apache.fesod.sheet.exception.ExcelAnalysisException;
+import org.apache.fesod.sheet.exception.ExcelAnalysisStopSheetException;
+import org.apache.fesod.sheet.exception.ExcelCommonException;
+import org.apache.fesod.sheet.read.metadata.ReadSheet;
+import org.apache.fesod.sheet.read.metadata.holder.xlsx.XlsxReadWorkbookHolder;
+import org.apache.fesod.sheet.util.FileUtils;
+import org.apache.fesod.sheet.util.SheetUtils;
+import org.apache.poi.ooxml.POIXMLTypeLoader;
+import org.apache.poi.openxml4j.opc.PackagingURIHelper;
+import org.apache.poi.openxml4j.util.ZipSecureFile;
+import org.apache.poi.xssf.model.StylesTable;
+import org.openxmlformats.schemas.spreadsheetml.x2006.main.CTSheet;
+import org.openxmlformats.schemas.spreadsheetml.x2006.main.CTWorkbook;
+import org.openxmlformats.schemas.spreadsheetml.x2006.main.CTWorkbookPr;
+import org.openxmlformats.schemas.spreadsheetml.x2006.main.STSheetState;
+import org.openxmlformats.schemas.spreadsheetml.x2006.main.WorkbookDocument;
+import org.xml.sax.Attributes;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * Read the xlsx entry by entry from the input stream, without copying the whole file to a temporary file first.
+ * <p>
+ * The entries are consumed in the order they are stored. A sheet is parsed as soon as it arrives if the shared strings
+ * and the styles have already been read, otherwise only that sheet is spooled to a temporary file until they arrive.
+ * The stream can only be read once, and comments and hyperlinks are not supported.
+ */
+@Slf4j
+public class XlsxStreamingAnalyser implements ExcelReadExecutor {
+    private static final String ROOT_RELATIONSHIPS_ENTRY_NAME = "_rels/.rels";
+    private static final String DEFAULT_WORKBOOK_ENTRY_NAME = "xl/workbook.xml";
+    private static final String OFFICE_DOCUMENT_RELATIONSHIP = "/officeDocument";
+    private static final String SHARED_STRINGS_RELATIONSHIP = "/sharedStrings";
+    private static final String STYLES_RELATIONSHIP = "/styles";
+    private static final String EXTERNAL_TARGET_MODE = "External";
+    private final XlsxReadContext xlsxReadContext;
+    private final ZipArchiveInputStream zipInputStream;
+    /**
+     * The current entry of the zip stream, checked against the limits of {@link ZipSecureFile}.
+     */
+    private final EntryInputStream entryInputStream;
+    private final List<ReadSheet> sheetList = new ArrayList<>();
+    /**
+     * key: sheetNo value: entry name of the sheet
+     */
+    private final Map<Integer, String> sheetEntryNameMap = new HashMap<>();
+    /**
+     * Entries that arrived before they could be used. key: entry name value: spooled file
+     */
+    private final Map<String, File> spooledEntryMap = new HashMap<>();
+    /**
+     * key: entry name value: uncompressed size of the spooled entry
+     */
+    private final Map<String, Long> spooledSizeMap = new HashMap<>();
+
+    private String workbookEntryName = DEFAULT_WORKBOOK_ENTRY_NAME;
+    private CTWorkbook ctWorkbook;
+    /**
+     * key: relationship id value: entry name
+     */
+    private Map<String, String> workbookRelationshipMap;
+
+    private String sharedStringsEntryName;
+    private String stylesEntryName;
+    private boolean sharedStringsRead;
+    private boolean stylesRead;
+    /**
+     * All the entries have been consumed
+     */
+    private boolean entriesFinished;
+
+    private boolean executed;
+    private int spooledCount;
+    private long entryCount;
+
+    public XlsxStreamingAnalyser(XlsxReadContext xlsxReadContext) throws Exception {
+        this.xlsxReadContext = xlsxReadContext;
+        XlsxReadWorkbookHolder xlsxReadWorkbookHolder = xlsxReadContext.xlsxReadWorkbookHolder();
+        xlsxReadWorkbookHolder.setPackageRelationshipCollectionMap(MapUtils.newHashMap());
+        this.zipInputStream = new ZipArchiveInputStream(xlsxReadWorkbookHolder.getInputStream());
+        this.entryInputStream = new EntryInputStream(zipInputStream);
+
+        while (ctWorkbook == null || workbookRelationshipMap == null) {
+            ZipArchiveEntry zipEntry = nextEntry();
+            if (zipEntry == null) {
+                entriesFinished = true;
+                break;
+            }
+            readStructureEntry(zipEntry.getName());
+        }
+        if (ctWorkbook == null || workbookRelationshipMap == null) {
+            throw new ExcelCommonException("Invalid OOXML/zip format: can not find the workbook");
+        }
+        analysisUse1904WindowDate(xlsxReadWorkbookHolder);
+        analysisSheetList(xlsxReadWorkbookHolder);
+
+        // Only the sheets are still needed from what was spooled so far
+        Set<String> sheetEntryNames = new HashSet<>(sheetEntryNameMap.values());
+        for (String entryName : new ArrayList<>(spooledEntryMap.keySet())) {
+            if (entryName.equals(sharedStringsEntryName)) {
+                readSharedStrings(openSpooledEntry(entryName), spooledSizeMap.get(entryName));
+            } else if (entryName.equals(stylesEntryName)) {
+                readStyles(openSpooledEntry(entryName));
+            } else if (!sheetEntryNames.contains(entryName)) {
+                FileUtils.delete(spooledEntryMap.remove(entryName));
+            }
+        }
+    }
+
+    /**
+     * Whether the workbook can be streamed: it is read from an input stream with the streaming option, and neither
+     * comments nor hyperlinks are needed.
+     *
+     * @param xlsxReadContext
+     * @return
+     */
+    public static boolean support(XlsxReadContext xlsxReadContext) {
+        XlsxReadWorkbookHolder xlsxReadWorkbookHolder = xlsxReadContext.xlsxReadWorkbookHolder();
+        return xlsxReadWorkbookHolder.getStreaming()
+                && xlsxReadWorkbookHolder.getFile() == null
+                && xlsxReadWorkbookHolder.getInputStream() != null
+                && !xlsxReadWorkbookHolder.getExtraReadSet().contains(CellExtraTypeEnum.COMMENT)
+                && !xlsxReadWorkbookHolder.getExtraReadSet().contains(CellExtraTypeEnum.HYPERLINK);
+    }
+
+    @Override
+    public List<ReadSheet> sheetList() {
+        return sheetList;
+    }
+
+    @Override
+    public void execute() {
+        if (executed) {
+            throw new ExcelAnalysisException("The xlsx stream has already been read, it can only be read once.");
+        }
+        executed = true;
+        Deque<ReadSheet> pendingSheets = new ArrayDeque<>();
+        Set<String> pendingEntryNames = new HashSet<>();
+        for (ReadSheet readSheet : sheetList) {
+            readSheet = SheetUtils.match(readSheet, xlsxReadContext);
+            if (readSheet != null) {
+                pendingSheets.add(readSheet);
+                pendingEntryNames.add(sheetEntryNameMap.get(readSheet.getSheetNo()));
+            }
+        }
+        try {
+            readSpooledSheets(pendingSheets);
+            while (!pendingSheets.isEmpty() && !entriesFinished) {
+                ZipArchiveEntry zipEntry = nextEntry();
+                if (zipEntry == null) {
+                    entriesFinished = true;
+                    break;
+                }
+                String entryName = zipEntry.getName();
+                if (entryName.equals(sharedStringsEntryName)) {
+                    readSharedStrings(entryInputStream, zipEntry.getSize());
+                } else if (entryName.equals(stylesEntryName)) {
+                    readStyles(entryInputStream);
+                } else if (pendingEntryNames.contains(entryName)) {
+                    if (dependenciesRead()
+                            && entryName.equals(sheetEntryNameMap.get(
+                                    pendingSheets.peek().getSheetNo()))) {
+                        readSheet(pendingSheets.poll(), entryInputStream, null);
+                    } else {
+                        spoolEntry(entryName);
+                    }
+                }
+                readSpooledSheets(pendingSheets);
+            }
+            // The parts that never arrived do not exist
+            readSpooledSheets(pendingSheets);
+        } catch (IOException e) {
+            throw new ExcelAnalysisException("Read the xlsx stream failure", e);
+        }
+        if (!pendingSheets.isEmpty()) {
+            throw new ExcelAnalysisException(
+                    "Can not find the data of sheet: " + pendingSheets.peek().getSheetName());
+        }
+    }
+
+    private void readStructureEntry(String entryName) throws Exception {
+        if (ROOT_RELATIONSHIPS_ENTRY_NAME.equals(entryName)) {
+            Map<String, String> typeMap = new HashMap<>();
+            Map<String, String> rootRelationshipMap =
+                    readRelationships("", entryInputStream, typeMap);
+            String officeDocument = findByType(typeMap, rootRelationshipMap, OFFICE_DOCUMENT_RELATIONSHIP);
+            if (officeDocument != null) {
+                workbookEntryName = officeDocument;
+            }
+        } else if (entryName.equals(workbookEntryName)) {
+            readWorkbook(entryInputStream);
+        } else if (entryName.equals(relationshipsEntryName(workbookEntryName))) {
+            readWorkbookRelationships(entryInputStream);
+        } else if (mayBeNeeded(entryName)) {
+            spoolEntry(entryName);
+        }
+        // The name of the workbook is only known from the root relationships
+        if (ctWorkbook == null && spooledEntryMap.containsKey(workbookEntryName)) {
+            readWorkbook(openSpooledEntry(workbookEntryName));
+        }
+        String workbookRelationshipsEntryName = relationshipsEntryName(workbookEntryName);
+        if (workbookRelationshipMap == null && spooledEntryMap.containsKey(workbookRelationshipsEntryName)) {
+            readWorkbookRelationships(openSpooledEntry(workbookRelationshipsEntryName));
+        }
+    }
+
+    private void readWorkbook(InputStream inputStream) throws Exception {
+        try (InputStream workbookInputStream = inputStream) {
+            ctWorkbook = WorkbookDocument.Factory.parse(workbookInputStream, POIXMLTypeLoader.DEFAULT_XML_OPTIONS)
+                    .getWorkbook();
+        }
+    }
+
+    private void readWorkbookRelationships(InputStream inputStream) {
+        Map<String, String> typeMap = new HashMap<>();
+        workbookRelationshipMap = readRelationships(workbookEntryName, inputStream, typeMap);
+        sharedStringsEntryName = findByType(typeMap, workbookRelationshipMap, SHARED_STRINGS_RELATIONSHIP);
+        stylesEntryName = findByType(typeMap, workbookRelationshipMap, STYLES_RELATIONSHIP);
+    }
+
+    /**
+     * Read a relationships part.
+     *
+     * @param sourceEntryName the entry the relationships belong to
+     * @param inputStream     the relationships part, closed after reading
+     * @param typeMap         filled with key: relationship id value: relationship type
+     * @return key: relationship id value: entry name of the target
+     */
+    private Map<String, String> readRelationships(
+            String sourceEntryName, InputStream inputStream, Map<String, String> typeMap) {
+        Map<String, String> relationshipMap = new HashMap<>();
+        XlsxSaxAnalyser.parseXmlSource(
+                xlsxReadContext.xlsxReadWorkbookHolder(), inputStream, new DefaultHandler() {
+                    @Override
+                    public void startElement(String uri, String localName, String name, Attributes attributes) {
+                        if (!name.endsWith("Relationship")
+                                || EXTERNAL_TARGET_MODE.equals(attributes.getValue("TargetMode"))) {
+                            return;
+                        }
+                        String id = attributes.getValue("Id");
+                        String target = attributes.getValue("Target");
+                        if (id == null || target == null) {
+                            return;
+                        }
+                        relationshipMap.put(id, resolveEntryName(sourceEntryName, target));
+                        typeMap.put(id, attributes.getValue("Type"));
+                    }
+                });
+        return relationshipMap;
+    }
+
+    private static String findByType(
+            Map<String, String> typeMap, Map<String, String> relationshipMap, String typeSuffix) {
+        for (Map.Entry<String, String> entry : typeMap.entrySet()) {
+            if (entry.getValue() != null && entry.getValue().endsWith(typeSuffix)) {
+                return relationshipMap.get(entry.getKey());
+            }
+        }
+        return null;
+    }
+
+    private void analysisUse1904WindowDate(XlsxReadWorkbookHolder xlsxReadWorkbookHolder) {
+        if (xlsxReadWorkbookHolder.getReadWorkbook().getUse1904windowing() != null) {
+            return;
+        }
+        CTWorkbookPr prefix = ctWorkbook.getWorkbookPr();
+        if (prefix != null && prefix.getDate1904()) {
+            xlsxReadWorkbookHolder.getGlobalConfiguration().setUse1904windowing(Boolean.TRUE);
+        } else {
+            xlsxReadWorkbookHolder.getGlobalConfiguration().setUse1904windowing(Boolean.FALSE);
+        }
+    }
+
+    private void analysisSheetList(XlsxReadWorkbookHolder xlsxReadWorkbookHolder) {
+        int index = 0;
+        for (CTSheet ctSheet : ctWorkbook.getSheets().getSheetList()) {
+            boolean isHidden =
+                    (ctSheet.getState() == STSheetState.HIDDEN) || (ctSheet.getState() == STSheetState.VERY_HIDDEN);
+            if (!Boolean.FALSE.equals(xlsxReadWorkbookHolder.getIgnoreHiddenSheet()) && isHidden) {
+                continue;
+            }
+            String sheetEntryName = workbookRelationshipMap.get(ctSheet.getId());
+            if (sheetEntryName == null) {
+                continue;
+            }
+            ReadSheet readSheet = new ReadSheet(index, ctSheet.getName());
+            readSheet.setHidden(ctSheet.getState() == STSheetState.HIDDEN);
+            readSheet.setVeryHidden(ctSheet.getState() == STSheetState.VERY_HIDDEN);
+            sheetList.add(readSheet);
+            sheetEntryNameMap.put(index, sheetEntryName);
+            index++;
+        }
+        if (sheetList.isEmpty()) {
+            throw new ExcelAnalysisException("Can not find any sheet!");
+        }
+    }
+
+    private boolean dependenciesRead() {
+        return entriesFinished
+                || ((sharedStringsEntryName == null || sharedStringsRead) && (stylesEntryName == null || stylesRead));
+    }
+
+    /**
+     * Read the spooled sheets that are next in order, once the shared strings and styles are read.
+     */
+    private void readSpooledSheets(Deque<ReadSheet> pendingSheets) throws IOException {
+        while (!pendingSheets.isEmpty() && dependenciesRead()) {
+            String entryName = sheetEntryNameMap.get(pendingSheets.peek().getSheetNo());
+            if (!spooledEntryMap.containsKey(entryName)) {
+                return;
+            }
+            File spooledFile = spooledEntryMap.remove(entryName);
+            try {
+                readSheet(pendingSheets.poll(), openSpooledFile(spooledFile), () -> openSpooledFile(spooledFile));
+            } finally {
+                FileUtils.delete(spooledFile);
+            }
+        }
+    }
+
+    /**
+     * Read a sheet.
+     *
+     * @param readSheet
+     * @param inputStream the part of the sheet, closed after reading
+     * @param partOpener  opens the part again, null if it is read from the zip stream
+     */
+    private void readSheet(ReadSheet readSheet, InputStream inputStream, XlsxSaxAnalyser.PartOpener partOpener) {
+        xlsxReadContext.currentSheet(readSheet);
+        try {
+            XlsxSaxAnalyser.parseSheetSource(
+                    xlsxReadContext.xlsxReadWorkbookHolder(),
+                    inputStream,
+                    partOpener,
+                    new XlsxRowHandler(xlsxReadContext));
+        } catch (ExcelAnalysisStopSheetException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Custom stop!", e);
+            }
+        }
+        xlsxReadContext.analysisEventProcessor().endSheet(xlsxReadContext);
+    }
+
+    private void readSharedStrings(InputStream inputStream, long size) {
+        XlsxReadWorkbookHolder xlsxReadWorkbookHolder = xlsxReadContext.xlsxReadWorkbookHolder();
+        ReadCache readCache = xlsxReadWorkbookHolder.getReadCacheSelector().readCache(size);
+        xlsxReadWorkbookHolder.setReadCache(readCache);
+        readCache.init(xlsxReadContext);
+        XlsxSaxAnalyser.parseXmlSource(xlsxReadWorkbookHolder, inputStream, new SharedStringsTableHandler(readCache));
+        readCache.putFinished();
+        sharedStringsRead = true;
+    }
+
+    private void readStyles(InputStream inputStream) {
+        try (InputStream stylesInputStream = inputStream) {
+            xlsxReadContext.xlsxReadWorkbookHolder().setStylesTable(new StylesTable(stylesInputStream));
+        } catch (Exception e) {
+            log.warn(
+                    "Currently excel cannot get style information, but it doesn't affect the data analysis.You can try to"
+                            + " save the file with office again or ignore the current error.",
+                    e);
+        }
+        stylesRead = true;
+    }
+
+    /**
+     * Move to the next entry, no more entries than {@link ZipSecureFile#getMaxFileCount()} are read.
+     *
+     * @return null if there is no more entry
+     */
+    private ZipArchiveEntry nextEntry() throws IOException {
+        ZipArchiveEntry zipEntry = zipInputStream.getNextEntry();
+        if (zipEntry != null && ++entryCount > ZipSecureFile.getMaxFileCount()) {
+            throw new IOException(String.format(ZipSecureFile.MAX_FILE_COUNT_MSG, ZipSecureFile.getMaxFileCount()));
+        }
+        return zipEntry;
+    }
+
+    /**
+     * Copy the current entry to a temporary file, compressed with the fastest level.
+     */
+    private void spoolEntry(String entryName) throws IOException {
+        XlsxReadWorkbookHolder xlsxReadWorkbookHolder = xlsxReadContext.xlsxReadWorkbookHolder();
+        if (xlsxReadWorkbookHolder.getTempFile() == null) {
+            xlsxReadWorkbookHolder.setTempFile(FileUtils.createCacheTmpFile());
+        }
+        File spooledFile = new File(xlsxReadWorkbookHolder.getTempFile(), (spooledCount++) + ".spool");
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try (OutputStream outputStream =
+                new DeflaterOutputStream(new BufferedOutputStream(new FileOutputStream(spooledFile)), deflater)) {
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = entryInputStream.read(buffer)) > 0) {
+                outputStream.write(buffer, 0, read);
+            }
+            spooledSizeMap.put(entryName, deflater.getBytesRead());
+        } finally {
+            deflater.end();
+        }
+        spooledEntryMap.put(entryName, spooledFile);
+    }
+
+    /**
+     * Open a spooled entry, the file is deleted when the returned stream is closed.
+     */
+    private InputStream openSpooledEntry(String entryName) throws IOException {
+        File spooledFile = spooledEntryMap.remove(entryName);
+        return new FilterInputStream(openSpooledFile(spooledFile)) {
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    FileUtils.delete(spooledFile);
+                }
+            }
+        };
+    }
+
+    private static InputStream openSpooledFile(File spooledFile) throws IOException {
+        return new InflaterInputStream(new BufferedInputStream(new FileInputStream(spooledFile)));
+    }
+
+    /**
+     * Before the workbook structure is known, keep what may turn out to be a sheet, the shared strings or the styles.
+     */
+    private static boolean mayBeNeeded(String entryName) {
+        if (!entryName.endsWith(".xml") && !entryName.endsWith(".rels")) {
+            return false;
+        }
+        return !entryName.startsWith("docProps/")
+                && !entryName.startsWith("customXml/")
+                && !entryName.startsWith("xl/theme/")
+                && !entryName.startsWith("xl/drawings/")
+                && !entryName.startsWith("xl/charts/")
+                && !entryName.startsWith("xl/printerSettings/");
+    }
+
+    private static String relationshipsEntryName(String entryName) {
+        int index = entryName.lastIndexOf('/');
+        return entryName.substring(0, index + 1) + "_rels/" + entryName.substring(index + 1) + ".rels";
+    }
+
+    private static String resolveEntryName(String sourceEntryName, String target) {
+        try {
+            URI sourceUri = PackagingURIHelper.toURI("/" + sourceEntryName);
+            URI resolved = PackagingURIHelper.resolvePartUri(sourceUri, PackagingURIHelper.toURI(target));
+            String path = resolved.getPath();
+            return path.startsWith("/") ? path.substring(1) : path;
+        } catch (Exception e) {
+            throw new ExcelAnalysisException("Invalid relationship target: " + target, e);
+        }
+    }
+
+    /**
+     * The entries are read one by one from the same zip stream, which must stay open.
+     * <p>
+     * Like the packages opened by POI, an entry fails once it is larger than {@link ZipSecureFile#getMaxEntrySize()},
+     * or compressed more than {@link ZipSecureFile#getMinInflateRatio()} allows after the first
+     * {@link ZipSecureFile#getGraceEntrySize()} bytes. That also bounds the entries spooled to disk.
+     */
+    private static class EntryInputStream extends FilterInputStream {
+        private final ZipArchiveInputStream zipInputStream;
+
+        EntryInputStream(ZipArchiveInputStream zipInputStream) {
+            super(zipInputStream);
+            this.zipInputStream = zipInputStream;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int read = super.read();
+            if (read != -1) {
+                checkThreshold();
+            }
+            return read;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = super.read(b, off, len);
+            if (read > 0) {
+                checkThreshold();
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            if (skipped > 0) {
+                checkThreshold();
+            }
+            return skipped;
+        }
+
+        @Override
+        public void close() {}
+
+        private void checkThreshold() throws IOException {
+            long uncompressedSize = zipInputStream.getUncompressedCount();
+            if (uncompressedSize > ZipSecureFile.getMaxEntrySize()) {
+                throw new IOException("Zip bomb detected! The entry would exceed the max size of the expanded data: "
+                        + ZipSecureFile.getMaxEntrySize() + ". You can adjust this limit via"
+                        + " ZipSecureFile.setMaxEntrySize() if you need to work with files which are very large.");
+            }
+            if (uncompressedSize <= ZipSecureFile.getGraceEntrySize()) {
+                return;
+            }
+            double ratio = (double) zipInputStream.getCompressedCount() / uncompressedSize;
+            if (ratio < ZipSecureFile.getMinInflateRatio()) {
+                throw new IOException("Zip bomb detected! The entry exceeds the max compression ratio: " + ratio
+                        + " < " + ZipSecureFile.getMinInflateRatio() + ". You can adjust this limit via"
+                        + " ZipSecureFile.setMinInflateRatio() if you need to work with files which are very large.");
+            }
+        }
+    }
+}
@@ -26,6 +26,7 @@
 package org.apache.fesod.sheet.analysis.v07.handlers;
 
 import org.apache.fesod.sheet.context.xlsx.XlsxReadContext;
+import org.apache.fesod.sheet.read.metadata.holder.xlsx.XlsxReadSheetHolder;
 
 /**
  * Cell Value Handler
@@ -35,6 +36,11 @@ public abstract class AbstractCellValueTagHandler extends AbstractXlsxTagHandler
 
     @Override
     public void characters(XlsxReadContext xlsxReadContext, char[] ch, int start, int length) {
-        xlsxReadContext.xlsxReadSheetHolder().getTempData().append(ch, start, length);
+        XlsxReadSheetHolder xlsxReadSheetHolder = xlsxReadContext.xlsxReadSheetHolder();
+        if (xlsxReadSheetHolder.isTempCellSkipped()) {
+            xlsxReadSheetHolder.setTempRowHasSkippedData(true);
+            return;
+        }
+        xlsxReadSheetHolder.getTempData().append(ch, start, length);
     }
 }
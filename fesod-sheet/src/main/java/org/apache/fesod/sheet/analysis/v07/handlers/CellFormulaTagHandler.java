@@ -36,10 +36,15 @@ import org.xml.sax.Attributes;
  */
 public class CellFormulaTagHandler extends AbstractXlsxTagHandler {
 
+    @Override
+    public boolean support(XlsxReadContext xlsxReadContext) {
+        return !xlsxReadContext.xlsxReadSheetHolder().isTempCellSkipped();
+    }
+
     @Override
     public void startElement(XlsxReadContext xlsxReadContext, String name, Attributes attributes) {
         XlsxReadSheetHolder xlsxReadSheetHolder = xlsxReadContext.xlsxReadSheetHolder();
-        xlsxReadSheetHolder.setTempFormula(new StringBuilder());
+        xlsxReadSheetHolder.getTempFormula().setLength(0);
     }
 
     @Override
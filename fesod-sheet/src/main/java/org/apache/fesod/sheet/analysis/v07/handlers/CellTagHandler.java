@@ -26,7 +26,6 @@
 package org.apache.fesod.sheet.analysis.v07.handlers;
 
 import java.math.BigDecimal;
-import java.util.List;
 import org.apache.fesod.common.util.PositionUtils;
 import org.apache.fesod.common.util.StringUtils;
 import org.apache.fesod.sheet.constant.ExcelXmlConstants;
@@ -36,6 +35,7 @@ import org.apache.fesod.sheet.enums.CellDataTypeEnum;
 import org.apache.fesod.sheet.exception.ExcelAnalysisException;
 import org.apache.fesod.sheet.metadata.GlobalConfiguration;
 import org.apache.fesod.sheet.metadata.data.ReadCellData;
+import org.apache.fesod.sheet.read.metadata.columnar.ColumnBatch;
 import org.apache.fesod.sheet.read.metadata.holder.xlsx.XlsxReadSheetHolder;
 import org.xml.sax.Attributes;
 
@@ -45,6 +45,13 @@ import org.xml.sax.Attributes;
  */
 public class CellTagHandler extends AbstractXlsxTagHandler {
 
+    /**
+     * Numbers with more digits do not fit in a long.
+     */
+    private static final int MAX_COMPACT_DIGITS = 18;
+
+    private static final int MAX_COMPACT_EXPONENT = 9999;
+
     private static final int DEFAULT_FORMAT_INDEX = 0;
 
     @Override
@@ -52,6 +59,13 @@ public class CellTagHandler extends AbstractXlsxTagHandler {
         XlsxReadSheetHolder xlsxReadSheetHolder = xlsxReadContext.xlsxReadSheetHolder();
         String cellReference = attributes.getValue(ExcelXmlConstants.ATTRIBUTE_R);
         xlsxReadSheetHolder.setColumnIndex(PositionUtils.getCol(cellReference, xlsxReadSheetHolder.getColumnIndex()));
+        // Nothing of the cell is parsed if it's not a target row or column
+        boolean skipped = xlsxReadSheetHolder.isTempRowSkipped()
+                || xlsxReadSheetHolder.projectColumnIndex(xlsxReadSheetHolder.getColumnIndex()) < 0;
+        xlsxReadSheetHolder.setTempCellSkipped(skipped);
+        if (skipped) {
+            return;
+        }
 
         // t="s" ,it means String
         // t="str" ,it means String,but does not need to be read in the 'sharedStrings.xml'
@@ -66,7 +80,7 @@ public class CellTagHandler extends AbstractXlsxTagHandler {
             throw new ExcelAnalysisException("Invalid cell data type: '" + cellType + "' in cell " + cellReference);
         }
         xlsxReadSheetHolder.setTempCellData(new ReadCellData<>(type));
-        xlsxReadSheetHolder.setTempData(new StringBuilder());
+        xlsxReadSheetHolder.getTempData().setLength(0);
 
         // Put in data transformation information
         String dateFormatIndex = attributes.getValue(ExcelXmlConstants.ATTRIBUTE_S);
@@ -85,43 +99,46 @@ public class CellTagHandler extends AbstractXlsxTagHandler {
     @Override
     public void endElement(XlsxReadContext xlsxReadContext, String name) {
         XlsxReadSheetHolder xlsxReadSheetHolder = xlsxReadContext.xlsxReadSheetHolder();
+        if (xlsxReadSheetHolder.isTempCellSkipped()) {
+            xlsxReadSheetHolder.setTempCellSkipped(false);
+            return;
+        }
         ReadCellData<?> tempCellData = xlsxReadSheetHolder.getTempCellData();
-        int targetColumnIndex = 0;
-
-        List<Integer> includeColumnIndexes =
-                xlsxReadContext.readSheetHolder().getReadSheet().getColumnIndexes();
+        // if it's a target column, rewrite the cell's internal index
+        int targetColumnIndex = xlsxReadSheetHolder.projectColumnIndex(xlsxReadSheetHolder.getColumnIndex());
 
-        if (includeColumnIndexes == null) {
-            targetColumnIndex = xlsxReadSheetHolder.getColumnIndex();
-        } else {
-            // if it's a target column, rewrite the cell's internal index
-            targetColumnIndex = includeColumnIndexes.indexOf(xlsxReadSheetHolder.getColumnIndex());
-            if (targetColumnIndex < 0) {
-
-                return;
-            }
-        }
+        // The cells of the data rows go straight to the batches when every listener is columnar
+        ColumnBatch[] columnBatches = xlsxReadSheetHolder.getRowIndex() < xlsxReadSheetHolder.getHeadRowNumber()
+                ? null
+                : xlsxReadSheetHolder.columnBatches();
 
         StringBuilder tempData = xlsxReadSheetHolder.getTempData();
-        String tempDataString = tempData.toString();
         CellDataTypeEnum oldType = tempCellData.getType();
         switch (oldType) {
             case STRING:
                 // In some cases, although cell type is a string, it may be an empty tag
-                if (StringUtils.isEmpty(tempDataString)) {
+                if (tempData.length() == 0) {
                     break;
                 }
-                String stringValue =
-                        xlsxReadContext.readWorkbookHolder().getReadCache().get(Integer.valueOf(tempDataString));
+                if (columnBatches != null && xlsxReadContext.readWorkbookHolder().getReadCache() != null) {
+                    // Coded by the index, the string is only read if it's asked for
+                    int index = parseIndex(tempData);
+                    for (ColumnBatch columnBatch : columnBatches) {
+                        columnBatch.setSharedString(targetColumnIndex, index);
+                    }
+                    xlsxReadSheetHolder.setTempRowHasColumnarData(true);
+                    return;
+                }
+                String stringValue = xlsxReadContext.readWorkbookHolder().getReadCache().get(parseIndex(tempData));
                 tempCellData.setStringValue(stringValue);
                 break;
             case DIRECT_STRING:
             case ERROR:
-                tempCellData.setStringValue(tempDataString);
+                tempCellData.setStringValue(tempData.toString());
                 tempCellData.setType(CellDataTypeEnum.STRING);
                 break;
             case BOOLEAN:
-                if (StringUtils.isEmpty(tempDataString)) {
+                if (tempData.length() == 0) {
                     tempCellData.setType(CellDataTypeEnum.EMPTY);
                     break;
                 }
@@ -129,12 +146,15 @@ public class CellTagHandler extends AbstractXlsxTagHandler {
                 break;
             case NUMBER:
             case EMPTY:
-                if (StringUtils.isEmpty(tempDataString)) {
+                if (tempData.length() == 0) {
                     tempCellData.setType(CellDataTypeEnum.EMPTY);
                     break;
                 }
                 tempCellData.setType(CellDataTypeEnum.NUMBER);
-                tempCellData.setOriginalNumberValue(new BigDecimal(tempDataString));
+                if (parseCompactNumber(tempCellData, tempData)) {
+                    break;
+                }
+                tempCellData.setOriginalNumberValue(parseNumber(xlsxReadSheetHolder, tempData));
                 tempCellData.setNumberValue(
                         tempCellData.getOriginalNumberValue().round(FesodSheetConstants.EXCEL_MATH_CONTEXT));
                 break;
@@ -154,6 +174,120 @@ public class CellTagHandler extends AbstractXlsxTagHandler {
         tempCellData.checkEmpty();
         tempCellData.setRowIndex(xlsxReadSheetHolder.getRowIndex());
         tempCellData.setColumnIndex(targetColumnIndex);
-        xlsxReadSheetHolder.getCellMap().put(targetColumnIndex, tempCellData);
+        if (columnBatches == null) {
+            xlsxReadSheetHolder.getCellMap().put(targetColumnIndex, tempCellData);
+            return;
+        }
+        if (tempCellData.getType() == CellDataTypeEnum.EMPTY) {
+            return;
+        }
+        for (ColumnBatch columnBatch : columnBatches) {
+            columnBatch.setCell(targetColumnIndex, tempCellData);
+        }
+        xlsxReadSheetHolder.setTempRowHasColumnarData(true);
+    }
+
+    /**
+     * Parse the shared string index without creating a string.
+     */
+    private static int parseIndex(StringBuilder tempData) {
+        int length = tempData.length();
+        // Longer values may overflow, let Integer report it
+        if (length > 9) {
+            return Integer.parseInt(tempData.toString());
+        }
+        int index = 0;
+        for (int i = 0; i < length; i++) {
+            char c = tempData.charAt(i);
+            if (c < '0' || c > '9') {
+                return Integer.parseInt(tempData.toString());
+            }
+            index = index * 10 + (c - '0');
+        }
+        return index;
+    }
+
+    /**
+     * Parse plain numbers with up to 18 digits into an unscaled long and a scale, so that no BigDecimal is created
+     * unless it is asked for.
+     *
+     * @return false if the number must be parsed as a BigDecimal
+     */
+    private static boolean parseCompactNumber(ReadCellData<?> cellData, StringBuilder tempData) {
+        int length = tempData.length();
+        int i = 0;
+        boolean negative = false;
+        char c = tempData.charAt(0);
+        if (c == '-' || c == '+') {
+            negative = c == '-';
+            i++;
+        }
+        long unscaled = 0;
+        int digits = 0;
+        int precision = 0;
+        int fractionDigits = 0;
+        boolean fraction = false;
+        for (; i < length; i++) {
+            c = tempData.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (++digits > MAX_COMPACT_DIGITS) {
+                    return false;
+                }
+                unscaled = unscaled * 10 + (c - '0');
+                if (unscaled != 0) {
+                    precision++;
+                }
+                if (fraction) {
+                    fractionDigits++;
+                }
+            } else if (c == '.' && !fraction) {
+                fraction = true;
+            } else {
+                break;
+            }
+        }
+        if (digits == 0) {
+            return false;
+        }
+        int exponent = 0;
+        if (i < length) {
+            if (c != 'E' && c != 'e' || ++i == length) {
+                return false;
+            }
+            boolean negativeExponent = false;
+            c = tempData.charAt(i);
+            if (c == '-' || c == '+') {
+                negativeExponent = c == '-';
+                if (++i == length) {
+                    return false;
+                }
+            }
+            for (; i < length; i++) {
+                c = tempData.charAt(i);
+                if (c < '0' || c > '9' || exponent > MAX_COMPACT_EXPONENT) {
+                    return false;
+                }
+                exponent = exponent * 10 + (c - '0');
+            }
+            if (negativeExponent) {
+                exponent = -exponent;
+            }
+        }
+        cellData.setOriginalNumberValue(negative ? -unscaled : unscaled, fractionDigits - exponent, precision);
+        return true;
+    }
+
+    /**
+     * Parse the number through the reused char buffer without creating a string.
+     */
+    private static BigDecimal parseNumber(XlsxReadSheetHolder xlsxReadSheetHolder, StringBuilder tempData) {
+        int length = tempData.length();
+        char[] tempChars = xlsxReadSheetHolder.getTempChars();
+        if (tempChars.length < length) {
+            tempChars = new char[Math.max(length, tempChars.length << 1)];
+            xlsxReadSheetHolder.setTempChars(tempChars);
+        }
+        tempData.getChars(0, length, tempChars, 0);
+        return new BigDecimal(tempChars, 0, length);
     }
 }
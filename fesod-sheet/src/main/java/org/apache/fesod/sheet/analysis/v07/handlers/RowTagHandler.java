@@ -25,16 +25,17 @@
 
 package org.apache.fesod.sheet.analysis.v07.handlers;
 
-import java.util.LinkedHashMap;
+import java.util.Set;
 import org.apache.commons.collections4.MapUtils;
 import org.apache.fesod.common.util.PositionUtils;
 import org.apache.fesod.sheet.constant.ExcelXmlConstants;
 import org.apache.fesod.sheet.context.xlsx.XlsxReadContext;
+import org.apache.fesod.sheet.enums.CellExtraTypeEnum;
 import org.apache.fesod.sheet.enums.CellDataTypeEnum;
 import org.apache.fesod.sheet.enums.RowTypeEnum;
 import org.apache.fesod.sheet.metadata.Cell;
 import org.apache.fesod.sheet.metadata.data.ReadCellData;
-import org.apache.fesod.sheet.read.metadata.holder.ReadRowHolder;
+import org.apache.fesod.sheet.read.metadata.columnar.ColumnBatch;
 import org.apache.fesod.sheet.read.metadata.holder.xlsx.XlsxReadSheetHolder;
 import org.xml.sax.Attributes;
 
@@ -50,23 +51,39 @@ public class RowTagHandler extends AbstractXlsxTagHandler {
         int rowIndex = PositionUtils.getRowByRowTag(
                 attributes.getValue(ExcelXmlConstants.ATTRIBUTE_R), xlsxReadSheetHolder.getRowIndex());
         Integer lastRowIndex = xlsxReadContext.readSheetHolder().getRowIndex();
-        while (lastRowIndex + 1 < rowIndex) {
-            xlsxReadContext.readRowHolder(new ReadRowHolder(
-                    lastRowIndex + 1,
-                    RowTypeEnum.EMPTY,
-                    xlsxReadSheetHolder.getGlobalConfiguration(),
-                    new LinkedHashMap<Integer, Cell>()));
-            xlsxReadContext.analysisEventProcessor().endRow(xlsxReadContext);
-            xlsxReadSheetHolder.setColumnIndex(null);
-            xlsxReadSheetHolder.setCellMap(new LinkedHashMap<Integer, Cell>());
+        while (lastRowIndex + 1 < rowIndex && !xlsxReadSheetHolder.isAfterEndRow(lastRowIndex + 1)) {
+            if (xlsxReadSheetHolder.isRowInRange(lastRowIndex + 1)) {
+                // No cell has been read since the last row ended, so the cell map is empty
+                xlsxReadContext.readRowHolder(xlsxReadSheetHolder.readRowHolder(lastRowIndex + 1, RowTypeEnum.EMPTY));
+                xlsxReadContext.analysisEventProcessor().endRow(xlsxReadContext);
+                xlsxReadSheetHolder.setColumnIndex(null);
+                xlsxReadSheetHolder.nextRowCellMap();
+            }
             lastRowIndex++;
         }
         xlsxReadSheetHolder.setRowIndex(rowIndex);
+        // The cells of a row that is not read are skipped at the cell tag
+        xlsxReadSheetHolder.setTempRowSkipped(!xlsxReadSheetHolder.isRowInRange(rowIndex));
+        if (xlsxReadSheetHolder.isAfterEndRow(rowIndex)) {
+            Set<CellExtraTypeEnum> extraReadSet =
+                    xlsxReadContext.readWorkbookHolder().getExtraReadSet();
+            // The merged cells and hyperlinks are stored after the rows
+            if (!extraReadSet.contains(CellExtraTypeEnum.MERGE)
+                    && !extraReadSet.contains(CellExtraTypeEnum.HYPERLINK)) {
+                xlsxReadSheetHolder.setRowRangeEnded(true);
+            }
+        }
     }
 
     @Override
     public void endElement(XlsxReadContext xlsxReadContext, String name) {
         XlsxReadSheetHolder xlsxReadSheetHolder = xlsxReadContext.xlsxReadSheetHolder();
+        if (xlsxReadSheetHolder.isTempRowSkipped()) {
+            xlsxReadSheetHolder.setTempRowSkipped(false);
+            xlsxReadSheetHolder.setTempRowHasSkippedData(false);
+            xlsxReadSheetHolder.setColumnIndex(null);
+            return;
+        }
         RowTypeEnum rowType = MapUtils.isEmpty(xlsxReadSheetHolder.getCellMap()) ? RowTypeEnum.EMPTY : RowTypeEnum.DATA;
         // It's possible that all of the cells in the row are empty
         if (rowType == RowTypeEnum.DATA) {
@@ -86,13 +103,37 @@ public class RowTagHandler extends AbstractXlsxTagHandler {
                 rowType = RowTypeEnum.EMPTY;
             }
         }
-        xlsxReadContext.readRowHolder(new ReadRowHolder(
-                xlsxReadSheetHolder.getRowIndex(),
-                rowType,
-                xlsxReadSheetHolder.getGlobalConfiguration(),
-                xlsxReadSheetHolder.getCellMap()));
-        xlsxReadContext.analysisEventProcessor().endRow(xlsxReadContext);
+        // The cells that are only skipped because they are not in the head class still hold data
+        if (rowType == RowTypeEnum.EMPTY
+                && xlsxReadSheetHolder.isTempRowHasSkippedData()
+                && xlsxReadSheetHolder.isHeadColumnProjection()) {
+            rowType = RowTypeEnum.DATA;
+        }
+        // The cells added straight to the column batches are not in the map
+        if (xlsxReadSheetHolder.isTempRowHasColumnarData()) {
+            rowType = RowTypeEnum.DATA;
+        }
+        xlsxReadSheetHolder.setTempRowHasSkippedData(false);
+        xlsxReadContext.readRowHolder(xlsxReadSheetHolder.readRowHolder(xlsxReadSheetHolder.getRowIndex(), rowType));
+        try {
+            xlsxReadContext.analysisEventProcessor().endRow(xlsxReadContext);
+        } finally {
+            endColumnarRow(xlsxReadSheetHolder);
+        }
         xlsxReadSheetHolder.setColumnIndex(null);
-        xlsxReadSheetHolder.setCellMap(new LinkedHashMap<>());
+        xlsxReadSheetHolder.nextRowCellMap();
+    }
+
+    /**
+     * Drop the cells a listener did not add, so that they are not mixed into the next row.
+     */
+    private static void endColumnarRow(XlsxReadSheetHolder xlsxReadSheetHolder) {
+        if (!xlsxReadSheetHolder.isTempRowHasColumnarData()) {
+            return;
+        }
+        xlsxReadSheetHolder.setTempRowHasColumnarData(false);
+        for (ColumnBatch columnBatch : xlsxReadSheetHolder.columnBatches()) {
+            columnBatch.discardRow();
+        }
     }
 }
@@ -25,8 +25,7 @@
 
 package org.apache.fesod.sheet.analysis.v07.handlers.sax;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.fesod.sheet.analysis.v07.handlers.CellFormulaTagHandler;
 import org.apache.fesod.sheet.analysis.v07.handlers.CellInlineStringValueTagHandler;
@@ -39,6 +38,7 @@ import org.apache.fesod.sheet.analysis.v07.handlers.RowTagHandler;
 import org.apache.fesod.sheet.analysis.v07.handlers.XlsxTagHandler;
 import org.apache.fesod.sheet.constant.ExcelXmlConstants;
 import org.apache.fesod.sheet.context.xlsx.XlsxReadContext;
+import org.apache.fesod.sheet.exception.ExcelAnalysisStopSheetException;
 import org.xml.sax.Attributes;
 import org.xml.sax.SAXException;
 import org.xml.sax.helpers.DefaultHandler;
@@ -48,43 +48,32 @@ import org.xml.sax.helpers.DefaultHandler;
  */
 @Slf4j
 public class XlsxRowHandler extends DefaultHandler {
+    private static final XlsxTagHandler CELL_FORMULA_TAG_HANDLER = new CellFormulaTagHandler();
+    private static final XlsxTagHandler CELL_INLINE_STRING_VALUE_TAG_HANDLER = new CellInlineStringValueTagHandler();
+    private static final XlsxTagHandler CELL_TAG_HANDLER = new CellTagHandler();
+    private static final XlsxTagHandler CELL_VALUE_TAG_HANDLER = new CellValueTagHandler();
+    private static final XlsxTagHandler COUNT_TAG_HANDLER = new CountTagHandler();
+    private static final XlsxTagHandler HYPERLINK_TAG_HANDLER = new HyperlinkTagHandler();
+    private static final XlsxTagHandler MERGE_CELL_TAG_HANDLER = new MergeCellTagHandler();
+    private static final XlsxTagHandler ROW_TAG_HANDLER = new RowTagHandler();
+
     private final XlsxReadContext xlsxReadContext;
-    private static final Map<String, XlsxTagHandler> XLSX_CELL_HANDLER_MAP = new HashMap<>(64);
-
-    static {
-        CellFormulaTagHandler cellFormulaTagHandler = new CellFormulaTagHandler();
-        XLSX_CELL_HANDLER_MAP.put(ExcelXmlConstants.CELL_FORMULA_TAG, cellFormulaTagHandler);
-        XLSX_CELL_HANDLER_MAP.put(ExcelXmlConstants.X_CELL_FORMULA_TAG, cellFormulaTagHandler);
-        XLSX_CELL_HANDLER_MAP.put(ExcelXmlConstants.NS2_CELL_FORMULA_TAG, cellFormulaTagHandler);
-        CellInlineStringValueTagHandler cellInlineStringValueTagHandler = new CellInlineStringValueTagHandler();
-        XLSX_CELL_HANDLER_MAP.put(ExcelXmlConstants.CELL_INLINE_STRING_VALUE_TAG, cellInlineStringValueTagHandler);
-        XLSX_CELL_HANDLER_MAP.put(ExcelXmlConstants.X_CELL_INLINE_STRING_VALUE_TAG, cellInlineStringValueTagHandler);
-        XLSX_CELL_HANDLER_MAP.put(ExcelXmlConstants.NS2_CELL_INLINE_STRING_VALUE_TAG, cellInlineStringValueTagHandler);
-        CellTagHandler cellTagHandler = new CellTagHandler();
-        XLSX_CELL_HANDLER_MAP.put(ExcelXmlConstants.CELL_TAG, cellTagHandler);
-        XLSX_CELL_HANDLER_MAP.put(ExcelXmlConstants.X_CELL_TAG, cellTagHandler);
-        XLSX_CELL_HANDLER_MAP.put(ExcelXmlConstants.NS2_CELL_TAG, cellTagHandler);
-        CellValueTagHandler cellValueTagHandler = new CellValueTagHandler();
-        XLSX_CELL_HANDLER_MAP.put(ExcelXmlConstants.CELL_VALUE_TAG, cellValueTagHandler);
-        XLSX_CELL_HANDLER_MAP.put(ExcelXmlConstants.X_CELL_VALUE_TAG, cellValueTagHandler);
-        XLSX_CELL_HANDLER_MAP.put(ExcelXmlConstants.NS2_CELL_VALUE_TAG, cellValueTagHandler);
-        CountTagHandler countTagHandler = new CountTagHandler();
-        XLSX_CELL_HANDLER_MAP.put(ExcelXmlConstants.DIMENSION_TAG, countTagHandler);
-        XLSX_CELL_HANDLER_MAP.put(ExcelXmlConstants.X_DIMENSION_TAG, countTagHandler);
-        XLSX_CELL_HANDLER_MAP.put(ExcelXmlConstants.NS2_DIMENSION_TAG, countTagHandler);
-        HyperlinkTagHandler hyperlinkTagHandler = new HyperlinkTagHandler();
-        XLSX_CELL_HANDLER_MAP.put(ExcelXmlConstants.HYPERLINK_TAG, hyperlinkTagHandler);
-        XLSX_CELL_HANDLER_MAP.put(ExcelXmlConstants.X_HYPERLINK_TAG, hyperlinkTagHandler);
-        XLSX_CELL_HANDLER_MAP.put(ExcelXmlConstants.NS2_HYPERLINK_TAG, hyperlinkTagHandler);
-        MergeCellTagHandler mergeCellTagHandler = new MergeCellTagHandler();
-        XLSX_CELL_HANDLER_MAP.put(ExcelXmlConstants.MERGE_CELL_TAG, mergeCellTagHandler);
-        XLSX_CELL_HANDLER_MAP.put(ExcelXmlConstants.X_MERGE_CELL_TAG, mergeCellTagHandler);
-        XLSX_CELL_HANDLER_MAP.put(ExcelXmlConstants.NS2_MERGE_CELL_TAG, mergeCellTagHandler);
-        RowTagHandler rowTagHandler = new RowTagHandler();
-        XLSX_CELL_HANDLER_MAP.put(ExcelXmlConstants.ROW_TAG, rowTagHandler);
-        XLSX_CELL_HANDLER_MAP.put(ExcelXmlConstants.X_ROW_TAG, rowTagHandler);
-        XLSX_CELL_HANDLER_MAP.put(ExcelXmlConstants.NS2_ROW_TAG, rowTagHandler);
-    }
+    /**
+     * Handlers of the open tags that are handled, the last one receives the characters.
+     */
+    private XlsxTagHandler[] handlerStack = new XlsxTagHandler[8];
+
+    private int handlerStackSize;
+
+    /**
+     * The last row to read has been passed.
+     */
+    private boolean stopped;
+    /**
+     * The parser checks {@link #isStopped()} after each event, so it can end without an exception. The SAX parser can
+     * only be stopped by throwing {@link ExcelAnalysisStopSheetException}.
+     */
+    private boolean quietStop;
 
     public XlsxRowHandler(XlsxReadContext xlsxReadContext) {
         this.xlsxReadContext = xlsxReadContext;
@@ -92,34 +81,113 @@ public class XlsxRowHandler extends DefaultHandler {
 
     @Override
     public void startElement(String uri, String localName, String name, Attributes attributes) throws SAXException {
-        XlsxTagHandler handler = XLSX_CELL_HANDLER_MAP.get(name);
-        if (handler == null || !handler.support(xlsxReadContext)) {
+        XlsxTagHandler handler = tagHandler(name);
+        if (stopped || handler == null || !handler.support(xlsxReadContext)) {
             return;
         }
-        xlsxReadContext.xlsxReadSheetHolder().getTagDeque().push(name);
+        if (isCellChild(handler) && !isOpen(CELL_TAG_HANDLER)) {
+            // e.g. the formula of a data validation, not the one of a cell
+            return;
+        }
+        if (handlerStackSize == handlerStack.length) {
+            handlerStack = Arrays.copyOf(handlerStack, handlerStackSize << 1);
+        }
+        handlerStack[handlerStackSize++] = handler;
         handler.startElement(xlsxReadContext, name, attributes);
+        if (handler == ROW_TAG_HANDLER && xlsxReadContext.xlsxReadSheetHolder().isRowRangeEnded()) {
+            stopped = true;
+            if (!quietStop) {
+                throw new ExcelAnalysisStopSheetException("The last row to read has been passed.");
+            }
+        }
     }
 
     @Override
     public void characters(char[] ch, int start, int length) throws SAXException {
-        String currentTag = xlsxReadContext.xlsxReadSheetHolder().getTagDeque().peek();
-        if (currentTag == null) {
-            return;
-        }
-        XlsxTagHandler handler = XLSX_CELL_HANDLER_MAP.get(currentTag);
-        if (handler == null || !handler.support(xlsxReadContext)) {
+        if (stopped || handlerStackSize == 0) {
             return;
         }
-        handler.characters(xlsxReadContext, ch, start, length);
+        handlerStack[handlerStackSize - 1].characters(xlsxReadContext, ch, start, length);
     }
 
     @Override
     public void endElement(String uri, String localName, String name) throws SAXException {
-        XlsxTagHandler handler = XLSX_CELL_HANDLER_MAP.get(name);
-        if (handler == null || !handler.support(xlsxReadContext)) {
+        XlsxTagHandler handler = tagHandler(name);
+        if (stopped || handler == null || !isOpen(handler)) {
             return;
         }
         handler.endElement(xlsxReadContext, name);
-        xlsxReadContext.xlsxReadSheetHolder().getTagDeque().pop();
+        handlerStack[--handlerStackSize] = null;
+    }
+
+    public boolean isStopped() {
+        return stopped;
+    }
+
+    public void setQuietStop(boolean quietStop) {
+        this.quietStop = quietStop;
+    }
+
+    private boolean isOpen(XlsxTagHandler handler) {
+        return handlerStackSize > 0 && handlerStack[handlerStackSize - 1] == handler;
+    }
+
+    private static boolean isCellChild(XlsxTagHandler handler) {
+        return handler == CELL_VALUE_TAG_HANDLER
+                || handler == CELL_FORMULA_TAG_HANDLER
+                || handler == CELL_INLINE_STRING_VALUE_TAG_HANDLER;
+    }
+
+    /**
+     * Find the handler of a tag without prefix or with the prefix "x" or "ns2". Tags of other namespaces, like the
+     * "xm:f" of the extension list, are not handled.
+     *
+     * @param name
+     *            Qualified tag name
+     * @return the handler, or null if the tag is not handled
+     */
+    static XlsxTagHandler tagHandler(String name) {
+        int start = name.indexOf(':') + 1;
+        if (start != 0 && !isSheetPrefix(name, start - 1)) {
+            return null;
+        }
+        switch (name.length() - start) {
+            case 1:
+                switch (name.charAt(start)) {
+                    case 'c':
+                        return CELL_TAG_HANDLER;
+                    case 'v':
+                        return CELL_VALUE_TAG_HANDLER;
+                    case 'f':
+                        return CELL_FORMULA_TAG_HANDLER;
+                    case 't':
+                        return CELL_INLINE_STRING_VALUE_TAG_HANDLER;
+                    default:
+                        return null;
+                }
+            case 3:
+                return localNameEquals(name, start, ExcelXmlConstants.ROW_TAG) ? ROW_TAG_HANDLER : null;
+            case 9:
+                if (localNameEquals(name, start, ExcelXmlConstants.DIMENSION_TAG)) {
+                    return COUNT_TAG_HANDLER;
+                }
+                if (localNameEquals(name, start, ExcelXmlConstants.MERGE_CELL_TAG)) {
+                    return MERGE_CELL_TAG_HANDLER;
+                }
+                if (localNameEquals(name, start, ExcelXmlConstants.HYPERLINK_TAG)) {
+                    return HYPERLINK_TAG_HANDLER;
+                }
+                return null;
+            default:
+                return null;
+        }
+    }
+
+    private static boolean isSheetPrefix(String name, int length) {
+        return (length == 1 && name.charAt(0) == 'x') || (length == 3 && name.startsWith("ns2"));
+    }
+
+    private static boolean localNameEquals(String name, int start, String localName) {
+        return name.regionMatches(start, localName, 0, localName.length());
     }
 }
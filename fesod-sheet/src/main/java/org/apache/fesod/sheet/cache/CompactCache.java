@@ -0,0 +1,232 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.sheet.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.apache.fesod.sheet.context.AnalysisContext;
+import org.apache.fesod.sheet.exception.ExcelAnalysisException;
+
+/**
+ * Pack the values into large byte pages in memory, Latin-1 when possible and UTF-8 otherwise.
+ * <p>
+ * It takes about a third of the heap of {@link MapCache} for typical shared strings, at the cost of decoding the
+ * value on every {@link #get(Integer)}. A small LRU of decoded values can be enabled for hot keys. Values can be read
+ * while putting, and reads are thread-safe once {@link #putFinished()} is called.
+ */
+public class CompactCache implements ReadCache {
+    private static final int PAGE_SHIFT = 20;
+    private static final int PAGE_SIZE = 1 << PAGE_SHIFT;
+    private static final int PAGE_MASK = PAGE_SIZE - 1;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private byte[][] pages = new byte[16][];
+    /**
+     * The value of key {@code i} is stored between {@code offsets[i]} and {@code offsets[i + 1]}
+     */
+    private int[] offsets = new int[INITIAL_CAPACITY + 1];
+
+    private int size;
+    /**
+     * Keys encoded in UTF-8, the others are Latin-1
+     */
+    private final BitSet utf8Keys = new BitSet();
+    /**
+     * Keys whose value is null, rarely used
+     */
+    private BitSet nullKeys;
+    /**
+     * Recently decoded values, null if disabled
+     */
+    private final Map<Integer, String> hotCache;
+
+    public CompactCache() {
+        this(0);
+    }
+
+    /**
+     * @param hotCacheSize
+     *            Number of recently decoded values kept on the heap, 0 to disable.
+     */
+    public CompactCache(int hotCacheSize) {
+        if (hotCacheSize <= 0) {
+            this.hotCache = null;
+        } else {
+            this.hotCache = new LinkedHashMap<Integer, String>(hotCacheSize * 4 / 3 + 1, 0.75F, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Integer, String> eldest) {
+                    return size() > hotCacheSize;
+                }
+            };
+        }
+    }
+
+    @Override
+    public void init(AnalysisContext analysisContext) {}
+
+    @Override
+    public void put(String value) {
+        if (size + 1 == offsets.length) {
+            offsets = Arrays.copyOf(offsets, offsets.length << 1);
+        }
+        int offset = offsets[size];
+        if (value == null) {
+            if (nullKeys == null) {
+                nullKeys = new BitSet();
+            }
+            nullKeys.set(size);
+        } else if (isLatin1(value)) {
+            int length = value.length();
+            ensureCapacity(offset, length);
+            for (int i = 0; i < length; i++) {
+                int position = offset + i;
+                pages[position >>> PAGE_SHIFT][position & PAGE_MASK] = (byte) value.charAt(i);
+            }
+            offset += length;
+        } else {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            ensureCapacity(offset, bytes.length);
+            int written = 0;
+            while (written < bytes.length) {
+                int position = offset + written;
+                int count = Math.min(bytes.length - written, PAGE_SIZE - (position & PAGE_MASK));
+                System.arraycopy(bytes, written, pages[position >>> PAGE_SHIFT], position & PAGE_MASK, count);
+                written += count;
+            }
+            utf8Keys.set(size);
+            offset += bytes.length;
+        }
+        offsets[++size] = offset;
+    }
+
+    @Override
+    public String get(Integer key) {
+        if (key == null || key < 0) {
+            return null;
+        }
+        if (key >= size) {
+            throw new IndexOutOfBoundsException("Index: " + key + ", Size: " + size);
+        }
+        if (nullKeys != null && nullKeys.get(key)) {
+            return null;
+        }
+        if (hotCache == null) {
+            return decode(key);
+        }
+        String value;
+        synchronized (hotCache) {
+            value = hotCache.get(key);
+        }
+        if (value == null) {
+            value = decode(key);
+            synchronized (hotCache) {
+                hotCache.put(key, value);
+            }
+        }
+        return value;
+    }
+
+    @Override
+    public void putFinished() {
+        offsets = Arrays.copyOf(offsets, size + 1);
+        int end = offsets[size];
+        if (end == 0) {
+            return;
+        }
+        // Drop the unused tail of the last page
+        int lastPage = (end - 1) >>> PAGE_SHIFT;
+        int lastPageLength = ((end - 1) & PAGE_MASK) + 1;
+        if (lastPageLength < PAGE_SIZE) {
+            pages[lastPage] = Arrays.copyOf(pages[lastPage], lastPageLength);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        pages = null;
+        offsets = null;
+        if (hotCache != null) {
+            synchronized (hotCache) {
+                hotCache.clear();
+            }
+        }
+    }
+
+    private String decode(int key) {
+        int start = offsets[key];
+        int length = offsets[key + 1] - start;
+        if (length == 0) {
+            return "";
+        }
+        byte[] page = pages[start >>> PAGE_SHIFT];
+        int position = start & PAGE_MASK;
+        byte[] bytes;
+        if (position + length <= PAGE_SIZE) {
+            bytes = page;
+        } else {
+            bytes = new byte[length];
+            int read = 0;
+            while (read < length) {
+                int index = start + read;
+                int count = Math.min(length - read, PAGE_SIZE - (index & PAGE_MASK));
+                System.arraycopy(pages[index >>> PAGE_SHIFT], index & PAGE_MASK, bytes, read, count);
+                read += count;
+            }
+            position = 0;
+        }
+        return new String(
+                bytes,
+                position,
+                length,
+                utf8Keys.get(key) ? StandardCharsets.UTF_8 : StandardCharsets.ISO_8859_1);
+    }
+
+    private void ensureCapacity(int offset, int length) {
+        if (length == 0) {
+            return;
+        }
+        long end = (long) offset + length;
+        if (end > Integer.MAX_VALUE) {
+            throw new ExcelAnalysisException(
+                    "Shared strings are too large for the compact cache, please use MappedFileCache");
+        }
+        int lastPage = (int) ((end - 1) >>> PAGE_SHIFT);
+        if (lastPage >= pages.length) {
+            pages = Arrays.copyOf(pages, Math.max(pages.length << 1, lastPage + 1));
+        }
+        for (int page = offset >>> PAGE_SHIFT; page <= lastPage; page++) {
+            if (pages[page] == null) {
+                pages[page] = new byte[PAGE_SIZE];
+            }
+        }
+    }
+
+    private static boolean isLatin1(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > 0xFF) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
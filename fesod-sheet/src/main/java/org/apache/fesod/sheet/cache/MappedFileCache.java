@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.sheet.cache;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.BitSet;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fesod.sheet.context.AnalysisContext;
+import org.apache.fesod.sheet.exception.ExcelAnalysisException;
+import org.apache.fesod.sheet.util.FileUtils;
+
+/**
+ * Store the values as UTF-8 bytes in a memory-mapped file and only keep their offsets on the heap.
+ * <p>
+ * A lookup decodes just the value it needs, so random access does not deserialize whole batches like
+ * {@link Ehcache}. Values can only be read after {@link #putFinished()}, and reads are thread-safe.
+ */
+@Slf4j
+public class MappedFileCache implements ReadCache {
+    /**
+     * Each mapped segment is 1 GB, a single mapping cannot exceed 2 GB.
+     */
+    private static final int SEGMENT_SHIFT = 30;
+
+    private static final long SEGMENT_MASK = (1L << SEGMENT_SHIFT) - 1;
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+    private static final String CACHE_FILE_NAME = "shared-strings.bin";
+
+    private File cacheDirectory;
+    private OutputStream outputStream;
+    /**
+     * The value of key {@code i} is stored between {@code offsets[i]} and {@code offsets[i + 1]}
+     */
+    private long[] offsets = new long[INITIAL_CAPACITY + 1];
+
+    private int size;
+    /**
+     * Keys whose value is null, rarely used
+     */
+    private BitSet nullKeys;
+
+    private MappedByteBuffer[] segments;
+
+    @Override
+    public void init(AnalysisContext analysisContext) {
+        cacheDirectory = FileUtils.createCacheTmpFile();
+        try {
+            outputStream = new BufferedOutputStream(
+                    new FileOutputStream(new File(cacheDirectory, CACHE_FILE_NAME)), WRITE_BUFFER_SIZE);
+        } catch (IOException e) {
+            throw new ExcelAnalysisException("Can not create the mapped file cache", e);
+        }
+    }
+
+    @Override
+    public void put(String value) {
+        if (size + 1 == offsets.length) {
+            offsets = Arrays.copyOf(offsets, offsets.length << 1);
+        }
+        long offset = offsets[size];
+        if (value == null) {
+            if (nullKeys == null) {
+                nullKeys = new BitSet();
+            }
+            nullKeys.set(size);
+        } else if (!value.isEmpty()) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            try {
+                outputStream.write(bytes);
+            } catch (IOException e) {
+                throw new ExcelAnalysisException("Can not write the mapped file cache", e);
+            }
+            offset += bytes.length;
+        }
+        offsets[++size] = offset;
+    }
+
+    @Override
+    public String get(Integer key) {
+        if (key == null || key < 0) {
+            return null;
+        }
+        if (key >= size) {
+            throw new IndexOutOfBoundsException("Index: " + key + ", Size: " + size);
+        }
+        if (nullKeys != null && nullKeys.get(key)) {
+            return null;
+        }
+        long start = offsets[key];
+        int length = (int) (offsets[key + 1] - start);
+        if (length == 0) {
+            return "";
+        }
+        byte[] bytes = new byte[length];
+        MappedByteBuffer segment = segments[(int) (start >>> SEGMENT_SHIFT)];
+        int position = (int) (start & SEGMENT_MASK);
+        if (position + length <= segment.limit()) {
+            // Absolute reads do not touch the position, so concurrent readers do not interfere
+            for (int i = 0; i < length; i++) {
+                bytes[i] = segment.get(position + i);
+            }
+        } else {
+            for (int i = 0; i < length; i++) {
+                long index = start + i;
+                bytes[i] = segments[(int) (index >>> SEGMENT_SHIFT)].get((int) (index & SEGMENT_MASK));
+            }
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void putFinished() {
+        if (segments != null) {
+            return;
+        }
+        long length = offsets[size];
+        try {
+            outputStream.close();
+            outputStream = null;
+            try (RandomAccessFile file = new RandomAccessFile(new File(cacheDirectory, CACHE_FILE_NAME), "r");
+                    FileChannel channel = file.getChannel()) {
+                int segmentCount = (int) ((length + SEGMENT_MASK) >>> SEGMENT_SHIFT);
+                segments = new MappedByteBuffer[segmentCount];
+                for (int i = 0; i < segmentCount; i++) {
+                    long position = (long) i << SEGMENT_SHIFT;
+                    segments[i] = channel.map(
+                            FileChannel.MapMode.READ_ONLY, position, Math.min(length - position, SEGMENT_MASK + 1));
+                }
+            }
+        } catch (IOException e) {
+            throw new ExcelAnalysisException("Can not map the mapped file cache", e);
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Mapped file cache finished, size:{}, bytes:{}", size, length);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (outputStream != null) {
+            try {
+                outputStream.close();
+            } catch (IOException e) {
+                log.warn("Can not close the mapped file cache", e);
+            }
+            outputStream = null;
+        }
+        segments = null;
+        offsets = null;
+        if (cacheDirectory != null) {
+            FileUtils.delete(cacheDirectory);
+            // Some platforms refuse to delete a file that is still mapped
+            if (cacheDirectory.exists()) {
+                cacheDirectory.deleteOnExit();
+                new File(cacheDirectory, CACHE_FILE_NAME).deleteOnExit();
+            }
+            cacheDirectory = null;
+        }
+    }
+}
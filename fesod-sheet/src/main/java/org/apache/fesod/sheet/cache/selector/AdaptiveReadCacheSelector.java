@@ -0,0 +1,262 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.sheet.cache.selector;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fesod.sheet.cache.CompactCache;
+import org.apache.fesod.sheet.cache.MapCache;
+import org.apache.fesod.sheet.cache.MappedFileCache;
+import org.apache.fesod.sheet.cache.ReadCache;
+import org.apache.fesod.sheet.context.AnalysisContext;
+import org.apache.poi.openxml4j.opc.PackagePart;
+
+/**
+ * Select the cache by the estimated heap footprint of the shared strings.
+ * <p>
+ * The number of strings is read from the {@code uniqueCount} attribute of {@code <sst>}. The estimated footprint must
+ * fit in {@link #maxHeapRatio} of {@link Runtime#maxMemory()} for this read, and in what is left of
+ * {@link #globalHeapRatio} of it for all the reads running at the same time. {@link MapCache} is preferred, then
+ * {@link CompactCache}, and {@link MappedFileCache} keeps the strings off-heap when neither fits. The reserved heap is
+ * released when the read finishes.
+ **/
+@Getter
+@Setter
+@EqualsAndHashCode
+@Slf4j
+public class AdaptiveReadCacheSelector implements ReadCacheSelector {
+
+    /**
+     * Heap reserved by the in-heap caches of all the reads in progress
+     */
+    private static final AtomicLong RESERVED_HEAP = new AtomicLong();
+
+    private static final double DEFAULT_MAX_HEAP_RATIO = 0.2D;
+    private static final double DEFAULT_GLOBAL_HEAP_RATIO = 0.5D;
+    /**
+     * Only the start of the part is read to find the {@code <sst>} element
+     */
+    private static final int HEADER_PEEK_SIZE = 1024;
+
+    private static final Pattern SST_PATTERN = Pattern.compile("<(?:\\w+:)?sst\\b[^>]*>");
+    private static final Pattern UNIQUE_COUNT_PATTERN = Pattern.compile("\\buniqueCount\\s*=\\s*[\"'](\\d+)[\"']");
+    private static final Pattern COUNT_PATTERN = Pattern.compile("\\bcount\\s*=\\s*[\"'](\\d+)[\"']");
+    /**
+     * The bytes of {@code <si><t></t></si>} around each string
+     */
+    private static final long XML_BYTES_PER_STRING = 16;
+    /**
+     * Used to guess the number of strings when the header does not tell it
+     */
+    private static final long ESTIMATED_XML_BYTES_PER_STRING = 32;
+    /**
+     * The {@link String} and array headers plus the list slot of each value in {@link MapCache}
+     */
+    private static final long MAP_CACHE_BYTES_PER_STRING = 48;
+    /**
+     * The offset of each value in {@link CompactCache}
+     */
+    private static final long COMPACT_CACHE_BYTES_PER_STRING = 4;
+    /**
+     * The unused tail of the pages of {@link CompactCache}
+     */
+    private static final long COMPACT_CACHE_FIXED_BYTES = 1024 * 1024;
+
+    /**
+     * Share of {@link Runtime#maxMemory()} a single read may use for its shared strings. Default is 0.2.
+     */
+    private Double maxHeapRatio;
+
+    /**
+     * Share of {@link Runtime#maxMemory()} all the reads in progress may use for their shared strings. Default is 0.5.
+     */
+    private Double globalHeapRatio;
+
+    @Override
+    public ReadCache readCache(PackagePart sharedStringsTablePackagePart) {
+        long size = sharedStringsTablePackagePart.getSize();
+        if (size < 0) {
+            try {
+                size = sharedStringsTablePackagePart.getInputStream().available();
+            } catch (IOException e) {
+                log.warn("Unable to get file size, default used MappedFileCache");
+                return new MappedFileCache();
+            }
+        }
+        return readCache(size, readStringCount(sharedStringsTablePackagePart));
+    }
+
+    /**
+     * Select the cache by the size of the shared strings only, the number of strings is guessed from it. An unknown
+     * size uses {@link MappedFileCache}.
+     *
+     * @param size
+     * @return
+     */
+    @Override
+    public ReadCache readCache(long size) {
+        if (size < 0) {
+            if (log.isDebugEnabled()) {
+                log.debug("Use mapped file cache, the size is unknown");
+            }
+            return new MappedFileCache();
+        }
+        return readCache(size, -1);
+    }
+
+    private ReadCache readCache(long size, long count) {
+        if (count < 0) {
+            count = size / ESTIMATED_XML_BYTES_PER_STRING;
+        }
+        long textBytes = Math.max(0, size - count * XML_BYTES_PER_STRING);
+
+        long maxMemory = Runtime.getRuntime().maxMemory();
+        long readLimit = (long) (maxMemory * (maxHeapRatio == null ? DEFAULT_MAX_HEAP_RATIO : maxHeapRatio));
+        long globalLimit =
+                (long) (maxMemory * (globalHeapRatio == null ? DEFAULT_GLOBAL_HEAP_RATIO : globalHeapRatio));
+
+        long mapCacheBytes = count * MAP_CACHE_BYTES_PER_STRING + textBytes;
+        if (mapCacheBytes <= readLimit && reserve(mapCacheBytes, globalLimit)) {
+            if (log.isDebugEnabled()) {
+                log.debug("Use map cache.count:{},estimated bytes:{}", count, mapCacheBytes);
+            }
+            return new ReservedReadCache(new MapCache(), mapCacheBytes);
+        }
+        long compactCacheBytes = count * COMPACT_CACHE_BYTES_PER_STRING + textBytes + COMPACT_CACHE_FIXED_BYTES;
+        if (compactCacheBytes <= readLimit && reserve(compactCacheBytes, globalLimit)) {
+            if (log.isDebugEnabled()) {
+                log.debug("Use compact cache.count:{},estimated bytes:{}", count, compactCacheBytes);
+            }
+            return new ReservedReadCache(new CompactCache(), compactCacheBytes);
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Use mapped file cache.count:{},estimated bytes:{}", count, compactCacheBytes);
+        }
+        return new MappedFileCache();
+    }
+
+    /**
+     * Heap currently reserved by the in-heap caches of all the reads in progress.
+     *
+     * @return reserved bytes
+     */
+    public static long reservedHeap() {
+        return RESERVED_HEAP.get();
+    }
+
+    /**
+     * Read the number of strings from the {@code <sst>} header.
+     *
+     * @param sharedStringsTablePackagePart
+     * @return the {@code uniqueCount}, or the {@code count} if absent, or -1 if unknown
+     */
+    private static long readStringCount(PackagePart sharedStringsTablePackagePart) {
+        byte[] header = new byte[HEADER_PEEK_SIZE];
+        int length = 0;
+        try (InputStream inputStream = sharedStringsTablePackagePart.getInputStream()) {
+            int read;
+            while (length < header.length && (read = inputStream.read(header, length, header.length - length)) > 0) {
+                length += read;
+            }
+        } catch (IOException e) {
+            log.warn("Unable to read the shared strings header", e);
+            return -1;
+        }
+        Matcher sstMatcher = SST_PATTERN.matcher(new String(header, 0, length, StandardCharsets.ISO_8859_1));
+        if (!sstMatcher.find()) {
+            return -1;
+        }
+        String sst = sstMatcher.group();
+        Matcher countMatcher = UNIQUE_COUNT_PATTERN.matcher(sst);
+        if (!countMatcher.find()) {
+            countMatcher = COUNT_PATTERN.matcher(sst);
+            if (!countMatcher.find()) {
+                return -1;
+            }
+        }
+        try {
+            return Long.parseLong(countMatcher.group(1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static boolean reserve(long bytes, long globalLimit) {
+        while (true) {
+            long reserved = RESERVED_HEAP.get();
+            if (reserved + bytes > globalLimit) {
+                return false;
+            }
+            if (RESERVED_HEAP.compareAndSet(reserved, reserved + bytes)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Give the reserved heap back when the read finishes.
+     */
+    private static class ReservedReadCache implements ReadCache {
+        private final ReadCache readCache;
+        private final AtomicLong reservedBytes;
+
+        ReservedReadCache(ReadCache readCache, long reservedBytes) {
+            this.readCache = readCache;
+            this.reservedBytes = new AtomicLong(reservedBytes);
+        }
+
+        @Override
+        public void init(AnalysisContext analysisContext) {
+            readCache.init(analysisContext);
+        }
+
+        @Override
+        public void put(String value) {
+            readCache.put(value);
+        }
+
+        @Override
+        public String get(Integer key) {
+            return readCache.get(key);
+        }
+
+        @Override
+        public void putFinished() {
+            readCache.putFinished();
+        }
+
+        @Override
+        public void destroy() {
+            try {
+                readCache.destroy();
+            } finally {
+                RESERVED_HEAP.addAndGet(-reservedBytes.getAndSet(0));
+            }
+        }
+    }
+}
@@ -44,4 +44,9 @@ public class EternalReadCacheSelector implements ReadCacheSelector {
     public ReadCache readCache(PackagePart sharedStringsTablePackagePart) {
         return readCache;
     }
+
+    @Override
+    public ReadCache readCache(long size) {
+        return readCache;
+    }
 }
@@ -25,6 +25,8 @@
 
 package org.apache.fesod.sheet.cache.selector;
 
+import org.apache.fesod.sheet.cache.MapCache;
+import org.apache.fesod.sheet.cache.MappedFileCache;
 import org.apache.fesod.sheet.cache.ReadCache;
 import org.apache.poi.openxml4j.opc.PackagePart;
 
@@ -42,4 +44,19 @@ public interface ReadCacheSelector {
      * @return
      */
     ReadCache readCache(PackagePart sharedStringsTablePackagePart);
+
+    /**
+     * Select a cache when the shared strings are read from a stream, without a package part. By default, shared strings
+     * smaller than 5M use {@link MapCache}, or use {@link MappedFileCache}.
+     *
+     * @param size
+     *            uncompressed size of the shared strings.unit byte. -1 if unknown
+     * @return
+     */
+    default ReadCache readCache(long size) {
+        if (size >= 0 && size < 5 * 1000 * 1000L) {
+            return new MapCache();
+        }
+        return new MappedFileCache();
+    }
 }
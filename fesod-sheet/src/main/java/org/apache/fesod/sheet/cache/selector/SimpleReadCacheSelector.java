@@ -30,8 +30,10 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.fesod.sheet.cache.CompactCache;
 import org.apache.fesod.sheet.cache.Ehcache;
 import org.apache.fesod.sheet.cache.MapCache;
+import org.apache.fesod.sheet.cache.MappedFileCache;
 import org.apache.fesod.sheet.cache.ReadCache;
 import org.apache.poi.openxml4j.opc.PackagePart;
 
@@ -66,6 +68,12 @@ public class SimpleReadCacheSelector implements ReadCacheSelector {
      */
     private Long maxUseMapCacheSize;
 
+    /**
+     * Shared strings exceeding {@link #maxUseMapCacheSize} but not this value will use {@link CompactCache}.unit MB.
+     * Default is null, which never uses {@link CompactCache}.
+     */
+    private Long maxUseCompactCacheSize;
+
     /**
      * Maximum size of cache activation.unit MB.
      *
@@ -80,6 +88,12 @@ public class SimpleReadCacheSelector implements ReadCacheSelector {
      */
     private Integer maxCacheActivateBatchCount;
 
+    /**
+     * Shared strings exceeding {@link #maxUseMapCacheSize} will use {@link MappedFileCache} instead of {@link Ehcache}.
+     * Default is false.
+     */
+    private Boolean useMappedFileCache;
+
     public SimpleReadCacheSelector() {}
 
     /**
@@ -105,6 +119,21 @@ public class SimpleReadCacheSelector implements ReadCacheSelector {
                 return new MapCache();
             }
         }
+        return readCache(size);
+    }
+
+    /**
+     * Select the cache by the size of the shared strings, an unknown size is handled like a size exceeding all the
+     * limits.
+     *
+     * @param size
+     * @return
+     */
+    @Override
+    public ReadCache readCache(long size) {
+        if (size < 0) {
+            size = Long.MAX_VALUE;
+        }
         if (maxUseMapCacheSize == null) {
             maxUseMapCacheSize = DEFAULT_MAX_USE_MAP_CACHE_SIZE;
         }
@@ -114,6 +143,18 @@ public class SimpleReadCacheSelector implements ReadCacheSelector {
             }
             return new MapCache();
         }
+        if (maxUseCompactCacheSize != null && size < maxUseCompactCacheSize * B2M) {
+            if (log.isDebugEnabled()) {
+                log.debug("Use compact cache.size:{}", size);
+            }
+            return new CompactCache();
+        }
+        if (Boolean.TRUE.equals(useMappedFileCache)) {
+            if (log.isDebugEnabled()) {
+                log.debug("Use mapped file cache.size:{}", size);
+            }
+            return new MappedFileCache();
+        }
         if (log.isDebugEnabled()) {
             log.debug("Use ehcache.size:{}", size);
         }
@@ -95,6 +95,21 @@ public class AnalysisContextImpl implements AnalysisContext {
         }
     }
 
+    /**
+     * Create a context on top of an already initialized workbook, so that several sheets of the same workbook can be
+     * read with their own sheet and row state.
+     *
+     * @param readWorkbookHolder the shared workbook holder
+     */
+    public AnalysisContextImpl(ReadWorkbookHolder readWorkbookHolder) {
+        if (readWorkbookHolder == null) {
+            throw new IllegalArgumentException("Workbook holder argument cannot be null");
+        }
+        this.readWorkbookHolder = readWorkbookHolder;
+        currentReadHolder = readWorkbookHolder;
+        analysisEventProcessor = new DefaultAnalysisEventProcessor();
+    }
+
     @Override
     public void currentSheet(ReadSheet readSheet) {
         switch (readWorkbookHolder.getExcelType()) {
@@ -115,6 +130,9 @@ public class AnalysisContextImpl implements AnalysisContext {
             throw new ExcelAnalysisException("Cannot read sheet repeatedly.");
         }
         readWorkbookHolder.getHasReadSheet().add(readSheetHolder.getSheetNo());
+        if (readWorkbookHolder.getReadListenerFactory() != null) {
+            readSheetHolder.getReadListenerList().add(readWorkbookHolder.getReadListenerFactory().create(readSheet));
+        }
         if (log.isDebugEnabled()) {
             log.debug("Began to read：{}", readSheetHolder);
         }
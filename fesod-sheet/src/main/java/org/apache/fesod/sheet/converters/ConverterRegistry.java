@@ -0,0 +1,231 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.sheet.converters;
+
+import java.util.AbstractMap;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.fesod.sheet.converters.ConverterKeyBuild.ConverterKey;
+import org.apache.fesod.sheet.enums.CellDataTypeEnum;
+
+/**
+ * The converters of a holder, found by an array lookup instead of hashing a new {@link ConverterKey}.
+ * <p>
+ * Each java class gets a slot once, shared with its primitive type, and the converter of a slot and an excel type is
+ * kept at {@code slot * TYPE_COUNT + type}. The table is immutable and shared by the registries copied from each
+ * other, the default ones are built once. Changing a registry, for example with the custom converters of a workbook
+ * or sheet, replaces its own table and leaves the others alone.
+ * <p>
+ * It is also a map keyed by {@link ConverterKey}, so it can be used wherever the converter map is.
+ */
+public class ConverterRegistry extends AbstractMap<ConverterKey, Converter<?>> {
+
+    /**
+     * The first type is a null excel type, the converters used when writing.
+     */
+    private static final int TYPE_COUNT = CellDataTypeEnum.values().length + 1;
+
+    private static final AtomicInteger NEXT_SLOT = new AtomicInteger();
+
+    private static final ClassValue<Integer> SLOT = new ClassValue<Integer>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            Class<?> boxingClass = ConverterKeyBuild.buildKey(type).getClazz();
+            if (boxingClass != type) {
+                return get(boxingClass);
+            }
+            return NEXT_SLOT.getAndIncrement();
+        }
+    };
+
+    private static final Table EMPTY_TABLE = new Table(Collections.emptyMap());
+
+    private volatile Table table;
+
+    public ConverterRegistry() {
+        this(EMPTY_TABLE);
+    }
+
+    public ConverterRegistry(Map<ConverterKey, Converter<?>> converterMap) {
+        this(
+                converterMap instanceof ConverterRegistry
+                        ? ((ConverterRegistry) converterMap).table
+                        : new Table(converterMap));
+    }
+
+    private ConverterRegistry(Table table) {
+        this.table = table;
+    }
+
+    /**
+     * Find the converter in any converter map, without building a key when it is a registry.
+     *
+     * @param converterMap
+     * @param clazz
+     * @param cellDataTypeEnum
+     * @return null if there is no converter
+     */
+    public static Converter<?> lookup(
+            Map<ConverterKey, Converter<?>> converterMap, Class<?> clazz, CellDataTypeEnum cellDataTypeEnum) {
+        if (converterMap instanceof ConverterRegistry) {
+            return ((ConverterRegistry) converterMap).getConverter(clazz, cellDataTypeEnum);
+        }
+        return converterMap.get(ConverterKeyBuild.buildKey(clazz, cellDataTypeEnum));
+    }
+
+    /**
+     * The converter of a java class and an excel type.
+     *
+     * @param clazz
+     * @param cellDataTypeEnum null for the converters used when writing
+     * @return null if there is no converter
+     */
+    public Converter<?> getConverter(Class<?> clazz, CellDataTypeEnum cellDataTypeEnum) {
+        if (clazz == null) {
+            return null;
+        }
+        return table.get(SLOT.get(clazz), cellDataTypeEnum);
+    }
+
+    /**
+     * A registry sharing the converters of this one until either is changed.
+     *
+     * @return
+     */
+    public ConverterRegistry copy() {
+        return new ConverterRegistry(table);
+    }
+
+    /**
+     * Register converters by their java and excel type, replacing the ones of the same types.
+     *
+     * @param converters
+     */
+    public synchronized void registerConverters(Collection<? extends Converter<?>> converters) {
+        if (converters == null || converters.isEmpty()) {
+            return;
+        }
+        Map<ConverterKey, Converter<?>> converterMap = new HashMap<>(table.converterMap);
+        for (Converter<?> converter : converters) {
+            converterMap.put(
+                    ConverterKeyBuild.buildKey(converter.supportJavaTypeKey(), converter.supportExcelTypeKey()),
+                    converter);
+        }
+        table = new Table(converterMap);
+    }
+
+    @Override
+    public Converter<?> get(Object key) {
+        if (!(key instanceof ConverterKey)) {
+            return null;
+        }
+        ConverterKey converterKey = (ConverterKey) key;
+        if (converterKey.getClazz() == null) {
+            return table.converterMap.get(converterKey);
+        }
+        return getConverter(converterKey.getClazz(), converterKey.getCellDataTypeEnum());
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public int size() {
+        return table.converterMap.size();
+    }
+
+    @Override
+    public synchronized Converter<?> put(ConverterKey key, Converter<?> value) {
+        Map<ConverterKey, Converter<?>> converterMap = new HashMap<>(table.converterMap);
+        Converter<?> old = converterMap.put(key, value);
+        table = new Table(converterMap);
+        return old;
+    }
+
+    @Override
+    public synchronized void putAll(Map<? extends ConverterKey, ? extends Converter<?>> m) {
+        Map<ConverterKey, Converter<?>> converterMap = new HashMap<>(table.converterMap);
+        converterMap.putAll(m);
+        table = new Table(converterMap);
+    }
+
+    @Override
+    public synchronized Converter<?> remove(Object key) {
+        if (!table.converterMap.containsKey(key)) {
+            return null;
+        }
+        Map<ConverterKey, Converter<?>> converterMap = new HashMap<>(table.converterMap);
+        Converter<?> old = converterMap.remove(key);
+        table = new Table(converterMap);
+        return old;
+    }
+
+    @Override
+    public synchronized void clear() {
+        table = EMPTY_TABLE;
+    }
+
+    @Override
+    public Set<Entry<ConverterKey, Converter<?>>> entrySet() {
+        return table.converterMap.entrySet();
+    }
+
+    private static final class Table {
+        private final Map<ConverterKey, Converter<?>> converterMap;
+        private final Converter<?>[] converters;
+
+        private Table(Map<ConverterKey, Converter<?>> converterMap) {
+            Map<ConverterKey, Converter<?>> copy = new HashMap<>();
+            int maxSlot = -1;
+            for (Entry<ConverterKey, Converter<?>> entry : converterMap.entrySet()) {
+                ConverterKey key = entry.getKey();
+                // Keys built by hand may use the primitive type
+                key = ConverterKeyBuild.buildKey(key.getClazz(), key.getCellDataTypeEnum());
+                copy.put(key, entry.getValue());
+                if (key.getClazz() != null) {
+                    maxSlot = Math.max(maxSlot, SLOT.get(key.getClazz()));
+                }
+            }
+            this.converterMap = Collections.unmodifiableMap(copy);
+            this.converters = new Converter<?>[(maxSlot + 1) * TYPE_COUNT];
+            for (Entry<ConverterKey, Converter<?>> entry : copy.entrySet()) {
+                ConverterKey key = entry.getKey();
+                if (key.getClazz() != null) {
+                    converters[index(SLOT.get(key.getClazz()), key.getCellDataTypeEnum())] = entry.getValue();
+                }
+            }
+        }
+
+        private Converter<?> get(int slot, CellDataTypeEnum cellDataTypeEnum) {
+            int index = index(slot, cellDataTypeEnum);
+            return index < converters.length ? converters[index] : null;
+        }
+
+        private static int index(int slot, CellDataTypeEnum cellDataTypeEnum) {
+            return slot * TYPE_COUNT + (cellDataTypeEnum == null ? 0 : cellDataTypeEnum.ordinal() + 1);
+        }
+    }
+}
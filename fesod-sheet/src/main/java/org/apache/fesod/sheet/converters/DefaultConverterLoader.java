@@ -84,10 +84,14 @@ import org.apache.fesod.sheet.converters.url.UrlImageConverter;
 public class DefaultConverterLoader {
     private static Map<ConverterKey, Converter<?>> defaultWriteConverter;
     private static Map<ConverterKey, Converter<?>> allConverter;
+    private static ConverterRegistry defaultWriteConverterRegistry;
+    private static ConverterRegistry allConverterRegistry;
 
     static {
         initDefaultWriteConverter();
         initAllConverter();
+        defaultWriteConverterRegistry = new ConverterRegistry(defaultWriteConverter);
+        allConverterRegistry = new ConverterRegistry(allConverter);
     }
 
     private static void initAllConverter() {
@@ -200,6 +204,15 @@ public class DefaultConverterLoader {
         return new HashMap<>(loadDefaultWriteConverter());
     }
 
+    /**
+     * Copy default write converter, sharing the default registry until it is changed
+     *
+     * @return
+     */
+    public static ConverterRegistry copyDefaultWriteConverterRegistry() {
+        return defaultWriteConverterRegistry.copy();
+    }
+
     private static void putWriteConverter(Converter<?> converter) {
         defaultWriteConverter.put(ConverterKeyBuild.buildKey(converter.supportJavaTypeKey()), converter);
     }
@@ -227,6 +240,15 @@ public class DefaultConverterLoader {
         return new HashMap<>(loadDefaultReadConverter());
     }
 
+    /**
+     * Copy default read converter, sharing the default registry until it is changed
+     *
+     * @return
+     */
+    public static ConverterRegistry copyDefaultReadConverterRegistry() {
+        return allConverterRegistry.copy();
+    }
+
     /**
      * Load all converter
      *
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.sheet.enums;
+
+import org.apache.fesod.common.util.StringUtils;
+import org.apache.fesod.sheet.util.DateUtils;
+
+/**
+ * What a data format shows a number as.
+ */
+public enum DataFormatTypeEnum {
+    /**
+     * general, the format is empty or {@code General}
+     */
+    GENERAL,
+    /**
+     * number
+     */
+    NUMBER,
+    /**
+     * date or time
+     */
+    DATE,
+    /**
+     * text, the format is {@code @}
+     */
+    TEXT;
+
+    private static final String GENERAL_FORMAT = "General";
+    private static final String TEXT_FORMAT = "@";
+
+    /**
+     * Classify a data format. The date check is cached by format string across reads.
+     *
+     * @param formatIndex
+     * @param formatString
+     * @return
+     */
+    public static DataFormatTypeEnum classify(Short formatIndex, String formatString) {
+        if (DateUtils.isADateFormat(formatIndex, formatString)) {
+            return DATE;
+        }
+        if (StringUtils.isBlank(formatString) || GENERAL_FORMAT.equalsIgnoreCase(formatString)) {
+            return GENERAL;
+        }
+        if (TEXT_FORMAT.equals(formatString)) {
+            return TEXT;
+        }
+        return NUMBER;
+    }
+}
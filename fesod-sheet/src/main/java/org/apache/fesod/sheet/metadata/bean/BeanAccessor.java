@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.sheet.metadata.bean;
+
+/**
+ * Creates the objects of a class and reads and writes their properties.
+ * <p>
+ * The properties are the ones the JavaBeans introspector finds, a getter, a setter or both. They are addressed by their
+ * index in {@link #getPropertyNames()}, so callers resolve the index once and access the property without lookups.
+ *
+ * @param <T> the class of the objects
+ * @see BeanAccessors
+ */
+public interface BeanAccessor<T> {
+
+    /**
+     * The class of the objects.
+     *
+     * @return
+     */
+    Class<T> getBeanClass();
+
+    /**
+     * Create an object with the no-argument constructor.
+     *
+     * @return
+     */
+    T newInstance();
+
+    /**
+     * The names of the properties.
+     *
+     * @return never modified by the caller
+     */
+    String[] getPropertyNames();
+
+    /**
+     * The type of a property.
+     *
+     * @param index
+     * @return
+     */
+    Class<?> getPropertyType(int index);
+
+    /**
+     * Whether the property has a getter.
+     *
+     * @param index
+     * @return
+     */
+    boolean isReadable(int index);
+
+    /**
+     * Whether the property has a setter.
+     *
+     * @param index
+     * @return
+     */
+    boolean isWritable(int index);
+
+    /**
+     * Read a property.
+     *
+     * @param bean
+     * @param index
+     * @return null if the property has no getter
+     */
+    Object get(T bean, int index);
+
+    /**
+     * Write a property, nothing happens if the property has no setter.
+     *
+     * @param bean
+     * @param index
+     * @param value
+     */
+    void set(T bean, int index, Object value);
+
+    /**
+     * The index of a property.
+     *
+     * @param propertyName
+     * @return -1 if there is no such property
+     */
+    default int indexOf(String propertyName) {
+        String[] propertyNames = getPropertyNames();
+        for (int i = 0; i < propertyNames.length; i++) {
+            if (propertyNames[i].equals(propertyName)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.sheet.metadata.bean;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * A map view of the properties of an object, read and written through its {@link BeanAccessor}.
+ * <p>
+ * The keys are the property names. Reading a property without a getter returns null and writing a property without a
+ * setter does nothing, as a cglib bean map does. Creating the view allocates no class, so one can be made for each
+ * row.
+ */
+public class BeanAccessorMap extends AbstractMap<String, Object> {
+
+    private final Object bean;
+    private final BeanAccessor<Object> beanAccessor;
+
+    @SuppressWarnings("unchecked")
+    public BeanAccessorMap(Object bean) {
+        this.bean = bean;
+        this.beanAccessor = BeanAccessors.get((Class<Object>) bean.getClass());
+    }
+
+    /**
+     * The object the map reads and writes.
+     *
+     * @return
+     */
+    public Object getBean() {
+        return bean;
+    }
+
+    /**
+     * The type of a property.
+     *
+     * @param name
+     * @return null if there is no such property
+     */
+    public Class<?> getPropertyType(String name) {
+        int index = beanAccessor.indexOf(name);
+        return index < 0 ? null : beanAccessor.getPropertyType(index);
+    }
+
+    @Override
+    public int size() {
+        return beanAccessor.getPropertyNames().length;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof String && beanAccessor.indexOf((String) key) >= 0;
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (!(key instanceof String)) {
+            return null;
+        }
+        int index = beanAccessor.indexOf((String) key);
+        return index < 0 ? null : beanAccessor.get(bean, index);
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        int index = beanAccessor.indexOf(key);
+        if (index < 0) {
+            return null;
+        }
+        Object old = beanAccessor.get(bean, index);
+        beanAccessor.set(bean, index, value);
+        return old;
+    }
+
+    @Override
+    public Object remove(Object key) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return new LinkedHashSet<>(Arrays.asList(beanAccessor.getPropertyNames()));
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<Entry<String, Object>>() {
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                return new Iterator<Entry<String, Object>>() {
+                    private int index;
+
+                    @Override
+                    public boolean hasNext() {
+                        return index < beanAccessor.getPropertyNames().length;
+                    }
+
+                    @Override
+                    public Entry<String, Object> next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        int current = index++;
+                        return new SimpleImmutableEntry<>(
+                                beanAccessor.getPropertyNames()[current], beanAccessor.get(bean, current));
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return BeanAccessorMap.this.size();
+            }
+        };
+    }
+}
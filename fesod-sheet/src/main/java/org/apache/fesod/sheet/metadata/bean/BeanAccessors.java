@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.sheet.metadata.bean;
+
+import java.beans.PropertyDescriptor;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Finds the bean accessor of a class, created once for each class.
+ * <p>
+ * Accessors generated at compile time by the {@code fesod-sheet-processor} annotation processor are registered as
+ * {@link BeanAccessor} services and used when present, as long as they have all the properties of the class. The
+ * other classes are accessed through lambdas spun by {@link java.lang.invoke.LambdaMetafactory}.
+ */
+@Slf4j
+public final class BeanAccessors {
+
+    private static final Map<Class<?>, BeanAccessor<?>> ACCESSOR_CACHE = new ConcurrentHashMap<>();
+    /**
+     * The generated accessors registered in each class loader. key: class loader value: key: bean class value: accessor
+     */
+    private static final Map<ClassLoader, Map<Class<?>, BeanAccessor<?>>> GENERATED_CACHE = new ConcurrentHashMap<>();
+
+    private BeanAccessors() {}
+
+    /**
+     * The accessor of a class.
+     *
+     * @param clazz
+     * @param <T>
+     * @return
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> BeanAccessor<T> get(Class<T> clazz) {
+        return (BeanAccessor<T>) ACCESSOR_CACHE.computeIfAbsent(clazz, BeanAccessors::create);
+    }
+
+    private static BeanAccessor<?> create(Class<?> clazz) {
+        ClassLoader classLoader = clazz.getClassLoader();
+        if (classLoader != null) {
+            BeanAccessor<?> generated =
+                    GENERATED_CACHE.computeIfAbsent(classLoader, BeanAccessors::loadGenerated).get(clazz);
+            if (generated != null && covers(generated, clazz)) {
+                return generated;
+            }
+        }
+        return new LambdaBeanAccessor<>(clazz);
+    }
+
+    /**
+     * Load the registered accessors, skipping the ones that can not be loaded, such as the accessor of a class that
+     * was renamed or deleted.
+     */
+    @SuppressWarnings("rawtypes")
+    private static Map<Class<?>, BeanAccessor<?>> loadGenerated(ClassLoader classLoader) {
+        Map<Class<?>, BeanAccessor<?>> generatedMap = new HashMap<>();
+        Iterator<BeanAccessor> iterator = ServiceLoader.load(BeanAccessor.class, classLoader).iterator();
+        while (true) {
+            try {
+                if (!iterator.hasNext()) {
+                    return generatedMap;
+                }
+                BeanAccessor<?> beanAccessor = iterator.next();
+                generatedMap.putIfAbsent(beanAccessor.getBeanClass(), beanAccessor);
+            } catch (ServiceConfigurationError | LinkageError e) {
+                log.warn("Skip a generated bean accessor that can not be loaded, use the lambda accessor instead.", e);
+            }
+        }
+    }
+
+    /**
+     * Whether the generated accessor reads and writes all the properties of the class, it may have been generated
+     * before other annotation processors added the getters and setters.
+     */
+    private static boolean covers(BeanAccessor<?> generated, Class<?> clazz) {
+        Map<String, Integer> indexMap = new HashMap<>();
+        String[] propertyNames = generated.getPropertyNames();
+        for (int i = 0; i < propertyNames.length; i++) {
+            indexMap.put(propertyNames[i], i);
+        }
+        for (PropertyDescriptor propertyDescriptor : LambdaBeanAccessor.propertyDescriptors(clazz)) {
+            Integer index = indexMap.get(propertyDescriptor.getName());
+            if (index == null
+                    || (propertyDescriptor.getReadMethod() != null && !generated.isReadable(index))
+                    || (propertyDescriptor.getWriteMethod() != null && !generated.isWritable(index))) {
+                log.warn(
+                        "The generated bean accessor of {} misses the property '{}', use the lambda accessor instead.",
+                        clazz.getName(),
+                        propertyDescriptor.getName());
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,328 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.sheet.metadata.bean;
+
+import java.beans.BeanInfo;
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Accesses the properties found by the JavaBeans introspector through lambdas, built once for the class with
+ * {@link LambdaMetafactory}.
+ * <p>
+ * A lambda can only call the public members of a public class that this library can see. The other members are
+ * called through method handles wrapped in the same functional interfaces.
+ *
+ * @param <T> the class of the objects
+ */
+class LambdaBeanAccessor<T> implements BeanAccessor<T> {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final MethodType SUPPLIER_TYPE = MethodType.methodType(Object.class);
+    private static final MethodType FUNCTION_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType BI_CONSUMER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final Class<T> beanClass;
+    private final Supplier<Object> constructor;
+
+    private final String[] propertyNames;
+    private final Class<?>[] propertyTypes;
+    private final Function<Object, Object>[] getters;
+    private final BiConsumer<Object, Object>[] setters;
+
+    @SuppressWarnings("unchecked")
+    LambdaBeanAccessor(Class<T> beanClass) {
+        this.beanClass = beanClass;
+        this.constructor = constructor(beanClass);
+        PropertyDescriptor[] propertyDescriptors = propertyDescriptors(beanClass);
+        int size = propertyDescriptors.length;
+        this.propertyNames = new String[size];
+        this.propertyTypes = new Class<?>[size];
+        this.getters = new Function[size];
+        this.setters = new BiConsumer[size];
+        for (int i = 0; i < size; i++) {
+            PropertyDescriptor propertyDescriptor = propertyDescriptors[i];
+            propertyNames[i] = propertyDescriptor.getName();
+            propertyTypes[i] = propertyDescriptor.getPropertyType();
+            getters[i] = getter(propertyDescriptor.getReadMethod());
+            setters[i] = setter(propertyDescriptor.getWriteMethod());
+        }
+    }
+
+    @Override
+    public Class<T> getBeanClass() {
+        return beanClass;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T newInstance() {
+        return (T) constructor.get();
+    }
+
+    @Override
+    public String[] getPropertyNames() {
+        return propertyNames;
+    }
+
+    @Override
+    public Class<?> getPropertyType(int index) {
+        return propertyTypes[index];
+    }
+
+    @Override
+    public boolean isReadable(int index) {
+        return getters[index] != null;
+    }
+
+    @Override
+    public boolean isWritable(int index) {
+        return setters[index] != null;
+    }
+
+    @Override
+    public Object get(T bean, int index) {
+        Function<Object, Object> getter = getters[index];
+        if (getter == null) {
+            return null;
+        }
+        return getter.apply(bean);
+    }
+
+    @Override
+    public void set(T bean, int index, Object value) {
+        BiConsumer<Object, Object> setter = setters[index];
+        if (setter == null) {
+            return;
+        }
+        setter.accept(bean, value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Supplier<Object> constructor(Class<?> beanClass) {
+        if (Modifier.isAbstract(beanClass.getModifiers())) {
+            return newInstanceSupplier(beanClass);
+        }
+        Constructor<?> constructor;
+        try {
+            constructor = beanClass.getDeclaredConstructor();
+        } catch (NoSuchMethodException e) {
+            return newInstanceSupplier(beanClass);
+        }
+        MethodHandle handle = unreflectConstructor(constructor);
+        if (handle == null) {
+            return newInstanceSupplier(beanClass);
+        }
+        if (canLink(constructor)) {
+            Object lambda = metafactory("get", Supplier.class, SUPPLIER_TYPE, handle, handle.type());
+            if (lambda != null) {
+                return (Supplier<Object>) lambda;
+            }
+        }
+        MethodHandle genericHandle = handle.asType(SUPPLIER_TYPE);
+        return () -> {
+            try {
+                return genericHandle.invokeExact();
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException("Can not instance class: " + beanClass.getName(), e);
+            }
+        };
+    }
+
+    /**
+     * Let {@link Class#newInstance()} report why the class can not be created.
+     */
+    private static Supplier<Object> newInstanceSupplier(Class<?> beanClass) {
+        return () -> {
+            try {
+                return beanClass.newInstance();
+            } catch (InstantiationException | IllegalAccessException e) {
+                throw new IllegalStateException("Can not instance class: " + beanClass.getName(), e);
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object> getter(Method method) {
+        MethodHandle handle = unreflect(method);
+        if (handle == null) {
+            return null;
+        }
+        if (canLink(method)) {
+            Object lambda = metafactory("apply", Function.class, FUNCTION_TYPE, handle, handle.type());
+            if (lambda != null) {
+                return (Function<Object, Object>) lambda;
+            }
+        }
+        MethodHandle genericHandle = handle.asType(FUNCTION_TYPE);
+        return bean -> {
+            try {
+                return genericHandle.invokeExact(bean);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static BiConsumer<Object, Object> setter(Method method) {
+        MethodHandle handle = unreflect(method);
+        if (handle == null) {
+            return null;
+        }
+        if (canLink(method)) {
+            // Primitive properties take the boxed value
+            MethodType instantiatedType = handle.type().wrap().changeReturnType(void.class);
+            Object lambda = metafactory("accept", BiConsumer.class, BI_CONSUMER_TYPE, handle, instantiatedType);
+            if (lambda != null) {
+                return (BiConsumer<Object, Object>) lambda;
+            }
+        }
+        MethodHandle genericHandle = handle.asType(BI_CONSUMER_TYPE);
+        return (bean, value) -> {
+            try {
+                genericHandle.invokeExact(bean, value);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+
+    /**
+     * Spin a lambda calling the handle.
+     *
+     * @return null if the lambda can not be created
+     */
+    private static Object metafactory(
+            String methodName,
+            Class<?> functionalInterface,
+            MethodType samType,
+            MethodHandle handle,
+            MethodType instantiatedType) {
+        try {
+            CallSite callSite = LambdaMetafactory.metafactory(
+                    LOOKUP,
+                    methodName,
+                    MethodType.methodType(functionalInterface),
+                    samType,
+                    handle,
+                    instantiatedType);
+            return callSite.getTarget().invoke();
+        } catch (Throwable ignore) {
+            return null;
+        }
+    }
+
+    /**
+     * The lambda class is defined next to this class, so it links to the member by name: both the member and the
+     * classes in its signature have to be public and visible from here.
+     */
+    private static boolean canLink(Member member) {
+        if (!Modifier.isPublic(member.getModifiers())) {
+            return false;
+        }
+        Class<?>[] parameterTypes;
+        if (member instanceof Method) {
+            Method method = (Method) member;
+            if (!isLinkable(method.getReturnType())) {
+                return false;
+            }
+            parameterTypes = method.getParameterTypes();
+        } else {
+            parameterTypes = ((Constructor<?>) member).getParameterTypes();
+        }
+        for (Class<?> parameterType : parameterTypes) {
+            if (!isLinkable(parameterType)) {
+                return false;
+            }
+        }
+        return isLinkable(member.getDeclaringClass());
+    }
+
+    private static boolean isLinkable(Class<?> clazz) {
+        while (clazz.isArray()) {
+            clazz = clazz.getComponentType();
+        }
+        if (clazz.isPrimitive()) {
+            return true;
+        }
+        if (!Modifier.isPublic(clazz.getModifiers())) {
+            return false;
+        }
+        try {
+            return Class.forName(clazz.getName(), false, LambdaBeanAccessor.class.getClassLoader()) == clazz;
+        } catch (ClassNotFoundException | LinkageError ignore) {
+            return false;
+        }
+    }
+
+    /**
+     * The same properties the cglib bean map of the class has.
+     */
+    static PropertyDescriptor[] propertyDescriptors(Class<?> beanClass) {
+        try {
+            BeanInfo beanInfo = Introspector.getBeanInfo(beanClass, Object.class);
+            return beanInfo.getPropertyDescriptors();
+        } catch (IntrospectionException ignore) {
+            return new PropertyDescriptor[0];
+        }
+    }
+
+    private static MethodHandle unreflect(Method method) {
+        if (method == null) {
+            return null;
+        }
+        try {
+            method.setAccessible(true);
+            return LOOKUP.unreflect(method);
+        } catch (RuntimeException | IllegalAccessException ignore) {
+            return null;
+        }
+    }
+
+    private static MethodHandle unreflectConstructor(Constructor<?> constructor) {
+        try {
+            constructor.setAccessible(true);
+            return LOOKUP.unreflectConstructor(constructor);
+        } catch (RuntimeException | IllegalAccessException ignore) {
+            return null;
+        }
+    }
+}
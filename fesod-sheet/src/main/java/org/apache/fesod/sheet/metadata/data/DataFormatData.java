@@ -25,10 +25,12 @@
 
 package org.apache.fesod.sheet.metadata.data;
 
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
 import org.apache.fesod.common.util.StringUtils;
+import org.apache.fesod.sheet.enums.DataFormatTypeEnum;
 
 /**
  * data format
@@ -49,6 +51,47 @@ public class DataFormatData {
      */
     private String format;
 
+    /**
+     * Classification of the format, computed on first use
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    private DataFormatTypeEnum formatType;
+
+    public void setIndex(Short index) {
+        this.index = index;
+        this.formatType = null;
+    }
+
+    public void setFormat(String format) {
+        this.format = format;
+        this.formatType = null;
+    }
+
+    /**
+     * What the format shows a number as.
+     *
+     * @return
+     */
+    public DataFormatTypeEnum getFormatType() {
+        DataFormatTypeEnum type = formatType;
+        if (type == null) {
+            type = DataFormatTypeEnum.classify(index, format);
+            formatType = type;
+        }
+        return type;
+    }
+
+    /**
+     * Whether the format is a date or time format.
+     *
+     * @return
+     */
+    public boolean isDateFormat() {
+        return getFormatType() == DataFormatTypeEnum.DATE;
+    }
+
     /**
      * The source is not empty merge the data to the target.
      *
@@ -72,6 +115,7 @@ public class DataFormatData {
         DataFormatData dataFormatData = new DataFormatData();
         dataFormatData.setIndex(getIndex());
         dataFormatData.setFormat(getFormat());
+        dataFormatData.formatType = formatType;
         return dataFormatData;
     }
 }
@@ -26,6 +26,7 @@
 package org.apache.fesod.sheet.metadata.data;
 
 import java.math.BigDecimal;
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -50,6 +51,46 @@ public class ReadCellData<T> extends CellData<T> {
      */
     private static final String TRUE_NUMBER = "1";
 
+    /**
+     * Numbers with up to this many significant digits are not changed by {@link FesodSheetConstants#EXCEL_MATH_CONTEXT}.
+     */
+    private static final int MAX_UNROUNDED_PRECISION = 15;
+
+    /**
+     * Integers up to this value are exact in a double.
+     */
+    private static final long MAX_EXACT_DOUBLE_INTEGER = 1L << 53;
+
+    /**
+     * Powers of ten that are exact in a double.
+     */
+    private static final double[] EXACT_DOUBLE_POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19,
+        1e20, 1e21, 1e22
+    };
+
+    private static final long[] LONG_POWERS_OF_TEN = {
+        1L,
+        10L,
+        100L,
+        1000L,
+        10000L,
+        100000L,
+        1000000L,
+        10000000L,
+        100000000L,
+        1000000000L,
+        10000000000L,
+        100000000000L,
+        1000000000000L,
+        10000000000000L,
+        100000000000000L,
+        1000000000000000L,
+        10000000000000000L,
+        100000000000000000L,
+        1000000000000000000L
+    };
+
     /**
      * originalNumberValue vs numberValue
      * <ol>
@@ -77,6 +118,27 @@ public class ReadCellData<T> extends CellData<T> {
      */
     private DataFormatData dataFormatData;
 
+    /**
+     * The original number is {@code compactUnscaledValue × 10^-compactScale} until the BigDecimal values are asked for.
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    private long compactUnscaledValue;
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    private int compactScale;
+
+    /**
+     * Significant digits of the compact number, 0 if the number is not compact.
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    private int compactPrecision;
+
     public ReadCellData(CellDataTypeEnum type) {
         super();
         if (type == null) {
@@ -124,6 +186,116 @@ public class ReadCellData<T> extends CellData<T> {
         setBooleanValue(booleanValue);
     }
 
+    public BigDecimal getOriginalNumberValue() {
+        inflateNumber();
+        return originalNumberValue;
+    }
+
+    public void setOriginalNumberValue(BigDecimal originalNumberValue) {
+        inflateNumber();
+        this.originalNumberValue = originalNumberValue;
+    }
+
+    /**
+     * Set the original number as {@code unscaledValue × 10^-scale}. The number value is rounded the same way as
+     * {@link #newInstanceOriginal(BigDecimal, Integer, Integer)}, but the BigDecimal values are only created when they
+     * are asked for.
+     *
+     * @param unscaledValue
+     * @param scale
+     * @param precision     number of significant digits of the unscaled value
+     */
+    public void setOriginalNumberValue(long unscaledValue, int scale, int precision) {
+        this.originalNumberValue = null;
+        super.setNumberValue(null);
+        this.compactUnscaledValue = unscaledValue;
+        this.compactScale = scale;
+        this.compactPrecision = Math.max(precision, 1);
+    }
+
+    @Override
+    public BigDecimal getNumberValue() {
+        inflateNumber();
+        return super.getNumberValue();
+    }
+
+    @Override
+    public void setNumberValue(BigDecimal numberValue) {
+        inflateNumber();
+        super.setNumberValue(numberValue);
+    }
+
+    /**
+     * The same as {@code getNumberValue().longValue()}, without creating the BigDecimal when possible.
+     *
+     * @return
+     */
+    public long numberLongValue() {
+        if (compactPrecision > 0 && compactPrecision <= MAX_UNROUNDED_PRECISION) {
+            if (compactScale == 0) {
+                return compactUnscaledValue;
+            }
+            if (compactScale > 0) {
+                return compactScale < LONG_POWERS_OF_TEN.length
+                        ? compactUnscaledValue / LONG_POWERS_OF_TEN[compactScale]
+                        : 0L;
+            }
+            if (-compactScale < LONG_POWERS_OF_TEN.length - MAX_UNROUNDED_PRECISION) {
+                return compactUnscaledValue * LONG_POWERS_OF_TEN[-compactScale];
+            }
+        }
+        return getNumberValue().longValue();
+    }
+
+    /**
+     * The same as {@code getNumberValue().intValue()}, without creating the BigDecimal when possible.
+     *
+     * @return
+     */
+    public int numberIntValue() {
+        if (compactPrecision > 0 && compactPrecision <= MAX_UNROUNDED_PRECISION) {
+            return (int) numberLongValue();
+        }
+        return getNumberValue().intValue();
+    }
+
+    /**
+     * The same as {@code getNumberValue().doubleValue()}, without creating the BigDecimal when possible.
+     *
+     * @return
+     */
+    public double numberDoubleValue() {
+        if (compactPrecision > 0
+                && compactPrecision <= MAX_UNROUNDED_PRECISION
+                && compactScale >= 0
+                && compactScale < EXACT_DOUBLE_POWERS_OF_TEN.length
+                && Math.abs(compactUnscaledValue) <= MAX_EXACT_DOUBLE_INTEGER) {
+            // Both are exact, so the division is rounded only once, like BigDecimal#doubleValue
+            return compactUnscaledValue / EXACT_DOUBLE_POWERS_OF_TEN[compactScale];
+        }
+        return getNumberValue().doubleValue();
+    }
+
+    @Override
+    public void checkEmpty() {
+        if (compactPrecision > 0 && getType() == CellDataTypeEnum.NUMBER) {
+            return;
+        }
+        super.checkEmpty();
+    }
+
+    /**
+     * Create the BigDecimal values of a compact number.
+     */
+    private void inflateNumber() {
+        if (compactPrecision == 0) {
+            return;
+        }
+        compactPrecision = 0;
+        originalNumberValue = BigDecimal.valueOf(compactUnscaledValue, compactScale);
+        super.setNumberValue(originalNumberValue.round(FesodSheetConstants.EXCEL_MATH_CONTEXT));
+    }
+
     /**
      * Sets the boolean value from the raw {@code <v>} text of a boolean ({@code t="b"}) xlsx cell.
      *
@@ -0,0 +1,305 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.sheet.metadata.xlsx;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+import org.apache.fesod.common.util.IoUtils;
+import org.apache.fesod.sheet.exception.ExcelGenerateException;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.streaming.SheetDataWriter;
+import org.apache.poi.xssf.streaming.StreamingSheetWriter;
+import org.apache.poi.xssf.usermodel.XSSFSheet;
+
+/**
+ * xlsx workbook that writes the rows of each sheet straight into the zip of the output stream.
+ * <p>
+ * Rows, cells and styles are the ones of {@link SXSSFWorkbook}, so the handlers work as usual. The rows leaving the
+ * row access window are written into the {@code sheetN.xml} entry of the sheet instead of a temporary file, and the
+ * other parts are added when the workbook is written. Therefore:
+ * <ul>
+ * <li>The sheets are written one after another. Once rows of a sheet have been flushed, the previous sheet is
+ * finished and can not get new rows.</li>
+ * <li>What comes before the rows in the sheet xml, like column widths and frozen panes, has to be set before the
+ * first rows of the sheet are flushed.</li>
+ * <li>The workbook is always written to the output stream it was created with.</li>
+ * </ul>
+ */
+public class XlsxStreamingWorkbook extends SXSSFWorkbook {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String SHEET_DATA = "<sheetData/>";
+    private static final String SHEET_DATA_START = "<sheetData>";
+    private static final byte[] SHEET_DATA_START_BYTES = SHEET_DATA_START.getBytes(StandardCharsets.UTF_8);
+    private static final byte[] SHEET_DATA_END_BYTES = "</sheetData>".getBytes(StandardCharsets.UTF_8);
+    /**
+     * The dimension is only known after the rows, so it is left out.
+     */
+    private static final Pattern DIMENSION_PATTERN = Pattern.compile("<dimension[^>]*/>");
+
+    private static final Method WORKSHEET_WRITE_METHOD;
+
+    static {
+        try {
+            WORKSHEET_WRITE_METHOD = XSSFSheet.class.getDeclaredMethod("write", OutputStream.class);
+            WORKSHEET_WRITE_METHOD.setAccessible(true);
+        } catch (NoSuchMethodException e) {
+            throw new ExcelGenerateException("Can not find the worksheet write method of XSSFSheet.", e);
+        }
+    }
+
+    private final OutputStream outputStream;
+    private final ZipOutputStream zipOutputStream;
+    private final List<SheetEntry> sheetEntryList = new ArrayList<>();
+    /**
+     * The entry created by {@link #createSheetDataWriter()} for the sheet being created.
+     */
+    private SheetEntry creatingSheetEntry;
+    /**
+     * The only entry of the zip that is open.
+     */
+    private SheetEntry openSheetEntry;
+    /**
+     * Closed without being written, what is flushed afterward is dropped.
+     */
+    private boolean closed;
+
+    public XlsxStreamingWorkbook(OutputStream outputStream) {
+        this(outputStream, null);
+    }
+
+    /**
+     * @param outputStream
+     * @param compressionLevel -1 to 9, null is the default level
+     */
+    public XlsxStreamingWorkbook(OutputStream outputStream, Integer compressionLevel) {
+        super();
+        this.outputStream = new BufferedOutputStream(outputStream, BUFFER_SIZE);
+        this.zipOutputStream = new ZipOutputStream(this.outputStream);
+        if (compressionLevel != null) {
+            zipOutputStream.setLevel(compressionLevel);
+        }
+    }
+
+    @Override
+    protected SheetDataWriter createSheetDataWriter() throws IOException {
+        creatingSheetEntry = new SheetEntry();
+        creatingSheetEntry.writer = new StreamingSheetWriter(creatingSheetEntry);
+        return creatingSheetEntry.writer;
+    }
+
+    @Override
+    public SXSSFSheet createSheet() {
+        return registerSheet(super.createSheet());
+    }
+
+    @Override
+    public SXSSFSheet createSheet(String sheetname) {
+        return registerSheet(super.createSheet(sheetname));
+    }
+
+    private SXSSFSheet registerSheet(SXSSFSheet sheet) {
+        SheetEntry sheetEntry = creatingSheetEntry;
+        creatingSheetEntry = null;
+        sheetEntry.sheet = sheet;
+        sheetEntry.xssfSheet = _wb.getSheet(sheet.getSheetName());
+        // The part name starts with '/'
+        sheetEntry.entryName =
+                sheetEntry.xssfSheet.getPackagePart().getPartName().getName().substring(1);
+        sheetEntryList.add(sheetEntry);
+        return sheet;
+    }
+
+    @Override
+    public void removeSheetAt(int index) {
+        SXSSFSheet sheet = getSheetAt(index);
+        for (SheetEntry sheetEntry : sheetEntryList) {
+            if (sheetEntry.sheet == sheet) {
+                if (sheetEntry.state != SheetEntry.NEW) {
+                    throw new UnsupportedOperationException(
+                            "The sheet '" + sheet.getSheetName() + "' is already written and can not be removed.");
+                }
+                sheetEntryList.remove(sheetEntry);
+                break;
+            }
+        }
+        super.removeSheetAt(index);
+    }
+
+    /**
+     * Finish the sheets and add the other parts of the workbook.
+     *
+     * @param stream ignored, the workbook is written to the output stream it was created with
+     * @throws IOException
+     */
+    @Override
+    public void write(OutputStream stream) throws IOException {
+        for (SheetEntry sheetEntry : sheetEntryList) {
+            finish(sheetEntry);
+        }
+        Set<String> sheetEntryNameSet = new HashSet<>();
+        for (SheetEntry sheetEntry : sheetEntryList) {
+            sheetEntryNameSet.add(sheetEntry.entryName);
+        }
+        // The rest of the workbook is small without the rows
+        ByteArrayOutputStream template = new ByteArrayOutputStream();
+        _wb.write(template);
+        try (ZipInputStream zipInputStream = new ZipInputStream(new ByteArrayInputStream(template.toByteArray()))) {
+            ZipEntry zipEntry;
+            while ((zipEntry = zipInputStream.getNextEntry()) != null) {
+                if (sheetEntryNameSet.contains(zipEntry.getName())) {
+                    continue;
+                }
+                zipOutputStream.putNextEntry(new ZipEntry(zipEntry.getName()));
+                IoUtils.copy(zipInputStream, zipOutputStream);
+                zipOutputStream.closeEntry();
+            }
+        }
+        zipOutputStream.finish();
+        outputStream.flush();
+    }
+
+    @Override
+    public void writeAvoidingTempFiles(OutputStream stream) throws IOException {
+        write(stream);
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        super.close();
+    }
+
+    private void begin(SheetEntry sheetEntry) throws IOException {
+        if (sheetEntry.state == SheetEntry.OPEN) {
+            return;
+        }
+        if (sheetEntry.state == SheetEntry.FINISHED) {
+            throw new ExcelGenerateException("The sheet '" + sheetEntry.sheet.getSheetName()
+                    + "' is already finished, the sheets of a streaming xlsx have to be written one after another.");
+        }
+        if (openSheetEntry != null) {
+            finish(openSheetEntry);
+        }
+        String worksheet = worksheetXml(sheetEntry.xssfSheet);
+        String head = DIMENSION_PATTERN
+                .matcher(worksheet.substring(0, worksheet.indexOf(SHEET_DATA)))
+                .replaceFirst("");
+        zipOutputStream.putNextEntry(new ZipEntry(sheetEntry.entryName));
+        zipOutputStream.write(head.getBytes(StandardCharsets.UTF_8));
+        zipOutputStream.write(SHEET_DATA_START_BYTES);
+        sheetEntry.state = SheetEntry.OPEN;
+        openSheetEntry = sheetEntry;
+    }
+
+    private void finish(SheetEntry sheetEntry) throws IOException {
+        if (sheetEntry.state == SheetEntry.FINISHED) {
+            return;
+        }
+        sheetEntry.sheet.flushRows();
+        sheetEntry.writer.close();
+        begin(sheetEntry);
+        String worksheet = worksheetXml(sheetEntry.xssfSheet);
+        String tail = worksheet.substring(worksheet.indexOf(SHEET_DATA) + SHEET_DATA.length());
+        zipOutputStream.write(SHEET_DATA_END_BYTES);
+        zipOutputStream.write(tail.getBytes(StandardCharsets.UTF_8));
+        zipOutputStream.closeEntry();
+        sheetEntry.state = SheetEntry.FINISHED;
+        openSheetEntry = null;
+    }
+
+    /**
+     * The xml of the sheet without rows, as POI writes it.
+     */
+    private static String worksheetXml(XSSFSheet xssfSheet) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            WORKSHEET_WRITE_METHOD.invoke(xssfSheet, out);
+        } catch (IllegalAccessException e) {
+            throw new ExcelGenerateException("Can not write the sheet '" + xssfSheet.getSheetName() + "'.", e);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new ExcelGenerateException(
+                    "Can not write the sheet '" + xssfSheet.getSheetName() + "'.", e.getCause());
+        }
+        String worksheet = new String(out.toByteArray(), StandardCharsets.UTF_8);
+        if (worksheet.indexOf(SHEET_DATA) < 0) {
+            throw new ExcelGenerateException(
+                    "Can not find the rows of the sheet '" + xssfSheet.getSheetName() + "' in the worksheet xml.");
+        }
+        return worksheet;
+    }
+
+    /**
+     * The zip entry of a sheet, written to by the {@link StreamingSheetWriter} of the sheet.
+     */
+    private final class SheetEntry extends OutputStream {
+        private static final int NEW = 0;
+        private static final int OPEN = 1;
+        private static final int FINISHED = 2;
+
+        private SXSSFSheet sheet;
+        private XSSFSheet xssfSheet;
+        private StreamingSheetWriter writer;
+        private String entryName;
+        private int state = NEW;
+
+        @Override
+        public void write(int b) throws IOException {
+            if (closed) {
+                return;
+            }
+            begin(this);
+            zipOutputStream.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (closed || len == 0) {
+                return;
+            }
+            begin(this);
+            zipOutputStream.write(b, off, len);
+        }
+
+        /**
+         * The zip is finished by the workbook.
+         */
+        @Override
+        public void close() {}
+    }
+}
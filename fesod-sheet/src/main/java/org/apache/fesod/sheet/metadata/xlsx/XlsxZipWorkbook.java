@@ -0,0 +1,299 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.sheet.metadata.xlsx;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.ZipEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
+import org.apache.fesod.common.util.IoUtils;
+import org.apache.fesod.sheet.exception.ExcelGenerateException;
+import org.apache.fesod.sheet.util.ThreadUtils;
+import org.apache.poi.openxml4j.util.ZipArchiveThresholdInputStream;
+import org.apache.poi.openxml4j.util.ZipEntrySource;
+import org.apache.poi.util.TempFile;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.usermodel.XSSFChartSheet;
+import org.apache.poi.xssf.usermodel.XSSFSheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+
+/**
+ * xlsx workbook that compresses its parts with the given level, on several threads when asked to.
+ * <p>
+ * Each part is compressed on its own, the sheets at the same time on the compression threads, and the compressed
+ * parts are added to the zip in the usual order. The compressed sheets are kept in temporary files until they are
+ * added, the other parts in memory.
+ */
+public class XlsxZipWorkbook extends SXSSFWorkbook {
+
+    private static final Method COPY_STREAM_AND_INJECT_WORKSHEET_METHOD;
+
+    static {
+        try {
+            COPY_STREAM_AND_INJECT_WORKSHEET_METHOD = SXSSFWorkbook.class.getDeclaredMethod(
+                    "copyStreamAndInjectWorksheet", InputStream.class, OutputStream.class, ISheetInjector.class);
+            COPY_STREAM_AND_INJECT_WORKSHEET_METHOD.setAccessible(true);
+        } catch (NoSuchMethodException e) {
+            throw new ExcelGenerateException("Can not find the worksheet inject method of SXSSFWorkbook.", e);
+        }
+    }
+
+    /**
+     * Deflate level of the parts, {@link Deflater#NO_COMPRESSION} stores them.
+     */
+    private final int compressionLevel;
+    /**
+     * 0 compresses the parts on the writing thread.
+     */
+    private final int compressionThreads;
+
+    /**
+     * @param workbook           template workbook, may be null
+     * @param compressionLevel   -1 to 9, null is the default level
+     * @param compressionThreads 0 compresses on the writing thread
+     */
+    public XlsxZipWorkbook(XSSFWorkbook workbook, Integer compressionLevel, int compressionThreads) {
+        super(workbook);
+        this.compressionLevel = compressionLevel == null ? Deflater.DEFAULT_COMPRESSION : compressionLevel;
+        if (this.compressionLevel < Deflater.DEFAULT_COMPRESSION || this.compressionLevel > Deflater.BEST_COMPRESSION) {
+            throw new IllegalArgumentException("The compression level must be between -1 and 9.");
+        }
+        this.compressionThreads = compressionThreads;
+    }
+
+    @Override
+    protected void injectData(ZipEntrySource zipEntrySource, OutputStream out) throws IOException {
+        ExecutorService executorService = compressionThreads > 0
+                ? ThreadUtils.newFixedDaemonThreadPool(compressionThreads, "fesod-sheet-compress")
+                : null;
+        List<Future<CompressedPart>> partList = new ArrayList<>();
+        try {
+            // Not createArchiveOutputStream, the zip of POI does not take raw entries
+            ZipArchiveOutputStream zos = new ZipArchiveOutputStream(out);
+            zos.setUseZip64(zip64Mode);
+            Enumeration<? extends ZipArchiveEntry> entries = zipEntrySource.getEntries();
+            while (entries.hasMoreElements()) {
+                ZipArchiveEntry zipEntry = entries.nextElement();
+                byte[] template;
+                try (InputStream is = zipEntrySource.getInputStream(zipEntry)) {
+                    if (is instanceof ZipArchiveThresholdInputStream) {
+                        // The template was just written from the workbook, it is no zip bomb
+                        ((ZipArchiveThresholdInputStream) is).setGuardState(false);
+                    }
+                    template = IoUtils.toByteArray(is);
+                }
+                ISheetInjector sheetInjector = null;
+                XSSFSheet xssfSheet = getSheetFromZipEntryName(zipEntry.getName());
+                if (xssfSheet != null && !(xssfSheet instanceof XSSFChartSheet)) {
+                    sheetInjector = createSheetInjector(getSheetAt(_wb.getSheetIndex(xssfSheet)));
+                }
+                FutureTask<CompressedPart> part = new FutureTask<>(
+                        new CompressedPart(zipEntry, template, sheetInjector, compressionLevel)::compress);
+                partList.add(part);
+                if (executorService == null || sheetInjector == null) {
+                    part.run();
+                } else {
+                    executorService.execute(part);
+                }
+            }
+            for (Future<CompressedPart> part : partList) {
+                CompressedPart compressedPart = get(part);
+                try (InputStream is = compressedPart.openStream()) {
+                    zos.addRawArchiveEntry(compressedPart.zipEntry, is);
+                }
+                compressedPart.delete();
+            }
+            zos.finish();
+        } finally {
+            ThreadUtils.shutdownAndAwait(executorService);
+            for (Future<CompressedPart> part : partList) {
+                if (part.isDone() && !part.isCancelled()) {
+                    try {
+                        part.get().delete();
+                    } catch (InterruptedException | ExecutionException ignore) {
+                        // nothing to delete
+                    }
+                }
+            }
+            zipEntrySource.close();
+        }
+    }
+
+    private static CompressedPart get(Future<CompressedPart> part) throws IOException {
+        try {
+            return part.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExcelGenerateException("Interrupted while compressing the workbook.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new ExcelGenerateException("Can not compress the workbook.", e.getCause());
+        }
+    }
+
+    /**
+     * A part of the workbook, compressed into memory or, for a sheet, into a temporary file.
+     */
+    private static final class CompressedPart {
+        private final ZipArchiveEntry zipEntry;
+        private final ISheetInjector sheetInjector;
+        private final int compressionLevel;
+        private byte[] template;
+        private byte[] data;
+        private File file;
+
+        private CompressedPart(
+                ZipArchiveEntry templateEntry, byte[] template, ISheetInjector sheetInjector, int compressionLevel) {
+            this.zipEntry = new ZipArchiveEntry(templateEntry.getName());
+            if (templateEntry.getTime() >= 0) {
+                zipEntry.setTime(templateEntry.getTime());
+            }
+            this.template = template;
+            this.sheetInjector = sheetInjector;
+            this.compressionLevel = compressionLevel;
+        }
+
+        private CompressedPart compress() throws IOException {
+            OutputStream target;
+            if (sheetInjector == null) {
+                target = new ByteArrayOutputStream();
+            } else {
+                file = TempFile.createTempFile("fesod-sheet-part", ".zip");
+                target = new BufferedOutputStream(new FileOutputStream(file));
+            }
+            boolean stored = compressionLevel == Deflater.NO_COMPRESSION;
+            Deflater deflater = stored ? null : new Deflater(compressionLevel, true);
+            CRC32 crc = new CRC32();
+            boolean success = false;
+            try {
+                CountingOutputStream compressed = new CountingOutputStream(target, null);
+                OutputStream deflated = stored ? compressed : new DeflaterOutputStream(compressed, deflater);
+                CountingOutputStream out = new CountingOutputStream(deflated, crc);
+                if (sheetInjector == null) {
+                    out.write(template);
+                } else {
+                    injectWorksheet(out);
+                }
+                out.close();
+                zipEntry.setMethod(stored ? ZipEntry.STORED : ZipEntry.DEFLATED);
+                zipEntry.setCrc(crc.getValue());
+                zipEntry.setSize(out.count);
+                zipEntry.setCompressedSize(compressed.count);
+                success = true;
+            } finally {
+                target.close();
+                if (!success) {
+                    delete();
+                }
+                if (deflater != null) {
+                    deflater.end();
+                }
+                template = null;
+            }
+            if (sheetInjector == null) {
+                data = ((ByteArrayOutputStream) target).toByteArray();
+            }
+            return this;
+        }
+
+        private void injectWorksheet(OutputStream out) throws IOException {
+            try {
+                COPY_STREAM_AND_INJECT_WORKSHEET_METHOD.invoke(
+                        null, new ByteArrayInputStream(template), out, sheetInjector);
+            } catch (IllegalAccessException e) {
+                throw new ExcelGenerateException("Can not write the sheet '" + zipEntry.getName() + "'.", e);
+            } catch (InvocationTargetException e) {
+                if (e.getCause() instanceof IOException) {
+                    throw (IOException) e.getCause();
+                }
+                throw new ExcelGenerateException(
+                        "Can not write the sheet '" + zipEntry.getName() + "'.", e.getCause());
+            }
+        }
+
+        private InputStream openStream() throws IOException {
+            return file == null ? new ByteArrayInputStream(data) : new FileInputStream(file);
+        }
+
+        private void delete() {
+            data = null;
+            if (file != null) {
+                if (!file.delete() && file.exists()) {
+                    file.deleteOnExit();
+                }
+                file = null;
+            }
+        }
+    }
+
+    /**
+     * Counts the bytes and updates the crc, if any, of what is written.
+     */
+    private static final class CountingOutputStream extends FilterOutputStream {
+        private final CRC32 crc;
+        private long count;
+
+        private CountingOutputStream(OutputStream out, CRC32 crc) {
+            super(out);
+            this.crc = crc;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+            if (crc != null) {
+                crc.update(b);
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+            if (crc != null) {
+                crc.update(b, off, len);
+            }
+        }
+    }
+}
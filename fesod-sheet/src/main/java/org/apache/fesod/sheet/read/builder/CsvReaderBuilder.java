@@ -128,6 +128,28 @@ public class CsvReaderBuilder extends AbstractExcelReaderParameterBuilder<CsvRea
         return this;
     }
 
+    /**
+     * Only read the data rows from this index, start with 0. The head rows are always read.
+     *
+     * @param startRow
+     * @return
+     */
+    public CsvReaderBuilder startRow(Integer startRow) {
+        readSheet.setStartRow(startRow);
+        return this;
+    }
+
+    /**
+     * Stop reading after the row of this index, inclusive, start with 0.
+     *
+     * @param endRow
+     * @return
+     */
+    public CsvReaderBuilder endRow(Integer endRow) {
+        readSheet.setEndRow(endRow);
+        return this;
+    }
+
     /**
      * Sets the escape character.
      *
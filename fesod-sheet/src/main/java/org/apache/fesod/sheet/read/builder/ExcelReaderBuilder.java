@@ -40,8 +40,12 @@ import org.apache.fesod.sheet.enums.CellExtraTypeEnum;
 import org.apache.fesod.sheet.enums.ReadDefaultReturnEnum;
 import org.apache.fesod.sheet.event.AnalysisEventListener;
 import org.apache.fesod.sheet.event.SyncReadListener;
+import org.apache.fesod.sheet.exception.ExcelAnalysisStopException;
+import org.apache.fesod.sheet.exception.ExcelAnalysisStopSheetException;
 import org.apache.fesod.sheet.read.listener.ModelBuildEventListener;
+import org.apache.fesod.sheet.read.listener.ReadListenerFactory;
 import org.apache.fesod.sheet.read.metadata.ReadWorkbook;
+import org.apache.fesod.sheet.read.metadata.holder.ReadRowHolder;
 import org.apache.fesod.sheet.support.ExcelTypeEnum;
 
 /**
@@ -196,6 +200,37 @@ public class ExcelReaderBuilder extends AbstractExcelReaderParameterBuilder<Exce
         return this;
     }
 
+    /**
+     * Parse the sheets of the xlsx with the built-in byte scanner instead of the SAX parser. Default is false.
+     * <p>
+     * The scanner only decodes what the sheet needs, which makes raw reads noticeably faster. Sheets that are not
+     * encoded in UTF-8 or that the scanner can not handle are parsed again by the SAX parser, so the scanner is only
+     * used on sheets that can be opened again: it is not used on the sheets read directly from the zip stream with
+     * {@link #xlsxStreaming(Boolean)}.
+     *
+     * @param xlsxByteScanner
+     * @return
+     */
+    public ExcelReaderBuilder xlsxByteScanner(Boolean xlsxByteScanner) {
+        readWorkbook.setXlsxByteScanner(xlsxByteScanner);
+        return this;
+    }
+
+    /**
+     * Read the xlsx directly from the input stream, without copying it to a temporary file first. Default is false.
+     * <p>
+     * The parts are parsed in the order they are stored, only a sheet stored before the shared strings or the styles
+     * is spooled to disk. Only work when reading from an input stream without reading comments or hyperlinks, and the
+     * sheets can only be read once.
+     *
+     * @param xlsxStreaming
+     * @return
+     */
+    public ExcelReaderBuilder xlsxStreaming(Boolean xlsxStreaming) {
+        readWorkbook.setXlsxStreaming(xlsxStreaming);
+        return this;
+    }
+
     /**
      * Read some extra information, not by default
      *
@@ -234,6 +269,73 @@ public class ExcelReaderBuilder extends AbstractExcelReaderParameterBuilder<Exce
         return this;
     }
 
+    /**
+     * Parse up to this many sheets at the same time. Default is 1, which reads the sheets one after another.
+     * Only work on the XLSX file.
+     * <p>
+     * Every matched sheet gets its own context and sheet holder and is parsed on a worker thread, while the shared
+     * strings and styles of the workbook are shared read-only. Callbacks are delivered as follows:
+     * <ul>
+     * <li>the listener created by {@link #readListenerFactory(ReadListenerFactory)} for a sheet receives only the
+     * callbacks of that sheet, in row order and from a single thread;</li>
+     * <li>listeners registered with {@link #registerReadListener} are shared by all sheets and may be called
+     * concurrently, so they must be thread-safe;</li>
+     * <li>{@link ExcelAnalysisStopException} and {@link ExcelAnalysisStopSheetException} only stop the sheet that
+     * threw them;</li>
+     * <li>the read returns after every sheet has finished, and the first failure is rethrown to the caller.</li>
+     * </ul>
+     *
+     * @param parallelSheets the maximum number of sheets parsed at the same time
+     * @return
+     */
+    public ExcelReaderBuilder parallelSheets(Integer parallelSheets) {
+        readWorkbook.setParallelSheets(parallelSheets);
+        return this;
+    }
+
+    /**
+     * Creates a dedicated listener for each sheet that is read. The listener runs after the registered listeners.
+     *
+     * @param readListenerFactory
+     * @return
+     * @see #parallelSheets(Integer)
+     */
+    public ExcelReaderBuilder readListenerFactory(ReadListenerFactory readListenerFactory) {
+        readWorkbook.setReadListenerFactory(readListenerFactory);
+        return this;
+    }
+
+    /**
+     * Convert data rows to the head class on this many threads while the parser keeps reading. Default is 0, which
+     * converts the rows on the parsing thread.
+     * <p>
+     * Only the default {@link ModelBuildEventListener} runs on the convert threads. The registered listeners are still
+     * called on the parsing thread, one row at a time and in read order. The parser waits when too many rows are
+     * waiting to be passed to the listeners.
+     *
+     * @param convertThreads
+     * @return
+     */
+    public ExcelReaderBuilder convertThreads(Integer convertThreads) {
+        readWorkbook.setConvertThreads(convertThreads);
+        return this;
+    }
+
+    /**
+     * Only read the columns of the head class in the data rows. Default is true.
+     * <p>
+     * The other cells are skipped by the parser, without looking up their shared strings or parsing their numbers,
+     * so they are not in {@link ReadRowHolder#getCellMap()}. Does not apply when the sheet sets its own column
+     * indexes.
+     *
+     * @param headColumnProjection
+     * @return
+     */
+    public ExcelReaderBuilder headColumnProjection(Boolean headColumnProjection) {
+        readWorkbook.setHeadColumnProjection(headColumnProjection);
+        return this;
+    }
+
     public ExcelReaderBuilder numRows(Integer numRows) {
         readWorkbook.setNumRows(numRows);
         return this;
@@ -108,6 +108,29 @@ public class ExcelReaderSheetBuilder extends AbstractExcelReaderParameterBuilder
         return this;
     }
 
+    /**
+     * Only read the data rows from this index, start with 0. The rows before it are skipped by the parser. The head
+     * rows are always read.
+     *
+     * @param startRow
+     * @return
+     */
+    public ExcelReaderSheetBuilder startRow(Integer startRow) {
+        readSheet.setStartRow(startRow);
+        return this;
+    }
+
+    /**
+     * Stop reading the sheet after the row of this index, inclusive, start with 0.
+     *
+     * @param endRow
+     * @return
+     */
+    public ExcelReaderSheetBuilder endRow(Integer endRow) {
+        readSheet.setEndRow(endRow);
+        return this;
+    }
+
     public ReadSheet build() {
         return readSheet;
     }
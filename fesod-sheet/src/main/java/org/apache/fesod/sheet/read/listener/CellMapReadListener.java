@@ -0,0 +1,37 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.sheet.read.listener;
+
+import java.util.Map;
+import org.apache.fesod.sheet.metadata.data.ReadCellData;
+
+/**
+ * A listener that takes the cells of each data row as they were read, instead of the result of the listeners before
+ * it.
+ * <p>
+ * When every listener registered on the workbook takes the cells and {@code useDefaultListener} is not set, the
+ * default {@link ModelBuildEventListener} is left out.
+ * <p>
+ * The map may be cleared and reused for the next row once {@link #invoke} returns, so it must not be kept.
+ *
+ * @see ColumnarReadListener
+ * @see RowViewReadListener
+ */
+public interface CellMapReadListener extends ReadListener<Map<Integer, ReadCellData<?>>> {}
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.sheet.read.listener;
+
+import java.util.Map;
+import org.apache.fesod.sheet.context.AnalysisContext;
+import org.apache.fesod.sheet.metadata.data.ReadCellData;
+import org.apache.fesod.sheet.read.metadata.columnar.ColumnBatch;
+
+/**
+ * Receives the data rows in batches stored by column, without building an object or converting a cell for each row.
+ * <p>
+ * The cells read by the XLS and CSV executors are copied straight into the batch, the model of the head class is not
+ * built for this listener. When every listener of an XLSX sheet is columnar, the cells of the data rows are added to
+ * the batches as they are parsed instead, with the shared strings coded by their index, and the cell map of the row
+ * is left empty.
+ */
+public abstract class ColumnarReadListener implements CellMapReadListener {
+    /**
+     * Default number of rows of a batch
+     */
+    public static final int DEFAULT_BATCH_SIZE = 4096;
+
+    private final int batchSize;
+    private ColumnBatch columnBatch;
+
+    public ColumnarReadListener() {
+        this(DEFAULT_BATCH_SIZE);
+    }
+
+    public ColumnarReadListener(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("The batch size must be positive: " + batchSize);
+        }
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Called when a batch is full and with the last rows of a sheet.
+     *
+     * @param columnBatch reused once this returns
+     * @param context
+     */
+    public abstract void invokeBatch(ColumnBatch columnBatch, AnalysisContext context);
+
+    /**
+     * Called after the last batch of a sheet.
+     *
+     * @param context
+     */
+    public void doAfterAllBatches(AnalysisContext context) {}
+
+    /**
+     * The batch the rows are added to, created on first use.
+     *
+     * @return
+     */
+    public ColumnBatch columnBatch() {
+        if (columnBatch == null) {
+            columnBatch = new ColumnBatch(batchSize);
+        }
+        return columnBatch;
+    }
+
+    @Override
+    public final void invoke(Map<Integer, ReadCellData<?>> cellDataMap, AnalysisContext context) {
+        ColumnBatch columnBatch = columnBatch();
+        columnBatch.addRow(context.readRowHolder().getRowIndex(), cellDataMap);
+        if (columnBatch.isFull()) {
+            try {
+                invokeBatch(columnBatch, context);
+            } finally {
+                columnBatch.clear();
+            }
+        }
+    }
+
+    @Override
+    public final void doAfterAllAnalysed(AnalysisContext context) {
+        if (columnBatch != null) {
+            try {
+                if (columnBatch.getRowCount() > 0) {
+                    invokeBatch(columnBatch, context);
+                }
+            } finally {
+                columnBatch.reset();
+            }
+        }
+        doAfterAllBatches(context);
+    }
+}
@@ -25,26 +25,18 @@
 
 package org.apache.fesod.sheet.read.listener;
 
-import java.lang.reflect.Field;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Map;
 import org.apache.fesod.common.util.MapUtils;
-import org.apache.fesod.shaded.cglib.beans.BeanMap;
 import org.apache.fesod.sheet.context.AnalysisContext;
-import org.apache.fesod.sheet.enums.CellDataTypeEnum;
 import org.apache.fesod.sheet.enums.HeadKindEnum;
 import org.apache.fesod.sheet.enums.ReadDefaultReturnEnum;
-import org.apache.fesod.sheet.exception.ExcelDataConvertException;
-import org.apache.fesod.sheet.metadata.Head;
 import org.apache.fesod.sheet.metadata.data.DataFormatData;
 import org.apache.fesod.sheet.metadata.data.ReadCellData;
 import org.apache.fesod.sheet.read.metadata.holder.ReadSheetHolder;
-import org.apache.fesod.sheet.read.metadata.property.ExcelReadHeadProperty;
-import org.apache.fesod.sheet.util.BeanMapUtils;
-import org.apache.fesod.sheet.util.ClassUtils;
+import org.apache.fesod.sheet.read.metadata.property.ReadModelPlan;
 import org.apache.fesod.sheet.util.ConverterUtils;
-import org.apache.fesod.sheet.util.DateUtils;
 
 /**
  * Convert to the object the user needs
@@ -125,8 +117,7 @@ public class ModelBuildEventListener implements IgnoreExceptionReadListener<Map<
                 break;
             case NUMBER:
                 DataFormatData dataFormatData = cellData.getDataFormatData();
-                if (dataFormatData != null
-                        && DateUtils.isADateFormat(dataFormatData.getIndex(), dataFormatData.getFormat())) {
+                if (dataFormatData != null && dataFormatData.isDateFormat()) {
                     classGeneric = LocalDateTime.class;
                 } else {
                     classGeneric = BigDecimal.class;
@@ -161,61 +152,12 @@ public class ModelBuildEventListener implements IgnoreExceptionReadListener<Map<
 
     private Object buildUserModel(
             Map<Integer, ReadCellData<?>> cellDataMap, ReadSheetHolder readSheetHolder, AnalysisContext context) {
-        ExcelReadHeadProperty excelReadHeadProperty = readSheetHolder.excelReadHeadProperty();
-        Object resultModel;
-        try {
-            resultModel = excelReadHeadProperty.getHeadClazz().newInstance();
-        } catch (Exception e) {
-            throw new ExcelDataConvertException(
-                    context.readRowHolder().getRowIndex(),
-                    0,
-                    new ReadCellData<>(CellDataTypeEnum.EMPTY),
-                    null,
-                    "Can not instance class: "
-                            + excelReadHeadProperty.getHeadClazz().getName(),
-                    e);
+        ReadModelPlan readModelPlan = readSheetHolder.getReadModelPlan();
+        if (readModelPlan == null || !readModelPlan.isFor(readSheetHolder.excelReadHeadProperty())) {
+            readModelPlan = ReadModelPlan.build(readSheetHolder);
+            readSheetHolder.setReadModelPlan(readModelPlan);
         }
-        Map<Integer, Head> headMap = excelReadHeadProperty.getHeadMap();
-        BeanMap dataMap = BeanMapUtils.create(resultModel);
-        for (Map.Entry<Integer, Head> entry : headMap.entrySet()) {
-            Integer index = entry.getKey();
-            Head head = entry.getValue();
-            String fieldName = head.getFieldName();
-            if (!cellDataMap.containsKey(index)) {
-                continue;
-            }
-            ReadCellData<?> cellData = cellDataMap.get(index);
-            Object value = ConverterUtils.convertToJavaObject(
-                    cellData,
-                    head.getField(),
-                    ClassUtils.declaredExcelContentProperty(
-                            dataMap,
-                            readSheetHolder.excelReadHeadProperty().getHeadClazz(),
-                            fieldName,
-                            readSheetHolder),
-                    readSheetHolder.converterMap(),
-                    context,
-                    context.readRowHolder().getRowIndex(),
-                    index);
-            if (value != null) {
-                dataMap.put(fieldName, value);
-
-                // 规避由于实体类 setter 不规范导致无法赋值的问题
-                if (dataMap.get(fieldName) == null) {
-                    Object bean = dataMap.getBean();
-                    try {
-                        Field field = bean.getClass().getDeclaredField(fieldName);
-                        field.setAccessible(true);
-                        field.set(bean, value);
-                    } catch (NoSuchFieldException ignore) {
-                        // ignore
-                    } catch (IllegalAccessException e) {
-                        throw new RuntimeException(e);
-                    }
-                }
-            }
-        }
-        return resultModel;
+        return readModelPlan.buildModel(cellDataMap, readSheetHolder, context);
     }
 
     @Override
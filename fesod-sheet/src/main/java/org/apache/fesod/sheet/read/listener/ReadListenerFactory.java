@@ -0,0 +1,40 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.sheet.read.listener;
+
+import org.apache.fesod.sheet.read.metadata.ReadSheet;
+
+/**
+ * Creates a dedicated listener for each sheet that is read.
+ * <p>
+ * The listener returned for a sheet only receives the callbacks of that sheet, so it does not need to be thread-safe
+ * even when several sheets are read at the same time.
+ */
+@FunctionalInterface
+public interface ReadListenerFactory {
+
+    /**
+     * Create the listener of a sheet.
+     *
+     * @param readSheet the matched sheet that is about to be read
+     * @return a new listener, never shared with another sheet
+     */
+    ReadListener<?> create(ReadSheet readSheet);
+}
@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.sheet.read.listener;
+
+import java.util.Map;
+import org.apache.fesod.sheet.context.AnalysisContext;
+import org.apache.fesod.sheet.metadata.data.ReadCellData;
+import org.apache.fesod.sheet.read.metadata.RowView;
+
+/**
+ * Receives each data row as a {@link RowView} over the cells as read, without building a map or an object.
+ * <p>
+ * The same view is passed for every row, nothing is allocated for a row unless a cell has to be converted.
+ */
+public abstract class RowViewReadListener implements CellMapReadListener {
+
+    private final RowView rowView = new RowView();
+
+    /**
+     * When analysis one row trigger invoke function.
+     *
+     * @param rowView reused for the next row
+     * @param context
+     */
+    public abstract void invokeRow(RowView rowView, AnalysisContext context);
+
+    @Override
+    public final void invoke(Map<Integer, ReadCellData<?>> cellDataMap, AnalysisContext context) {
+        rowView.reset(cellDataMap, context);
+        invokeRow(rowView, context);
+    }
+}
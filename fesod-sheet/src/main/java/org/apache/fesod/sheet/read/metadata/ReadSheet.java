@@ -60,6 +60,17 @@ public class ReadSheet extends ReadBasicParameter {
      */
     private List<Integer> columnIndexes;
 
+    /**
+     * Index of the first data row to read, start with 0. The head rows are always read. The default is the first row
+     * after the head.
+     */
+    private Integer startRow;
+
+    /**
+     * Index of the last row to read, inclusive, start with 0. The default is all.
+     */
+    private Integer endRow;
+
     public ReadSheet() {}
 
     public ReadSheet(Integer sheetNo) {
@@ -132,6 +143,22 @@ public class ReadSheet extends ReadBasicParameter {
         this.columnIndexes = columnIndexes;
     }
 
+    public Integer getStartRow() {
+        return startRow;
+    }
+
+    public void setStartRow(Integer startRow) {
+        this.startRow = startRow;
+    }
+
+    public Integer getEndRow() {
+        return endRow;
+    }
+
+    public void setEndRow(Integer endRow) {
+        this.endRow = endRow;
+    }
+
     public void copyBasicParameter(ReadSheet other) {
         if (other == null) {
             return;
@@ -148,6 +175,8 @@ public class ReadSheet extends ReadBasicParameter {
         this.setHidden(other.isHidden());
         this.setVeryHidden(other.isVeryHidden());
         this.setColumnIndexes(other.getColumnIndexes());
+        this.setStartRow(other.getStartRow());
+        this.setEndRow(other.getEndRow());
     }
 
     @Override
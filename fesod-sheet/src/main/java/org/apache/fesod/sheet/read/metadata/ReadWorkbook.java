@@ -42,6 +42,7 @@ import org.apache.fesod.sheet.enums.CellExtraTypeEnum;
 import org.apache.fesod.sheet.enums.ReadDefaultReturnEnum;
 import org.apache.fesod.sheet.event.AnalysisEventListener;
 import org.apache.fesod.sheet.read.listener.ModelBuildEventListener;
+import org.apache.fesod.sheet.read.listener.ReadListenerFactory;
 import org.apache.fesod.sheet.support.ExcelTypeEnum;
 
 /**
@@ -116,6 +117,20 @@ public class ReadWorkbook extends ReadBasicParameter {
      * @see SAXParserFactory#newInstance(String, ClassLoader)
      */
     private String xlsxSAXParserFactoryName;
+    /**
+     * Parse the sheets with the built-in byte scanner instead of the SAX parser. Default is false.
+     * <p>
+     * Only work on the XLSX file. Sheets that are not encoded in UTF-8 or that the scanner can not handle are parsed
+     * again by the SAX parser.
+     */
+    private Boolean xlsxByteScanner;
+    /**
+     * Read the XLSX directly from the input stream, without copying it to a temporary file first. Default is false.
+     * <p>
+     * Only work when reading from an input stream without comments or hyperlinks, and the stream can only be read
+     * once.
+     */
+    private Boolean xlsxStreaming;
     /**
      * Whether to use the default listener, which is used by default.
      * <p>
@@ -154,4 +169,34 @@ public class ReadWorkbook extends ReadBasicParameter {
      * Only work on the CSV file.
      */
     private CSVFormat csvFormat;
+
+    /**
+     * The number of sheets parsed at the same time. Default is 1, which reads the sheets one after another on the
+     * calling thread.
+     * <p>
+     * Only work on the XLSX file.
+     */
+    private Integer parallelSheets;
+
+    /**
+     * Creates a dedicated listener for each sheet that is read.
+     *
+     * @see ReadListenerFactory
+     */
+    private ReadListenerFactory readListenerFactory;
+
+    /**
+     * The number of threads that convert data rows while the parser keeps reading. Default is 0, which converts the
+     * rows on the parsing thread.
+     * <p>
+     * The rows are still passed to the listeners in read order, on the parsing thread.
+     */
+    private Integer convertThreads;
+
+    /**
+     * Only read the columns of the head class in the data rows. Default is true.
+     * <p>
+     * Does not apply when the sheet sets its own column indexes.
+     */
+    private Boolean headColumnProjection;
 }
@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.sheet.read.metadata;
+
+import java.util.Map;
+import org.apache.fesod.sheet.context.AnalysisContext;
+import org.apache.fesod.sheet.enums.CellDataTypeEnum;
+import org.apache.fesod.sheet.exception.ExcelDataConvertException;
+import org.apache.fesod.sheet.metadata.data.ReadCellData;
+import org.apache.fesod.sheet.util.ConverterUtils;
+
+/**
+ * A view of the cells of the current row, reused for every row.
+ * <p>
+ * The cells are read when asked for. Strings and numbers are returned as read, the other cells go through the
+ * converter of the sheet for that cell only, with the same result as a read without a model.
+ */
+public class RowView {
+
+    private Map<Integer, ReadCellData<?>> cellDataMap;
+    private AnalysisContext context;
+    private int rowIndex;
+
+    /**
+     * Point the view at a row.
+     *
+     * @param cellDataMap
+     * @param context
+     */
+    public void reset(Map<Integer, ReadCellData<?>> cellDataMap, AnalysisContext context) {
+        this.cellDataMap = cellDataMap;
+        this.context = context;
+        this.rowIndex = context.readRowHolder().getRowIndex();
+    }
+
+    /**
+     * The index of the row in the sheet.
+     *
+     * @return
+     */
+    public int getRowIndex() {
+        return rowIndex;
+    }
+
+    /**
+     * The cell as read.
+     *
+     * @param columnIndex
+     * @return null if the row has no such cell
+     */
+    public ReadCellData<?> getCell(int columnIndex) {
+        return cellDataMap.get(columnIndex);
+    }
+
+    /**
+     * The type of a cell.
+     *
+     * @param columnIndex
+     * @return {@link CellDataTypeEnum#EMPTY} if the row has no such cell
+     */
+    public CellDataTypeEnum cellType(int columnIndex) {
+        ReadCellData<?> cellData = getCell(columnIndex);
+        return cellData == null ? CellDataTypeEnum.EMPTY : cellData.getType();
+    }
+
+    /**
+     * Whether the cell is missing or empty.
+     *
+     * @param columnIndex
+     * @return
+     */
+    public boolean isEmpty(int columnIndex) {
+        return cellType(columnIndex) == CellDataTypeEnum.EMPTY;
+    }
+
+    /**
+     * The cell as a string.
+     *
+     * @param columnIndex
+     * @return null if the cell is empty
+     */
+    public String getString(int columnIndex) {
+        ReadCellData<?> cellData = getCell(columnIndex);
+        if (cellData == null) {
+            return null;
+        }
+        switch (cellData.getType()) {
+            case EMPTY:
+                return null;
+            case STRING:
+            case DIRECT_STRING:
+            case RICH_TEXT_STRING:
+                return cellData.getStringValue();
+            default:
+                return (String) convert(cellData, String.class, columnIndex);
+        }
+    }
+
+    /**
+     * The cell as a double.
+     *
+     * @param columnIndex
+     * @return
+     * @throws ExcelDataConvertException if the cell is empty or can not be converted
+     */
+    public double getDouble(int columnIndex) {
+        ReadCellData<?> cellData = notEmptyCell(columnIndex);
+        if (cellData.getType() == CellDataTypeEnum.NUMBER) {
+            return cellData.numberDoubleValue();
+        }
+        return (Double) convert(cellData, Double.class, columnIndex);
+    }
+
+    /**
+     * The cell as a long, fractions truncated.
+     *
+     * @param columnIndex
+     * @return
+     * @throws ExcelDataConvertException if the cell is empty or can not be converted
+     */
+    public long getLong(int columnIndex) {
+        ReadCellData<?> cellData = notEmptyCell(columnIndex);
+        if (cellData.getType() == CellDataTypeEnum.NUMBER) {
+            return cellData.numberLongValue();
+        }
+        return (Long) convert(cellData, Long.class, columnIndex);
+    }
+
+    private ReadCellData<?> notEmptyCell(int columnIndex) {
+        ReadCellData<?> cellData = getCell(columnIndex);
+        if (cellData == null || cellData.getType() == CellDataTypeEnum.EMPTY) {
+            throw new ExcelDataConvertException(
+                    rowIndex,
+                    columnIndex,
+                    cellData == null ? new ReadCellData<>(CellDataTypeEnum.EMPTY) : cellData,
+                    null,
+                    "Error at row " + rowIndex + ", column " + columnIndex + ": the cell is empty");
+        }
+        return cellData;
+    }
+
+    private Object convert(ReadCellData<?> cellData, Class<?> clazz, int columnIndex) {
+        return ConverterUtils.convertToJavaObject(
+                cellData,
+                null,
+                clazz,
+                null,
+                null,
+                context.readSheetHolder().converterMap(),
+                context,
+                rowIndex,
+                columnIndex);
+    }
+}
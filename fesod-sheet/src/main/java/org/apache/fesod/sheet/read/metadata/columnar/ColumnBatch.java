@@ -0,0 +1,202 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.sheet.read.metadata.columnar;
+
+import java.util.Arrays;
+import java.util.Map;
+import org.apache.fesod.sheet.metadata.data.ReadCellData;
+
+/**
+ * A batch of data rows stored by column.
+ * <p>
+ * The batch and its vectors are reused once the listener returns, so copy what has to be kept. String codes stay the
+ * same for the whole sheet.
+ */
+public class ColumnBatch {
+
+    private final int capacity;
+    private final StringDictionary stringDictionary = new StringDictionary();
+    private final int[] rowIndexes;
+    private int rowCount;
+    /**
+     * A cell of the row after the last one has been set.
+     */
+    private boolean rowStarted;
+    /**
+     * Indexed by column index, null for the columns not read yet.
+     */
+    private ColumnVector[] columns = new ColumnVector[0];
+    private int columnCount;
+
+    public ColumnBatch(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("The capacity of a batch must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.rowIndexes = new int[capacity];
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * The number of rows in the batch.
+     *
+     * @return
+     */
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * The index of a row in the sheet.
+     *
+     * @param row the row in the batch
+     * @return
+     */
+    public int getRowIndex(int row) {
+        return rowIndexes[row];
+    }
+
+    /**
+     * One more than the largest column index with a cell in the sheet so far.
+     *
+     * @return
+     */
+    public int getColumnCount() {
+        return columnCount;
+    }
+
+    /**
+     * The values of a column.
+     *
+     * @param columnIndex
+     * @return null if no row of the sheet has read the column yet, so all its rows are null
+     */
+    public ColumnVector getColumn(int columnIndex) {
+        if (columnIndex < 0 || columnIndex >= columnCount) {
+            return null;
+        }
+        return columns[columnIndex];
+    }
+
+    public StringDictionary getStringDictionary() {
+        return stringDictionary;
+    }
+
+    public boolean isFull() {
+        return rowCount == capacity;
+    }
+
+    /**
+     * Add a row, with the cells of the map and the ones already set on it.
+     *
+     * @param rowIndex
+     * @param cellDataMap
+     */
+    public void addRow(int rowIndex, Map<Integer, ReadCellData<?>> cellDataMap) {
+        for (Map.Entry<Integer, ReadCellData<?>> entry : cellDataMap.entrySet()) {
+            ReadCellData<?> cellData = entry.getValue();
+            if (cellData == null) {
+                continue;
+            }
+            column(entry.getKey()).set(rowCount, cellData);
+        }
+        rowIndexes[rowCount] = rowIndex;
+        rowCount++;
+        rowStarted = false;
+    }
+
+    /**
+     * Set a cell of the row that is added next.
+     *
+     * @param columnIndex
+     * @param cellData
+     */
+    public void setCell(int columnIndex, ReadCellData<?> cellData) {
+        column(columnIndex).set(rowCount, cellData);
+        rowStarted = true;
+    }
+
+    /**
+     * Set a shared string cell of the row that is added next, coded by its index in the shared strings table.
+     *
+     * @param columnIndex
+     * @param index       the index in the shared strings table
+     * @see StringDictionary#useSharedStrings(java.util.function.IntFunction)
+     */
+    public void setSharedString(int columnIndex, int index) {
+        column(columnIndex).setSharedString(rowCount, index);
+        rowStarted = true;
+    }
+
+    /**
+     * Remove the cells set on the row that is added next, when the row is not added.
+     */
+    public void discardRow() {
+        if (!rowStarted) {
+            return;
+        }
+        for (int i = 0; i < columnCount; i++) {
+            if (columns[i] != null) {
+                columns[i].clearRow(rowCount);
+            }
+        }
+        rowStarted = false;
+    }
+
+    /**
+     * Remove the rows, keeping the vectors and the strings.
+     */
+    public void clear() {
+        discardRow();
+        for (int i = 0; i < columnCount; i++) {
+            if (columns[i] != null) {
+                columns[i].clear(rowCount);
+            }
+        }
+        rowCount = 0;
+    }
+
+    /**
+     * Remove the rows and the strings, at the end of a sheet.
+     */
+    public void reset() {
+        clear();
+        columnCount = 0;
+        stringDictionary.clear();
+    }
+
+    private ColumnVector column(int columnIndex) {
+        if (columnIndex >= columns.length) {
+            columns = Arrays.copyOf(columns, Math.max(columnIndex + 1, columns.length * 2));
+        }
+        ColumnVector column = columns[columnIndex];
+        if (column == null) {
+            column = new ColumnVector(capacity, stringDictionary);
+            columns[columnIndex] = column;
+        }
+        if (columnIndex >= columnCount) {
+            columnCount = columnIndex + 1;
+        }
+        return column;
+    }
+}
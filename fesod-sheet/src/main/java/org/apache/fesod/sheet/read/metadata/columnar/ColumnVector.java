@@ -0,0 +1,236 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.sheet.read.metadata.columnar;
+
+import org.apache.fesod.sheet.metadata.data.ReadCellData;
+
+/**
+ * The values of one column for the rows of a {@link ColumnBatch}.
+ * <p>
+ * Numbers are kept in {@code double[]} and {@code long[]}, strings as {@code int[]} codes of the
+ * {@link StringDictionary} and booleans in {@code boolean[]}. Which of them a row holds is given by one bitmap for
+ * each kind, bit {@code row} of word {@code row >> 6}. A row with no bit set is null. The arrays have the capacity of
+ * the batch and are reused by the next batch.
+ */
+public class ColumnVector {
+
+    private final int capacity;
+    private final StringDictionary stringDictionary;
+
+    private final long[] numberBits;
+    private final long[] stringBits;
+    private final long[] booleanBits;
+
+    private double[] doubles;
+    private long[] longs;
+    private int[] stringCodes;
+    private boolean[] booleans;
+
+    ColumnVector(int capacity, StringDictionary stringDictionary) {
+        this.capacity = capacity;
+        this.stringDictionary = stringDictionary;
+        int words = (capacity + 63) >>> 6;
+        this.numberBits = new long[words];
+        this.stringBits = new long[words];
+        this.booleanBits = new long[words];
+    }
+
+    /**
+     * Whether the row has no value.
+     *
+     * @param row
+     * @return
+     */
+    public boolean isNull(int row) {
+        int word = row >>> 6;
+        long bit = 1L << row;
+        return ((numberBits[word] | stringBits[word] | booleanBits[word]) & bit) == 0;
+    }
+
+    public boolean isNumber(int row) {
+        return isSet(numberBits, row);
+    }
+
+    public boolean isString(int row) {
+        return isSet(stringBits, row);
+    }
+
+    public boolean isBoolean(int row) {
+        return isSet(booleanBits, row);
+    }
+
+    /**
+     * The rows holding a number.
+     *
+     * @return
+     */
+    public long[] getNumberBits() {
+        return numberBits;
+    }
+
+    /**
+     * The rows holding a string.
+     *
+     * @return
+     */
+    public long[] getStringBits() {
+        return stringBits;
+    }
+
+    /**
+     * The rows holding a boolean.
+     *
+     * @return
+     */
+    public long[] getBooleanBits() {
+        return booleanBits;
+    }
+
+    /**
+     * The numbers as double, only meaningful for the rows in {@link #getNumberBits()}.
+     *
+     * @return
+     */
+    public double[] getDoubles() {
+        if (doubles == null) {
+            doubles = new double[capacity];
+        }
+        return doubles;
+    }
+
+    /**
+     * The numbers as long, fractions truncated, only meaningful for the rows in {@link #getNumberBits()}.
+     *
+     * @return
+     */
+    public long[] getLongs() {
+        if (longs == null) {
+            longs = new long[capacity];
+        }
+        return longs;
+    }
+
+    /**
+     * The codes of the strings in the {@link StringDictionary}, the indexes in the shared strings table for the shared
+     * strings of an XLSX sheet read directly into the batch. Only meaningful for the rows in {@link #getStringBits()}.
+     *
+     * @return
+     */
+    public int[] getStringCodes() {
+        if (stringCodes == null) {
+            stringCodes = new int[capacity];
+        }
+        return stringCodes;
+    }
+
+    /**
+     * The booleans, only meaningful for the rows in {@link #getBooleanBits()}.
+     *
+     * @return
+     */
+    public boolean[] getBooleans() {
+        if (booleans == null) {
+            booleans = new boolean[capacity];
+        }
+        return booleans;
+    }
+
+    public double getDouble(int row) {
+        return getDoubles()[row];
+    }
+
+    public long getLong(int row) {
+        return getLongs()[row];
+    }
+
+    public int getStringCode(int row) {
+        return getStringCodes()[row];
+    }
+
+    /**
+     * The string of the row.
+     *
+     * @param row
+     * @return null if the row does not hold a string
+     */
+    public String getString(int row) {
+        if (!isString(row)) {
+            return null;
+        }
+        return stringDictionary.get(getStringCodes()[row]);
+    }
+
+    public boolean getBoolean(int row) {
+        return getBooleans()[row];
+    }
+
+    void set(int row, ReadCellData<?> cellData) {
+        switch (cellData.getType()) {
+            case NUMBER:
+                getDoubles()[row] = cellData.numberDoubleValue();
+                getLongs()[row] = cellData.numberLongValue();
+                numberBits[row >>> 6] |= 1L << row;
+                return;
+            case STRING:
+            case DIRECT_STRING:
+            case RICH_TEXT_STRING:
+            case ERROR:
+                if (cellData.getStringValue() == null) {
+                    return;
+                }
+                getStringCodes()[row] = stringDictionary.encode(cellData.getStringValue());
+                stringBits[row >>> 6] |= 1L << row;
+                return;
+            case BOOLEAN:
+                if (cellData.getBooleanValue() == null) {
+                    return;
+                }
+                getBooleans()[row] = cellData.getBooleanValue();
+                booleanBits[row >>> 6] |= 1L << row;
+                return;
+            default:
+        }
+    }
+
+    void setSharedString(int row, int index) {
+        getStringCodes()[row] = index;
+        stringBits[row >>> 6] |= 1L << row;
+    }
+
+    void clearRow(int row) {
+        long mask = ~(1L << row);
+        numberBits[row >>> 6] &= mask;
+        stringBits[row >>> 6] &= mask;
+        booleanBits[row >>> 6] &= mask;
+    }
+
+    void clear(int rowCount) {
+        int words = (rowCount + 63) >>> 6;
+        for (int i = 0; i < words; i++) {
+            numberBits[i] = 0L;
+            stringBits[i] = 0L;
+            booleanBits[i] = 0L;
+        }
+    }
+
+    private static boolean isSet(long[] bits, int row) {
+        return (bits[row >>> 6] & (1L << row)) != 0;
+    }
+}
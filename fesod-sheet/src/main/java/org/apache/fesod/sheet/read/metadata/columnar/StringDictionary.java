@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.sheet.read.metadata.columnar;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+/**
+ * The distinct strings of a sheet, each encoded once as an int code.
+ * <p>
+ * Codes are given in the order the strings are first read and stay the same for the whole sheet. When the XLSX
+ * reader adds the cells of a sheet with a shared strings table directly to the batch, the code of a shared string is
+ * its index in the table and is not added to the dictionary. The other strings, such as inline strings, then get
+ * negative codes.
+ */
+public class StringDictionary {
+
+    private final Map<String, Integer> codeMap = new HashMap<>();
+    private final List<String> stringList = new ArrayList<>();
+    /**
+     * Gets a shared string by its index, null if the codes are not shared string indexes.
+     */
+    private IntFunction<String> sharedStrings;
+
+    /**
+     * Use the indexes in the shared strings table as the codes of the shared strings, until the end of the sheet.
+     *
+     * @param sharedStrings gets a shared string by its index
+     */
+    public void useSharedStrings(IntFunction<String> sharedStrings) {
+        if (this.sharedStrings == sharedStrings) {
+            return;
+        }
+        if (!stringList.isEmpty()) {
+            throw new IllegalStateException("The shared strings must be set before any string is encoded");
+        }
+        this.sharedStrings = sharedStrings;
+    }
+
+    /**
+     * Whether the code is the index of a shared string.
+     *
+     * @param code
+     * @return
+     */
+    public boolean isSharedString(int code) {
+        return sharedStrings != null && code >= 0;
+    }
+
+    /**
+     * The code of a string, added if it was not read before.
+     *
+     * @param value
+     * @return
+     */
+    public int encode(String value) {
+        Integer code = codeMap.get(value);
+        if (code == null) {
+            code = sharedStrings == null ? stringList.size() : ~stringList.size();
+            codeMap.put(value, code);
+            stringList.add(value);
+        }
+        return code;
+    }
+
+    /**
+     * The string of a code.
+     *
+     * @param code
+     * @return
+     */
+    public String get(int code) {
+        if (code < 0) {
+            return stringList.get(~code);
+        }
+        if (sharedStrings != null) {
+            return sharedStrings.apply(code);
+        }
+        return stringList.get(code);
+    }
+
+    /**
+     * The number of distinct strings encoded, without the shared strings.
+     *
+     * @return
+     */
+    public int size() {
+        return stringList.size();
+    }
+
+    void clear() {
+        codeMap.clear();
+        stringList.clear();
+        sharedStrings = null;
+    }
+}
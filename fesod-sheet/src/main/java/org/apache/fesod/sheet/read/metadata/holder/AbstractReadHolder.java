@@ -25,18 +25,17 @@
 
 package org.apache.fesod.sheet.read.metadata.holder;
 
-import java.util.HashMap;
 import java.util.List;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.apache.fesod.common.util.ListUtils;
-import org.apache.fesod.sheet.converters.Converter;
-import org.apache.fesod.sheet.converters.ConverterKeyBuild;
+import org.apache.fesod.sheet.converters.ConverterRegistry;
 import org.apache.fesod.sheet.converters.DefaultConverterLoader;
 import org.apache.fesod.sheet.enums.HolderEnum;
 import org.apache.fesod.sheet.metadata.AbstractHolder;
+import org.apache.fesod.sheet.read.listener.CellMapReadListener;
 import org.apache.fesod.sheet.read.listener.ModelBuildEventListener;
 import org.apache.fesod.sheet.read.listener.ReadListener;
 import org.apache.fesod.sheet.read.metadata.ReadBasicParameter;
@@ -110,7 +109,10 @@ public abstract class AbstractReadHolder extends AbstractHolder implements ReadH
         }
         if (HolderEnum.WORKBOOK.equals(holderType())) {
             Boolean useDefaultListener = ((ReadWorkbook) readBasicParameter).getUseDefaultListener();
-            if (useDefaultListener == null || useDefaultListener) {
+            if (useDefaultListener == null) {
+                useDefaultListener = !onlyCellMapListeners(readBasicParameter.getCustomReadListenerList());
+            }
+            if (useDefaultListener) {
                 readListenerList.add(new ModelBuildEventListener());
             }
         }
@@ -119,21 +121,29 @@ public abstract class AbstractReadHolder extends AbstractHolder implements ReadH
             this.readListenerList.addAll(readBasicParameter.getCustomReadListenerList());
         }
 
+        ConverterRegistry converterRegistry;
         if (parentAbstractReadHolder == null) {
-            setConverterMap(DefaultConverterLoader.copyDefaultReadConverter());
+            converterRegistry = DefaultConverterLoader.copyDefaultReadConverterRegistry();
         } else {
-            setConverterMap(new HashMap<>(parentAbstractReadHolder.getConverterMap()));
+            converterRegistry = new ConverterRegistry(parentAbstractReadHolder.getConverterMap());
+        }
+        converterRegistry.registerConverters(readBasicParameter.getCustomConverterList());
+        setConverterMap(converterRegistry);
+    }
+
+    /**
+     * Listeners taking the cells do not need the model of the head class.
+     */
+    private static boolean onlyCellMapListeners(List<ReadListener<?>> customReadListenerList) {
+        if (customReadListenerList == null || customReadListenerList.isEmpty()) {
+            return false;
         }
-        if (readBasicParameter.getCustomConverterList() != null
-                && !readBasicParameter.getCustomConverterList().isEmpty()) {
-            for (Converter<?> converter : readBasicParameter.getCustomConverterList()) {
-                getConverterMap()
-                        .put(
-                                ConverterKeyBuild.buildKey(
-                                        converter.supportJavaTypeKey(), converter.supportExcelTypeKey()),
-                                converter);
+        for (ReadListener<?> readListener : customReadListenerList) {
+            if (!(readListener instanceof CellMapReadListener)) {
+                return false;
             }
         }
+        return true;
     }
 
     @Override
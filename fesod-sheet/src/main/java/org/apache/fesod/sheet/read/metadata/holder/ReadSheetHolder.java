@@ -25,17 +25,25 @@
 
 package org.apache.fesod.sheet.read.metadata.holder;
 
-import java.util.LinkedHashMap;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.apache.fesod.sheet.enums.HeadKindEnum;
 import org.apache.fesod.sheet.enums.HolderEnum;
+import org.apache.fesod.sheet.enums.RowTypeEnum;
 import org.apache.fesod.sheet.metadata.Cell;
 import org.apache.fesod.sheet.metadata.CellExtra;
 import org.apache.fesod.sheet.metadata.data.ReadCellData;
+import org.apache.fesod.sheet.read.listener.CellMapReadListener;
+import org.apache.fesod.sheet.read.listener.ModelBuildEventListener;
+import org.apache.fesod.sheet.read.listener.ReadListener;
 import org.apache.fesod.sheet.read.metadata.ReadSheet;
+import org.apache.fesod.sheet.read.metadata.property.ReadModelPlan;
 
 /**
  * sheet holder
@@ -94,14 +102,211 @@ public class ReadSheetHolder extends AbstractReadHolder {
      */
     private Boolean ended;
 
+    /**
+     * The index each column of the sheet is read into, -1 if the column is not read. Null if all the columns are read.
+     */
+    private int[] columnProjection;
+    /**
+     * The projection only keeps the columns of the head class. The columns that are not read still count when
+     * deciding whether a row is empty.
+     */
+    private boolean headColumnProjection;
+    /**
+     * Index of the first data row to read.
+     */
+    private int startRow;
+    /**
+     * Index of the last row to read.
+     */
+    private int endRow;
+    /**
+     * Builds the head class of the data rows, created on the first data row.
+     */
+    @EqualsAndHashCode.Exclude
+    private volatile ReadModelPlan readModelPlan;
+    /**
+     * Whether the cells and the holder of a data row can be reused for the next row, decided on the first row.
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    private Boolean reuseRow;
+    /**
+     * The cell map of the row just handled can be cleared for the next row.
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    private boolean cellMapReusable;
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    private ReadRowHolder reusableReadRowHolder;
+
     public ReadSheetHolder(ReadSheet readSheet, ReadWorkbookHolder readWorkbookHolder) {
         super(readSheet, readWorkbookHolder);
         this.readSheet = readSheet;
         this.parentReadWorkbookHolder = readWorkbookHolder;
         this.sheetNo = readSheet.getSheetNo();
         this.sheetName = readSheet.getSheetName();
-        this.cellMap = new LinkedHashMap<>();
+        this.cellMap = new RowCellMap();
         this.rowIndex = -1;
+        this.columnProjection = buildColumnProjection(readSheet.getColumnIndexes());
+        if (getHeadRowNumber() == 0) {
+            projectHeadColumns();
+        }
+        this.startRow = readSheet.getStartRow() == null ? 0 : readSheet.getStartRow();
+        this.endRow = readSheet.getEndRow() == null ? Integer.MAX_VALUE : readSheet.getEndRow();
+    }
+
+    /**
+     * The holder of a row that was read, with the cells in {@link #getCellMap()}.
+     * <p>
+     * The holder of a data row is reused for the next one when no listener can keep the row: rows are not converted
+     * on other threads and every listener either takes the cells as read or comes after the model is built.
+     *
+     * @param rowIndex
+     * @param rowType
+     * @return
+     */
+    public ReadRowHolder readRowHolder(int rowIndex, RowTypeEnum rowType) {
+        cellMapReusable = rowIndex >= getHeadRowNumber() && isReuseRow();
+        if (!cellMapReusable) {
+            return new ReadRowHolder(rowIndex, rowType, getGlobalConfiguration(), cellMap);
+        }
+        if (reusableReadRowHolder == null) {
+            reusableReadRowHolder = new ReadRowHolder(rowIndex, rowType, getGlobalConfiguration(), cellMap);
+            return reusableReadRowHolder;
+        }
+        reusableReadRowHolder.setRowIndex(rowIndex);
+        reusableReadRowHolder.setRowType(rowType);
+        reusableReadRowHolder.setCellMap(cellMap);
+        reusableReadRowHolder.setCurrentRowAnalysisResult(null);
+        return reusableReadRowHolder;
+    }
+
+    /**
+     * Start the cells of the next row, clearing the map of the row just handled if it can be reused.
+     */
+    public void nextRowCellMap() {
+        if (cellMapReusable && cellMap instanceof RowCellMap) {
+            cellMap.clear();
+        } else {
+            cellMap = new RowCellMap();
+        }
+        cellMapReusable = false;
+    }
+
+    private boolean isReuseRow() {
+        if (reuseRow == null) {
+            reuseRow = parentReadWorkbookHolder != null
+                    && parentReadWorkbookHolder.getConvertThreads() < 1
+                    && !listenerMayKeepRow(getReadListenerList());
+        }
+        return reuseRow;
+    }
+
+    /**
+     * The listeners before the model is built get the cell map of the row as data.
+     */
+    private static boolean listenerMayKeepRow(List<ReadListener<?>> readListenerList) {
+        for (ReadListener<?> readListener : readListenerList) {
+            if (readListener instanceof ModelBuildEventListener) {
+                return false;
+            }
+            if (!(readListener instanceof CellMapReadListener)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Whether the row has to be read. The head rows are always read.
+     *
+     * @param rowIndex
+     * @return
+     */
+    public boolean isRowInRange(int rowIndex) {
+        return rowIndex < getHeadRowNumber() || (rowIndex >= startRow && rowIndex <= endRow);
+    }
+
+    /**
+     * Whether the row is after the last row to read, so the rest of the sheet can be skipped.
+     *
+     * @param rowIndex
+     * @return
+     */
+    public boolean isAfterEndRow(int rowIndex) {
+        return rowIndex > endRow && rowIndex >= getHeadRowNumber();
+    }
+
+    /**
+     * Get the index a column is read into.
+     *
+     * @param columnIndex index of the column in the sheet
+     * @return the index in the row, or -1 if the column is not read
+     */
+    public int projectColumnIndex(int columnIndex) {
+        int[] projection = columnProjection;
+        if (projection == null) {
+            return columnIndex;
+        }
+        return columnIndex < projection.length ? projection[columnIndex] : -1;
+    }
+
+    /**
+     * Only read the columns of the head class from now on. Called once the head rows have been matched to the head.
+     */
+    public void projectHeadColumns() {
+        if (columnProjection != null
+                || !Boolean.TRUE.equals(parentReadWorkbookHolder.getHeadColumnProjection())
+                || excelReadHeadProperty() == null
+                || !HeadKindEnum.CLASS.equals(excelReadHeadProperty().getHeadKind())) {
+            return;
+        }
+        Map<Integer, ?> headMap = excelReadHeadProperty().getHeadMap();
+        if (headMap == null || headMap.isEmpty()) {
+            return;
+        }
+        int length = 0;
+        for (Integer columnIndex : headMap.keySet()) {
+            length = Math.max(length, columnIndex + 1);
+        }
+        int[] projection = new int[length];
+        Arrays.fill(projection, -1);
+        for (Integer columnIndex : headMap.keySet()) {
+            if (columnIndex >= 0) {
+                projection[columnIndex] = columnIndex;
+            }
+        }
+        this.columnProjection = projection;
+        this.headColumnProjection = true;
+    }
+
+    /**
+     * Each column is read into its position in the list, the first one wins if a column is listed twice.
+     */
+    private static int[] buildColumnProjection(List<Integer> columnIndexes) {
+        if (columnIndexes == null) {
+            return null;
+        }
+        int length = 0;
+        for (Integer columnIndex : columnIndexes) {
+            if (columnIndex != null) {
+                length = Math.max(length, columnIndex + 1);
+            }
+        }
+        int[] projection = new int[length];
+        Arrays.fill(projection, -1);
+        for (int i = columnIndexes.size() - 1; i >= 0; i--) {
+            Integer columnIndex = columnIndexes.get(i);
+            if (columnIndex != null && columnIndex >= 0) {
+                projection[columnIndex] = i;
+            }
+        }
+        return projection;
     }
 
     /**
@@ -31,6 +31,7 @@ import java.nio.charset.Charset;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -45,9 +46,11 @@ import org.apache.fesod.sheet.enums.HolderEnum;
 import org.apache.fesod.sheet.enums.ReadDefaultReturnEnum;
 import org.apache.fesod.sheet.event.AnalysisEventListener;
 import org.apache.fesod.sheet.exception.ExcelAnalysisException;
+import org.apache.fesod.sheet.read.listener.ReadListenerFactory;
 import org.apache.fesod.sheet.read.metadata.ReadSheet;
 import org.apache.fesod.sheet.read.metadata.ReadWorkbook;
 import org.apache.fesod.sheet.support.ExcelTypeEnum;
+import org.apache.fesod.sheet.util.ThreadUtils;
 
 /**
  * Workbook holder
@@ -158,6 +161,26 @@ public class ReadWorkbookHolder extends AbstractReadHolder {
      * Ignore hidden sheet.Default is false.
      */
     private Boolean ignoreHiddenSheet;
+    /**
+     * The number of sheets parsed at the same time. Default is 1.
+     */
+    private Integer parallelSheets;
+    /**
+     * Creates a dedicated listener for each sheet that is read.
+     */
+    private ReadListenerFactory readListenerFactory;
+    /**
+     * The number of threads that convert data rows while the parser keeps reading. Default is 0.
+     */
+    private Integer convertThreads;
+    /**
+     * Threads that convert data rows, created on first use.
+     */
+    private ExecutorService convertExecutorService;
+    /**
+     * Only read the columns of the head class in the data rows.
+     */
+    private Boolean headColumnProjection;
 
     public ReadWorkbookHolder(ReadWorkbook readWorkbook) {
         super(readWorkbook, null);
@@ -218,10 +241,38 @@ public class ReadWorkbookHolder extends AbstractReadHolder {
         } else {
             this.ignoreHiddenSheet = readWorkbook.getIgnoreHiddenSheet();
         }
+        if (readWorkbook.getParallelSheets() == null || readWorkbook.getParallelSheets() < 1) {
+            this.parallelSheets = 1;
+        } else {
+            this.parallelSheets = readWorkbook.getParallelSheets();
+        }
+        this.readListenerFactory = readWorkbook.getReadListenerFactory();
+        if (readWorkbook.getConvertThreads() == null || readWorkbook.getConvertThreads() < 0) {
+            this.convertThreads = 0;
+        } else {
+            this.convertThreads = readWorkbook.getConvertThreads();
+        }
+        if (readWorkbook.getHeadColumnProjection() == null) {
+            this.headColumnProjection = Boolean.TRUE;
+        } else {
+            this.headColumnProjection = readWorkbook.getHeadColumnProjection();
+        }
         this.hasReadSheet = new HashSet<Integer>();
         this.password = readWorkbook.getPassword();
     }
 
+    /**
+     * Threads that convert data rows, shared by all the sheets of the workbook.
+     *
+     * @return executor service
+     */
+    public synchronized ExecutorService convertExecutorService() {
+        if (convertExecutorService == null) {
+            convertExecutorService = ThreadUtils.newFixedDaemonThreadPool(convertThreads, "fesod-sheet-converter");
+        }
+        return convertExecutorService;
+    }
+
     @Override
     public HolderEnum holderType() {
         return HolderEnum.WORKBOOK;
@@ -0,0 +1,267 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.sheet.read.metadata.holder;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import org.apache.fesod.sheet.metadata.Cell;
+
+/**
+ * The cells of a row, stored by column index in an array with a bitmap of the columns that have a cell.
+ * <p>
+ * The columns are iterated in ascending order. {@link #clear()} only touches the columns of the row, so the map can be
+ * reused for the next row without allocating.
+ */
+public class RowCellMap extends AbstractMap<Integer, Cell> {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private Cell[] cells = new Cell[INITIAL_CAPACITY];
+    private long[] presence = new long[INITIAL_CAPACITY >>> 6];
+    private int size;
+    /**
+     * One more than the largest column index that had a cell since the last clear.
+     */
+    private int columnCount;
+
+    /**
+     * The cell of a column.
+     *
+     * @param columnIndex
+     * @return null if the column has no cell
+     */
+    public Cell getCell(int columnIndex) {
+        if (columnIndex < 0 || columnIndex >= columnCount) {
+            return null;
+        }
+        return cells[columnIndex];
+    }
+
+    /**
+     * Set the cell of a column.
+     *
+     * @param columnIndex
+     * @param cell
+     * @return the previous cell
+     */
+    public Cell putCell(int columnIndex, Cell cell) {
+        if (columnIndex < 0) {
+            throw new IllegalArgumentException("Column index must not be negative: " + columnIndex);
+        }
+        if (cell == null) {
+            return removeCell(columnIndex);
+        }
+        if (columnIndex >= cells.length) {
+            int capacity = Math.max(columnIndex + 1, cells.length * 2);
+            cells = Arrays.copyOf(cells, capacity);
+            presence = Arrays.copyOf(presence, (capacity + 63) >>> 6);
+        }
+        Cell old = cells[columnIndex];
+        cells[columnIndex] = cell;
+        if (old == null) {
+            presence[columnIndex >>> 6] |= 1L << columnIndex;
+            size++;
+            if (columnIndex >= columnCount) {
+                columnCount = columnIndex + 1;
+            }
+        }
+        return old;
+    }
+
+    /**
+     * Remove the cell of a column.
+     *
+     * @param columnIndex
+     * @return the removed cell
+     */
+    public Cell removeCell(int columnIndex) {
+        Cell old = getCell(columnIndex);
+        if (old != null) {
+            cells[columnIndex] = null;
+            presence[columnIndex >>> 6] &= ~(1L << columnIndex);
+            size--;
+        }
+        return old;
+    }
+
+    /**
+     * One more than the largest column index that had a cell since the last clear, 0 if the row is empty.
+     *
+     * @return
+     */
+    public int getColumnCount() {
+        return columnCount;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof Integer && getCell((Integer) key) != null;
+    }
+
+    @Override
+    public Cell get(Object key) {
+        return key instanceof Integer ? getCell((Integer) key) : null;
+    }
+
+    @Override
+    public Cell put(Integer key, Cell value) {
+        return putCell(key, value);
+    }
+
+    @Override
+    public Cell remove(Object key) {
+        return key instanceof Integer ? removeCell((Integer) key) : null;
+    }
+
+    @Override
+    public void clear() {
+        int words = (columnCount + 63) >>> 6;
+        for (int word = 0; word < words; word++) {
+            long bits = presence[word];
+            while (bits != 0) {
+                cells[(word << 6) + Long.numberOfTrailingZeros(bits)] = null;
+                bits &= bits - 1;
+            }
+            presence[word] = 0L;
+        }
+        size = 0;
+        columnCount = 0;
+    }
+
+    @Override
+    public Set<Entry<Integer, Cell>> entrySet() {
+        return new AbstractSet<Entry<Integer, Cell>>() {
+            @Override
+            public Iterator<Entry<Integer, Cell>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    /**
+     * The next column with a cell.
+     *
+     * @param fromColumnIndex
+     * @return -1 if there is none
+     */
+    private int nextColumnIndex(int fromColumnIndex) {
+        if (fromColumnIndex >= columnCount) {
+            return -1;
+        }
+        int word = fromColumnIndex >>> 6;
+        long bits = presence[word] & (-1L << fromColumnIndex);
+        int words = (columnCount + 63) >>> 6;
+        while (true) {
+            if (bits != 0) {
+                return (word << 6) + Long.numberOfTrailingZeros(bits);
+            }
+            if (++word >= words) {
+                return -1;
+            }
+            bits = presence[word];
+        }
+    }
+
+    private class EntryIterator implements Iterator<Entry<Integer, Cell>> {
+        private int next = nextColumnIndex(0);
+        private int last = -1;
+
+        @Override
+        public boolean hasNext() {
+            return next >= 0;
+        }
+
+        @Override
+        public Entry<Integer, Cell> next() {
+            if (next < 0) {
+                throw new NoSuchElementException();
+            }
+            last = next;
+            next = nextColumnIndex(last + 1);
+            return new CellEntry(last);
+        }
+
+        @Override
+        public void remove() {
+            if (last < 0) {
+                throw new IllegalStateException();
+            }
+            removeCell(last);
+            last = -1;
+        }
+    }
+
+    private class CellEntry implements Entry<Integer, Cell> {
+        private final int columnIndex;
+
+        private CellEntry(int columnIndex) {
+            this.columnIndex = columnIndex;
+        }
+
+        @Override
+        public Integer getKey() {
+            return columnIndex;
+        }
+
+        @Override
+        public Cell getValue() {
+            return cells[columnIndex];
+        }
+
+        @Override
+        public Cell setValue(Cell value) {
+            return putCell(columnIndex, value);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Entry)) {
+                return false;
+            }
+            Entry<?, ?> entry = (Entry<?, ?>) o;
+            return getKey().equals(entry.getKey()) && Objects.equals(getValue(), entry.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return columnIndex ^ (getValue() == null ? 0 : getValue().hashCode());
+        }
+    }
+}
@@ -26,11 +26,19 @@
 package org.apache.fesod.sheet.read.metadata.holder.xlsx;
 
 import java.util.Deque;
-import java.util.LinkedList;
+import java.util.List;
+import java.util.function.IntFunction;
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
+import org.apache.fesod.common.util.StringUtils;
+import org.apache.fesod.sheet.cache.ReadCache;
+import org.apache.fesod.sheet.metadata.GlobalConfiguration;
+import org.apache.fesod.sheet.read.listener.ColumnarReadListener;
+import org.apache.fesod.sheet.read.listener.ReadListener;
 import org.apache.fesod.sheet.read.metadata.ReadSheet;
+import org.apache.fesod.sheet.read.metadata.columnar.ColumnBatch;
 import org.apache.fesod.sheet.read.metadata.holder.ReadSheetHolder;
 import org.apache.fesod.sheet.read.metadata.holder.ReadWorkbookHolder;
 import org.apache.poi.openxml4j.opc.PackageRelationshipCollection;
@@ -44,22 +52,50 @@ import org.apache.poi.openxml4j.opc.PackageRelationshipCollection;
 @Setter
 @EqualsAndHashCode
 public class XlsxReadSheetHolder extends ReadSheetHolder {
-    /**
-     * Record the label of the current operation to prevent NPE.
-     */
-    private Deque<String> tagDeque;
     /**
      * Current Column
      */
     private Integer columnIndex;
     /**
-     * Data for current label.
+     * Data for current label. Reused by every cell of the sheet.
      */
     private StringBuilder tempData;
     /**
-     * Formula for current label.
+     * Formula for current label. Reused by every formula of the sheet.
      */
     private StringBuilder tempFormula;
+    /**
+     * Reused to parse the numbers without creating a string.
+     */
+    private char[] tempChars;
+    /**
+     * The current cell is not read.
+     */
+    private boolean tempCellSkipped;
+    /**
+     * A cell with a value was not read in the current row.
+     */
+    private boolean tempRowHasSkippedData;
+    /**
+     * The current row is not in the rows to read.
+     */
+    private boolean tempRowSkipped;
+    /**
+     * The last row to read has been passed, nothing else of the sheet is needed.
+     */
+    private boolean rowRangeEnded;
+    /**
+     * A cell with a value of the current row was added to the column batches.
+     */
+    private boolean tempRowHasColumnarData;
+    /**
+     * The batches the cells of the data rows are added to, empty if they go to the cell map. Decided on the first
+     * data cell.
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    private ColumnBatch[] columnBatches;
     /**
      * excel Relationship
      */
@@ -67,9 +103,87 @@ public class XlsxReadSheetHolder extends ReadSheetHolder {
 
     public XlsxReadSheetHolder(ReadSheet readSheet, ReadWorkbookHolder readWorkbookHolder) {
         super(readSheet, readWorkbookHolder);
-        this.tagDeque = new LinkedList<String>();
+        this.tempData = new StringBuilder();
+        this.tempFormula = new StringBuilder();
+        this.tempChars = new char[32];
         packageRelationshipCollection = ((XlsxReadWorkbookHolder) readWorkbookHolder)
                 .getPackageRelationshipCollectionMap()
                 .get(readSheet.getSheetNo());
     }
+
+    /**
+     * The open tags are no longer recorded while a sheet is parsed.
+     *
+     * @return never
+     * @throws UnsupportedOperationException always
+     * @deprecated The tag handlers track the parse state themselves.
+     */
+    @Deprecated
+    public Deque<String> getTagDeque() {
+        throw new UnsupportedOperationException("The open tags of the sheet are no longer recorded");
+    }
+
+    /**
+     * The open tags are no longer recorded while a sheet is parsed.
+     *
+     * @param tagDeque ignored
+     * @throws UnsupportedOperationException always
+     * @deprecated The tag handlers track the parse state themselves.
+     */
+    @Deprecated
+    public void setTagDeque(Deque<String> tagDeque) {
+        throw new UnsupportedOperationException("The open tags of the sheet are no longer recorded");
+    }
+
+    /**
+     * The batches the cells of the data rows are added to instead of the cell map, when every listener of the sheet
+     * is a {@link ColumnarReadListener}. The shared strings are then coded by their index in the table.
+     *
+     * @return null if the cells go to the cell map
+     */
+    public ColumnBatch[] columnBatches() {
+        if (columnBatches == null) {
+            columnBatches = buildColumnBatches();
+        }
+        return columnBatches.length == 0 ? null : columnBatches;
+    }
+
+    private ColumnBatch[] buildColumnBatches() {
+        List<ReadListener<?>> readListenerList = getReadListenerList();
+        if (readListenerList == null || readListenerList.isEmpty()) {
+            return new ColumnBatch[0];
+        }
+        ColumnBatch[] batches = new ColumnBatch[readListenerList.size()];
+        for (int i = 0; i < batches.length; i++) {
+            ReadListener<?> readListener = readListenerList.get(i);
+            if (!(readListener instanceof ColumnarReadListener)) {
+                return new ColumnBatch[0];
+            }
+            batches[i] = ((ColumnarReadListener) readListener).columnBatch();
+        }
+        ReadCache readCache = getParentReadWorkbookHolder().getReadCache();
+        if (readCache != null) {
+            IntFunction<String> sharedStrings = sharedStrings(readCache, getGlobalConfiguration());
+            for (ColumnBatch batch : batches) {
+                batch.getStringDictionary().useSharedStrings(sharedStrings);
+            }
+        }
+        return batches;
+    }
+
+    /**
+     * The shared strings are only read when asked for, so they are stripped or trimmed then like the other strings.
+     */
+    private static IntFunction<String> sharedStrings(ReadCache readCache, GlobalConfiguration globalConfiguration) {
+        if (globalConfiguration.getAutoStrip()) {
+            return index -> StringUtils.strip(readCache.get(index));
+        }
+        if (globalConfiguration.getAutoTrim()) {
+            return index -> {
+                String value = readCache.get(index);
+                return value == null ? null : value.trim();
+            };
+        }
+        return readCache::get;
+    }
 }
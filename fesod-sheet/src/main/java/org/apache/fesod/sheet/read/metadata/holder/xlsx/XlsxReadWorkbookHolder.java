@@ -26,11 +26,11 @@
 package org.apache.fesod.sheet.read.metadata.holder.xlsx;
 
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.xml.parsers.SAXParserFactory;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
-import org.apache.fesod.common.util.MapUtils;
 import org.apache.fesod.sheet.constant.BuiltinFormats;
 import org.apache.fesod.sheet.metadata.data.DataFormatData;
 import org.apache.fesod.sheet.read.metadata.ReadWorkbook;
@@ -65,12 +65,20 @@ public class XlsxReadWorkbookHolder extends ReadWorkbookHolder {
      * @see SAXParserFactory#newInstance(String, ClassLoader)
      */
     private String saxParserFactoryName;
+    /**
+     * Parse the sheets with the built-in byte scanner instead of the SAX parser.
+     */
+    private Boolean byteScanner;
+    /**
+     * Read the xlsx directly from the input stream.
+     */
+    private Boolean streaming;
     /**
      * Current style information
      */
     private StylesTable stylesTable;
     /**
-     * cache data format
+     * cache data format, shared by sheets that are read at the same time
      */
     private Map<Integer, DataFormatData> dataFormatDataCache;
 
@@ -82,8 +90,31 @@ public class XlsxReadWorkbookHolder extends ReadWorkbookHolder {
     public XlsxReadWorkbookHolder(ReadWorkbook readWorkbook) {
         super(readWorkbook);
         this.saxParserFactoryName = readWorkbook.getXlsxSAXParserFactoryName();
+        this.byteScanner = Boolean.TRUE.equals(readWorkbook.getXlsxByteScanner());
+        this.streaming = Boolean.TRUE.equals(readWorkbook.getXlsxStreaming());
         setExcelType(ExcelTypeEnum.XLSX);
-        dataFormatDataCache = MapUtils.newHashMap();
+        dataFormatDataCache = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Set the styles of the workbook and classify the data format of every cell style once.
+     *
+     * @param stylesTable
+     */
+    public void setStylesTable(StylesTable stylesTable) {
+        this.stylesTable = stylesTable;
+        dataFormatDataCache.clear();
+        if (stylesTable == null) {
+            return;
+        }
+        int numCellStyles = stylesTable.getNumCellStyles();
+        for (int styleIndex = 0; styleIndex < numCellStyles; styleIndex++) {
+            try {
+                dataFormatData(styleIndex);
+            } catch (RuntimeException ignore) {
+                // Left to the cells that use the style
+            }
+        }
     }
 
     public DataFormatData dataFormatData(int dateFormatIndexInteger) {
@@ -101,6 +132,8 @@ public class XlsxReadWorkbookHolder extends ReadWorkbookHolder {
                     dataFormatData.getIndex(),
                     xssfCellStyle.getDataFormatString(),
                     globalConfiguration().getLocale()));
+            // Classify it here so the cells using the style do not
+            dataFormatData.getFormatType();
             return dataFormatData;
         });
     }
@@ -0,0 +1,241 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.sheet.read.metadata.property;
+
+import java.lang.reflect.Field;
+import java.util.Map;
+import org.apache.fesod.sheet.context.AnalysisContext;
+import org.apache.fesod.sheet.converters.Converter;
+import org.apache.fesod.sheet.converters.ConverterKeyBuild.ConverterKey;
+import org.apache.fesod.sheet.converters.ConverterRegistry;
+import org.apache.fesod.sheet.converters.NullableObjectConverter;
+import org.apache.fesod.sheet.enums.CellDataTypeEnum;
+import org.apache.fesod.sheet.exception.ExcelDataConvertException;
+import org.apache.fesod.sheet.metadata.Head;
+import org.apache.fesod.sheet.metadata.bean.BeanAccessor;
+import org.apache.fesod.sheet.metadata.bean.BeanAccessors;
+import org.apache.fesod.sheet.metadata.data.CellData;
+import org.apache.fesod.sheet.metadata.data.ReadCellData;
+import org.apache.fesod.sheet.metadata.property.ExcelContentProperty;
+import org.apache.fesod.sheet.read.metadata.holder.ReadSheetHolder;
+import org.apache.fesod.sheet.util.ClassUtils;
+import org.apache.fesod.sheet.util.ConverterUtils;
+
+/**
+ * How the data rows of a sheet are turned into the head class, resolved once when the head is known.
+ * <p>
+ * Each column keeps its content property, its converters and the index of its bean property, so building a row does
+ * not look anything up. The plan is immutable apart from the converter cache and may be used by several
+ * convert threads.
+ */
+public class ReadModelPlan {
+
+    private final Class<?> headClazz;
+    private final Map<Integer, Head> headMap;
+    private final BeanAccessor<Object> beanAccessor;
+
+    private final Column[] columns;
+
+    private ReadModelPlan(
+            Class<?> headClazz, Map<Integer, Head> headMap, BeanAccessor<Object> beanAccessor, Column[] columns) {
+        this.headClazz = headClazz;
+        this.headMap = headMap;
+        this.beanAccessor = beanAccessor;
+        this.columns = columns;
+    }
+
+    /**
+     * Build the plan of the current head of the sheet.
+     *
+     * @param readSheetHolder
+     * @return
+     */
+    public static ReadModelPlan build(ReadSheetHolder readSheetHolder) {
+        ExcelReadHeadProperty excelReadHeadProperty = readSheetHolder.excelReadHeadProperty();
+        Class<?> headClazz = excelReadHeadProperty.getHeadClazz();
+        Map<Integer, Head> headMap = excelReadHeadProperty.getHeadMap();
+        @SuppressWarnings("unchecked")
+        BeanAccessor<Object> beanAccessor = BeanAccessors.get((Class<Object>) headClazz);
+        Column[] columns = new Column[headMap.size()];
+        int i = 0;
+        for (Map.Entry<Integer, Head> entry : headMap.entrySet()) {
+            String fieldName = entry.getValue().getFieldName();
+            columns[i++] = new Column(
+                    entry.getKey(),
+                    entry.getValue().getField(),
+                    ClassUtils.declaredExcelContentProperty(null, headClazz, fieldName, readSheetHolder),
+                    beanAccessor,
+                    beanAccessor.indexOf(fieldName),
+                    declaredField(headClazz, fieldName));
+        }
+        return new ReadModelPlan(headClazz, headMap, beanAccessor, columns);
+    }
+
+    /**
+     * Whether the plan was built for this head.
+     *
+     * @param excelReadHeadProperty
+     * @return
+     */
+    public boolean isFor(ExcelReadHeadProperty excelReadHeadProperty) {
+        return headClazz == excelReadHeadProperty.getHeadClazz() && headMap == excelReadHeadProperty.getHeadMap();
+    }
+
+    /**
+     * Build the model of a data row.
+     *
+     * @param cellDataMap
+     * @param readSheetHolder
+     * @param context
+     * @return
+     */
+    public Object buildModel(
+            Map<Integer, ReadCellData<?>> cellDataMap, ReadSheetHolder readSheetHolder, AnalysisContext context) {
+        Integer rowIndex = context.readRowHolder().getRowIndex();
+        Object resultModel = newInstance(rowIndex);
+        Map<ConverterKey, Converter<?>> converterMap = readSheetHolder.converterMap();
+        for (Column column : columns) {
+            ReadCellData<?> cellData = cellDataMap.get(column.index);
+            if (cellData == null) {
+                continue;
+            }
+            Object value = column.convert(cellData, converterMap, context, rowIndex);
+            if (value != null) {
+                column.set(resultModel, value);
+            }
+        }
+        return resultModel;
+    }
+
+    private Object newInstance(Integer rowIndex) {
+        try {
+            return beanAccessor.newInstance();
+        } catch (Exception e) {
+            throw new ExcelDataConvertException(
+                    rowIndex,
+                    0,
+                    new ReadCellData<>(CellDataTypeEnum.EMPTY),
+                    null,
+                    "Can not instance class: " + headClazz.getName(),
+                    e);
+        }
+    }
+
+    private static Field declaredField(Class<?> headClazz, String fieldName) {
+        Field field;
+        try {
+            field = headClazz.getDeclaredField(fieldName);
+        } catch (NoSuchFieldException ignore) {
+            return null;
+        }
+        try {
+            field.setAccessible(true);
+        } catch (RuntimeException ignore) {
+            // Field#set will report it
+        }
+        return field;
+    }
+
+    private static final class Column {
+        private final Integer index;
+        private final Field field;
+        private final Class<?> clazz;
+        private final ExcelContentProperty contentProperty;
+        /**
+         * The converter of the field, or null to look it up by cell type.
+         */
+        private final Converter<?> contentConverter;
+        /**
+         * CellData fields keep the cell and convert its data, left to {@link ConverterUtils}.
+         */
+        private final boolean cellDataField;
+        private final Converter<?>[] typeConverters = new Converter<?>[CellDataTypeEnum.values().length];
+        private final BeanAccessor<Object> beanAccessor;
+        /**
+         * -1 if the field is not a property.
+         */
+        private final int propertyIndex;
+        /**
+         * Set when the setter does not exist or does not store the value.
+         */
+        private final Field declaredField;
+
+        private Column(
+                Integer index,
+                Field field,
+                ExcelContentProperty contentProperty,
+                BeanAccessor<Object> beanAccessor,
+                int propertyIndex,
+                Field declaredField) {
+            this.index = index;
+            this.field = field;
+            this.clazz = field == null ? String.class : field.getType();
+            this.contentProperty = contentProperty;
+            this.contentConverter = contentProperty == null ? null : contentProperty.getConverter();
+            this.cellDataField = clazz == CellData.class || clazz == ReadCellData.class;
+            this.beanAccessor = beanAccessor;
+            this.propertyIndex = propertyIndex;
+            this.declaredField = declaredField;
+        }
+
+        private Object convert(
+                ReadCellData<?> cellData,
+                Map<ConverterKey, Converter<?>> converterMap,
+                AnalysisContext context,
+                Integer rowIndex) {
+            if (cellDataField) {
+                return ConverterUtils.convertToJavaObject(
+                        cellData, field, contentProperty, converterMap, context, rowIndex, index);
+            }
+            CellDataTypeEnum type = cellData.getType();
+            Converter<?> converter = contentConverter;
+            if (type == CellDataTypeEnum.EMPTY && !(converter instanceof NullableObjectConverter)) {
+                return null;
+            }
+            if (converter == null) {
+                converter = typeConverters[type.ordinal()];
+                if (converter == null) {
+                    converter = ConverterRegistry.lookup(converterMap, clazz, type);
+                    typeConverters[type.ordinal()] = converter;
+                }
+            }
+            return ConverterUtils.convertToJavaObjectWithConverter(
+                    cellData, clazz, converter, contentProperty, context, rowIndex, index);
+        }
+
+        private void set(Object bean, Object value) {
+            if (propertyIndex >= 0 && beanAccessor.isWritable(propertyIndex)) {
+                beanAccessor.set(bean, propertyIndex, value);
+                // Avoid the problem of not being able to assign value due to non-standard entity class setter
+                if (beanAccessor.get(bean, propertyIndex) != null) {
+                    return;
+                }
+            }
+            if (declaredField == null) {
+                return;
+            }
+            try {
+                declaredField.set(bean, value);
+            } catch (IllegalAccessException e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+}
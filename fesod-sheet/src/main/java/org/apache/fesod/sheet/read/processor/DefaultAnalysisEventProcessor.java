@@ -38,8 +38,11 @@ import org.apache.fesod.sheet.enums.HeadKindEnum;
 import org.apache.fesod.sheet.enums.RowTypeEnum;
 import org.apache.fesod.sheet.exception.ExcelAnalysisException;
 import org.apache.fesod.sheet.exception.ExcelAnalysisStopException;
+import org.apache.fesod.sheet.exception.ExcelAnalysisStopSheetException;
 import org.apache.fesod.sheet.metadata.Head;
 import org.apache.fesod.sheet.metadata.data.ReadCellData;
+import org.apache.fesod.sheet.read.listener.CellMapReadListener;
+import org.apache.fesod.sheet.read.listener.ModelBuildEventListener;
 import org.apache.fesod.sheet.read.listener.ReadListener;
 import org.apache.fesod.sheet.read.metadata.holder.ReadRowHolder;
 import org.apache.fesod.sheet.read.metadata.holder.ReadSheetHolder;
@@ -52,9 +55,24 @@ import org.apache.fesod.sheet.util.ConverterUtils;
  */
 @Slf4j
 public class DefaultAnalysisEventProcessor implements AnalysisEventProcessor {
+    /**
+     * Rows that may be in flight for each convert thread.
+     */
+    private static final int MAX_PENDING_ROWS_PER_CONVERT_THREAD = 256;
+
+    /**
+     * Rows converted by a single task, a few batches per convert thread fit in the rows in flight.
+     */
+    private static final int ROWS_PER_CONVERT_TASK = 64;
+
+    /**
+     * Converts data rows on the convert threads, created on the first data row when `convertThreads` is set.
+     */
+    private RowConvertPipeline rowConvertPipeline;
 
     @Override
     public void extra(AnalysisContext analysisContext) {
+        dispatchConvertedRows(analysisContext, true);
         dealExtra(analysisContext);
     }
 
@@ -85,6 +103,13 @@ public class DefaultAnalysisEventProcessor implements AnalysisEventProcessor {
 
     @Override
     public void endSheet(AnalysisContext analysisContext) {
+        try {
+            dispatchConvertedRows(analysisContext, true);
+        } catch (ExcelAnalysisStopSheetException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Custom stop!", e);
+            }
+        }
         ReadSheetHolder readSheetHolder = analysisContext.readSheetHolder();
         if (BooleanUtils.isTrue(readSheetHolder.getEnded())) {
             return;
@@ -131,13 +156,18 @@ public class DefaultAnalysisEventProcessor implements AnalysisEventProcessor {
         int currentHeadRowNumber = analysisContext.readSheetHolder().getHeadRowNumber();
 
         boolean isData = rowIndex >= currentHeadRowNumber;
+        if (isData && convertInPipeline(analysisContext)) {
+            return;
+        }
+        // Head rows are only handled after every earlier row
+        dispatchConvertedRows(analysisContext, true);
 
         // Now is data
         for (ReadListener readListener : analysisContext.currentReadHolder().readListenerList()) {
             try {
                 if (isData) {
                     // handle data row
-                    readListener.invoke(readRowHolder.getCurrentRowAnalysisResult(), analysisContext);
+                    readListener.invoke(rowData(readListener, readRowHolder), analysisContext);
                 } else {
                     // handle data header
                     readListener.invokeHead(cellDataMap, analysisContext);
@@ -157,6 +187,97 @@ public class DefaultAnalysisEventProcessor implements AnalysisEventProcessor {
         }
     }
 
+    /**
+     * Hand the current data row over to the convert threads.
+     *
+     * @param analysisContext
+     * @return false if the row has to be handled on the current thread
+     */
+    private boolean convertInPipeline(AnalysisContext analysisContext) {
+        int convertThreads = analysisContext.readWorkbookHolder().getConvertThreads();
+        if (convertThreads < 1) {
+            return false;
+        }
+        List<ReadListener<?>> readListenerList = analysisContext.currentReadHolder().readListenerList();
+        int convertListenerCount = 0;
+        while (convertListenerCount < readListenerList.size()
+                && readListenerList.get(convertListenerCount) instanceof ModelBuildEventListener) {
+            convertListenerCount++;
+        }
+        if (convertListenerCount == 0) {
+            return false;
+        }
+        if (rowConvertPipeline == null) {
+            rowConvertPipeline = new RowConvertPipeline(
+                    analysisContext.readWorkbookHolder().convertExecutorService(),
+                    convertThreads * MAX_PENDING_ROWS_PER_CONVERT_THREAD,
+                    ROWS_PER_CONVERT_TASK);
+        }
+        rowConvertPipeline.submit(analysisContext, readListenerList.subList(0, convertListenerCount));
+        dispatchConvertedRows(analysisContext, false);
+        return true;
+    }
+
+    /**
+     * Call the remaining listeners for the converted rows, in read order.
+     *
+     * @param analysisContext
+     * @param all             wait for all the rows, otherwise only wait when too many rows are in flight
+     */
+    private void dispatchConvertedRows(AnalysisContext analysisContext, boolean all) {
+        if (rowConvertPipeline == null || rowConvertPipeline.isEmpty()) {
+            return;
+        }
+        ReadRowHolder currentReadRowHolder = analysisContext.readRowHolder();
+        try {
+            while (!rowConvertPipeline.isEmpty()
+                    && (all || rowConvertPipeline.isFull() || rowConvertPipeline.isOldestDone())) {
+                dispatchConvertedRow(analysisContext, rowConvertPipeline.poll());
+            }
+        } catch (RuntimeException | Error e) {
+            rowConvertPipeline.cancel();
+            throw e;
+        } finally {
+            analysisContext.readRowHolder(currentReadRowHolder);
+        }
+    }
+
+    private void dispatchConvertedRow(AnalysisContext analysisContext, RowConvertPipeline.PendingRow pendingRow) {
+        ReadRowHolder readRowHolder = pendingRow.getReadRowHolder();
+        analysisContext.readRowHolder(readRowHolder);
+        try {
+            pendingRow.await();
+        } catch (Exception e) {
+            onException(analysisContext, e);
+            return;
+        }
+        List<ReadListener<?>> readListenerList = analysisContext.currentReadHolder().readListenerList();
+        for (int i = 0; i < readListenerList.size(); i++) {
+            ReadListener readListener = readListenerList.get(i);
+            if (i >= pendingRow.getConvertListenerCount()) {
+                try {
+                    readListener.invoke(rowData(readListener, readRowHolder), analysisContext);
+                } catch (Exception e) {
+                    onException(analysisContext, e);
+                    break;
+                }
+            }
+            if (!readListener.hasNext(analysisContext)) {
+                throw new ExcelAnalysisStopException();
+            }
+        }
+    }
+
+    /**
+     * Some listeners take the cells as read, the others the result of the earlier listeners.
+     */
+    private static Object rowData(ReadListener<?> readListener, ReadRowHolder readRowHolder) {
+        if (readListener instanceof CellMapReadListener) {
+            return readRowHolder.getCellMap();
+        }
+        return readRowHolder.getCurrentRowAnalysisResult();
+    }
+
     private void buildHead(AnalysisContext analysisContext, Map<Integer, ReadCellData<?>> cellDataMap) {
         // Rule out empty head, and then take the largest column
         if (MapUtils.isNotEmpty(cellDataMap)) {
@@ -208,5 +329,6 @@ public class DefaultAnalysisEventProcessor implements AnalysisEventProcessor {
             }
         }
         excelHeadPropertyData.setHeadMap(tmpHeadMap);
+        analysisContext.readSheetHolder().projectHeadColumns();
     }
 }
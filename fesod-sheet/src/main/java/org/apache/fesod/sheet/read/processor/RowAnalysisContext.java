@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.sheet.read.processor;
+
+import java.io.InputStream;
+import java.util.List;
+import org.apache.fesod.sheet.context.AnalysisContext;
+import org.apache.fesod.sheet.read.metadata.ReadSheet;
+import org.apache.fesod.sheet.read.metadata.holder.ReadHolder;
+import org.apache.fesod.sheet.read.metadata.holder.ReadRowHolder;
+import org.apache.fesod.sheet.read.metadata.holder.ReadSheetHolder;
+import org.apache.fesod.sheet.read.metadata.holder.ReadWorkbookHolder;
+import org.apache.fesod.sheet.support.ExcelTypeEnum;
+
+/**
+ * A view of the sheet context that is pinned to one row, used while the row is converted off the parsing thread.
+ */
+class RowAnalysisContext implements AnalysisContext {
+    private final AnalysisContext analysisContext;
+    private final ReadSheetHolder readSheetHolder;
+    private final ReadHolder currentReadHolder;
+    private ReadRowHolder readRowHolder;
+
+    RowAnalysisContext(AnalysisContext analysisContext, ReadRowHolder readRowHolder) {
+        this.analysisContext = analysisContext;
+        this.readSheetHolder = analysisContext.readSheetHolder();
+        this.currentReadHolder = analysisContext.currentReadHolder();
+        this.readRowHolder = readRowHolder;
+    }
+
+    @Override
+    public void currentSheet(ReadSheet readSheet) {
+        throw new UnsupportedOperationException("Can not change the sheet while converting a row.");
+    }
+
+    @Override
+    public ReadWorkbookHolder readWorkbookHolder() {
+        return analysisContext.readWorkbookHolder();
+    }
+
+    @Override
+    public ReadSheetHolder readSheetHolder() {
+        return readSheetHolder;
+    }
+
+    @Override
+    public void readRowHolder(ReadRowHolder readRowHolder) {
+        this.readRowHolder = readRowHolder;
+    }
+
+    @Override
+    public ReadRowHolder readRowHolder() {
+        return readRowHolder;
+    }
+
+    @Override
+    public ReadHolder currentReadHolder() {
+        return currentReadHolder;
+    }
+
+    @Override
+    public Object getCustom() {
+        return analysisContext.getCustom();
+    }
+
+    @Override
+    public AnalysisEventProcessor analysisEventProcessor() {
+        return analysisContext.analysisEventProcessor();
+    }
+
+    @Override
+    public List<ReadSheet> readSheetList() {
+        return analysisContext.readSheetList();
+    }
+
+    @Override
+    public void readSheetList(List<ReadSheet> readSheetList) {
+        analysisContext.readSheetList(readSheetList);
+    }
+
+    @Override
+    public ExcelTypeEnum getExcelType() {
+        return readWorkbookHolder().getExcelType();
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        return readWorkbookHolder().getInputStream();
+    }
+
+    @Override
+    public Integer getCurrentRowNum() {
+        return readRowHolder.getRowIndex();
+    }
+
+    @Override
+    public Integer getTotalCount() {
+        return readSheetHolder.getTotal();
+    }
+
+    @Override
+    public Object getCurrentRowAnalysisResult() {
+        return readRowHolder.getCurrentRowAnalysisResult();
+    }
+
+    @Override
+    public void interrupt() {
+        analysisContext.interrupt();
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.sheet.read.processor;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import lombok.Getter;
+import org.apache.fesod.sheet.context.AnalysisContext;
+import org.apache.fesod.sheet.exception.ExcelAnalysisException;
+import org.apache.fesod.sheet.read.listener.ModelBuildEventListener;
+import org.apache.fesod.sheet.read.listener.ReadListener;
+import org.apache.fesod.sheet.read.metadata.holder.ReadRowHolder;
+
+/**
+ * Converts data rows on the convert threads while the parser keeps reading, and gives them back in read order.
+ * <p>
+ * Only the converting listeners ({@link ModelBuildEventListener}) run on the convert threads, every other listener is
+ * still called by the parsing thread. The rows are handed over in batches of {@code batchSize}, each converted in order
+ * by a single task. At most {@code maxPendingRows} rows are in flight, after that the parsing thread waits for the
+ * oldest one.
+ */
+class RowConvertPipeline {
+    private final ExecutorService executorService;
+    private final int maxPendingRows;
+    private final int batchSize;
+    private final Deque<PendingRow> pendingRowDeque;
+    /**
+     * The newest rows, not handed over to the convert threads yet.
+     */
+    private List<PendingRow> batchRowList;
+
+    RowConvertPipeline(ExecutorService executorService, int maxPendingRows, int batchSize) {
+        this.executorService = executorService;
+        this.maxPendingRows = maxPendingRows;
+        this.batchSize = batchSize;
+        this.pendingRowDeque = new ArrayDeque<>(maxPendingRows);
+        this.batchRowList = new ArrayList<>(batchSize);
+    }
+
+    /**
+     * Add the current row of the context to the batch, which starts converting once it is full.
+     *
+     * @param analysisContext     context of the sheet
+     * @param convertListenerList the leading converting listeners of the sheet
+     */
+    void submit(AnalysisContext analysisContext, List<ReadListener<?>> convertListenerList) {
+        ReadRowHolder readRowHolder = analysisContext.readRowHolder();
+        PendingRow pendingRow = new PendingRow(
+                readRowHolder, new RowAnalysisContext(analysisContext, readRowHolder), convertListenerList);
+        pendingRowDeque.addLast(pendingRow);
+        batchRowList.add(pendingRow);
+        if (batchRowList.size() >= batchSize) {
+            submitBatch();
+        }
+    }
+
+    private void submitBatch() {
+        List<PendingRow> rowList = batchRowList;
+        batchRowList = new ArrayList<>(batchSize);
+        Future<?> future = executorService.submit(() -> {
+            for (PendingRow pendingRow : rowList) {
+                pendingRow.convert();
+            }
+        });
+        for (PendingRow pendingRow : rowList) {
+            pendingRow.future = future;
+        }
+    }
+
+    boolean isEmpty() {
+        return pendingRowDeque.isEmpty();
+    }
+
+    boolean isFull() {
+        return pendingRowDeque.size() >= maxPendingRows;
+    }
+
+    /**
+     * Whether the oldest row can be taken without waiting.
+     */
+    boolean isOldestDone() {
+        PendingRow pendingRow = pendingRowDeque.peekFirst();
+        return pendingRow != null && pendingRow.future != null && pendingRow.future.isDone();
+    }
+
+    /**
+     * Remove the oldest row, handing its batch over first if it is still being filled.
+     */
+    PendingRow poll() {
+        PendingRow pendingRow = pendingRowDeque.pollFirst();
+        if (pendingRow != null && pendingRow.future == null) {
+            submitBatch();
+        }
+        return pendingRow;
+    }
+
+    /**
+     * Drop all the rows that have not been taken yet.
+     */
+    void cancel() {
+        for (PendingRow pendingRow : pendingRowDeque) {
+            if (pendingRow.future != null) {
+                pendingRow.future.cancel(true);
+            }
+        }
+        pendingRowDeque.clear();
+        batchRowList.clear();
+    }
+
+    static class PendingRow {
+        @Getter
+        private final ReadRowHolder readRowHolder;
+
+        private final AnalysisContext rowContext;
+        /**
+         * The leading listeners that are called on the convert thread.
+         */
+        private final List<ReadListener<?>> convertListenerList;
+        /**
+         * The task converting the batch of the row, null while the batch is being filled.
+         */
+        private Future<?> future;
+        /**
+         * Thrown by a converting listener, the other rows of the batch are still converted.
+         */
+        private Exception exception;
+
+        PendingRow(ReadRowHolder readRowHolder, AnalysisContext rowContext, List<ReadListener<?>> convertListenerList) {
+            this.readRowHolder = readRowHolder;
+            this.rowContext = rowContext;
+            this.convertListenerList = convertListenerList;
+        }
+
+        /**
+         * How many leading listeners have already been called on the convert thread.
+         */
+        int getConvertListenerCount() {
+            return convertListenerList.size();
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private void convert() {
+            try {
+                for (ReadListener readListener : convertListenerList) {
+                    readListener.invoke(readRowHolder.getCurrentRowAnalysisResult(), rowContext);
+                }
+            } catch (Exception e) {
+                exception = e;
+            }
+        }
+
+        /**
+         * Wait until the row is converted.
+         *
+         * @throws Exception the exception thrown by a converting listener
+         */
+        void await() throws Exception {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof Exception) {
+                    throw (Exception) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw new ExcelAnalysisException(cause);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ExcelAnalysisException("Interrupted while waiting for the row to be converted", e);
+            }
+            if (exception != null) {
+                throw exception;
+            }
+        }
+    }
+}
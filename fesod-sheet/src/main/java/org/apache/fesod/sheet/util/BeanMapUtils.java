@@ -27,6 +27,8 @@ package org.apache.fesod.sheet.util;
 
 import org.apache.fesod.shaded.cglib.beans.BeanMap;
 import org.apache.fesod.shaded.cglib.core.DefaultNamingPolicy;
+import org.apache.fesod.sheet.metadata.bean.BeanAccessorMap;
+import org.apache.fesod.sheet.metadata.bean.BeanAccessors;
 
 /**
  * bean utils
@@ -35,6 +37,17 @@ import org.apache.fesod.shaded.cglib.core.DefaultNamingPolicy;
  */
 public class BeanMapUtils {
 
+    /**
+     * Create a map view of the bean, backed by the accessor of its class that is built once.
+     *
+     * @param bean the JavaBean underlying the map
+     * @return a new map, no class is generated
+     * @see BeanAccessors
+     */
+    public static BeanAccessorMap createMap(Object bean) {
+        return new BeanAccessorMap(bean);
+    }
+
     /**
      * Helper method to create a new <code>BeanMap</code>.  For finer
      * control over the generated instance, use a new instance of
@@ -44,7 +57,9 @@ public class BeanMapUtils {
      *
      * @param bean the JavaBean underlying the map
      * @return a new <code>BeanMap</code> instance
+     * @deprecated use {@link #createMap(Object)}, which does not generate a class for each call
      */
+    @Deprecated
     public static BeanMap create(Object bean) {
         BeanMap.Generator gen = new BeanMap.Generator();
         gen.setBean(bean);
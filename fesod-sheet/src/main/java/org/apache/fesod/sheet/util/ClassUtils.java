@@ -61,6 +61,7 @@ import org.apache.fesod.sheet.exception.ExcelCommonException;
 import org.apache.fesod.sheet.metadata.ConfigurationHolder;
 import org.apache.fesod.sheet.metadata.FieldCache;
 import org.apache.fesod.sheet.metadata.FieldWrapper;
+import org.apache.fesod.sheet.metadata.bean.BeanAccessorMap;
 import org.apache.fesod.sheet.metadata.property.DateTimeFormatProperty;
 import org.apache.fesod.sheet.metadata.property.ExcelContentProperty;
 import org.apache.fesod.sheet.metadata.property.FontProperty;
@@ -114,7 +115,9 @@ public class ClassUtils {
     public static ExcelContentProperty declaredExcelContentProperty(
             Map<?, ?> dataMap, Class<?> headClazz, String fieldName, ConfigurationHolder configurationHolder) {
         Class<?> clazz = null;
-        if (dataMap instanceof BeanMap) {
+        if (dataMap instanceof BeanAccessorMap) {
+            clazz = ((BeanAccessorMap) dataMap).getBean().getClass();
+        } else if (dataMap instanceof BeanMap) {
             Object bean = ((BeanMap) dataMap).getBean();
             if (bean != null) {
                 clazz = bean.getClass();
@@ -123,6 +126,19 @@ public class ClassUtils {
         return getExcelContentProperty(clazz, headClazz, fieldName, configurationHolder);
     }
 
+    /**
+     * Calculate the configuration information for the class
+     *
+     * @param clazz     the class of the data, may be a subclass of the head class
+     * @param headClazz
+     * @param fieldName
+     * @return
+     */
+    public static ExcelContentProperty declaredClassExcelContentProperty(
+            Class<?> clazz, Class<?> headClazz, String fieldName, ConfigurationHolder configurationHolder) {
+        return getExcelContentProperty(clazz, headClazz, fieldName, configurationHolder);
+    }
+
     private static ExcelContentProperty getExcelContentProperty(
             Class<?> clazz, Class<?> headClass, String fieldName, ConfigurationHolder configurationHolder) {
         switch (configurationHolder.globalConfiguration().getFiledCacheLocation()) {
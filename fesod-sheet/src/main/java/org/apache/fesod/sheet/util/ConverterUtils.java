@@ -32,8 +32,8 @@ import java.util.Map;
 import org.apache.fesod.common.util.MapUtils;
 import org.apache.fesod.sheet.context.AnalysisContext;
 import org.apache.fesod.sheet.converters.Converter;
-import org.apache.fesod.sheet.converters.ConverterKeyBuild;
 import org.apache.fesod.sheet.converters.ConverterKeyBuild.ConverterKey;
+import org.apache.fesod.sheet.converters.ConverterRegistry;
 import org.apache.fesod.sheet.converters.NullableObjectConverter;
 import org.apache.fesod.sheet.converters.ReadConverterContext;
 import org.apache.fesod.sheet.enums.CellDataTypeEnum;
@@ -78,7 +78,7 @@ public class ConverterUtils {
                 continue;
             }
             Converter<?> converter =
-                    readSheetHolder.converterMap().get(ConverterKeyBuild.buildKey(String.class, cellData.getType()));
+                    ConverterRegistry.lookup(readSheetHolder.converterMap(), String.class, cellData.getType());
             if (converter == null) {
                 throw new ExcelDataConvertException(
                         context.readRowHolder().getRowIndex(),
@@ -225,8 +225,32 @@ public class ConverterUtils {
         }
 
         if (converter == null) {
-            converter = converterMap.get(ConverterKeyBuild.buildKey(clazz, cellData.getType()));
+            converter = ConverterRegistry.lookup(converterMap, clazz, cellData.getType());
         }
+        return convertToJavaObjectWithConverter(
+                cellData, clazz, converter, contentProperty, context, rowIndex, columnIndex);
+    }
+
+    /**
+     * Convert it into a Java object with a converter that is already resolved. Empty cells are not skipped.
+     *
+     * @param cellData
+     * @param clazz
+     * @param converter       null if no converter was found
+     * @param contentProperty
+     * @param context
+     * @param rowIndex
+     * @param columnIndex
+     * @return
+     */
+    public static Object convertToJavaObjectWithConverter(
+            ReadCellData<?> cellData,
+            Class<?> clazz,
+            Converter<?> converter,
+            ExcelContentProperty contentProperty,
+            AnalysisContext context,
+            Integer rowIndex,
+            Integer columnIndex) {
         if (converter == null) {
             throw new ExcelDataConvertException(
                     rowIndex,
@@ -38,6 +38,7 @@ import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
 import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 import org.apache.fesod.common.util.BooleanUtils;
 import org.apache.fesod.common.util.MapUtils;
@@ -54,10 +55,12 @@ public class DateUtils {
 
     private static final int MAX_FORMAT_CACHE_SIZE = 64;
 
+    private static final int MAX_DATE_FORMAT_STRING_CACHE_SIZE = 4096;
+
     /**
-     * Is a cache of dates
+     * Whether a format string is a date format, shared by all reads and writes. Stops growing when full.
      */
-    private static final ThreadLocal<Map<Short, Boolean>> DATE_THREAD_LOCAL = new ThreadLocal<>();
+    private static final Map<String, Boolean> DATE_FORMAT_STRING_CACHE = new ConcurrentHashMap<>();
     /**
      * Is a cache of dates
      */
@@ -469,18 +472,20 @@ public class DateUtils {
         if (formatIndex == null) {
             return false;
         }
-        Map<Short, Boolean> isDateCache = DATE_THREAD_LOCAL.get();
-        if (isDateCache == null) {
-            isDateCache = MapUtils.newHashMap();
-            DATE_THREAD_LOCAL.set(isDateCache);
-        } else {
-            Boolean isDatecachedDataList = isDateCache.get(formatIndex);
-            if (isDatecachedDataList != null) {
-                return isDatecachedDataList;
+        if (isInternalDateFormat(formatIndex)) {
+            return true;
+        }
+        if (StringUtils.isEmpty(formatString)) {
+            return false;
+        }
+        // Apart from the internal formats the result only depends on the format string
+        Boolean isDate = DATE_FORMAT_STRING_CACHE.get(formatString);
+        if (isDate == null) {
+            isDate = isADateFormatUncached(formatIndex, formatString);
+            if (DATE_FORMAT_STRING_CACHE.size() < MAX_DATE_FORMAT_STRING_CACHE_SIZE) {
+                DATE_FORMAT_STRING_CACHE.put(formatString, isDate);
             }
         }
-        boolean isDate = isADateFormatUncached(formatIndex, formatString);
-        isDateCache.put(formatIndex, isDate);
         return isDate;
     }
 
@@ -593,7 +598,6 @@ public class DateUtils {
     }
 
     public static void removeThreadLocalCache() {
-        DATE_THREAD_LOCAL.remove();
         DATE_FORMAT_THREAD_LOCAL.remove();
         DATE_TIME_FORMATTER_THREAD_LOCAL.remove();
     }
@@ -32,6 +32,7 @@ import org.apache.fesod.common.util.MemberUtils;
 import org.apache.fesod.common.util.StringUtils;
 import org.apache.fesod.shaded.cglib.beans.BeanMap;
 import org.apache.fesod.sheet.metadata.NullObject;
+import org.apache.fesod.sheet.metadata.bean.BeanAccessorMap;
 
 public class FieldUtils {
 
@@ -40,7 +41,12 @@ public class FieldUtils {
     private static final int START_RESOLVE_FIELD_LENGTH = 2;
 
     public static Class<?> getFieldClass(Map dataMap, String fieldName, Object value) {
-        if (dataMap instanceof BeanMap) {
+        if (dataMap instanceof BeanAccessorMap) {
+            Class<?> fieldClass = ((BeanAccessorMap) dataMap).getPropertyType(fieldName);
+            if (fieldClass != null) {
+                return fieldClass;
+            }
+        } else if (dataMap instanceof BeanMap) {
             Class<?> fieldClass = ((BeanMap) dataMap).getPropertyType(fieldName);
             if (fieldClass != null) {
                 return fieldClass;
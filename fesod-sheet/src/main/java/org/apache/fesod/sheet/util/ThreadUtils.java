@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.sheet.util;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Thread utils
+ */
+@Slf4j
+public class ThreadUtils {
+
+    private ThreadUtils() {}
+
+    /**
+     * Create a fixed size pool of daemon threads named {@code namePrefix-1}, {@code namePrefix-2}...
+     *
+     * @param threads    number of threads
+     * @param namePrefix thread name prefix
+     * @return executor service
+     */
+    public static ExecutorService newFixedDaemonThreadPool(int threads, String namePrefix) {
+        return Executors.newFixedThreadPool(threads, newDaemonThreadFactory(namePrefix));
+    }
+
+    /**
+     * Create a thread factory of daemon threads named {@code namePrefix-1}, {@code namePrefix-2}...
+     *
+     * @param namePrefix thread name prefix
+     * @return thread factory
+     */
+    public static ThreadFactory newDaemonThreadFactory(String namePrefix) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, namePrefix + "-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Stop accepting tasks, drop the queued ones and wait until the running ones are finished.
+     *
+     * @param executorService executor service, may be null
+     */
+    public static void shutdownAndAwait(ExecutorService executorService) {
+        if (executorService == null) {
+            return;
+        }
+        executorService.shutdownNow();
+        try {
+            while (!executorService.awaitTermination(1, TimeUnit.SECONDS)) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Waiting for the running tasks to finish.");
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -32,6 +32,8 @@ import org.apache.fesod.common.util.StringUtils;
 import org.apache.fesod.sheet.metadata.csv.CsvWorkbook;
 import org.apache.fesod.sheet.metadata.data.DataFormatData;
 import org.apache.fesod.sheet.metadata.data.WriteCellData;
+import org.apache.fesod.sheet.metadata.xlsx.XlsxStreamingWorkbook;
+import org.apache.fesod.sheet.metadata.xlsx.XlsxZipWorkbook;
 import org.apache.fesod.sheet.write.metadata.holder.WriteWorkbookHolder;
 import org.apache.fesod.sheet.write.metadata.style.WriteCellStyle;
 import org.apache.poi.hssf.record.crypto.Biff8EncryptionKey;
@@ -62,11 +64,20 @@ public class WorkBookUtil {
                     if (writeWorkbookHolder.getInMemory()) {
                         writeWorkbookHolder.setWorkbook(xssfWorkbook);
                     } else {
-                        writeWorkbookHolder.setWorkbook(new SXSSFWorkbook(xssfWorkbook));
+                        writeWorkbookHolder.setWorkbook(createSXSSFWorkbook(xssfWorkbook, writeWorkbookHolder));
                     }
                     return;
                 }
-                Workbook workbook = writeWorkbookHolder.getInMemory() ? new XSSFWorkbook() : new SXSSFWorkbook();
+                Workbook workbook;
+                if (writeWorkbookHolder.getInMemory()) {
+                    workbook = new XSSFWorkbook();
+                } else if (writeWorkbookHolder.getXlsxStreaming()
+                        && StringUtils.isEmpty(writeWorkbookHolder.getPassword())) {
+                    workbook = new XlsxStreamingWorkbook(
+                            writeWorkbookHolder.getOutputStream(), writeWorkbookHolder.getCompressionLevel());
+                } else {
+                    workbook = createSXSSFWorkbook(null, writeWorkbookHolder);
+                }
                 Boolean use1904windowing =
                         writeWorkbookHolder.getGlobalConfiguration().getUse1904windowing();
                 if (use1904windowing != null) {
@@ -118,6 +129,15 @@ public class WorkBookUtil {
         }
     }
 
+    private static SXSSFWorkbook createSXSSFWorkbook(
+            XSSFWorkbook xssfWorkbook, WriteWorkbookHolder writeWorkbookHolder) {
+        if (writeWorkbookHolder.getCompressionLevel() == null && writeWorkbookHolder.getCompressionThreads() <= 0) {
+            return new SXSSFWorkbook(xssfWorkbook);
+        }
+        return new XlsxZipWorkbook(
+                xssfWorkbook, writeWorkbookHolder.getCompressionLevel(), writeWorkbookHolder.getCompressionThreads());
+    }
+
     public static Sheet createSheet(Workbook workbook, String sheetName) {
         return workbook.createSheet(sheetName);
     }
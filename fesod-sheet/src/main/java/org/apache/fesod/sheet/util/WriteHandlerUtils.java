@@ -30,6 +30,7 @@ import org.apache.fesod.sheet.context.WriteContext;
 import org.apache.fesod.sheet.metadata.Head;
 import org.apache.fesod.sheet.metadata.property.ExcelContentProperty;
 import org.apache.fesod.sheet.write.handler.chain.CellHandlerExecutionChain;
+import org.apache.fesod.sheet.write.handler.chain.CellHandlerHook;
 import org.apache.fesod.sheet.write.handler.chain.RowHandlerExecutionChain;
 import org.apache.fesod.sheet.write.handler.chain.SheetHandlerExecutionChain;
 import org.apache.fesod.sheet.write.handler.chain.WorkbookHandlerExecutionChain;
@@ -163,7 +164,7 @@ public class WriteHandlerUtils {
 
     public static void beforeCellCreate(CellWriteHandlerContext context) {
         CellHandlerExecutionChain cellHandlerExecutionChain =
-                ((AbstractWriteHolder) context.getWriteContext().currentWriteHolder()).getCellHandlerExecutionChain();
+                getCellHandlerExecutionChain(context, CellHandlerHook.BEFORE_CELL_CREATE);
         if (cellHandlerExecutionChain != null) {
             cellHandlerExecutionChain.beforeCellCreate(context);
         }
@@ -171,7 +172,7 @@ public class WriteHandlerUtils {
 
     public static void afterCellCreate(CellWriteHandlerContext context) {
         CellHandlerExecutionChain cellHandlerExecutionChain =
-                ((AbstractWriteHolder) context.getWriteContext().currentWriteHolder()).getCellHandlerExecutionChain();
+                getCellHandlerExecutionChain(context, CellHandlerHook.AFTER_CELL_CREATE);
         if (cellHandlerExecutionChain != null) {
             cellHandlerExecutionChain.afterCellCreate(context);
         }
@@ -179,7 +180,7 @@ public class WriteHandlerUtils {
 
     public static void afterCellDataConverted(CellWriteHandlerContext context) {
         CellHandlerExecutionChain cellHandlerExecutionChain =
-                ((AbstractWriteHolder) context.getWriteContext().currentWriteHolder()).getCellHandlerExecutionChain();
+                getCellHandlerExecutionChain(context, CellHandlerHook.AFTER_CELL_DATA_CONVERTED);
         if (cellHandlerExecutionChain != null) {
             cellHandlerExecutionChain.afterCellDataConverted(context);
         }
@@ -187,12 +188,17 @@ public class WriteHandlerUtils {
 
     public static void afterCellDispose(CellWriteHandlerContext context) {
         CellHandlerExecutionChain cellHandlerExecutionChain =
-                ((AbstractWriteHolder) context.getWriteContext().currentWriteHolder()).getCellHandlerExecutionChain();
+                getCellHandlerExecutionChain(context, CellHandlerHook.AFTER_CELL_DISPOSE);
         if (cellHandlerExecutionChain != null) {
             cellHandlerExecutionChain.afterCellDispose(context);
         }
     }
 
+    private static CellHandlerExecutionChain getCellHandlerExecutionChain(
+            CellWriteHandlerContext context, CellHandlerHook hook) {
+        return ((AbstractWriteHolder) context.getWriteContext().currentWriteHolder()).cellHandlerExecutionChain(hook);
+    }
+
     public static RowWriteHandlerContext createRowWriteHandlerContext(
             WriteContext writeContext, Integer rowIndex, Integer relativeRowIndex, Boolean isHead) {
         return new RowWriteHandlerContext(
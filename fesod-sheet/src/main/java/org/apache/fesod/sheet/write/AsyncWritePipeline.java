@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.sheet.write;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fesod.sheet.exception.ExcelGenerateException;
+import org.apache.fesod.sheet.util.ThreadUtils;
+
+/**
+ * Writes the batches handed over by the caller on a background thread, one after another and in the order they were
+ * handed over.
+ * <p>
+ * The data of a supplier may be got on the supplier threads while the earlier batches are written. At most
+ * {@code queueSize} batches are handed over and not yet written, after that the caller waits. Once a batch fails the
+ * next ones are dropped, and the exception is thrown once to the caller, by the next call or by {@link #finish()}.
+ */
+@Slf4j
+public class AsyncWritePipeline {
+    private final ExecutorService writeExecutorService;
+    private final ExecutorService supplierExecutorService;
+    private final Semaphore permits;
+
+    private volatile Throwable throwable;
+    /**
+     * The exception has been thrown to the caller.
+     */
+    private boolean thrown;
+
+    private boolean finished;
+
+    /**
+     * @param queueSize       the number of batches that may wait to be written, at least 1
+     * @param supplierThreads the number of threads getting the data of the suppliers, 0 gets them on the writing
+     *                        thread
+     */
+    public AsyncWritePipeline(int queueSize, int supplierThreads) {
+        if (queueSize < 1) {
+            throw new IllegalArgumentException("The queue size must be at least 1: " + queueSize);
+        }
+        this.writeExecutorService = ThreadUtils.newFixedDaemonThreadPool(1, "fesod-sheet-write");
+        this.supplierExecutorService = supplierThreads > 0
+                ? ThreadUtils.newFixedDaemonThreadPool(supplierThreads, "fesod-sheet-write-supplier")
+                : null;
+        this.permits = new Semaphore(queueSize);
+    }
+
+    /**
+     * Hand over a batch.
+     *
+     * @param writeTask writes the batch
+     */
+    public void write(Runnable writeTask) {
+        write(null, data -> writeTask.run());
+    }
+
+    /**
+     * Hand over a batch whose data is got by a supplier.
+     *
+     * @param supplier  gets the data, null if there is none
+     * @param writeTask writes the data
+     * @param <T>       the type of the data
+     */
+    public <T> void write(Supplier<T> supplier, Consumer<T> writeTask) {
+        if (finished) {
+            throw new ExcelGenerateException("Can not write after the writer is finished.");
+        }
+        throwIfFailed();
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExcelGenerateException("Interrupted while waiting to hand over the data", e);
+        }
+        Future<T> future;
+        try {
+            future = supplier != null && supplierExecutorService != null
+                    ? supplierExecutorService.submit(supplier::get)
+                    : null;
+            writeExecutorService.execute(() -> runWriteTask(supplier, future, writeTask));
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private <T> void runWriteTask(Supplier<T> supplier, Future<T> future, Consumer<T> writeTask) {
+        try {
+            if (throwable != null) {
+                if (future != null) {
+                    future.cancel(true);
+                }
+                return;
+            }
+            T data;
+            if (future != null) {
+                data = await(future);
+            } else {
+                data = supplier == null ? null : supplier.get();
+            }
+            writeTask.accept(data);
+        } catch (Throwable e) {
+            throwable = e;
+        } finally {
+            permits.release();
+        }
+    }
+
+    private static <T> T await(Future<T> future) throws Throwable {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Wait until every batch is written and stop the threads.
+     */
+    public void finish() {
+        if (finished) {
+            return;
+        }
+        finished = true;
+        writeExecutorService.shutdown();
+        try {
+            while (!writeExecutorService.awaitTermination(1, TimeUnit.SECONDS)) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Waiting for the data to be written.");
+                }
+            }
+        } catch (InterruptedException e) {
+            // Drop the waiting batches and let the running one end before the workbook is closed
+            ThreadUtils.shutdownAndAwait(writeExecutorService);
+            Thread.currentThread().interrupt();
+            throw new ExcelGenerateException("Interrupted while waiting for the data to be written", e);
+        } finally {
+            ThreadUtils.shutdownAndAwait(supplierExecutorService);
+        }
+        throwIfFailed();
+    }
+
+    private void throwIfFailed() {
+        Throwable e = throwable;
+        if (e == null || thrown) {
+            return;
+        }
+        thrown = true;
+        if (e instanceof RuntimeException) {
+            throw (RuntimeException) e;
+        }
+        if (e instanceof Error) {
+            throw (Error) e;
+        }
+        throw new ExcelGenerateException(e);
+    }
+}
@@ -90,6 +90,81 @@ public class ExcelWriterBuilder extends AbstractExcelWriterParameterBuilder<Exce
         return this;
     }
 
+    /**
+     * Write the rows of the xlsx directly into the output stream, without a temporary file per sheet that is copied
+     * at the end. Default is false.
+     * <p>
+     * The sheets have to be written one after another, and what comes before the rows of a sheet, like column widths
+     * and frozen panes, has to be set within the first rows. If an exception is thrown, the output is left incomplete.
+     * Ignored when writing with a template, a password or {@code inMemory}.
+     *
+     * @param xlsxStreaming
+     * @return
+     */
+    public ExcelWriterBuilder xlsxStreaming(Boolean xlsxStreaming) {
+        writeWorkbook.setXlsxStreaming(xlsxStreaming);
+        return this;
+    }
+
+    /**
+     * Deflate level of the parts of the xlsx, from -1 to 9. 0 stores the parts without compression, which gives a
+     * larger file in less time. Default is the default level of the zip.
+     * <p>
+     * The streaming xlsx deflates with level 0 instead of storing the parts.
+     *
+     * @param compressionLevel
+     * @return
+     */
+    public ExcelWriterBuilder compressionLevel(Integer compressionLevel) {
+        writeWorkbook.setCompressionLevel(compressionLevel);
+        return this;
+    }
+
+    /**
+     * Compress the sheets of the xlsx on this many threads when the workbook is written. Default is 0, which
+     * compresses them on the writing thread.
+     * <p>
+     * Each sheet is compressed by one thread, so this helps workbooks with several large sheets. The compressed sheets
+     * are kept in temporary files until they are added to the output. Ignored by the streaming xlsx and
+     * {@code inMemory}.
+     *
+     * @param compressionThreads
+     * @return
+     */
+    public ExcelWriterBuilder compressionThreads(Integer compressionThreads) {
+        writeWorkbook.setCompressionThreads(compressionThreads);
+        return this;
+    }
+
+    /**
+     * Write the data in the background. {@code write} and {@code fill} hand the batch over and return, and the
+     * batches are written one after another, in the order they were handed over. When this many batches are waiting,
+     * the next call waits until one is written. Default is 0, which writes on the calling thread.
+     * <p>
+     * The data must not be changed once it is handed over. An exception thrown while writing is thrown by the next
+     * call, or by {@code finish} if there is none.
+     *
+     * @param asyncWriteQueueSize
+     * @return
+     */
+    public ExcelWriterBuilder asyncWriteQueueSize(Integer asyncWriteQueueSize) {
+        writeWorkbook.setAsyncWriteQueueSize(asyncWriteQueueSize);
+        return this;
+    }
+
+    /**
+     * Get the data of the suppliers passed to {@code write} and {@code fill} on this many threads, while the earlier
+     * batches are written. The suppliers must be thread-safe. Only used with {@link #asyncWriteQueueSize(Integer)}.
+     * Default is 0, which gets them on the writing thread.
+     *
+     * @param asyncSupplierThreads
+     * @return
+     */
+    public ExcelWriterBuilder asyncSupplierThreads(Integer asyncSupplierThreads) {
+        writeWorkbook.setAsyncSupplierThreads(asyncSupplierThreads);
+        return this;
+    }
+
     public ExcelWriterBuilder excelType(ExcelTypeEnum excelType) {
         writeWorkbook.setExcelType(excelType);
         return this;
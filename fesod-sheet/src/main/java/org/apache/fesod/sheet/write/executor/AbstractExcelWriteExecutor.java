@@ -30,7 +30,7 @@ import org.apache.commons.collections4.CollectionUtils;
 import org.apache.fesod.common.util.ListUtils;
 import org.apache.fesod.sheet.context.WriteContext;
 import org.apache.fesod.sheet.converters.Converter;
-import org.apache.fesod.sheet.converters.ConverterKeyBuild;
+import org.apache.fesod.sheet.converters.ConverterRegistry;
 import org.apache.fesod.sheet.converters.NullableObjectConverter;
 import org.apache.fesod.sheet.converters.WriteConverterContext;
 import org.apache.fesod.sheet.enums.CellDataTypeEnum;
@@ -347,12 +347,10 @@ public abstract class AbstractExcelWriteExecutor implements ExcelWriteExecutor {
             if (writeContext.writeWorkbookHolder().getExcelType() == ExcelTypeEnum.CSV) {
                 cellWriteHandlerContext.setTargetCellDataType(CellDataTypeEnum.STRING);
             }
-            converter = writeContext
-                    .currentWriteHolder()
-                    .converterMap()
-                    .get(ConverterKeyBuild.buildKey(
-                            cellWriteHandlerContext.getOriginalFieldClass(),
-                            cellWriteHandlerContext.getTargetCellDataType()));
+            converter = ConverterRegistry.lookup(
+                    writeContext.currentWriteHolder().converterMap(),
+                    cellWriteHandlerContext.getOriginalFieldClass(),
+                    cellWriteHandlerContext.getTargetCellDataType());
         }
         if (cellWriteHandlerContext.getOriginalValue() == null && !(converter instanceof NullableObjectConverter)) {
             return new WriteCellData<>(CellDataTypeEnum.EMPTY);
@@ -27,18 +27,12 @@ package org.apache.fesod.sheet.write.executor;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashSet;
+import java.util.HashMap;
 import java.util.Map;
-import java.util.Set;
 import org.apache.commons.collections4.CollectionUtils;
-import org.apache.fesod.shaded.cglib.beans.BeanMap;
 import org.apache.fesod.sheet.context.WriteContext;
-import org.apache.fesod.sheet.enums.HeadKindEnum;
-import org.apache.fesod.sheet.metadata.FieldCache;
-import org.apache.fesod.sheet.metadata.FieldWrapper;
 import org.apache.fesod.sheet.metadata.Head;
 import org.apache.fesod.sheet.metadata.property.ExcelContentProperty;
-import org.apache.fesod.sheet.util.BeanMapUtils;
 import org.apache.fesod.sheet.util.ClassUtils;
 import org.apache.fesod.sheet.util.FieldUtils;
 import org.apache.fesod.sheet.util.WorkBookUtil;
@@ -51,6 +45,8 @@ import org.apache.fesod.sheet.write.metadata.RowData;
 import org.apache.fesod.sheet.write.metadata.holder.AbstractWriteHolder;
 import org.apache.fesod.sheet.write.metadata.holder.WriteHolder;
 import org.apache.fesod.sheet.write.metadata.holder.WriteSheetHolder;
+import org.apache.fesod.sheet.write.property.WriteModelPlan;
+import org.apache.fesod.sheet.write.style.ColumnStylePlan;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.Row;
 
@@ -61,6 +57,15 @@ import org.apache.poi.ss.usermodel.Row;
  */
 public class ExcelWriteAddExecutor extends AbstractExcelWriteExecutor {
 
+    /**
+     * The plans of the classes written, replaced when the write holder changes.
+     */
+    private final Map<Class<?>, WriteModelPlan> writeModelPlanMap = new HashMap<>();
+    /**
+     * The context passed for each cell when the handlers of the write holder do not keep it.
+     */
+    private CellWriteHandlerContext reusableCellWriteHandlerContext;
+
     public ExcelWriteAddExecutor(WriteContext writeContext) {
         super(writeContext);
     }
@@ -154,8 +159,8 @@ public class ExcelWriteAddExecutor extends AbstractExcelWriteExecutor {
                 head == null ? null : head.getFieldName(),
                 writeContext.currentWriteHolder());
 
-        CellWriteHandlerContext cellWriteHandlerContext = WriteHandlerUtils.createCellWriteHandlerContext(
-                writeContext, row, rowIndex, head, columnIndex, relativeRowIndex, Boolean.FALSE, excelContentProperty);
+        CellWriteHandlerContext cellWriteHandlerContext =
+                cellWriteHandlerContext(row, rowIndex, head, columnIndex, relativeRowIndex, excelContentProperty);
         WriteHandlerUtils.beforeCellCreate(cellWriteHandlerContext);
 
         Cell cell = WorkBookUtil.createCell(row, columnIndex);
@@ -167,99 +172,113 @@ public class ExcelWriteAddExecutor extends AbstractExcelWriteExecutor {
         cellWriteHandlerContext.setOriginalFieldClass(
                 FieldUtils.getFieldClass(cellWriteHandlerContext.getOriginalValue()));
         converterAndSet(cellWriteHandlerContext);
+        prepareColumnStyle(cellWriteHandlerContext);
 
         WriteHandlerUtils.afterCellDispose(cellWriteHandlerContext);
     }
 
     private void addJavaObjectToExcel(Object oneRowData, Row row, int rowIndex, int relativeRowIndex) {
-        WriteHolder currentWriteHolder = writeContext.currentWriteHolder();
-        BeanMap beanMap = BeanMapUtils.create(oneRowData);
-        // Bean the contains of the Map Key method with poor performance,So to create a keySet here
-        Set<String> beanKeySet = new HashSet<>(beanMap.keySet());
-        Set<String> beanMapHandledSet = new HashSet<>();
-        int maxCellIndex = -1;
-        // If it's a class it needs to be cast by type
-        if (HeadKindEnum.CLASS.equals(
-                writeContext.currentWriteHolder().excelWriteHeadProperty().getHeadKind())) {
-            Map<Integer, Head> headMap =
-                    writeContext.currentWriteHolder().excelWriteHeadProperty().getHeadMap();
-            for (Map.Entry<Integer, Head> entry : headMap.entrySet()) {
-                int columnIndex = entry.getKey();
-                Head head = entry.getValue();
-                String name = head.getFieldName();
-                if (!beanKeySet.contains(name)) {
-                    continue;
-                }
+        WriteModelPlan writeModelPlan = writeModelPlan(oneRowData);
+        for (WriteModelPlan.Column column : writeModelPlan.getHeadColumns()) {
+            addJavaObjectCellToExcel(oneRowData, column, column.getColumnIndex(), row, rowIndex, relativeRowIndex);
+        }
+        int maxCellIndex = writeModelPlan.getFirstOtherColumnIndex();
+        for (WriteModelPlan.Column column : writeModelPlan.getOtherColumns()) {
+            // If there is data, it is written to the next cell
+            addJavaObjectCellToExcel(oneRowData, column, maxCellIndex++, row, rowIndex, relativeRowIndex);
+        }
+    }
 
-                ExcelContentProperty excelContentProperty = ClassUtils.declaredExcelContentProperty(
-                        beanMap, currentWriteHolder.excelWriteHeadProperty().getHeadClazz(), name, currentWriteHolder);
-                CellWriteHandlerContext cellWriteHandlerContext = WriteHandlerUtils.createCellWriteHandlerContext(
-                        writeContext,
-                        row,
-                        rowIndex,
-                        head,
-                        columnIndex,
-                        relativeRowIndex,
-                        Boolean.FALSE,
-                        excelContentProperty);
-                WriteHandlerUtils.beforeCellCreate(cellWriteHandlerContext);
+    private void addJavaObjectCellToExcel(
+            Object oneRowData,
+            WriteModelPlan.Column column,
+            int columnIndex,
+            Row row,
+            int rowIndex,
+            int relativeRowIndex) {
+        CellWriteHandlerContext cellWriteHandlerContext = cellWriteHandlerContext(
+                row, rowIndex, column.getHead(), columnIndex, relativeRowIndex, column.getExcelContentProperty());
+        WriteHandlerUtils.beforeCellCreate(cellWriteHandlerContext);
 
-                Cell cell = WorkBookUtil.createCell(row, columnIndex);
-                cellWriteHandlerContext.setCell(cell);
+        Cell cell = WorkBookUtil.createCell(row, columnIndex);
+        cellWriteHandlerContext.setCell(cell);
 
-                WriteHandlerUtils.afterCellCreate(cellWriteHandlerContext);
+        WriteHandlerUtils.afterCellCreate(cellWriteHandlerContext);
 
-                cellWriteHandlerContext.setOriginalValue(beanMap.get(name));
-                cellWriteHandlerContext.setOriginalFieldClass(head.getField().getType());
-                converterAndSet(cellWriteHandlerContext);
+        Object value = column.getValue(oneRowData);
+        cellWriteHandlerContext.setOriginalValue(value);
+        cellWriteHandlerContext.setOriginalFieldClass(
+                column.getFieldClass() == null ? FieldUtils.getFieldClass(value) : column.getFieldClass());
+        converterAndSet(cellWriteHandlerContext);
+        prepareColumnStyle(cellWriteHandlerContext);
 
-                WriteHandlerUtils.afterCellDispose(cellWriteHandlerContext);
+        WriteHandlerUtils.afterCellDispose(cellWriteHandlerContext);
+    }
 
-                beanMapHandledSet.add(name);
-                maxCellIndex = Math.max(maxCellIndex, columnIndex);
-            }
-        }
-        // Finish
-        if (beanMapHandledSet.size() == beanMap.size()) {
-            return;
+    /**
+     * Data cells without a style of their own may take the style of their column.
+     */
+    private void prepareColumnStyle(CellWriteHandlerContext cellWriteHandlerContext) {
+        ColumnStylePlan columnStylePlan =
+                ((AbstractWriteHolder) writeContext.currentWriteHolder()).getColumnStylePlan();
+        if (columnStylePlan != null) {
+            columnStylePlan.prepare(cellWriteHandlerContext);
         }
-        maxCellIndex++;
+    }
 
-        FieldCache fieldCache = ClassUtils.declaredFields(oneRowData.getClass(), writeContext.currentWriteHolder());
-        for (Map.Entry<Integer, FieldWrapper> entry :
-                fieldCache.getSortedFieldMap().entrySet()) {
-            FieldWrapper field = entry.getValue();
-            String fieldName = field.getFieldName();
-            boolean uselessData = !beanKeySet.contains(fieldName) || beanMapHandledSet.contains(fieldName);
-            if (uselessData) {
-                continue;
-            }
-            Object value = beanMap.get(fieldName);
-            ExcelContentProperty excelContentProperty = ClassUtils.declaredExcelContentProperty(
-                    beanMap, currentWriteHolder.excelWriteHeadProperty().getHeadClazz(), fieldName, currentWriteHolder);
-            CellWriteHandlerContext cellWriteHandlerContext = WriteHandlerUtils.createCellWriteHandlerContext(
+    /**
+     * The context of a data cell, reused for the cells of the same sheet and table when possible.
+     */
+    private CellWriteHandlerContext cellWriteHandlerContext(
+            Row row,
+            int rowIndex,
+            Head head,
+            int columnIndex,
+            int relativeRowIndex,
+            ExcelContentProperty excelContentProperty) {
+        if (!((AbstractWriteHolder) writeContext.currentWriteHolder()).isReuseCellWriteHandlerContext()) {
+            return WriteHandlerUtils.createCellWriteHandlerContext(
                     writeContext,
                     row,
                     rowIndex,
-                    null,
-                    maxCellIndex,
+                    head,
+                    columnIndex,
                     relativeRowIndex,
                     Boolean.FALSE,
                     excelContentProperty);
-            WriteHandlerUtils.beforeCellCreate(cellWriteHandlerContext);
-
-            // If there is data, it is written to the next cell
-            Cell cell = WorkBookUtil.createCell(row, maxCellIndex);
-            cellWriteHandlerContext.setCell(cell);
-
-            WriteHandlerUtils.afterCellCreate(cellWriteHandlerContext);
-
-            cellWriteHandlerContext.setOriginalValue(value);
-            cellWriteHandlerContext.setOriginalFieldClass(FieldUtils.getFieldClass(beanMap, fieldName, value));
-            converterAndSet(cellWriteHandlerContext);
+        }
+        CellWriteHandlerContext cellWriteHandlerContext = reusableCellWriteHandlerContext;
+        if (cellWriteHandlerContext == null
+                || cellWriteHandlerContext.getWriteSheetHolder() != writeContext.writeSheetHolder()
+                || cellWriteHandlerContext.getWriteTableHolder() != writeContext.writeTableHolder()) {
+            cellWriteHandlerContext = WriteHandlerUtils.createCellWriteHandlerContext(
+                    writeContext,
+                    row,
+                    rowIndex,
+                    head,
+                    columnIndex,
+                    relativeRowIndex,
+                    Boolean.FALSE,
+                    excelContentProperty);
+            reusableCellWriteHandlerContext = cellWriteHandlerContext;
+            return cellWriteHandlerContext;
+        }
+        cellWriteHandlerContext.reset(
+                row, rowIndex, columnIndex, relativeRowIndex, head, Boolean.FALSE, excelContentProperty);
+        return cellWriteHandlerContext;
+    }
 
-            WriteHandlerUtils.afterCellDispose(cellWriteHandlerContext);
-            maxCellIndex++;
+    /**
+     * The plan of the class of the row, built once for each class and write holder.
+     */
+    private WriteModelPlan writeModelPlan(Object oneRowData) {
+        WriteHolder currentWriteHolder = writeContext.currentWriteHolder();
+        Class<?> clazz = oneRowData.getClass();
+        WriteModelPlan writeModelPlan = writeModelPlanMap.get(clazz);
+        if (writeModelPlan == null || !writeModelPlan.isFor(clazz, currentWriteHolder)) {
+            writeModelPlan = WriteModelPlan.build(clazz, currentWriteHolder);
+            writeModelPlanMap.put(clazz, writeModelPlan);
         }
+        return writeModelPlan;
     }
 }
@@ -219,7 +219,7 @@ public class ExcelWriteFillExecutor extends AbstractExcelWriteExecutor {
         if (oneRowData instanceof Map) {
             dataMap = (Map) oneRowData;
         } else {
-            dataMap = BeanMapUtils.create(oneRowData);
+            dataMap = BeanMapUtils.createMap(oneRowData);
         }
         Set<String> dataKeySet = new HashSet<>(dataMap.keySet());
 
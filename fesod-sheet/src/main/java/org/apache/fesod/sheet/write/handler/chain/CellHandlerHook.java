@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.sheet.write.handler.chain;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.fesod.sheet.metadata.Head;
+import org.apache.fesod.sheet.metadata.data.WriteCellData;
+import org.apache.fesod.sheet.write.handler.AbstractCellWriteHandler;
+import org.apache.fesod.sheet.write.handler.CellWriteHandler;
+import org.apache.fesod.sheet.write.handler.context.CellWriteHandlerContext;
+import org.apache.fesod.sheet.write.metadata.holder.WriteSheetHolder;
+import org.apache.fesod.sheet.write.metadata.holder.WriteTableHolder;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
+
+/**
+ * The hooks of {@link CellWriteHandler}.
+ * <p>
+ * A handler implements a hook when its class overrides the method taking the context or the one taking the
+ * parameters, otherwise calling the hook does nothing and the handler is left out of the chain of the hook.
+ */
+public enum CellHandlerHook {
+    BEFORE_CELL_CREATE(
+            "beforeCellCreate",
+            WriteSheetHolder.class,
+            WriteTableHolder.class,
+            Row.class,
+            Head.class,
+            Integer.class,
+            Integer.class,
+            Boolean.class),
+    AFTER_CELL_CREATE(
+            "afterCellCreate",
+            WriteSheetHolder.class,
+            WriteTableHolder.class,
+            Cell.class,
+            Head.class,
+            Integer.class,
+            Boolean.class),
+    AFTER_CELL_DATA_CONVERTED(
+            "afterCellDataConverted",
+            WriteSheetHolder.class,
+            WriteTableHolder.class,
+            WriteCellData.class,
+            Cell.class,
+            Head.class,
+            Integer.class,
+            Boolean.class),
+    AFTER_CELL_DISPOSE(
+            "afterCellDispose",
+            WriteSheetHolder.class,
+            WriteTableHolder.class,
+            List.class,
+            Cell.class,
+            Head.class,
+            Integer.class,
+            Boolean.class),
+    ;
+
+    /**
+     * The hooks implemented by each handler class, one bit per hook.
+     */
+    private static final Map<Class<?>, Integer> IMPLEMENTED_HOOKS_CACHE = new ConcurrentHashMap<>();
+
+    private final String methodName;
+    private final Class<?>[] parameterTypes;
+
+    CellHandlerHook(String methodName, Class<?>... parameterTypes) {
+        this.methodName = methodName;
+        this.parameterTypes = parameterTypes;
+    }
+
+    /**
+     * Whether the handler does something in this hook.
+     *
+     * @param cellWriteHandler
+     * @return
+     */
+    public boolean isImplementedBy(CellWriteHandler cellWriteHandler) {
+        int implementedHooks =
+                IMPLEMENTED_HOOKS_CACHE.computeIfAbsent(cellWriteHandler.getClass(), CellHandlerHook::implementedHooks);
+        return (implementedHooks & (1 << ordinal())) != 0;
+    }
+
+    private static int implementedHooks(Class<?> clazz) {
+        int implementedHooks = 0;
+        for (CellHandlerHook hook : values()) {
+            if (hook.isImplementedBy(clazz)) {
+                implementedHooks |= 1 << hook.ordinal();
+            }
+        }
+        return implementedHooks;
+    }
+
+    private boolean isImplementedBy(Class<?> clazz) {
+        try {
+            Method method = clazz.getMethod(methodName, CellWriteHandlerContext.class);
+            if (method.getDeclaringClass() != CellWriteHandler.class) {
+                return true;
+            }
+            Class<?> declaringClass = clazz.getMethod(methodName, parameterTypes).getDeclaringClass();
+            return declaringClass != CellWriteHandler.class && declaringClass != AbstractCellWriteHandler.class;
+        } catch (NoSuchMethodException | SecurityException e) {
+            // Can not tell, call it
+            return true;
+        }
+    }
+}
@@ -38,13 +38,15 @@ import org.apache.fesod.sheet.write.handler.impl.FillStyleCellWriteHandler;
 import org.apache.fesod.sheet.write.metadata.holder.WriteSheetHolder;
 import org.apache.fesod.sheet.write.metadata.holder.WriteTableHolder;
 import org.apache.fesod.sheet.write.metadata.holder.WriteWorkbookHolder;
+import org.apache.fesod.sheet.write.style.ColumnStylePlan;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.Row;
 
 /**
  * cell context
- *
- *
+ * <p>
+ * When adding data without handlers that may keep the context, the same context is passed for every cell of a sheet.
+ * Do not keep it after the call returns.
  */
 @Getter
 @Setter
@@ -132,6 +134,14 @@ public class CellWriteHandlerContext {
      */
     private Boolean ignoreFillStyle;
 
+    /**
+     * The style of the content cell may be taken from the {@code ColumnStylePlan} of the holder, since the cell brings
+     * no style of its own.
+     *
+     * @see ColumnStylePlan
+     */
+    private Boolean columnStyle;
+
     public CellWriteHandlerContext(
             WriteContext writeContext,
             WriteWorkbookHolder writeWorkbookHolder,
@@ -162,4 +172,40 @@ public class CellWriteHandlerContext {
         this.head = head;
         this.excelContentProperty = excelContentProperty;
     }
+
+    /**
+     * Move the context to another cell of the same sheet and table, clearing what was set for the previous cell.
+     *
+     * @param row
+     * @param rowIndex
+     * @param columnIndex
+     * @param relativeRowIndex
+     * @param headData
+     * @param head
+     * @param excelContentProperty
+     */
+    public void reset(
+            Row row,
+            Integer rowIndex,
+            Integer columnIndex,
+            Integer relativeRowIndex,
+            Head headData,
+            Boolean head,
+            ExcelContentProperty excelContentProperty) {
+        this.row = row;
+        this.rowIndex = rowIndex;
+        this.cell = null;
+        this.columnIndex = columnIndex;
+        this.relativeRowIndex = relativeRowIndex;
+        this.headData = headData;
+        this.cellDataList = null;
+        this.firstCellData = null;
+        this.head = head;
+        this.excelContentProperty = excelContentProperty;
+        this.originalValue = null;
+        this.originalFieldClass = null;
+        this.targetCellDataType = null;
+        this.ignoreFillStyle = null;
+        this.columnStyle = null;
+    }
 }
@@ -31,8 +31,10 @@ import org.apache.fesod.sheet.constant.OrderConstant;
 import org.apache.fesod.sheet.metadata.data.WriteCellData;
 import org.apache.fesod.sheet.write.handler.CellWriteHandler;
 import org.apache.fesod.sheet.write.handler.context.CellWriteHandlerContext;
+import org.apache.fesod.sheet.write.metadata.holder.AbstractWriteHolder;
 import org.apache.fesod.sheet.write.metadata.holder.WriteWorkbookHolder;
 import org.apache.fesod.sheet.write.metadata.style.WriteCellStyle;
+import org.apache.fesod.sheet.write.style.ColumnStylePlan;
 import org.apache.poi.ss.usermodel.CellStyle;
 
 /**
@@ -60,11 +62,27 @@ public class FillStyleCellWriteHandler implements CellWriteHandler {
         }
         WriteCellStyle writeCellStyle = cellData.getWriteCellStyle();
         CellStyle originCellStyle = cellData.getOriginCellStyle();
+        ColumnStylePlan columnStylePlan =
+                ((AbstractWriteHolder) context.getWriteContext().currentWriteHolder()).getColumnStylePlan();
         if (writeCellStyle == null && originCellStyle == null) {
+            if (columnStylePlan == null) {
+                return;
+            }
+            if (!columnStylePlan.isResolved(context)) {
+                columnStylePlan.resolve(context, null);
+                return;
+            }
+            CellStyle cellStyle = columnStylePlan.cellStyle(context);
+            if (cellStyle != null) {
+                context.getCell().setCellStyle(cellStyle);
+            }
             return;
         }
         WriteWorkbookHolder writeWorkbookHolder = context.getWriteWorkbookHolder();
-        context.getCell()
-                .setCellStyle(writeWorkbookHolder.createCellStyle(writeCellStyle, originCellStyle, cellData.getType()));
+        CellStyle cellStyle = writeWorkbookHolder.createCellStyle(writeCellStyle, originCellStyle, cellData.getType());
+        context.getCell().setCellStyle(cellStyle);
+        if (columnStylePlan != null && !columnStylePlan.isResolved(context)) {
+            columnStylePlan.resolve(context, cellStyle);
+        }
     }
 }
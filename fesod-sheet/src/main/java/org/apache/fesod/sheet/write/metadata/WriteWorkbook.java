@@ -110,6 +110,34 @@ public class WriteWorkbook extends WriteBasicParameter {
      * Excel is also written in the event of an exception being thrown.The default false.
      */
     private Boolean writeExcelOnException;
+    /**
+     * Write the rows of the xlsx directly into the output stream, without a temporary file per sheet. Default is
+     * false.
+     * <p>
+     * Only work when writing without a template, a password or {@code inMemory}, and the sheets are written one after
+     * another.
+     */
+    private Boolean xlsxStreaming;
+    /**
+     * Deflate level of the parts of the xlsx, from -1 to 9. 0 stores the parts without compression. Default is the
+     * default level of the zip.
+     */
+    private Integer compressionLevel;
+    /**
+     * Compress the sheets of the xlsx on this many threads when the workbook is written. Default is 0, which
+     * compresses them on the writing thread.
+     */
+    private Integer compressionThreads;
+    /**
+     * Write the data in the background. The number of batches that may be handed over and not yet written, after that
+     * the next write waits. Default is 0, which writes on the calling thread.
+     */
+    private Integer asyncWriteQueueSize;
+    /**
+     * Get the data of the suppliers passed to the writer on this many threads while the earlier batches are written.
+     * Only used when writing in the background. Default is 0, which gets them on the writing thread.
+     */
+    private Integer asyncSupplierThreads;
     /**
      * Specifies CSVFormat for parsing.
      * Only work on the CSV file.
@@ -26,13 +26,14 @@
 package org.apache.fesod.sheet.write.metadata.holder;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -40,7 +41,7 @@ import lombok.Setter;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.fesod.sheet.constant.OrderConstant;
 import org.apache.fesod.sheet.converters.Converter;
-import org.apache.fesod.sheet.converters.ConverterKeyBuild;
+import org.apache.fesod.sheet.converters.ConverterRegistry;
 import org.apache.fesod.sheet.converters.DefaultConverterLoader;
 import org.apache.fesod.sheet.enums.HeadKindEnum;
 import org.apache.fesod.sheet.enums.HeaderMergeStrategy;
@@ -54,23 +55,32 @@ import org.apache.fesod.sheet.metadata.property.RowHeightProperty;
 import org.apache.fesod.sheet.metadata.property.SheetFreezePaneProperty;
 import org.apache.fesod.sheet.write.handler.CellWriteHandler;
 import org.apache.fesod.sheet.write.handler.DefaultWriteHandlerLoader;
+import org.apache.fesod.sheet.write.handler.EscapeHexCellWriteHandler;
 import org.apache.fesod.sheet.write.handler.RowWriteHandler;
 import org.apache.fesod.sheet.write.handler.SheetWriteHandler;
 import org.apache.fesod.sheet.write.handler.WorkbookWriteHandler;
 import org.apache.fesod.sheet.write.handler.WriteHandler;
 import org.apache.fesod.sheet.write.handler.chain.CellHandlerExecutionChain;
+import org.apache.fesod.sheet.write.handler.chain.CellHandlerHook;
 import org.apache.fesod.sheet.write.handler.chain.RowHandlerExecutionChain;
 import org.apache.fesod.sheet.write.handler.chain.SheetHandlerExecutionChain;
 import org.apache.fesod.sheet.write.handler.chain.WorkbookHandlerExecutionChain;
 import org.apache.fesod.sheet.write.handler.context.CellWriteHandlerContext;
+import org.apache.fesod.sheet.write.handler.impl.FillStyleCellWriteHandler;
 import org.apache.fesod.sheet.write.merge.LoopMergeStrategy;
 import org.apache.fesod.sheet.write.merge.OnceAbsoluteMergeStrategy;
 import org.apache.fesod.sheet.write.metadata.WriteBasicParameter;
 import org.apache.fesod.sheet.write.metadata.style.WriteCellStyle;
 import org.apache.fesod.sheet.write.property.ExcelWriteHeadProperty;
+import org.apache.fesod.sheet.write.style.AbstractCellStyleStrategy;
 import org.apache.fesod.sheet.write.style.AbstractVerticalCellStyleStrategy;
+import org.apache.fesod.sheet.write.style.DefaultStyle;
+import org.apache.fesod.sheet.write.style.HorizontalCellStyleStrategy;
+import org.apache.fesod.sheet.write.style.ColumnStylePlan;
 import org.apache.fesod.sheet.write.style.SheetFreezePaneStrategy;
 import org.apache.fesod.sheet.write.style.column.AbstractHeadColumnWidthStyleStrategy;
+import org.apache.fesod.sheet.write.style.column.LongestMatchColumnWidthStyleStrategy;
+import org.apache.fesod.sheet.write.style.column.SimpleColumnWidthStyleStrategy;
 import org.apache.fesod.sheet.write.style.row.SimpleRowHeightStyleStrategy;
 
 /**
@@ -81,6 +91,20 @@ import org.apache.fesod.sheet.write.style.row.SimpleRowHeightStyleStrategy;
 @EqualsAndHashCode
 @NoArgsConstructor
 public abstract class AbstractWriteHolder extends AbstractHolder implements WriteHolder {
+    /**
+     * The cell handlers of this library that only use the context during the call and do not style single cells.
+     * Their subclasses may do both, so the class must match exactly.
+     */
+    private static final Set<Class<?>> LIBRARY_CELL_WRITE_HANDLERS = new HashSet<>(Arrays.asList(
+            FillStyleCellWriteHandler.class,
+            EscapeHexCellWriteHandler.class,
+            HorizontalCellStyleStrategy.class,
+            DefaultStyle.class,
+            AnnotationCellStyleStrategy.class,
+            SimpleColumnWidthStyleStrategy.class,
+            LongestMatchColumnWidthStyleStrategy.class,
+            AnnotationColumnWidthStyleStrategy.class));
+
     /**
      * Need Head
      */
@@ -173,6 +197,25 @@ public abstract class AbstractWriteHolder extends AbstractHolder implements Writ
      */
     public CellHandlerExecutionChain cellHandlerExecutionChain;
 
+    /**
+     * Execute the cell handler chain of each {@link CellHandlerHook}, with only the handlers implementing the hook.
+     * Null if no handler implements it.
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private final CellHandlerExecutionChain[] cellHookHandlerExecutionChains =
+            new CellHandlerExecutionChain[CellHandlerHook.values().length];
+
+    /**
+     * The same {@link CellWriteHandlerContext} can be passed for each cell, since none of the cell handlers keeps it.
+     */
+    private boolean reuseCellWriteHandlerContext = true;
+
+    /**
+     * The styles of the content columns. Null when a cell handler may style single cells.
+     */
+    private ColumnStylePlan columnStylePlan = new ColumnStylePlan();
+
     public AbstractWriteHolder(WriteBasicParameter writeBasicParameter, AbstractWriteHolder parentAbstractWriteHolder) {
         super(writeBasicParameter, parentAbstractWriteHolder);
 
@@ -267,31 +310,19 @@ public abstract class AbstractWriteHolder extends AbstractHolder implements Writ
         this.excelWriteHeadProperty = new ExcelWriteHeadProperty(this, getClazz(), getHead());
 
         // Set converterMap
+        ConverterRegistry converterRegistry;
         if (parentAbstractWriteHolder == null) {
-            setConverterMap(DefaultConverterLoader.copyDefaultWriteConverter());
+            converterRegistry = DefaultConverterLoader.copyDefaultWriteConverterRegistry();
         } else {
-            setConverterMap(new HashMap<>(parentAbstractWriteHolder.getConverterMap()));
-            if (CollectionUtils.isNotEmpty(parentAbstractWriteHolder.getCustomConverterList())) {
-                for (Converter<?> converter : parentAbstractWriteHolder.getCustomConverterList()) {
-                    getConverterMap()
-                            .put(
-                                    ConverterKeyBuild.buildKey(
-                                            converter.supportJavaTypeKey(), converter.supportExcelTypeKey()),
-                                    converter);
-                }
-            }
+            converterRegistry = new ConverterRegistry(parentAbstractWriteHolder.getConverterMap());
+            converterRegistry.registerConverters(parentAbstractWriteHolder.getCustomConverterList());
         }
         if (writeBasicParameter.getCustomConverterList() != null
                 && !writeBasicParameter.getCustomConverterList().isEmpty()) {
             this.customConverterList = writeBasicParameter.getCustomConverterList();
-            for (Converter<?> converter : writeBasicParameter.getCustomConverterList()) {
-                getConverterMap()
-                        .put(
-                                ConverterKeyBuild.buildKey(
-                                        converter.supportJavaTypeKey(), converter.supportExcelTypeKey()),
-                                converter);
-            }
+            converterRegistry.registerConverters(writeBasicParameter.getCustomConverterList());
         }
+        setConverterMap(converterRegistry);
     }
 
     protected void initHandler(WriteBasicParameter writeBasicParameter, AbstractWriteHolder parentAbstractWriteHolder) {
@@ -348,29 +379,7 @@ public abstract class AbstractWriteHolder extends AbstractHolder implements Writ
     }
 
     private void dealStyle(List<WriteHandler> handlerList) {
-        WriteHandler styleStrategy = new AbstractVerticalCellStyleStrategy() {
-            @Override
-            public int order() {
-                return OrderConstant.ANNOTATION_DEFINE_STYLE;
-            }
-
-            @Override
-            protected WriteCellStyle headCellStyle(CellWriteHandlerContext context) {
-                Head head = context.getHeadData();
-                if (head == null) {
-                    return null;
-                }
-                return WriteCellStyle.build(head.getHeadStyleProperty(), head.getHeadFontProperty());
-            }
-
-            @Override
-            protected WriteCellStyle contentCellStyle(CellWriteHandlerContext context) {
-                ExcelContentProperty excelContentProperty = context.getExcelContentProperty();
-                return WriteCellStyle.build(
-                        excelContentProperty.getContentStyleProperty(), excelContentProperty.getContentFontProperty());
-            }
-        };
-        handlerList.add(styleStrategy);
+        handlerList.add(new AnnotationCellStyleStrategy());
     }
 
     private void dealLoopMerge(List<WriteHandler> handlerList, Head head) {
@@ -416,19 +425,7 @@ public abstract class AbstractWriteHolder extends AbstractHolder implements Writ
     }
 
     private void dealColumnWidth(List<WriteHandler> handlerList) {
-        WriteHandler columnWidthStyleStrategy = new AbstractHeadColumnWidthStyleStrategy() {
-            @Override
-            protected Integer columnWidth(Head head, Integer columnIndex) {
-                if (head == null) {
-                    return null;
-                }
-                if (head.getColumnWidthProperty() != null) {
-                    return head.getColumnWidthProperty().getWidth();
-                }
-                return null;
-            }
-        };
-        handlerList.add(columnWidthStyleStrategy);
+        handlerList.add(new AnnotationColumnWidthStyleStrategy());
     }
 
     protected void sortAndClearUpHandler(List<WriteHandler> handlerList, boolean runOwn) {
@@ -472,10 +469,28 @@ public abstract class AbstractWriteHolder extends AbstractHolder implements Writ
     protected void buildChain(WriteHandler writeHandler, boolean runOwn) {
         if (writeHandler instanceof CellWriteHandler) {
             if (!runOwn) {
+                CellWriteHandler cellWriteHandler = (CellWriteHandler) writeHandler;
                 if (cellHandlerExecutionChain == null) {
-                    cellHandlerExecutionChain = new CellHandlerExecutionChain((CellWriteHandler) writeHandler);
+                    cellHandlerExecutionChain = new CellHandlerExecutionChain(cellWriteHandler);
                 } else {
-                    cellHandlerExecutionChain.addLast((CellWriteHandler) writeHandler);
+                    cellHandlerExecutionChain.addLast(cellWriteHandler);
+                }
+                for (CellHandlerHook hook : CellHandlerHook.values()) {
+                    if (!hook.isImplementedBy(cellWriteHandler)) {
+                        continue;
+                    }
+                    if (cellHookHandlerExecutionChains[hook.ordinal()] == null) {
+                        cellHookHandlerExecutionChains[hook.ordinal()] =
+                                new CellHandlerExecutionChain(cellWriteHandler);
+                    } else {
+                        cellHookHandlerExecutionChains[hook.ordinal()].addLast(cellWriteHandler);
+                    }
+                }
+                if (mayKeepCellWriteHandlerContext(cellWriteHandler)) {
+                    reuseCellWriteHandlerContext = false;
+                }
+                if (mayStyleSingleCell(cellWriteHandler)) {
+                    columnStylePlan = null;
                 }
             }
         }
@@ -525,6 +540,38 @@ public abstract class AbstractWriteHolder extends AbstractHolder implements Writ
         }
     }
 
+    /**
+     * The cell handler chain of the hook.
+     *
+     * @param hook
+     * @return null if no handler implements the hook
+     */
+    public CellHandlerExecutionChain cellHandlerExecutionChain(CellHandlerHook hook) {
+        return cellHookHandlerExecutionChains[hook.ordinal()];
+    }
+
+    /**
+     * The handlers of this library only use the context during the call.
+     */
+    private static boolean mayKeepCellWriteHandlerContext(CellWriteHandler cellWriteHandler) {
+        return !LIBRARY_CELL_WRITE_HANDLERS.contains(cellWriteHandler.getClass());
+    }
+
+    /**
+     * Style strategies tell whether they only style by column. Other handlers may change the data of the cell once it
+     * is converted, except the ones of this library that do not touch the style.
+     */
+    private static boolean mayStyleSingleCell(CellWriteHandler cellWriteHandler) {
+        if (cellWriteHandler instanceof AbstractCellStyleStrategy) {
+            return !((AbstractCellStyleStrategy) cellWriteHandler).isColumnStyle();
+        }
+        if (LIBRARY_CELL_WRITE_HANDLERS.contains(cellWriteHandler.getClass())) {
+            return false;
+        }
+        return CellHandlerHook.AFTER_CELL_DATA_CONVERTED.isImplementedBy(cellWriteHandler)
+                || CellHandlerHook.AFTER_CELL_DISPOSE.isImplementedBy(cellWriteHandler);
+    }
+
     @Override
     public boolean ignore(String fieldName, Integer columnIndex) {
         if (fieldName != null) {
@@ -599,4 +646,51 @@ public abstract class AbstractWriteHolder extends AbstractHolder implements Writ
     public Collection<String> excludeColumnFieldNames() {
         return getExcludeColumnFieldNames();
     }
+
+    /**
+     * Styles the cells with the style annotations of the head.
+     */
+    private static class AnnotationCellStyleStrategy extends AbstractVerticalCellStyleStrategy {
+        @Override
+        public int order() {
+            return OrderConstant.ANNOTATION_DEFINE_STYLE;
+        }
+
+        @Override
+        public boolean isColumnStyle() {
+            return true;
+        }
+
+        @Override
+        protected WriteCellStyle headCellStyle(CellWriteHandlerContext context) {
+            Head head = context.getHeadData();
+            if (head == null) {
+                return null;
+            }
+            return WriteCellStyle.build(head.getHeadStyleProperty(), head.getHeadFontProperty());
+        }
+
+        @Override
+        protected WriteCellStyle contentCellStyle(CellWriteHandlerContext context) {
+            ExcelContentProperty excelContentProperty = context.getExcelContentProperty();
+            return WriteCellStyle.build(
+                    excelContentProperty.getContentStyleProperty(), excelContentProperty.getContentFontProperty());
+        }
+    }
+
+    /**
+     * Sets the column widths of the column width annotations of the head.
+     */
+    private static class AnnotationColumnWidthStyleStrategy extends AbstractHeadColumnWidthStyleStrategy {
+        @Override
+        protected Integer columnWidth(Head head, Integer columnIndex) {
+            if (head == null) {
+                return null;
+            }
+            if (head.getColumnWidthProperty() != null) {
+                return head.getColumnWidthProperty().getWidth();
+            }
+            return null;
+        }
+    }
 }
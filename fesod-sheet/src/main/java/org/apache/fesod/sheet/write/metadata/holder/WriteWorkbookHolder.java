@@ -168,6 +168,26 @@ public class WriteWorkbookHolder extends AbstractWriteHolder {
      * Excel is also written in the event of an exception being thrown.The default false.
      */
     private Boolean writeExcelOnException;
+    /**
+     * Write the rows of the xlsx directly into the output stream.
+     */
+    private Boolean xlsxStreaming;
+    /**
+     * Deflate level of the parts of the xlsx, null is the default level.
+     */
+    private Integer compressionLevel;
+    /**
+     * Compress the sheets of the xlsx on this many threads.
+     */
+    private Integer compressionThreads;
+    /**
+     * The number of batches waiting to be written in the background, 0 writes on the calling thread.
+     */
+    private Integer asyncWriteQueueSize;
+    /**
+     * Get the data of the suppliers on this many threads when writing in the background.
+     */
+    private Integer asyncSupplierThreads;
 
     /**
      * Used to cell style.
@@ -265,6 +285,23 @@ public class WriteWorkbookHolder extends AbstractWriteHolder {
         } else {
             this.writeExcelOnException = writeWorkbook.getWriteExcelOnException();
         }
+        this.xlsxStreaming = Boolean.TRUE.equals(writeWorkbook.getXlsxStreaming());
+        this.compressionLevel = writeWorkbook.getCompressionLevel();
+        if (writeWorkbook.getCompressionThreads() == null) {
+            this.compressionThreads = 0;
+        } else {
+            this.compressionThreads = writeWorkbook.getCompressionThreads();
+        }
+        if (writeWorkbook.getAsyncWriteQueueSize() == null) {
+            this.asyncWriteQueueSize = 0;
+        } else {
+            this.asyncWriteQueueSize = writeWorkbook.getAsyncWriteQueueSize();
+        }
+        if (writeWorkbook.getAsyncSupplierThreads() == null) {
+            this.asyncSupplierThreads = 0;
+        } else {
+            this.asyncSupplierThreads = writeWorkbook.getAsyncSupplierThreads();
+        }
         this.cellStyleIndexMap = MapUtils.newHashMap();
         this.fontMap = MapUtils.newHashMap();
         this.dataFormatMap = MapUtils.newHashMap();
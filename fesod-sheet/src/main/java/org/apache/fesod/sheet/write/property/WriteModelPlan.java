@@ -0,0 +1,205 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.sheet.write.property;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.Getter;
+import org.apache.fesod.sheet.enums.HeadKindEnum;
+import org.apache.fesod.sheet.metadata.FieldCache;
+import org.apache.fesod.sheet.metadata.FieldWrapper;
+import org.apache.fesod.sheet.metadata.Head;
+import org.apache.fesod.sheet.metadata.bean.BeanAccessor;
+import org.apache.fesod.sheet.metadata.bean.BeanAccessors;
+import org.apache.fesod.sheet.metadata.property.ExcelContentProperty;
+import org.apache.fesod.sheet.util.ClassUtils;
+import org.apache.fesod.sheet.write.metadata.holder.WriteHolder;
+
+/**
+ * The cells written for the objects of a class, resolved once for each write holder.
+ * <p>
+ * The head columns are written first, then the other properties of the class in field order after the last head
+ * column.
+ */
+@Getter
+public class WriteModelPlan {
+
+    private final Class<?> clazz;
+    private final WriteHolder writeHolder;
+    private final Map<Integer, Head> headMap;
+    /**
+     * The columns of the head, in head order.
+     */
+    private final Column[] headColumns;
+    /**
+     * The properties that are not in the head, written one after another.
+     */
+    private final Column[] otherColumns;
+    /**
+     * The column index of the first property that is not in the head.
+     */
+    private final int firstOtherColumnIndex;
+
+    private WriteModelPlan(
+            Class<?> clazz,
+            WriteHolder writeHolder,
+            Map<Integer, Head> headMap,
+            Column[] headColumns,
+            Column[] otherColumns,
+            int firstOtherColumnIndex) {
+        this.clazz = clazz;
+        this.writeHolder = writeHolder;
+        this.headMap = headMap;
+        this.headColumns = headColumns;
+        this.otherColumns = otherColumns;
+        this.firstOtherColumnIndex = firstOtherColumnIndex;
+    }
+
+    /**
+     * Build the plan of a class.
+     *
+     * @param clazz       the class of the objects
+     * @param writeHolder
+     * @return
+     */
+    public static WriteModelPlan build(Class<?> clazz, WriteHolder writeHolder) {
+        ExcelWriteHeadProperty excelWriteHeadProperty = writeHolder.excelWriteHeadProperty();
+        Class<?> headClazz = excelWriteHeadProperty.getHeadClazz();
+        Map<Integer, Head> headMap = excelWriteHeadProperty.getHeadMap();
+        @SuppressWarnings("unchecked")
+        BeanAccessor<Object> beanAccessor = BeanAccessors.get((Class<Object>) clazz);
+        String[] propertyNames = beanAccessor.getPropertyNames();
+
+        Set<String> handledSet = new HashSet<>();
+        List<Column> headColumnList = new ArrayList<>();
+        int maxCellIndex = -1;
+        if (HeadKindEnum.CLASS.equals(excelWriteHeadProperty.getHeadKind())) {
+            for (Map.Entry<Integer, Head> entry : headMap.entrySet()) {
+                int columnIndex = entry.getKey();
+                Head head = entry.getValue();
+                String name = head.getFieldName();
+                int propertyIndex = beanAccessor.indexOf(name);
+                if (propertyIndex < 0) {
+                    continue;
+                }
+                headColumnList.add(new Column(
+                        columnIndex,
+                        head,
+                        name,
+                        ClassUtils.declaredClassExcelContentProperty(clazz, headClazz, name, writeHolder),
+                        beanAccessor,
+                        propertyIndex,
+                        head.getField().getType()));
+                handledSet.add(name);
+                maxCellIndex = Math.max(maxCellIndex, columnIndex);
+            }
+        }
+
+        List<Column> otherColumnList = new ArrayList<>();
+        if (handledSet.size() != propertyNames.length) {
+            FieldCache fieldCache = ClassUtils.declaredFields(clazz, writeHolder);
+            for (FieldWrapper field : fieldCache.getSortedFieldMap().values()) {
+                String fieldName = field.getFieldName();
+                int propertyIndex = beanAccessor.indexOf(fieldName);
+                if (propertyIndex < 0 || handledSet.contains(fieldName)) {
+                    continue;
+                }
+                otherColumnList.add(new Column(
+                        -1,
+                        null,
+                        fieldName,
+                        ClassUtils.declaredClassExcelContentProperty(clazz, headClazz, fieldName, writeHolder),
+                        beanAccessor,
+                        propertyIndex,
+                        beanAccessor.getPropertyType(propertyIndex)));
+            }
+        }
+        return new WriteModelPlan(
+                clazz,
+                writeHolder,
+                headMap,
+                headColumnList.toArray(new Column[0]),
+                otherColumnList.toArray(new Column[0]),
+                maxCellIndex + 1);
+    }
+
+    /**
+     * Whether the plan can write the objects of the class with the write holder.
+     *
+     * @param clazz
+     * @param writeHolder
+     * @return
+     */
+    public boolean isFor(Class<?> clazz, WriteHolder writeHolder) {
+        return this.clazz == clazz
+                && this.writeHolder == writeHolder
+                && headMap == writeHolder.excelWriteHeadProperty().getHeadMap();
+    }
+
+    @Getter
+    public static final class Column {
+        /**
+         * -1 for the properties that are not in the head.
+         */
+        private final int columnIndex;
+        /**
+         * Null for the properties that are not in the head.
+         */
+        private final Head head;
+        private final String fieldName;
+        private final ExcelContentProperty excelContentProperty;
+        private final BeanAccessor<Object> beanAccessor;
+        private final int propertyIndex;
+        /**
+         * Null if the class of the value is used.
+         */
+        private final Class<?> fieldClass;
+
+        private Column(
+                int columnIndex,
+                Head head,
+                String fieldName,
+                ExcelContentProperty excelContentProperty,
+                BeanAccessor<Object> beanAccessor,
+                int propertyIndex,
+                Class<?> fieldClass) {
+            this.columnIndex = columnIndex;
+            this.head = head;
+            this.fieldName = fieldName;
+            this.excelContentProperty = excelContentProperty;
+            this.beanAccessor = beanAccessor;
+            this.propertyIndex = propertyIndex;
+            this.fieldClass = fieldClass;
+        }
+
+        /**
+         * Read the value of the property.
+         *
+         * @param bean
+         * @return
+         */
+        public Object getValue(Object bean) {
+            return beanAccessor.get(bean, propertyIndex);
+        }
+    }
+}
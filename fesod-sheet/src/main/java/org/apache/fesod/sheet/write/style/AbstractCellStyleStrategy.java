@@ -29,6 +29,7 @@ import org.apache.fesod.sheet.constant.OrderConstant;
 import org.apache.fesod.sheet.metadata.Head;
 import org.apache.fesod.sheet.write.handler.CellWriteHandler;
 import org.apache.fesod.sheet.write.handler.context.CellWriteHandlerContext;
+import org.apache.fesod.sheet.write.metadata.holder.AbstractWriteHolder;
 import org.apache.poi.ss.usermodel.Cell;
 
 /**
@@ -51,10 +52,30 @@ public abstract class AbstractCellStyleStrategy implements CellWriteHandler {
         if (context.getHead()) {
             setHeadCellStyle(context);
         } else {
+            if (isColumnStyle() && columnStyleResolved(context)) {
+                return;
+            }
             setContentCellStyle(context);
         }
     }
 
+    /**
+     * Whether the styles only depend on the head and the column, not on the row or the data of the cell. Then the
+     * content style of a column is built for its first cell and given as it is to the other cells of the column.
+     *
+     * @return false by default, so each cell is styled
+     * @see ColumnStylePlan
+     */
+    public boolean isColumnStyle() {
+        return false;
+    }
+
+    private static boolean columnStyleResolved(CellWriteHandlerContext context) {
+        ColumnStylePlan columnStylePlan =
+                ((AbstractWriteHolder) context.getWriteContext().currentWriteHolder()).getColumnStylePlan();
+        return columnStylePlan != null && columnStylePlan.isResolved(context);
+    }
+
     /**
      * Sets the cell style of header
      *
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.sheet.write.style;
+
+import java.util.Arrays;
+import org.apache.fesod.common.util.BooleanUtils;
+import org.apache.fesod.sheet.metadata.data.WriteCellData;
+import org.apache.fesod.sheet.metadata.property.ExcelContentProperty;
+import org.apache.fesod.sheet.write.handler.context.CellWriteHandlerContext;
+import org.apache.poi.ss.usermodel.CellStyle;
+
+/**
+ * The styles of the content columns of a write holder, used when every style strategy of the holder only styles by
+ * column.
+ * <p>
+ * The style of a column is built with the strategies for its first cell and then given to the other cells of the
+ * column as it is, without merging {@code WriteCellStyle} objects or looking them up in the workbook. Cells that bring
+ * their own style, such as a data format, still go through the strategies.
+ *
+ * @see AbstractCellStyleStrategy#isColumnStyle()
+ */
+public class ColumnStylePlan {
+
+    private Column[] columns = new Column[16];
+
+    /**
+     * Mark whether the style of the content cell can come from the plan, after its data is converted.
+     *
+     * @param context
+     */
+    public void prepare(CellWriteHandlerContext context) {
+        WriteCellData<?> cellData = context.getFirstCellData();
+        context.setColumnStyle(BooleanUtils.isFalse(context.getHead())
+                && !BooleanUtils.isTrue(context.getIgnoreFillStyle())
+                && cellData != null
+                && cellData.getWriteCellStyle() == null
+                && cellData.getOriginCellStyle() == null);
+    }
+
+    /**
+     * Whether the style of the column of the cell is already resolved.
+     *
+     * @param context
+     * @return
+     */
+    public boolean isResolved(CellWriteHandlerContext context) {
+        return column(context) != null;
+    }
+
+    /**
+     * The resolved style of the column of the cell.
+     *
+     * @param context
+     * @return null if the column has no style
+     */
+    public CellStyle cellStyle(CellWriteHandlerContext context) {
+        return column(context).cellStyle;
+    }
+
+    /**
+     * Keep the style built for the first cell of a column.
+     *
+     * @param context
+     * @param cellStyle null if the column has no style
+     */
+    public void resolve(CellWriteHandlerContext context, CellStyle cellStyle) {
+        if (!BooleanUtils.isTrue(context.getColumnStyle())) {
+            return;
+        }
+        int columnIndex = context.getColumnIndex();
+        if (columnIndex >= columns.length) {
+            columns = Arrays.copyOf(columns, Math.max(columns.length * 2, columnIndex + 1));
+        }
+        columns[columnIndex] = new Column(context.getExcelContentProperty(), cellStyle);
+    }
+
+    private Column column(CellWriteHandlerContext context) {
+        if (!BooleanUtils.isTrue(context.getColumnStyle())) {
+            return null;
+        }
+        int columnIndex = context.getColumnIndex();
+        if (columnIndex >= columns.length) {
+            return null;
+        }
+        Column column = columns[columnIndex];
+        // Rows of another class may have other annotations in the same column
+        if (column == null || column.excelContentProperty != context.getExcelContentProperty()) {
+            return null;
+        }
+        return column;
+    }
+
+    private static final class Column {
+        private final ExcelContentProperty excelContentProperty;
+        private final CellStyle cellStyle;
+
+        private Column(ExcelContentProperty excelContentProperty, CellStyle cellStyle) {
+            this.excelContentProperty = excelContentProperty;
+            this.cellStyle = cellStyle;
+        }
+    }
+}
@@ -87,6 +87,18 @@ public class HorizontalCellStyleStrategy extends AbstractCellStyleStrategy {
         }
     }
 
+    /**
+     * A single content style is the same for each row. Subclasses may style single cells, so they are styled by cell
+     * unless they say otherwise.
+     *
+     * @return
+     */
+    @Override
+    public boolean isColumnStyle() {
+        return (getClass() == HorizontalCellStyleStrategy.class || getClass() == DefaultStyle.class)
+                && CollectionUtils.size(contentWriteCellStyleList) <= 1;
+    }
+
     protected boolean stopProcessing(CellWriteHandlerContext context) {
         return context.getFirstCellData() == null;
     }
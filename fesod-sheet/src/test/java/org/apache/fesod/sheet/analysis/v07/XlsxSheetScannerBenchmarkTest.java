@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.sheet.analysis.v07;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import javax.xml.parsers.SAXParser;
+import javax.xml.parsers.SAXParserFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fesod.sheet.testkit.Tags;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.xml.sax.Attributes;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * Compares the time to parse a sheet part with {@link XlsxSheetScanner} and with the SAX parser, without reading the
+ * cells into a workbook. Only run with {@code mvn test -Pbenchmark}.
+ */
+@Tag(Tags.BENCHMARK)
+@Slf4j
+class XlsxSheetScannerBenchmarkTest {
+
+    private static final int ROWS = 100000;
+    private static final int RUNS = 5;
+
+    @Test
+    void test_scannerFasterThanSaxParser() throws Exception {
+        byte[] sheet = sheet();
+        SAXParser saxParser = SAXParserFactory.newInstance().newSAXParser();
+        long saxBest = Long.MAX_VALUE;
+        long scannerBest = Long.MAX_VALUE;
+        for (int run = 0; run < RUNS; run++) {
+            CountingHandler saxHandler = new CountingHandler();
+            long start = System.nanoTime();
+            saxParser.parse(new ByteArrayInputStream(sheet), saxHandler);
+            saxBest = Math.min(saxBest, System.nanoTime() - start);
+
+            CountingHandler scannerHandler = new CountingHandler();
+            start = System.nanoTime();
+            Assertions.assertTrue(new XlsxSheetScanner(new ByteArrayInputStream(sheet), scannerHandler).parse());
+            scannerBest = Math.min(scannerBest, System.nanoTime() - start);
+
+            Assertions.assertEquals(ROWS * 5, saxHandler.cells);
+            Assertions.assertEquals(saxHandler.cells, scannerHandler.cells);
+            Assertions.assertEquals(saxHandler.chars, scannerHandler.chars);
+        }
+        log.info(
+                "Parse {} MB of sheet, SAX parser: {} ms, byte scanner: {} ms",
+                sheet.length >> 20,
+                saxBest / 1000000,
+                scannerBest / 1000000);
+        Assertions.assertTrue(scannerBest < saxBest);
+    }
+
+    private static byte[] sheet() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(ROWS * 256);
+        StringBuilder xml = new StringBuilder(
+                "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n<worksheet"
+                        + " xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\"><sheetData>");
+        for (int row = 1; row <= ROWS; row++) {
+            xml.append("<row r=\"").append(row).append("\" spans=\"1:5\">");
+            xml.append("<c r=\"A").append(row).append("\" t=\"s\"><v>").append(row % 1000).append("</v></c>");
+            xml.append("<c r=\"B").append(row).append("\" s=\"1\"><v>").append(row * 1.25D).append("</v></c>");
+            xml.append("<c r=\"C").append(row).append("\" t=\"inlineStr\"><is><t>Name ").append(row);
+            xml.append("</t></is></c>");
+            xml.append("<c r=\"D").append(row).append("\"><f>B").append(row).append("*2</f><v>");
+            xml.append(row * 2.5D).append("</v></c>");
+            xml.append("<c r=\"E").append(row).append("\" t=\"b\"><v>").append(row & 1).append("</v></c>");
+            xml.append("</row>");
+            if (xml.length() > 64 * 1024) {
+                write(out, xml);
+            }
+        }
+        xml.append("</sheetData></worksheet>");
+        write(out, xml);
+        return out.toByteArray();
+    }
+
+    private static void write(ByteArrayOutputStream out, StringBuilder xml) {
+        byte[] bytes = xml.toString().getBytes(StandardCharsets.UTF_8);
+        out.write(bytes, 0, bytes.length);
+        xml.setLength(0);
+    }
+
+    /**
+     * Reads the attributes a sheet handler needs.
+     */
+    private static class CountingHandler extends DefaultHandler {
+        private int cells;
+        private long chars;
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attributes) {
+            if ("c".equals(qName)) {
+                cells++;
+                chars += attributes.getValue("r").length();
+                String type = attributes.getValue("t");
+                if (type != null) {
+                    chars += type.length();
+                }
+            }
+        }
+
+        @Override
+        public void characters(char[] ch, int start, int length) {
+            chars += length;
+        }
+    }
+}
@@ -0,0 +1,283 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.sheet.analysis.v07;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import javax.xml.parsers.SAXParserFactory;
+import org.apache.fesod.sheet.FesodSheet;
+import org.apache.fesod.sheet.exception.ExcelAnalysisException;
+import org.apache.fesod.sheet.testkit.Tags;
+import org.apache.fesod.sheet.testkit.base.AbstractExcelTest;
+import org.apache.fesod.sheet.testkit.enums.ExcelFormat;
+import org.apache.fesod.sheet.testkit.helpers.XlsxRewriteHelper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.xml.sax.Attributes;
+import org.xml.sax.ContentHandler;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * Tests {@link XlsxSheetScanner}
+ */
+@Tag(Tags.UNIT)
+class XlsxSheetScannerTest extends AbstractExcelTest {
+
+    private static final String NAMESPACE = "http://schemas.openxmlformats.org/spreadsheetml/2006/main";
+
+    @ParameterizedTest
+    @ValueSource(
+            strings = {
+                "<worksheet xmlns=\"" + NAMESPACE + "\"><sheetData/></worksheet>",
+                "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\r\n<worksheet xmlns=\"" + NAMESPACE
+                        + "\"><sheetData><row r=\"1\"><c r=\"A1\" s=\"2\" t=\"s\"><v>0</v></c>"
+                        + "<c r='B1' t=\"inlineStr\"><is><t xml:space=\"preserve\"> a &amp; b &lt;&gt; &#20540;&#x1F600;"
+                        + "</t></is></c><c r=\"C1\"><f>SUM(A1:B1)&gt;0</f><v>1.5</v></c><c r=\"D1\"/></row>"
+                        + "</sheetData></worksheet>",
+                "﻿<x:worksheet xmlns:x=\"" + NAMESPACE + "\"><!-- a <comment> --><x:sheetData>"
+                        + "<x:row r=\"2\" spans=\"1:2\"><x:c r=\"A2\" t=\"str\"><x:v><![CDATA[x]]y<z>]]></x:v></x:c>"
+                        + "<x:c r=\"B2\" t=\"inlineStr\"><x:is><x:t>line1\r\nline2\rline3\n值😀</x:t></x:is></x:c>"
+                        + "</x:row></x:sheetData><?pi data?><x:mergeCells count=\"1\"><x:mergeCell ref=\"A1:B2\" />"
+                        + "</x:mergeCells><x:hyperlinks><x:hyperlink ref=\"A1\" r:id=\"rId1\" display=\"a\tb\r\nc\"/>"
+                        + "</x:hyperlinks></x:worksheet>"
+            })
+    void test_sameEventsAsSaxParser(String xml) throws Exception {
+        byte[] bytes = xml.getBytes(StandardCharsets.UTF_8);
+
+        RecordingHandler scanned = new RecordingHandler();
+        Assertions.assertTrue(new XlsxSheetScanner(new ByteArrayInputStream(bytes), scanned).parse());
+        RecordingHandler parsed = new RecordingHandler();
+        SAXParserFactory.newInstance().newSAXParser().parse(new ByteArrayInputStream(bytes), parsed);
+
+        Assertions.assertEquals(parsed.events(), scanned.events());
+    }
+
+    @Test
+    void test_notUtf8() throws Exception {
+        byte[] bytes = ("<?xml version=\"1.0\" encoding=\"ISO-8859-1\"?><worksheet><sheetData/></worksheet>")
+                .getBytes(StandardCharsets.ISO_8859_1);
+        RecordingHandler scanned = new RecordingHandler();
+        XlsxSheetScanner scanner = new XlsxSheetScanner(new ByteArrayInputStream(bytes), scanned);
+
+        Assertions.assertFalse(scanner.parse());
+        Assertions.assertTrue(scanned.events().isEmpty());
+        saxParse(bytes, scanner.replayHandler());
+        RecordingHandler parsed = new RecordingHandler();
+        SAXParserFactory.newInstance().newSAXParser().parse(new ByteArrayInputStream(bytes), parsed);
+        Assertions.assertEquals(parsed.events(), scanned.events());
+    }
+
+    @Test
+    void test_invalid() {
+        for (String xml : new String[] {
+            "<!DOCTYPE worksheet><worksheet/>",
+            "<worksheet><c r=\"A1></worksheet>",
+            "<worksheet>&unknown;</worksheet>",
+            "<worksheet><row></sheetData></worksheet>",
+            "<worksheet><row>",
+            "<worksheet/><worksheet/>",
+            "text<worksheet/>",
+            ""
+        }) {
+            XlsxSheetScanner scanner = new XlsxSheetScanner(
+                    new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)), new RecordingHandler());
+            Assertions.assertThrows(XlsxSheetScanner.ScanException.class, scanner::parse, xml);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+            strings = {
+                // A character reference too long for the scanner, after some text was reported
+                "<worksheet><sheetData><row r=\"1\"><c r=\"A1\" t=\"inlineStr\"><is><t>a<![CDATA[b]]>c&#x00000000041;"
+                        + "</t></is></c></row><row r=\"2\"><c r=\"A2\"><v>2</v></c></row></sheetData></worksheet>",
+                // The scanner fails on the second root element, the SAX parser on it too
+                "<worksheet><sheetData><row r=\"1\"/></sheetData></worksheet><worksheet/>"
+            })
+    void test_replayAfterScanError(String xml) throws Exception {
+        byte[] bytes = xml.getBytes(StandardCharsets.UTF_8);
+        RecordingHandler parsed = new RecordingHandler();
+        Exception parseException = null;
+        try {
+            SAXParserFactory.newInstance().newSAXParser().parse(new ByteArrayInputStream(bytes), parsed);
+        } catch (SAXException e) {
+            parseException = e;
+        }
+
+        RecordingHandler scanned = new RecordingHandler();
+        XlsxSheetScanner scanner = new XlsxSheetScanner(new ByteArrayInputStream(bytes), scanned);
+        Assertions.assertThrows(XlsxSheetScanner.ScanException.class, scanner::parse);
+        Exception replayException = null;
+        try {
+            saxParse(bytes, scanner.replayHandler());
+        } catch (SAXException e) {
+            replayException = e;
+        }
+
+        Assertions.assertEquals(parsed.events(), scanned.events());
+        Assertions.assertEquals(parseException == null, replayException == null);
+    }
+
+    @Test
+    @Tag(Tags.ROUND_TRIP)
+    void test_read_scanErrorParsedAgain() throws Exception {
+        File file = createTempFile("scan", ExcelFormat.XLSX);
+        List<List<Object>> rows = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            rows.add(Arrays.asList("Name" + i, i));
+        }
+        FesodSheet.write(file).sheet().doWrite(rows);
+        File unsupportedFile = createTempFile("scanUnsupported", ExcelFormat.XLSX);
+        // A character reference with leading zeros, that only the SAX parser reads
+        XlsxRewriteHelper.replaceInSheets(file, unsupportedFile, "<v>50.0</v>", "<v>&#x0000000000035;0.0</v>");
+
+        List<Map<Integer, String>> expected = FesodSheet.read(file).headRowNumber(0).sheet().doReadSync();
+        List<Map<Integer, String>> parsed =
+                FesodSheet.read(unsupportedFile).headRowNumber(0).sheet().doReadSync();
+        List<Map<Integer, String>> scanned = FesodSheet.read(unsupportedFile)
+                .xlsxByteScanner(true)
+                .headRowNumber(0)
+                .sheet()
+                .doReadSync();
+
+        List<Map<Integer, String>> streamed;
+        try (InputStream inputStream = new FileInputStream(unsupportedFile)) {
+            streamed = FesodSheet.read(inputStream)
+                    .xlsxStreaming(true)
+                    .xlsxByteScanner(true)
+                    .headRowNumber(0)
+                    .sheet()
+                    .doReadSync();
+        }
+
+        Assertions.assertEquals(rows.size(), expected.size());
+        Assertions.assertEquals(expected, parsed);
+        Assertions.assertEquals(expected, scanned);
+        Assertions.assertEquals(expected, streamed);
+    }
+
+    @Test
+    @Tag(Tags.ROUND_TRIP)
+    void test_read_notWellFormed() throws Exception {
+        File file = createTempFile("scan", ExcelFormat.XLSX);
+        FesodSheet.write(file).sheet().doWrite(Collections.singletonList(Arrays.asList("a", 1)));
+        File invalidFile = createTempFile("scanInvalid", ExcelFormat.XLSX);
+        XlsxRewriteHelper.replaceInSheets(file, invalidFile, "</row>", "</c>");
+
+        ExcelAnalysisException exception = Assertions.assertThrows(ExcelAnalysisException.class, () -> FesodSheet.read(
+                        invalidFile)
+                .xlsxByteScanner(true)
+                .headRowNumber(0)
+                .sheet()
+                .doReadSync());
+
+        // Reported by the SAX parser
+        Assertions.assertFalse(exception instanceof XlsxSheetScanner.ScanException);
+        Assertions.assertInstanceOf(SAXException.class, exception.getCause());
+    }
+
+    @ParameterizedTest
+    @Tag(Tags.ROUND_TRIP)
+    @ValueSource(
+            strings = {
+                "compatibility/t02.xlsx",
+                "compatibility/t03.xlsx",
+                "compatibility/t04.xlsx",
+                "compatibility/t05.xlsx",
+                "compatibility/t06.xlsx",
+                "compatibility/t07.xlsx",
+                "compatibility/t09.xlsx",
+                "converter/converter07.xlsx",
+                "dataformat/dataformat.xlsx",
+                "demo/cellDataDemo.xlsx",
+                "extra/extra.xlsx",
+                "multiplesheets/multiplesheets.xlsx",
+                "simple/no_model_10000_rows.xlsx",
+                "simple/simple07.xlsx"
+            })
+    void test_readSameAsSaxParser(String resourcePath) {
+        File file = readFile(resourcePath);
+        List<Object> parsed = FesodSheet.read(file).headRowNumber(0).doReadAllSync();
+        List<Object> scanned =
+                FesodSheet.read(file).xlsxByteScanner(true).headRowNumber(0).doReadAllSync();
+
+        Assertions.assertFalse(parsed.isEmpty());
+        Assertions.assertEquals(parsed, scanned);
+    }
+
+    private static void saxParse(byte[] bytes, ContentHandler handler) throws Exception {
+        XMLReader xmlReader = SAXParserFactory.newInstance().newSAXParser().getXMLReader();
+        xmlReader.setContentHandler(handler);
+        xmlReader.parse(new InputSource(new ByteArrayInputStream(bytes)));
+    }
+
+    private static class RecordingHandler extends DefaultHandler {
+        private final List<String> events = new ArrayList<>();
+        private final StringBuilder text = new StringBuilder();
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attributes) {
+            flushText();
+            StringBuilder event = new StringBuilder("start:").append(qName);
+            for (int i = 0; i < attributes.getLength(); i++) {
+                event.append(' ').append(attributes.getQName(i)).append('=').append(attributes.getValue(i));
+                Assertions.assertEquals(attributes.getValue(i), attributes.getValue(attributes.getQName(i)));
+            }
+            events.add(event.toString());
+        }
+
+        @Override
+        public void endElement(String uri, String localName, String qName) {
+            flushText();
+            events.add("end:" + qName);
+        }
+
+        @Override
+        public void characters(char[] ch, int start, int length) {
+            text.append(ch, start, length);
+        }
+
+        private void flushText() {
+            if (text.length() > 0) {
+                events.add("text:" + text);
+                text.setLength(0);
+            }
+        }
+
+        List<String> events() {
+            flushText();
+            return events;
+        }
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.sheet.analysis.v07;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.fesod.sheet.ExcelReader;
+import org.apache.fesod.sheet.FesodSheet;
+import org.apache.fesod.sheet.cache.MappedFileCache;
+import org.apache.fesod.sheet.cache.ReadCache;
+import org.apache.fesod.sheet.cache.selector.SimpleReadCacheSelector;
+import org.apache.fesod.sheet.enums.CellExtraTypeEnum;
+import org.apache.fesod.sheet.exception.ExcelAnalysisException;
+import org.apache.fesod.sheet.read.metadata.ReadSheet;
+import org.apache.fesod.sheet.testkit.Tags;
+import org.apache.fesod.sheet.testkit.base.AbstractExcelTest;
+import org.apache.fesod.sheet.testkit.enums.ExcelFormat;
+import org.apache.fesod.sheet.testkit.helpers.XlsxRewriteHelper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests {@link XlsxStreamingAnalyser}
+ */
+@Tag(Tags.READ)
+class XlsxStreamingAnalyserTest extends AbstractExcelTest {
+
+    @ParameterizedTest
+    @ValueSource(
+            strings = {
+                "compatibility/t02.xlsx",
+                "compatibility/t03.xlsx",
+                "compatibility/t04.xlsx",
+                "compatibility/t05.xlsx",
+                "compatibility/t06.xlsx",
+                "compatibility/t07.xlsx",
+                "compatibility/t09.xlsx",
+                "converter/converter07.xlsx",
+                "dataformat/dataformat.xlsx",
+                "demo/cellDataDemo.xlsx",
+                "hiddensheets/hiddensheets.xlsx",
+                "multiplesheets/multiplesheets.xlsx",
+                "simple/no_model_10000_rows.xlsx",
+                "simple/simple07.xlsx"
+            })
+    void test_readSameAsFile(String resourcePath) throws Exception {
+        File file = readFile(resourcePath);
+        List<Object> expected = FesodSheet.read(file).headRowNumber(0).doReadAllSync();
+        List<Object> streamed;
+        try (InputStream inputStream = new FileInputStream(file)) {
+            streamed = FesodSheet.read(inputStream).xlsxStreaming(true).headRowNumber(0).doReadAllSync();
+        }
+
+        Assertions.assertFalse(expected.isEmpty());
+        Assertions.assertEquals(expected, streamed);
+    }
+
+    @Test
+    void test_readSelectedSheet() throws Exception {
+        File file = readFile("multiplesheets/multiplesheets.xlsx");
+        List<Object> expected = FesodSheet.read(file).sheet(2).headRowNumber(0).doReadSync();
+        List<Object> streamed;
+        try (InputStream inputStream = new FileInputStream(file)) {
+            streamed = FesodSheet.read(inputStream)
+                    .xlsxStreaming(true)
+                    .sheet(2)
+                    .headRowNumber(0)
+                    .doReadSync();
+        }
+
+        Assertions.assertFalse(expected.isEmpty());
+        Assertions.assertEquals(expected, streamed);
+    }
+
+    @Test
+    void test_readCacheSelectedBySize() throws Exception {
+        File file = readFile("simple/simple07.xlsx");
+        List<Long> sizes = new ArrayList<>();
+        List<ReadCache> readCaches = new ArrayList<>();
+        SimpleReadCacheSelector readCacheSelector = new SimpleReadCacheSelector() {
+            @Override
+            public ReadCache readCache(long size) {
+                ReadCache readCache = super.readCache(size);
+                sizes.add(size);
+                readCaches.add(readCache);
+                return readCache;
+            }
+        };
+        readCacheSelector.setMaxUseMapCacheSize(0L);
+        readCacheSelector.setUseMappedFileCache(true);
+        List<Object> expected = FesodSheet.read(file).headRowNumber(0).doReadAllSync();
+        List<Object> streamed;
+        try (InputStream inputStream = new FileInputStream(file)) {
+            streamed = FesodSheet.read(inputStream)
+                    .xlsxStreaming(true)
+                    .readCacheSelector(readCacheSelector)
+                    .headRowNumber(0)
+                    .doReadAllSync();
+        }
+
+        Assertions.assertEquals(expected, streamed);
+        Assertions.assertEquals(1, sizes.size());
+        Assertions.assertTrue(sizes.get(0) > 0);
+        Assertions.assertInstanceOf(MappedFileCache.class, readCaches.get(0));
+    }
+
+    @Test
+    void test_readOnlyOnce() throws Exception {
+        File file = readFile("multiplesheets/multiplesheets.xlsx");
+        try (InputStream inputStream = new FileInputStream(file);
+                ExcelReader excelReader = FesodSheet.read(inputStream).xlsxStreaming(true).build()) {
+            List<ReadSheet> sheets = excelReader.excelExecutor().sheetList();
+            Assertions.assertEquals(6, sheets.size());
+            excelReader.read(sheets.get(0));
+            Assertions.assertThrows(ExcelAnalysisException.class, () -> excelReader.read(sheets.get(1)));
+        }
+    }
+
+    @Test
+    void test_fallbackWhenReadingExtra() throws Exception {
+        File file = readFile("multiplesheets/multiplesheets.xlsx");
+        try (InputStream inputStream = new FileInputStream(file);
+                ExcelReader excelReader = FesodSheet.read(inputStream)
+                        .xlsxStreaming(true)
+                        .extraRead(CellExtraTypeEnum.HYPERLINK)
+                        .build()) {
+            Assertions.assertTrue(excelReader.excelExecutor() instanceof XlsxSaxAnalyser);
+        }
+    }
+
+    @Test
+    void test_rejectZipBomb() throws Exception {
+        // Spooled while the workbook structure is still unknown, the spaces inflate far more than POI allows
+        byte[] spaces = new byte[4 * 1024 * 1024];
+        Arrays.fill(spaces, (byte) ' ');
+        File file = createTempFile("bomb", ExcelFormat.XLSX);
+        XlsxRewriteHelper.prependPart(readFile("simple/simple07.xlsx"), file, "xl/worksheets/sheet99.xml", spaces);
+
+        Exception exception = Assertions.assertThrows(Exception.class, () -> readStreaming(file));
+
+        Assertions.assertTrue(causeMessages(exception).contains("Zip bomb detected"), causeMessages(exception));
+    }
+
+    @Test
+    void test_rejectDocumentTypeInWorkbook() throws Exception {
+        File file = createTempFile("doctype", ExcelFormat.XLSX);
+        XlsxRewriteHelper.rewritePart(readFile("simple/simple07.xlsx"), file, "xl/workbook.xml", workbook -> {
+            int index = workbook.indexOf("<workbook");
+            return workbook.substring(0, index) + "<!DOCTYPE workbook [<!ENTITY name \"value\">]>"
+                    + workbook.substring(index);
+        });
+
+        Assertions.assertThrows(Exception.class, () -> readStreaming(file));
+    }
+
+    private static void readStreaming(File file) throws Exception {
+        try (InputStream inputStream = new FileInputStream(file)) {
+            FesodSheet.read(inputStream).xlsxStreaming(true).doReadAllSync();
+        }
+    }
+
+    private static String causeMessages(Throwable throwable) {
+        StringBuilder messages = new StringBuilder();
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            messages.append(cause.getMessage()).append('\n');
+        }
+        return messages.toString();
+    }
+}
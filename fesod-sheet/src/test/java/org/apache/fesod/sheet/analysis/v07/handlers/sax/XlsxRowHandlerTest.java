@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.sheet.analysis.v07.handlers.sax;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.apache.fesod.sheet.FesodSheet;
+import org.apache.fesod.sheet.analysis.v07.handlers.CellFormulaTagHandler;
+import org.apache.fesod.sheet.analysis.v07.handlers.CellInlineStringValueTagHandler;
+import org.apache.fesod.sheet.analysis.v07.handlers.CellTagHandler;
+import org.apache.fesod.sheet.analysis.v07.handlers.CellValueTagHandler;
+import org.apache.fesod.sheet.analysis.v07.handlers.CountTagHandler;
+import org.apache.fesod.sheet.analysis.v07.handlers.HyperlinkTagHandler;
+import org.apache.fesod.sheet.analysis.v07.handlers.MergeCellTagHandler;
+import org.apache.fesod.sheet.analysis.v07.handlers.RowTagHandler;
+import org.apache.fesod.sheet.context.AnalysisContext;
+import org.apache.fesod.sheet.metadata.Cell;
+import org.apache.fesod.sheet.metadata.data.ReadCellData;
+import org.apache.fesod.sheet.read.listener.ReadListener;
+import org.apache.fesod.sheet.testkit.Tags;
+import org.apache.fesod.sheet.testkit.base.AbstractExcelTest;
+import org.apache.fesod.sheet.testkit.enums.ExcelFormat;
+import org.apache.fesod.sheet.testkit.helpers.XlsxRewriteHelper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link XlsxRowHandler}
+ */
+@Tag(Tags.UNIT)
+class XlsxRowHandlerTest extends AbstractExcelTest {
+
+    /**
+     * Data validation list of the x14 extension, its "xm:f" and "xm:sqref" are not cell tags.
+     */
+    private static final String DATA_VALIDATION_EXT_LST = "<extLst>"
+            + "<ext uri=\"{CCE6A557-97BC-4b89-ADB6-D9C93CAAB3DF}\""
+            + " xmlns:x14=\"http://schemas.microsoft.com/office/spreadsheetml/2009/9/main\">"
+            + "<x14:dataValidations count=\"1\" xmlns:xm=\"http://schemas.microsoft.com/office/excel/2006/main\">"
+            + "<x14:dataValidation type=\"list\" allowBlank=\"1\">"
+            + "<x14:formula1><xm:f>Sheet2!$A$1:$A$5</xm:f></x14:formula1>"
+            + "<xm:sqref>A1:A20</xm:sqref>"
+            + "</x14:dataValidation></x14:dataValidations></ext></extLst>";
+
+    @Test
+    void test_tagHandler_knownPrefixes() {
+        for (String prefix : new String[] {"", "x:", "ns2:"}) {
+            Assertions.assertInstanceOf(CellTagHandler.class, XlsxRowHandler.tagHandler(prefix + "c"));
+            Assertions.assertInstanceOf(CellValueTagHandler.class, XlsxRowHandler.tagHandler(prefix + "v"));
+            Assertions.assertInstanceOf(CellFormulaTagHandler.class, XlsxRowHandler.tagHandler(prefix + "f"));
+            Assertions.assertInstanceOf(CellInlineStringValueTagHandler.class, XlsxRowHandler.tagHandler(prefix + "t"));
+            Assertions.assertInstanceOf(RowTagHandler.class, XlsxRowHandler.tagHandler(prefix + "row"));
+            Assertions.assertInstanceOf(CountTagHandler.class, XlsxRowHandler.tagHandler(prefix + "dimension"));
+            Assertions.assertInstanceOf(MergeCellTagHandler.class, XlsxRowHandler.tagHandler(prefix + "mergeCell"));
+            Assertions.assertInstanceOf(HyperlinkTagHandler.class, XlsxRowHandler.tagHandler(prefix + "hyperlink"));
+        }
+        for (String name :
+                new String[] {"", "x:", "is", "r", "cols", "sheetData", "x:rowx", "xm:f", "xm:sqref", "main:c", "ns:v"}) {
+            Assertions.assertNull(XlsxRowHandler.tagHandler(name), name);
+        }
+    }
+
+    @Test
+    @Tag(Tags.ROUND_TRIP)
+    void test_read_xPrefix() throws Exception {
+        File file = createTempFile("plain", ExcelFormat.XLSX);
+        List<List<Object>> rows = rows(100);
+        FesodSheet.write(file).sheet().doWrite(rows);
+        File prefixedFile = createTempFile("prefixed", ExcelFormat.XLSX);
+        rewriteSheets(file, prefixedFile, "x", "");
+
+        List<Map<Integer, String>> data = FesodSheet.read(prefixedFile).headRowNumber(0).sheet().doReadSync();
+
+        assertRows(rows, data);
+    }
+
+    @Test
+    @Tag(Tags.ROUND_TRIP)
+    void test_read_extensionListWithoutCells() throws Exception {
+        for (boolean byteScanner : new boolean[] {false, true}) {
+            File file = createTempFile("empty", ExcelFormat.XLSX);
+            FesodSheet.write(file).sheet().doWrite(new ArrayList<List<Object>>());
+            File extendedFile = createTempFile("emptyExt", ExcelFormat.XLSX);
+            rewriteSheets(file, extendedFile, null, DATA_VALIDATION_EXT_LST);
+
+            List<Map<Integer, String>> data = FesodSheet.read(extendedFile)
+                    .xlsxByteScanner(byteScanner)
+                    .headRowNumber(0)
+                    .sheet()
+                    .doReadSync();
+
+            Assertions.assertTrue(data.isEmpty());
+        }
+    }
+
+    @Test
+    @Tag(Tags.ROUND_TRIP)
+    void test_read_extensionListAfterCells() throws Exception {
+        for (boolean byteScanner : new boolean[] {false, true}) {
+            File file = createTempFile("cells", ExcelFormat.XLSX);
+            List<List<Object>> rows = rows(20);
+            FesodSheet.write(file).sheet().doWrite(rows);
+            File extendedFile = createTempFile("cellsExt", ExcelFormat.XLSX);
+            rewriteSheets(file, extendedFile, null, DATA_VALIDATION_EXT_LST);
+
+            List<Map<Integer, String>> data = new ArrayList<>();
+            List<Object> formulas = new ArrayList<>();
+            FesodSheet.read(extendedFile, new ReadListener<Map<Integer, String>>() {
+                        @Override
+                        public void invoke(Map<Integer, String> row, AnalysisContext context) {
+                            data.add(row);
+                            for (Cell cell : context.readRowHolder().getCellMap().values()) {
+                                formulas.add(((ReadCellData<?>) cell).getFormulaData());
+                            }
+                        }
+
+                        @Override
+                        public void doAfterAllAnalysed(AnalysisContext context) {}
+                    })
+                    .xlsxByteScanner(byteScanner)
+                    .headRowNumber(0)
+                    .sheet()
+                    .doRead();
+
+            assertRows(rows, data);
+            Assertions.assertEquals(rows.size() * 2, formulas.size());
+            Assertions.assertTrue(formulas.stream().allMatch(Objects::isNull));
+        }
+    }
+
+    private static List<List<Object>> rows(int count) {
+        List<List<Object>> rows = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            List<Object> row = new ArrayList<>();
+            row.add("Name" + i);
+            row.add(i + 0.5D);
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    private static void assertRows(List<List<Object>> rows, List<Map<Integer, String>> data) {
+        Assertions.assertEquals(rows.size(), data.size());
+        for (int i = 0; i < rows.size(); i++) {
+            Assertions.assertEquals("Name" + i, data.get(i).get(0));
+            Assertions.assertEquals(String.valueOf(i + 0.5D), data.get(i).get(1));
+        }
+    }
+
+    /**
+     * Rewrite the sheets so that their elements use a namespace prefix instead of the default namespace, and append
+     * some XML at the end of the worksheet.
+     */
+    private static void rewriteSheets(File source, File target, String prefix, String tail) throws Exception {
+        XlsxRewriteHelper.rewriteSheets(source, target, xml -> {
+            xml = xml.replace("</worksheet>", tail + "</worksheet>");
+            if (prefix != null) {
+                xml = xml.replaceFirst(" xmlns=\"", " xmlns:" + prefix + "=\"");
+                xml = xml.replaceAll("<(/?)([A-Za-z]\\w*)(?=[\\s/>])", "<$1" + prefix + ":$2");
+            }
+            return xml;
+        });
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.sheet.cache;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.apache.fesod.sheet.FesodSheet;
+import org.apache.fesod.sheet.cache.selector.SimpleReadCacheSelector;
+import org.apache.fesod.sheet.testkit.Tags;
+import org.apache.fesod.sheet.testkit.base.AbstractExcelTest;
+import org.apache.fesod.sheet.testkit.enums.ExcelFormat;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link CompactCache}
+ */
+@Tag(Tags.UNIT)
+class CompactCacheTest extends AbstractExcelTest {
+
+    @Test
+    void test_putAndGet() {
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            values.add(i % 7 == 0 ? "" : (i % 2 == 0 ? "Café" + i : "值" + i + "-😀"));
+        }
+        values.set(3, null);
+        // Larger than a page, so they cross page boundaries
+        values.add(repeat('a', 700 * 1024));
+        values.add(repeat('é', 700 * 1024));
+        values.add(repeat('值', 500 * 1024));
+        values.add("tail");
+
+        for (CompactCache cache : Arrays.asList(new CompactCache(), new CompactCache(16))) {
+            cache.init(null);
+            values.forEach(cache::put);
+            Assertions.assertEquals(values.get(10), cache.get(10));
+            cache.putFinished();
+            for (int round = 0; round < 2; round++) {
+                for (int i = values.size() - 1; i >= 0; i--) {
+                    Assertions.assertEquals(values.get(i), cache.get(i));
+                }
+            }
+            Assertions.assertNull(cache.get(null));
+            Assertions.assertNull(cache.get(-1));
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> cache.get(values.size()));
+            cache.destroy();
+        }
+    }
+
+    @Test
+    void test_emptyValues() {
+        CompactCache cache = new CompactCache();
+        cache.init(null);
+        cache.put("");
+        cache.put(null);
+        cache.putFinished();
+        Assertions.assertEquals("", cache.get(0));
+        Assertions.assertNull(cache.get(1));
+        cache.destroy();
+    }
+
+    @Test
+    @Tag(Tags.ROUND_TRIP)
+    void test_selectedForMediumSharedStrings() throws Exception {
+        File file = createTempFile("compactCache", ExcelFormat.XLSX);
+        List<List<String>> rows = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            List<String> row = new ArrayList<>();
+            row.add("Name" + i);
+            row.add("名称" + (i % 10));
+            rows.add(row);
+        }
+        FesodSheet.write(file).sheet().doWrite(rows);
+
+        SimpleReadCacheSelector selector = new SimpleReadCacheSelector();
+        selector.setMaxUseMapCacheSize(0L);
+        selector.setMaxUseCompactCacheSize(200L);
+        List<Map<Integer, String>> data = FesodSheet.read(file)
+                .readCacheSelector(selector)
+                .headRowNumber(0)
+                .sheet()
+                .doReadSync();
+
+        Assertions.assertEquals(rows.size(), data.size());
+        for (int i = 0; i < rows.size(); i++) {
+            Assertions.assertEquals(rows.get(i).get(0), data.get(i).get(0));
+            Assertions.assertEquals(rows.get(i).get(1), data.get(i).get(1));
+        }
+    }
+
+    private static String repeat(char c, int count) {
+        char[] chars = new char[count];
+        Arrays.fill(chars, c);
+        return new String(chars);
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.sheet.cache;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.apache.fesod.sheet.FesodSheet;
+import org.apache.fesod.sheet.cache.selector.SimpleReadCacheSelector;
+import org.apache.fesod.sheet.testkit.Tags;
+import org.apache.fesod.sheet.testkit.base.AbstractExcelTest;
+import org.apache.fesod.sheet.testkit.enums.ExcelFormat;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link MappedFileCache}
+ */
+@Tag(Tags.UNIT)
+class MappedFileCacheTest extends AbstractExcelTest {
+
+    @Test
+    void test_putAndGet() {
+        MappedFileCache cache = new MappedFileCache();
+        cache.init(null);
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            values.add(i % 7 == 0 ? "" : "值" + i + "-😀");
+        }
+        values.set(3, null);
+        values.forEach(cache::put);
+        cache.putFinished();
+
+        for (int i = values.size() - 1; i >= 0; i--) {
+            Assertions.assertEquals(values.get(i), cache.get(i));
+        }
+        Assertions.assertNull(cache.get(null));
+        Assertions.assertNull(cache.get(-1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> cache.get(values.size()));
+        cache.destroy();
+    }
+
+    @Test
+    void test_empty() {
+        MappedFileCache cache = new MappedFileCache();
+        cache.init(null);
+        cache.putFinished();
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> cache.get(0));
+        cache.destroy();
+    }
+
+    @Test
+    @Tag(Tags.ROUND_TRIP)
+    void test_selectedForLargeSharedStrings() throws Exception {
+        File file = createTempFile("mappedFileCache", ExcelFormat.XLSX);
+        List<List<String>> rows = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            List<String> row = new ArrayList<>();
+            row.add("Name" + i);
+            row.add("Value" + (i % 10));
+            rows.add(row);
+        }
+        FesodSheet.write(file).sheet().doWrite(rows);
+
+        SimpleReadCacheSelector selector = new SimpleReadCacheSelector();
+        selector.setMaxUseMapCacheSize(0L);
+        selector.setUseMappedFileCache(true);
+        List<Map<Integer, String>> data = FesodSheet.read(file)
+                .readCacheSelector(selector)
+                .headRowNumber(0)
+                .sheet()
+                .doReadSync();
+
+        Assertions.assertEquals(rows.size(), data.size());
+        for (int i = 0; i < rows.size(); i++) {
+            Assertions.assertEquals(rows.get(i).get(0), data.get(i).get(0));
+            Assertions.assertEquals(rows.get(i).get(1), data.get(i).get(1));
+        }
+    }
+}
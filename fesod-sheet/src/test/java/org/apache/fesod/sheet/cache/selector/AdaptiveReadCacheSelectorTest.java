@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.sheet.cache.selector;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.apache.fesod.sheet.FesodSheet;
+import org.apache.fesod.sheet.cache.MappedFileCache;
+import org.apache.fesod.sheet.cache.ReadCache;
+import org.apache.fesod.sheet.testkit.Tags;
+import org.apache.fesod.sheet.testkit.base.AbstractExcelTest;
+import org.apache.fesod.sheet.testkit.enums.ExcelFormat;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.openxml4j.opc.PackagePart;
+import org.apache.poi.xssf.usermodel.XSSFRelation;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link AdaptiveReadCacheSelector}
+ */
+@Tag(Tags.UNIT)
+class AdaptiveReadCacheSelectorTest extends AbstractExcelTest {
+
+    private static final int ROW_COUNT = 1000;
+
+    private File file;
+
+    @BeforeEach
+    void writeFile() throws Exception {
+        file = createTempFile("adaptiveCache", ExcelFormat.XLSX);
+        List<List<String>> rows = new ArrayList<>();
+        for (int i = 0; i < ROW_COUNT; i++) {
+            List<String> row = new ArrayList<>();
+            row.add("Name" + i);
+            rows.add(row);
+        }
+        FesodSheet.write(file).sheet().doWrite(rows);
+    }
+
+    @Test
+    void test_inHeapCacheReservesHeap() throws Exception {
+        AdaptiveReadCacheSelector selector = new AdaptiveReadCacheSelector();
+        long reserved = AdaptiveReadCacheSelector.reservedHeap();
+        try (OPCPackage pkg = OPCPackage.open(file, PackageAccess.READ)) {
+            ReadCache readCache = selector.readCache(sharedStringsPart(pkg));
+            Assertions.assertFalse(readCache instanceof MappedFileCache);
+            Assertions.assertTrue(AdaptiveReadCacheSelector.reservedHeap() > reserved);
+            readCache.destroy();
+            Assertions.assertEquals(reserved, AdaptiveReadCacheSelector.reservedHeap());
+        }
+    }
+
+    @Test
+    void test_offHeapWhenBudgetExceeded() throws Exception {
+        AdaptiveReadCacheSelector selector = new AdaptiveReadCacheSelector();
+        selector.setMaxHeapRatio(0D);
+        long reserved = AdaptiveReadCacheSelector.reservedHeap();
+        try (OPCPackage pkg = OPCPackage.open(file, PackageAccess.READ)) {
+            ReadCache readCache = selector.readCache(sharedStringsPart(pkg));
+            Assertions.assertInstanceOf(MappedFileCache.class, readCache);
+            Assertions.assertEquals(reserved, AdaptiveReadCacheSelector.reservedHeap());
+        }
+    }
+
+    @Test
+    void test_readCacheBySize() {
+        AdaptiveReadCacheSelector selector = new AdaptiveReadCacheSelector();
+        long reserved = AdaptiveReadCacheSelector.reservedHeap();
+        ReadCache readCache = selector.readCache(64 * 1024L);
+        Assertions.assertFalse(readCache instanceof MappedFileCache);
+        Assertions.assertTrue(AdaptiveReadCacheSelector.reservedHeap() > reserved);
+        readCache.destroy();
+        Assertions.assertEquals(reserved, AdaptiveReadCacheSelector.reservedHeap());
+
+        Assertions.assertInstanceOf(MappedFileCache.class, selector.readCache(-1L));
+        selector.setMaxHeapRatio(0D);
+        Assertions.assertInstanceOf(MappedFileCache.class, selector.readCache(64 * 1024L));
+        Assertions.assertEquals(reserved, AdaptiveReadCacheSelector.reservedHeap());
+    }
+
+    @Test
+    @Tag(Tags.ROUND_TRIP)
+    void test_read() {
+        long reserved = AdaptiveReadCacheSelector.reservedHeap();
+        List<Map<Integer, String>> data = FesodSheet.read(file)
+                .readCacheSelector(new AdaptiveReadCacheSelector())
+                .headRowNumber(0)
+                .sheet()
+                .doReadSync();
+
+        Assertions.assertEquals(ROW_COUNT, data.size());
+        Assertions.assertEquals("Name999", data.get(ROW_COUNT - 1).get(0));
+        Assertions.assertEquals(reserved, AdaptiveReadCacheSelector.reservedHeap());
+    }
+
+    private static PackagePart sharedStringsPart(OPCPackage pkg) {
+        return pkg.getPartsByContentType(XSSFRelation.SHARED_STRINGS.getContentType()).get(0);
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.sheet.converters;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.fesod.sheet.converter.TimestampStringConverter;
+import org.apache.fesod.sheet.converters.ConverterKeyBuild.ConverterKey;
+import org.apache.fesod.sheet.converters.integer.IntegerNumberConverter;
+import org.apache.fesod.sheet.converters.string.StringStringConverter;
+import org.apache.fesod.sheet.enums.CellDataTypeEnum;
+import org.apache.fesod.sheet.testkit.Tags;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link ConverterRegistry}
+ */
+@Tag(Tags.UNIT)
+class ConverterRegistryTest {
+
+    @Test
+    void test_lookup_sameAsMap() {
+        assertSameAsMap(
+                DefaultConverterLoader.loadDefaultReadConverter(),
+                DefaultConverterLoader.copyDefaultReadConverterRegistry());
+        assertSameAsMap(
+                DefaultConverterLoader.loadDefaultWriteConverter(),
+                DefaultConverterLoader.copyDefaultWriteConverterRegistry());
+    }
+
+    @Test
+    void test_lookup_primitive() {
+        ConverterRegistry converterRegistry = DefaultConverterLoader.copyDefaultReadConverterRegistry();
+
+        Assertions.assertSame(
+                converterRegistry.getConverter(Integer.class, CellDataTypeEnum.NUMBER),
+                converterRegistry.getConverter(int.class, CellDataTypeEnum.NUMBER));
+        Assertions.assertSame(
+                converterRegistry.getConverter(Integer.class, CellDataTypeEnum.NUMBER),
+                ConverterRegistry.lookup(converterRegistry, int.class, CellDataTypeEnum.NUMBER));
+        Assertions.assertNull(converterRegistry.getConverter(Object.class, CellDataTypeEnum.NUMBER));
+        Assertions.assertNull(converterRegistry.getConverter(null, CellDataTypeEnum.NUMBER));
+    }
+
+    @Test
+    void test_lookup_plainMap() {
+        Map<ConverterKey, Converter<?>> converterMap = new HashMap<>();
+        IntegerNumberConverter converter = new IntegerNumberConverter();
+        converterMap.put(ConverterKeyBuild.buildKey(Integer.class, CellDataTypeEnum.NUMBER), converter);
+
+        Assertions.assertSame(converter, ConverterRegistry.lookup(converterMap, int.class, CellDataTypeEnum.NUMBER));
+    }
+
+    @Test
+    void test_copyOnWrite() {
+        ConverterRegistry defaultRegistry = DefaultConverterLoader.copyDefaultWriteConverterRegistry();
+        ConverterRegistry copy = defaultRegistry.copy();
+        TimestampStringConverter timestampStringConverter = new TimestampStringConverter();
+        StringStringConverter stringStringConverter = new StringStringConverter();
+
+        copy.registerConverters(Collections.singletonList(timestampStringConverter));
+        copy.put(ConverterKeyBuild.buildKey(String.class), stringStringConverter);
+
+        Assertions.assertSame(
+                timestampStringConverter,
+                copy.getConverter(
+                        timestampStringConverter.supportJavaTypeKey(),
+                        timestampStringConverter.supportExcelTypeKey()));
+        Assertions.assertSame(stringStringConverter, copy.getConverter(String.class, null));
+        Assertions.assertNull(defaultRegistry.getConverter(
+                timestampStringConverter.supportJavaTypeKey(), timestampStringConverter.supportExcelTypeKey()));
+        Assertions.assertNotSame(stringStringConverter, defaultRegistry.getConverter(String.class, null));
+        Assertions.assertNull(DefaultConverterLoader.copyDefaultWriteConverterRegistry()
+                .getConverter(
+                        timestampStringConverter.supportJavaTypeKey(),
+                        timestampStringConverter.supportExcelTypeKey()));
+        Assertions.assertEquals(defaultRegistry.size() + 1, copy.size());
+
+        ConverterKey key = ConverterKeyBuild.buildKey(String.class);
+        copy.remove(key);
+        Assertions.assertFalse(copy.containsKey(key));
+        Assertions.assertTrue(defaultRegistry.containsKey(key));
+    }
+
+    private static void assertSameAsMap(Map<ConverterKey, Converter<?>> converterMap, ConverterRegistry registry) {
+        Assertions.assertEquals(converterMap, registry);
+        for (Map.Entry<ConverterKey, Converter<?>> entry : converterMap.entrySet()) {
+            ConverterKey key = entry.getKey();
+            Assertions.assertSame(entry.getValue(), registry.getConverter(key.getClazz(), key.getCellDataTypeEnum()));
+            Assertions.assertSame(entry.getValue(), registry.get(key));
+        }
+        for (CellDataTypeEnum cellDataTypeEnum : CellDataTypeEnum.values()) {
+            Assertions.assertEquals(
+                    converterMap.get(ConverterKeyBuild.buildKey(Long.class, cellDataTypeEnum)),
+                    registry.getConverter(long.class, cellDataTypeEnum));
+        }
+    }
+}
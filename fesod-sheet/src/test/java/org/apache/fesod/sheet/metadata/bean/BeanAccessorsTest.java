@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.sheet.metadata.bean;
+
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.apache.fesod.shaded.cglib.beans.BeanMap;
+import org.apache.fesod.sheet.testkit.Tags;
+import org.apache.fesod.sheet.util.BeanMapUtils;
+import org.apache.fesod.sheet.util.FieldUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link BeanAccessors} and {@link BeanAccessorMap}
+ */
+@Tag(Tags.UNIT)
+class BeanAccessorsTest {
+
+    @Getter
+    @Setter
+    public static class PublicBean {
+        private String name;
+        private int age;
+        private boolean active;
+        private Date date;
+        private long[] values;
+    }
+
+    @Getter
+    @Setter
+    static class PackageBean {
+        private String name;
+        private double score;
+    }
+
+    public static class OddBean {
+        private String written;
+
+        public void setWritten(String written) {
+            this.written = written;
+        }
+
+        public String getReadOnly() {
+            return "readOnly";
+        }
+    }
+
+    @Test
+    void test_accessor_cached() {
+        Assertions.assertSame(BeanAccessors.get(PublicBean.class), BeanAccessors.get(PublicBean.class));
+    }
+
+    @Test
+    void test_accessor_publicBean() {
+        BeanAccessor<PublicBean> beanAccessor = BeanAccessors.get(PublicBean.class);
+        PublicBean bean = beanAccessor.newInstance();
+        Date date = new Date();
+        long[] values = {1L, 2L};
+        beanAccessor.set(bean, beanAccessor.indexOf("name"), "Fesod");
+        beanAccessor.set(bean, beanAccessor.indexOf("age"), 18);
+        beanAccessor.set(bean, beanAccessor.indexOf("active"), Boolean.TRUE);
+        beanAccessor.set(bean, beanAccessor.indexOf("date"), date);
+        beanAccessor.set(bean, beanAccessor.indexOf("values"), values);
+
+        Assertions.assertEquals("Fesod", bean.getName());
+        Assertions.assertEquals(18, bean.getAge());
+        Assertions.assertTrue(bean.isActive());
+        Assertions.assertSame(date, bean.getDate());
+        Assertions.assertSame(values, bean.getValues());
+        Assertions.assertEquals(18, beanAccessor.get(bean, beanAccessor.indexOf("age")));
+        Assertions.assertEquals(Boolean.TRUE, beanAccessor.get(bean, beanAccessor.indexOf("active")));
+        Assertions.assertEquals(int.class, beanAccessor.getPropertyType(beanAccessor.indexOf("age")));
+        Assertions.assertEquals(-1, beanAccessor.indexOf("unknown"));
+    }
+
+    @Test
+    void test_accessor_packageBean() {
+        BeanAccessor<PackageBean> beanAccessor = BeanAccessors.get(PackageBean.class);
+        PackageBean bean = beanAccessor.newInstance();
+        beanAccessor.set(bean, beanAccessor.indexOf("name"), "Fesod");
+        beanAccessor.set(bean, beanAccessor.indexOf("score"), 1.5D);
+
+        Assertions.assertEquals("Fesod", bean.getName());
+        Assertions.assertEquals(1.5D, beanAccessor.get(bean, beanAccessor.indexOf("score")));
+    }
+
+    @Test
+    void test_accessor_oddBean() {
+        BeanAccessor<OddBean> beanAccessor = BeanAccessors.get(OddBean.class);
+        OddBean bean = beanAccessor.newInstance();
+        int written = beanAccessor.indexOf("written");
+        int readOnly = beanAccessor.indexOf("readOnly");
+
+        Assertions.assertTrue(beanAccessor.isWritable(written));
+        Assertions.assertFalse(beanAccessor.isReadable(written));
+        Assertions.assertTrue(beanAccessor.isReadable(readOnly));
+        Assertions.assertFalse(beanAccessor.isWritable(readOnly));
+
+        beanAccessor.set(bean, written, "Fesod");
+        beanAccessor.set(bean, readOnly, "ignored");
+        Assertions.assertEquals("Fesod", bean.written);
+        Assertions.assertNull(beanAccessor.get(bean, written));
+        Assertions.assertEquals("readOnly", beanAccessor.get(bean, readOnly));
+    }
+
+    @Test
+    void test_accessor_noConstructor() {
+        BeanAccessor<?> beanAccessor = BeanAccessors.get(Map.class);
+
+        Assertions.assertThrows(IllegalStateException.class, beanAccessor::newInstance);
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void test_map_sameAsBeanMap() {
+        PublicBean bean = new PublicBean();
+        bean.setName("Fesod");
+        bean.setAge(18);
+        BeanMap beanMap = BeanMapUtils.create(bean);
+        BeanAccessorMap beanAccessorMap = BeanMapUtils.createMap(bean);
+
+        Assertions.assertEquals(new HashSet<>(beanMap.keySet()), beanAccessorMap.keySet());
+        for (Object key : beanMap.keySet()) {
+            Assertions.assertEquals(beanMap.get(key), beanAccessorMap.get(key));
+            Assertions.assertEquals(beanMap.getPropertyType((String) key), beanAccessorMap.getPropertyType((String)
+                    key));
+        }
+        Assertions.assertEquals(beanMap.size(), beanAccessorMap.size());
+    }
+
+    @Test
+    void test_map() {
+        PublicBean bean = new PublicBean();
+        BeanAccessorMap beanAccessorMap = BeanMapUtils.createMap(bean);
+
+        Assertions.assertSame(bean, beanAccessorMap.getBean());
+        Assertions.assertNull(beanAccessorMap.put("name", "Fesod"));
+        Assertions.assertEquals("Fesod", beanAccessorMap.put("name", "Fesod2"));
+        Assertions.assertEquals("Fesod2", bean.getName());
+        Assertions.assertTrue(beanAccessorMap.containsKey("age"));
+        Assertions.assertFalse(beanAccessorMap.containsKey("unknown"));
+        Assertions.assertNull(beanAccessorMap.get("unknown"));
+        Assertions.assertNull(beanAccessorMap.put("unknown", "value"));
+        Assertions.assertNull(beanAccessorMap.getPropertyType("unknown"));
+        Assertions.assertEquals(int.class, FieldUtils.getFieldClass(beanAccessorMap, "age", 1));
+        Assertions.assertEquals(Integer.class, FieldUtils.getFieldClass(beanAccessorMap, "unknown", 1));
+    }
+}
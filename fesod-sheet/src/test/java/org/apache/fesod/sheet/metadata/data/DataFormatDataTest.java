@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.sheet.metadata.data;
+
+import org.apache.fesod.sheet.enums.DataFormatTypeEnum;
+import org.apache.fesod.sheet.testkit.Tags;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * A data format is classified once and again after it changes.
+ */
+@Tag(Tags.UNIT)
+public class DataFormatDataTest {
+
+    @Test
+    void classifiesFormats() {
+        Assertions.assertEquals(DataFormatTypeEnum.GENERAL, dataFormatData(0, "General").getFormatType());
+        Assertions.assertEquals(DataFormatTypeEnum.GENERAL, dataFormatData(200, null).getFormatType());
+        Assertions.assertEquals(DataFormatTypeEnum.NUMBER, dataFormatData(2, "0.00").getFormatType());
+        Assertions.assertEquals(DataFormatTypeEnum.TEXT, dataFormatData(49, "@").getFormatType());
+        Assertions.assertEquals(DataFormatTypeEnum.DATE, dataFormatData(14, "m/d/yy").getFormatType());
+        Assertions.assertEquals(DataFormatTypeEnum.DATE, dataFormatData(14, null).getFormatType());
+        Assertions.assertEquals(DataFormatTypeEnum.DATE, dataFormatData(200, "yyyy-mm-dd hh:mm").getFormatType());
+        Assertions.assertEquals(DataFormatTypeEnum.DATE, dataFormatData(201, "[h]:mm:ss").getFormatType());
+        Assertions.assertTrue(dataFormatData(201, "[h]:mm:ss").isDateFormat());
+    }
+
+    @Test
+    void noIndexIsNotADate() {
+        DataFormatData dataFormatData = new DataFormatData();
+        dataFormatData.setFormat("yyyy-mm-dd");
+        Assertions.assertFalse(dataFormatData.isDateFormat());
+    }
+
+    @Test
+    void reclassifiesAfterChange() {
+        DataFormatData dataFormatData = dataFormatData(200, "0.00");
+        Assertions.assertEquals(DataFormatTypeEnum.NUMBER, dataFormatData.getFormatType());
+
+        dataFormatData.setFormat("yyyy-mm-dd");
+        Assertions.assertEquals(DataFormatTypeEnum.DATE, dataFormatData.getFormatType());
+        Assertions.assertEquals(DataFormatTypeEnum.DATE, dataFormatData.clone().getFormatType());
+
+        DataFormatData target = dataFormatData(200, "0.00");
+        Assertions.assertEquals(DataFormatTypeEnum.NUMBER, target.getFormatType());
+        DataFormatData.merge(dataFormatData, target);
+        Assertions.assertEquals(DataFormatTypeEnum.DATE, target.getFormatType());
+        Assertions.assertEquals(dataFormatData, target);
+    }
+
+    private static DataFormatData dataFormatData(int index, String format) {
+        DataFormatData dataFormatData = new DataFormatData();
+        dataFormatData.setIndex((short) index);
+        dataFormatData.setFormat(format);
+        return dataFormatData;
+    }
+}
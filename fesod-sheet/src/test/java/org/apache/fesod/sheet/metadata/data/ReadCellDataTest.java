@@ -19,6 +19,9 @@
 
 package org.apache.fesod.sheet.metadata.data;
 
+import java.math.BigDecimal;
+import org.apache.fesod.sheet.constant.FesodSheetConstants;
+import org.apache.fesod.sheet.enums.CellDataTypeEnum;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -39,6 +42,55 @@ public class ReadCellDataTest {
         Assertions.assertFalse(booleanFrom(null));
     }
 
+    @Test
+    void compactNumberMatchesBigDecimal() {
+        assertCompactNumber(0L, 0);
+        assertCompactNumber(-123L, 0);
+        assertCompactNumber(20870249999999996L, 13);
+        assertCompactNumber(15L, 4);
+        assertCompactNumber(-15L, 4);
+        assertCompactNumber(1L, -5);
+        assertCompactNumber(123456789012345L, -2);
+        assertCompactNumber(123456789012345678L, 0);
+        assertCompactNumber(-123456789012345678L, 3);
+        assertCompactNumber(4472999998836806L, 11);
+        assertCompactNumber(9007199254740993L, 0);
+        assertCompactNumber(3L, 25);
+        assertCompactNumber(2147483648L, 0);
+    }
+
+    @Test
+    void compactNumberKeepsTheOriginalValue() {
+        ReadCellData<?> cellData = new ReadCellData<>(CellDataTypeEnum.NUMBER);
+        cellData.setOriginalNumberValue(20870249999999996L, 13, 17);
+        cellData.checkEmpty();
+        cellData.setRowIndex(0);
+        cellData.setColumnIndex(0);
+
+        Assertions.assertEquals(CellDataTypeEnum.NUMBER, cellData.getType());
+        Assertions.assertEquals(new BigDecimal("2087.0249999999996"), cellData.getOriginalNumberValue());
+        Assertions.assertEquals(new BigDecimal("2087.02500000000"), cellData.getNumberValue());
+        Assertions.assertEquals(
+                ReadCellData.newInstanceOriginal(new BigDecimal("2087.0249999999996"), 0, 0), cellData);
+
+        cellData.setNumberValue(BigDecimal.ONE);
+        Assertions.assertEquals(BigDecimal.ONE, cellData.getNumberValue());
+        Assertions.assertEquals(1L, cellData.numberLongValue());
+    }
+
+    private static void assertCompactNumber(long unscaledValue, int scale) {
+        BigDecimal original = BigDecimal.valueOf(unscaledValue, scale);
+        BigDecimal number = original.round(FesodSheetConstants.EXCEL_MATH_CONTEXT);
+        ReadCellData<?> cellData = new ReadCellData<>(CellDataTypeEnum.NUMBER);
+        cellData.setOriginalNumberValue(unscaledValue, scale, original.precision());
+
+        Assertions.assertEquals(number.doubleValue(), cellData.numberDoubleValue(), original.toString());
+        Assertions.assertEquals(number.longValue(), cellData.numberLongValue(), original.toString());
+        Assertions.assertEquals(number.intValue(), cellData.numberIntValue(), original.toString());
+        Assertions.assertEquals(original, cellData.getOriginalNumberValue());
+        Assertions.assertEquals(number, cellData.getNumberValue());
+    }
+
     private static Boolean booleanFrom(String str) {
         ReadCellData<?> cellData = new ReadCellData<>();
         cellData.setBooleanValueFromString(str);
@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.sheet.read;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.Getter;
+import lombok.Setter;
+import org.apache.fesod.sheet.FesodSheet;
+import org.apache.fesod.sheet.annotation.ExcelProperty;
+import org.apache.fesod.sheet.context.AnalysisContext;
+import org.apache.fesod.sheet.testkit.Tags;
+import org.apache.fesod.sheet.testkit.base.AbstractExcelTest;
+import org.apache.fesod.sheet.testkit.enums.ExcelFormat;
+import org.apache.fesod.sheet.testkit.listeners.CollectingReadListener;
+import org.apache.fesod.sheet.testkit.params.ExcelFormatSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+
+/**
+ * Only the columns of the head class, or the columns set on the sheet, are read from the data rows.
+ */
+@Tag(Tags.READ)
+public class ColumnProjectionReadTest extends AbstractExcelTest {
+
+    private static final int ROW_COUNT = 100;
+
+    /**
+     * The row that only holds data in the columns that are not read.
+     */
+    private static final int UNREAD_DATA_ROW = 50;
+
+    @ParameterizedTest
+    @ExcelFormatSource
+    void readsOnlyHeadColumns(ExcelFormat format) throws Exception {
+        File file = writeRows(format);
+        ColumnListener listener = new ColumnListener();
+        FesodSheet.read(file, NarrowRow.class, listener)
+                .excelType(format.toExcelTypeEnum())
+                .sheet()
+                .doRead();
+
+        Assertions.assertEquals(ROW_COUNT, listener.getRowCount());
+        for (int i = 0; i < ROW_COUNT; i++) {
+            NarrowRow row = listener.getRows().get(i);
+            if (i == UNREAD_DATA_ROW) {
+                Assertions.assertNull(row.getC2());
+                Assertions.assertNull(row.getC5());
+                continue;
+            }
+            Assertions.assertEquals("2-" + i, row.getC2());
+            Assertions.assertEquals(i, row.getC5());
+        }
+        Assertions.assertEquals(new HashSet<>(Arrays.asList(2, 5)), listener.columnIndexes);
+    }
+
+    @ParameterizedTest
+    @ExcelFormatSource
+    void readsAllColumnsWithoutHeadProjection(ExcelFormat format) throws Exception {
+        File file = writeRows(format);
+        ColumnListener listener = new ColumnListener();
+        FesodSheet.read(file, NarrowRow.class, listener)
+                .excelType(format.toExcelTypeEnum())
+                .headColumnProjection(false)
+                .sheet()
+                .doRead();
+
+        Assertions.assertEquals(ROW_COUNT, listener.getRowCount());
+        Assertions.assertEquals(8, listener.columnIndexes.size());
+    }
+
+    @ParameterizedTest
+    @ExcelFormatSource
+    void readsSheetColumnIndexes(ExcelFormat format) throws Exception {
+        File file = writeRows(format);
+        List<Map<Integer, String>> rows = FesodSheet.read(file)
+                .excelType(format.toExcelTypeEnum())
+                .sheet()
+                .includeColumnIndexes(Arrays.asList(5, 2))
+                .doReadSync();
+
+        // The row without data in these columns is empty, except in csv where the empty fields are still read
+        Assertions.assertEquals(format == ExcelFormat.CSV ? ROW_COUNT : ROW_COUNT - 1, rows.size());
+        Map<Integer, String> row = rows.get(0);
+        Assertions.assertEquals(2, row.size());
+        Assertions.assertEquals("0", row.get(0));
+        Assertions.assertEquals("2-0", row.get(1));
+    }
+
+    private File writeRows(ExcelFormat format) throws Exception {
+        File file = createTempFile("columnProjection", format);
+        List<WideRow> rows = new ArrayList<>();
+        for (int i = 0; i < ROW_COUNT; i++) {
+            WideRow row = new WideRow();
+            row.setC0("0-" + i);
+            row.setC1(i);
+            if (i != UNREAD_DATA_ROW) {
+                row.setC2("2-" + i);
+                row.setC5(String.valueOf(i));
+            }
+            row.setC3(i * 0.5);
+            row.setC4("4-" + i);
+            row.setC6("6-" + i);
+            row.setC7(i);
+            rows.add(row);
+        }
+        FesodSheet.write(file, WideRow.class)
+                .excelType(format.toExcelTypeEnum())
+                .sheet()
+                .doWrite(rows);
+        return file;
+    }
+
+    @Getter
+    @Setter
+    public static class WideRow {
+        @ExcelProperty("C0")
+        private String c0;
+
+        @ExcelProperty("C1")
+        private Integer c1;
+
+        @ExcelProperty("C2")
+        private String c2;
+
+        @ExcelProperty("C3")
+        private Double c3;
+
+        @ExcelProperty("C4")
+        private String c4;
+
+        @ExcelProperty("C5")
+        private String c5;
+
+        @ExcelProperty("C6")
+        private String c6;
+
+        @ExcelProperty("C7")
+        private Integer c7;
+    }
+
+    @Getter
+    @Setter
+    public static class NarrowRow {
+        @ExcelProperty("C5")
+        private Integer c5;
+
+        @ExcelProperty("C2")
+        private String c2;
+    }
+
+    /**
+     * Also collects the indexes of the columns that were read.
+     */
+    private static class ColumnListener extends CollectingReadListener<NarrowRow> {
+        private final Set<Integer> columnIndexes = new HashSet<>();
+
+        @Override
+        public void invoke(NarrowRow data, AnalysisContext context) {
+            columnIndexes.addAll(context.readRowHolder().getCellMap().keySet());
+            super.invoke(data, context);
+        }
+    }
+}
@@ -0,0 +1,288 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.sheet.read;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.fesod.sheet.FesodSheet;
+import org.apache.fesod.sheet.context.AnalysisContext;
+import org.apache.fesod.sheet.read.listener.ColumnarReadListener;
+import org.apache.fesod.sheet.read.listener.ReadListener;
+import org.apache.fesod.sheet.read.metadata.columnar.ColumnBatch;
+import org.apache.fesod.sheet.read.metadata.columnar.ColumnVector;
+import org.apache.fesod.sheet.read.metadata.columnar.StringDictionary;
+import org.apache.fesod.sheet.testkit.Tags;
+import org.apache.fesod.sheet.testkit.base.AbstractExcelTest;
+import org.apache.fesod.sheet.testkit.enums.ExcelFormat;
+import org.apache.fesod.sheet.testkit.params.ExcelFormatSource;
+import org.apache.poi.xssf.model.SharedStringsTable;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+
+/**
+ * Rows read by a {@link ColumnarReadListener} match the written values.
+ */
+@Tag(Tags.READ)
+public class ColumnarReadTest extends AbstractExcelTest {
+
+    private static final int ROWS = 10;
+    private static final int BATCH_SIZE = 4;
+
+    @ParameterizedTest
+    @ExcelFormatSource
+    void readsBatchesByColumn(ExcelFormat format) throws Exception {
+        File file = writeFile("columnar", format);
+        CollectListener listener = new CollectListener();
+
+        FesodSheet.read(file, listener)
+                .excelType(format.toExcelTypeEnum())
+                .sheet()
+                .doRead();
+
+        Assertions.assertEquals(Arrays.asList(4, 4, 2), listener.batchSizes);
+        Assertions.assertEquals(1, listener.afterAllBatches);
+        assertRows(format, listener.rows);
+    }
+
+    @ParameterizedTest
+    @ExcelFormatSource
+    void readsBatchesNextToModelListener(ExcelFormat format) throws Exception {
+        File file = writeFile("columnarMixed", format);
+        CollectListener listener = new CollectListener();
+        List<Object> models = new ArrayList<>();
+
+        FesodSheet.read(file)
+                .excelType(format.toExcelTypeEnum())
+                .registerReadListener(listener)
+                .registerReadListener(new ReadListener<Object>() {
+                    @Override
+                    public void invoke(Object data, AnalysisContext context) {
+                        models.add(data);
+                    }
+
+                    @Override
+                    public void doAfterAllAnalysed(AnalysisContext context) {}
+                })
+                .sheet()
+                .doRead();
+
+        Assertions.assertEquals(ROWS, models.size());
+        Assertions.assertInstanceOf(Map.class, models.get(0));
+        assertRows(format, listener.rows);
+    }
+
+    @Test
+    void codesSharedStringsByIndex() throws Exception {
+        File file = writeFile("columnarShared", ExcelFormat.XLSX, true);
+        CollectListener listener = new CollectListener();
+
+        FesodSheet.read(file, listener).sheet().doRead();
+
+        assertRows(ExcelFormat.XLSX, listener.rows);
+        Assertions.assertFalse(listener.stringCodes.isEmpty());
+        try (XSSFWorkbook workbook = new XSSFWorkbook(file)) {
+            SharedStringsTable sharedStringsTable = (SharedStringsTable) workbook.getSharedStringSource();
+            for (Map.Entry<String, Integer> entry : listener.stringCodes.entrySet()) {
+                Assertions.assertTrue(listener.sharedStringCodes.contains(entry.getValue()), entry.getKey());
+                Assertions.assertEquals(
+                        entry.getKey(),
+                        sharedStringsTable.getItemAt(entry.getValue()).getString().trim());
+            }
+        }
+        Assertions.assertEquals(0, listener.dictionarySize);
+    }
+
+    @Test
+    void codesInlineStringsInDictionary() throws Exception {
+        File file = writeFile("columnarInline", ExcelFormat.XLSX);
+        CollectListener listener = new CollectListener();
+
+        FesodSheet.read(file, listener).sheet().doRead();
+
+        assertRows(ExcelFormat.XLSX, listener.rows);
+        Assertions.assertFalse(listener.stringCodes.isEmpty());
+        Assertions.assertTrue(listener.sharedStringCodes.isEmpty());
+        Assertions.assertEquals(listener.stringCodes.size(), listener.dictionarySize);
+    }
+
+    @Test
+    void codesSharedStringsInDictionaryNextToModelListener() throws Exception {
+        File file = writeFile("columnarSharedMixed", ExcelFormat.XLSX, true);
+        CollectListener listener = new CollectListener();
+
+        FesodSheet.read(file)
+                .registerReadListener(listener)
+                .registerReadListener(new ReadListener<Object>() {
+                    @Override
+                    public void invoke(Object data, AnalysisContext context) {}
+
+                    @Override
+                    public void doAfterAllAnalysed(AnalysisContext context) {}
+                })
+                .sheet()
+                .doRead();
+
+        assertRows(ExcelFormat.XLSX, listener.rows);
+        Assertions.assertTrue(listener.sharedStringCodes.isEmpty());
+        Assertions.assertEquals(listener.stringCodes.size(), listener.dictionarySize);
+    }
+
+    @Test
+    void keepsEmptyRowsOfSharedStringsSheet() throws Exception {
+        File file = createTempFile("columnarEmptyRows", ExcelFormat.XLSX);
+        List<List<Object>> data = new ArrayList<>();
+        data.add(Arrays.asList("a", 1));
+        data.add(Collections.emptyList());
+        data.add(Arrays.asList("b", 2));
+        FesodSheet.write(file).inMemory(true).sheet().doWrite(data);
+        CollectListener listener = new CollectListener();
+
+        FesodSheet.read(file, listener)
+                .headRowNumber(0)
+                .ignoreEmptyRow(false)
+                .sheet()
+                .doRead();
+
+        Assertions.assertEquals(3, listener.rows.size());
+        Assertions.assertEquals(Arrays.asList(0, "a", 1.0D, null, null, null), listener.rows.get(0));
+        Assertions.assertEquals(Arrays.asList(1, null, null, null, null, null), listener.rows.get(1));
+        Assertions.assertEquals(Arrays.asList(2, "b", 2.0D, null, null, null), listener.rows.get(2));
+    }
+
+    private File writeFile(String prefix, ExcelFormat format) throws IOException {
+        return writeFile(prefix, format, false);
+    }
+
+    /**
+     * @param inMemory write the XLSX strings to the shared strings table
+     */
+    private File writeFile(String prefix, ExcelFormat format, boolean inMemory) throws IOException {
+        File file = createTempFile(prefix, format);
+        List<List<Object>> data = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            // Padded so that the shared strings are trimmed when they are read
+            data.add(Arrays.asList(i, " name" + (i % 3) + " ", i * 1.5D, i % 2 == 0, i % 4 == 0 ? null : "x"));
+        }
+        List<List<String>> head = new ArrayList<>();
+        for (String name : new String[] {"id", "name", "score", "active", "sparse"}) {
+            head.add(Collections.singletonList(name));
+        }
+        FesodSheet.write(file)
+                .head(head)
+                .excelType(format.toExcelTypeEnum())
+                .inMemory(inMemory)
+                .sheet()
+                .doWrite(data);
+        return file;
+    }
+
+    private static void assertRows(ExcelFormat format, List<List<Object>> rows) {
+        Assertions.assertEquals(ROWS, rows.size());
+        for (int i = 0; i < ROWS; i++) {
+            List<Object> row = rows.get(i);
+            Assertions.assertEquals(i + 1, row.get(0));
+            if (format == ExcelFormat.CSV) {
+                Assertions.assertEquals(String.valueOf(i), row.get(1));
+                Assertions.assertEquals(i * 1.5D, Double.parseDouble((String) row.get(3)));
+                Assertions.assertEquals(String.valueOf(i % 2 == 0), ((String) row.get(4)).toLowerCase());
+            } else {
+                Assertions.assertEquals((double) i, row.get(1));
+                Assertions.assertEquals(i * 1.5D, row.get(3));
+                Assertions.assertEquals(i % 2 == 0, row.get(4));
+            }
+            Assertions.assertEquals("name" + (i % 3), row.get(2));
+            Assertions.assertEquals(i % 4 == 0 ? null : "x", row.get(5));
+        }
+    }
+
+    private static class CollectListener extends ColumnarReadListener {
+        private final List<Integer> batchSizes = new ArrayList<>();
+        private final List<List<Object>> rows = new ArrayList<>();
+        /**
+         * key: string value: code
+         */
+        private final Map<String, Integer> stringCodes = new HashMap<>();
+
+        private final Set<Integer> sharedStringCodes = new HashSet<>();
+        private int dictionarySize;
+        private int afterAllBatches;
+
+        private CollectListener() {
+            super(BATCH_SIZE);
+        }
+
+        @Override
+        public void invokeBatch(ColumnBatch columnBatch, AnalysisContext context) {
+            batchSizes.add(columnBatch.getRowCount());
+            StringDictionary stringDictionary = columnBatch.getStringDictionary();
+            for (int row = 0; row < columnBatch.getRowCount(); row++) {
+                List<Object> values = new ArrayList<>();
+                values.add(columnBatch.getRowIndex(row));
+                for (int column = 0; column < 5; column++) {
+                    ColumnVector columnVector = columnBatch.getColumn(column);
+                    values.add(value(columnVector, row));
+                    if (columnVector == null || !columnVector.isString(row)) {
+                        continue;
+                    }
+                    int code = columnVector.getStringCode(row);
+                    // Equal strings share a code
+                    Integer previousCode = stringCodes.putIfAbsent(columnVector.getString(row), code);
+                    Assertions.assertEquals(previousCode == null ? code : previousCode, code);
+                    Assertions.assertEquals(columnVector.getString(row), stringDictionary.get(code));
+                    if (stringDictionary.isSharedString(code)) {
+                        sharedStringCodes.add(code);
+                    }
+                }
+                rows.add(values);
+            }
+            dictionarySize = stringDictionary.size();
+        }
+
+        @Override
+        public void doAfterAllBatches(AnalysisContext context) {
+            afterAllBatches++;
+        }
+
+        private static Object value(ColumnVector column, int row) {
+            if (column == null || column.isNull(row)) {
+                return null;
+            }
+            if (column.isNumber(row)) {
+                Assertions.assertEquals((long) column.getDouble(row), column.getLong(row));
+                return column.getDouble(row);
+            }
+            if (column.isBoolean(row)) {
+                return column.getBoolean(row);
+            }
+            return column.getString(row);
+        }
+    }
+}
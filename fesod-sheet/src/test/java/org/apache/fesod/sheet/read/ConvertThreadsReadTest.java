@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.sheet.read;
+
+import java.io.File;
+import java.util.function.IntPredicate;
+import org.apache.fesod.sheet.FesodSheet;
+import org.apache.fesod.sheet.context.AnalysisContext;
+import org.apache.fesod.sheet.exception.ExcelDataConvertException;
+import org.apache.fesod.sheet.testkit.Tags;
+import org.apache.fesod.sheet.testkit.base.AbstractExcelTest;
+import org.apache.fesod.sheet.testkit.builders.TestDataBuilder;
+import org.apache.fesod.sheet.testkit.enums.ExcelFormat;
+import org.apache.fesod.sheet.testkit.listeners.FailureCollectingReadListener;
+import org.apache.fesod.sheet.testkit.models.SimpleData;
+import org.apache.fesod.sheet.testkit.params.ExcelFormatSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+
+/**
+ * Rows converted on the convert threads must reach the listeners in read order, on the parsing thread.
+ */
+@Tag(Tags.READ)
+public class ConvertThreadsReadTest extends AbstractExcelTest {
+
+    private static final int ROW_COUNT = 3000;
+
+    @ParameterizedTest
+    @ExcelFormatSource
+    void keepsReadOrder(ExcelFormat format) throws Exception {
+        File file = writeRows(format, i -> false);
+        ReadOrderListener listener = new ReadOrderListener(Thread.currentThread());
+        FesodSheet.read(file, SimpleData.class, listener)
+                .excelType(format.toExcelTypeEnum())
+                .convertThreads(4)
+                .sheet()
+                .doRead();
+
+        Assertions.assertEquals(ROW_COUNT, listener.getRowCount());
+        for (int i = 0; i < ROW_COUNT; i++) {
+            Assertions.assertEquals("Name" + i, listener.getRows().get(i).getName());
+            Assertions.assertEquals(i, listener.getRows().get(i).getAge());
+        }
+        Assertions.assertEquals(1, listener.getFinishedCount());
+    }
+
+    @ParameterizedTest
+    @ExcelFormatSource
+    void reportsConvertFailureOnItsRow(ExcelFormat format) throws Exception {
+        File file = writeRows(format, i -> i == 1234);
+        ReadOrderListener listener = new ReadOrderListener(Thread.currentThread());
+        FesodSheet.read(file, SimpleData.class, listener)
+                .excelType(format.toExcelTypeEnum())
+                .convertThreads(3)
+                .sheet()
+                .doRead();
+
+        Assertions.assertEquals(ROW_COUNT - 1, listener.getRowCount());
+        Assertions.assertEquals(1, listener.getFailedRowIndexes().size());
+        Assertions.assertInstanceOf(ExcelDataConvertException.class, listener.getExceptions().get(0));
+        // The head is row 0
+        Assertions.assertEquals(1235, listener.getFailedRowIndexes().get(0));
+    }
+
+    @ParameterizedTest
+    @ExcelFormatSource
+    void reportsEachConvertFailureOfABatch(ExcelFormat format) throws Exception {
+        File file = writeRows(format, i -> i % 10 == 3);
+        ReadOrderListener listener = new ReadOrderListener(Thread.currentThread());
+        FesodSheet.read(file, SimpleData.class, listener)
+                .excelType(format.toExcelTypeEnum())
+                .convertThreads(2)
+                .sheet()
+                .doRead();
+
+        Assertions.assertEquals(ROW_COUNT - ROW_COUNT / 10, listener.getRowCount());
+        Assertions.assertEquals(ROW_COUNT / 10, listener.getFailedRowIndexes().size());
+        for (int i = 0; i < ROW_COUNT / 10; i++) {
+            // The head is row 0
+            Assertions.assertEquals(i * 10 + 4, listener.getFailedRowIndexes().get(i));
+        }
+    }
+
+    @ParameterizedTest
+    @ExcelFormatSource
+    void stopsAtNumRows(ExcelFormat format) throws Exception {
+        File file = writeRows(format, i -> false);
+        ReadOrderListener listener = new ReadOrderListener(Thread.currentThread());
+        FesodSheet.read(file, SimpleData.class, listener)
+                .excelType(format.toExcelTypeEnum())
+                .convertThreads(2)
+                .numRows(101)
+                .sheet()
+                .doRead();
+
+        // The head row is counted as well
+        Assertions.assertEquals(100, listener.getRowCount());
+        Assertions.assertEquals("Name99", listener.getRows().get(99).getName());
+    }
+
+    private File writeRows(ExcelFormat format, IntPredicate badAge) throws Exception {
+        File file = createTempFile("convertThreads", format);
+        FesodSheet.write(file)
+                .head(TestDataBuilder.simpleDataHead())
+                .excelType(format.toExcelTypeEnum())
+                .sheet()
+                .doWrite(TestDataBuilder.simpleDataRows(ROW_COUNT, badAge));
+        return file;
+    }
+
+    /**
+     * Checks that each row and failure arrives on the read thread, right after the previous one.
+     */
+    private static class ReadOrderListener extends FailureCollectingReadListener<SimpleData> {
+        private final Thread readThread;
+
+        ReadOrderListener(Thread readThread) {
+            this.readThread = readThread;
+        }
+
+        @Override
+        public void onException(Exception exception, AnalysisContext context) {
+            Assertions.assertSame(readThread, Thread.currentThread());
+            super.onException(exception, context);
+        }
+
+        @Override
+        public void invoke(SimpleData data, AnalysisContext context) {
+            Assertions.assertSame(readThread, Thread.currentThread());
+            Assertions.assertEquals(
+                    getRowCount() + getFailedRowIndexes().size() + 1, context.readRowHolder().getRowIndex());
+            super.invoke(data, context);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.sheet.read;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+import org.apache.fesod.sheet.FesodSheet;
+import org.apache.fesod.sheet.annotation.ExcelProperty;
+import org.apache.fesod.sheet.converters.Converter;
+import org.apache.fesod.sheet.converters.ReadConverterContext;
+import org.apache.fesod.sheet.enums.CellDataTypeEnum;
+import org.apache.fesod.sheet.metadata.data.ReadCellData;
+import org.apache.fesod.sheet.testkit.Tags;
+import org.apache.fesod.sheet.testkit.base.AbstractExcelTest;
+import org.apache.fesod.sheet.testkit.enums.ExcelFormat;
+import org.apache.fesod.sheet.testkit.params.ExcelFormatSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+
+/**
+ * The head class is filled through setters, chained setters, fields and custom converters.
+ */
+@Tag(Tags.READ)
+public class ModelBuildReadTest extends AbstractExcelTest {
+
+    private static final int ROW_COUNT = 100;
+
+    @ParameterizedTest
+    @ExcelFormatSource
+    void buildsModels(ExcelFormat format) throws Exception {
+        File file = createTempFile("modelBuild", format);
+        List<List<Object>> data = new ArrayList<>();
+        for (int i = 0; i < ROW_COUNT; i++) {
+            List<Object> row = new ArrayList<>();
+            row.add("Name" + i);
+            row.add(i);
+            row.add("Chain" + i);
+            row.add("Field" + i);
+            row.add("Parent" + i);
+            row.add("Custom" + i);
+            row.add("Cell" + i);
+            data.add(row);
+        }
+        FesodSheet.write(file)
+                .excelType(format.toExcelTypeEnum())
+                .head(head())
+                .sheet()
+                .doWrite(data);
+
+        List<ModelRow> rows = FesodSheet.read(file, ModelRow.class, null)
+                .excelType(format.toExcelTypeEnum())
+                .sheet()
+                .doReadSync();
+
+        Assertions.assertEquals(ROW_COUNT, rows.size());
+        for (int i = 0; i < ROW_COUNT; i++) {
+            ModelRow row = rows.get(i);
+            Assertions.assertEquals("Name" + i, row.getName());
+            Assertions.assertEquals(i, row.getNumber());
+            Assertions.assertEquals("Chain" + i, row.getChain());
+            Assertions.assertEquals("Field" + i, row.field);
+            Assertions.assertEquals("Parent" + i, row.getParent());
+            Assertions.assertEquals("custom:Custom" + i, row.getCustom());
+            Assertions.assertEquals("Cell" + i, row.getCell().getData());
+        }
+    }
+
+    private static List<List<String>> head() {
+        List<List<String>> head = new ArrayList<>();
+        for (String name : new String[] {"name", "number", "chain", "field", "parent", "custom", "cell"}) {
+            List<String> column = new ArrayList<>();
+            column.add(name);
+            head.add(column);
+        }
+        return head;
+    }
+
+    @Getter
+    @Setter
+    public static class ParentRow {
+        @ExcelProperty("parent")
+        private String parent;
+    }
+
+    @Getter
+    @Setter
+    public static class ModelRow extends ParentRow {
+        @ExcelProperty("name")
+        private String name;
+
+        @ExcelProperty("number")
+        private int number;
+
+        @ExcelProperty("field")
+        @Getter(AccessLevel.NONE)
+        @Setter(AccessLevel.NONE)
+        private String field;
+
+        @Accessors(chain = true)
+        @ExcelProperty("chain")
+        private String chain;
+
+        @ExcelProperty(value = "custom", converter = CustomConverter.class)
+        private String custom;
+
+        @ExcelProperty("cell")
+        private ReadCellData<String> cell;
+    }
+
+    public static class CustomConverter implements Converter<String> {
+        @Override
+        public Class<?> supportJavaTypeKey() {
+            return String.class;
+        }
+
+        @Override
+        public CellDataTypeEnum supportExcelTypeKey() {
+            return CellDataTypeEnum.STRING;
+        }
+
+        @Override
+        public String convertToJavaData(ReadConverterContext<?> context) {
+            return "custom:" + context.getReadCellData().getStringValue();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.sheet.read;
+
+import java.io.File;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.apache.fesod.sheet.FesodSheet;
+import org.apache.fesod.sheet.testkit.Tags;
+import org.apache.fesod.sheet.testkit.base.AbstractExcelTest;
+import org.apache.fesod.sheet.testkit.enums.ExcelFormat;
+import org.apache.fesod.sheet.testkit.params.ExcelFormatSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+
+/**
+ * Numbers read as int, long and double match the BigDecimal value of the cell.
+ */
+@Tag(Tags.READ)
+public class NumberCellReadTest extends AbstractExcelTest {
+
+    private static final double[] VALUES = {
+        0D, -0D, 1D, -123D, 0.1D, 0.0015D, 2087.0249999999996D, 44729.99998836806D, 1.0E20D, 1.23456789012345E-12D,
+        -9.87654321E15D, 123456789.123456789D, 2147483648.5D, 9007199254740993D, Double.MAX_VALUE, Double.MIN_VALUE
+    };
+
+    @ParameterizedTest
+    @ExcelFormatSource
+    void readsNumbersAsPrimitives(ExcelFormat format) throws Exception {
+        File file = createTempFile("numberCell", format);
+        List<DoubleRow> data = new ArrayList<>();
+        for (double value : VALUES) {
+            DoubleRow row = new DoubleRow();
+            row.setDecimal(value);
+            row.setDoubleValue(value);
+            row.setLongValue(value);
+            row.setIntValue(value);
+            data.add(row);
+        }
+        FesodSheet.write(file, DoubleRow.class)
+                .excelType(format.toExcelTypeEnum())
+                .sheet()
+                .doWrite(data);
+
+        List<NumberRow> rows = FesodSheet.read(file, NumberRow.class, null)
+                .excelType(format.toExcelTypeEnum())
+                .sheet()
+                .doReadSync();
+
+        Assertions.assertEquals(VALUES.length, rows.size());
+        for (NumberRow row : rows) {
+            BigDecimal decimal = row.getDecimal();
+            Assertions.assertEquals(decimal.doubleValue(), (double) row.getDoubleValue(), decimal.toString());
+            Assertions.assertEquals(decimal.longValue(), (long) row.getLongValue(), decimal.toString());
+            Assertions.assertEquals(decimal.intValue(), (int) row.getIntValue(), decimal.toString());
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class DoubleRow {
+        private Double decimal;
+        private Double doubleValue;
+        private Double longValue;
+        private Double intValue;
+    }
+
+    @Getter
+    @Setter
+    public static class NumberRow {
+        private BigDecimal decimal;
+        private Double doubleValue;
+        private Long longValue;
+        private Integer intValue;
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.sheet.read;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.apache.fesod.sheet.FesodSheet;
+import org.apache.fesod.sheet.context.AnalysisContext;
+import org.apache.fesod.sheet.enums.CellExtraTypeEnum;
+import org.apache.fesod.sheet.event.AnalysisEventListener;
+import org.apache.fesod.sheet.metadata.CellExtra;
+import org.apache.fesod.sheet.testkit.Tags;
+import org.apache.fesod.sheet.testkit.base.AbstractExcelTest;
+import org.apache.fesod.sheet.testkit.builders.TestDataBuilder;
+import org.apache.fesod.sheet.testkit.enums.ExcelFormat;
+import org.apache.fesod.sheet.testkit.listeners.FailureCollectingReadListener;
+import org.apache.fesod.sheet.testkit.models.SimpleData;
+import org.apache.fesod.sheet.testkit.params.ExcelFormatSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Only the rows between startRow and endRow are read, the head rows are always read.
+ */
+@Tag(Tags.READ)
+public class RowRangeReadTest extends AbstractExcelTest {
+
+    private static final int ROW_COUNT = 1000;
+
+    /**
+     * The number can not be converted in the rows after this one.
+     */
+    private static final int LAST_VALID_ROW = 600;
+
+    @ParameterizedTest
+    @ExcelFormatSource
+    void readsRowRange(ExcelFormat format) throws Exception {
+        File file = writeRows(format);
+        FailureCollectingReadListener<SimpleData> listener = new FailureCollectingReadListener<>();
+        FesodSheet.read(file, SimpleData.class, listener)
+                .excelType(format.toExcelTypeEnum())
+                .sheet()
+                .startRow(501)
+                .endRow(510)
+                .doRead();
+
+        // The head is row 0
+        assertRows(listener, 500, 10);
+    }
+
+    @ParameterizedTest
+    @ExcelFormatSource
+    void stopsAfterEndRow(ExcelFormat format) throws Exception {
+        File file = writeRows(format);
+        FailureCollectingReadListener<SimpleData> listener = new FailureCollectingReadListener<>();
+        FesodSheet.read(file, SimpleData.class, listener)
+                .excelType(format.toExcelTypeEnum())
+                .sheet()
+                .endRow(LAST_VALID_ROW + 1)
+                .doRead();
+
+        assertRows(listener, 0, LAST_VALID_ROW + 1);
+        Assertions.assertTrue(listener.getFailedRowIndexes().isEmpty());
+    }
+
+    @ParameterizedTest
+    @ExcelFormatSource
+    void readsToTheLastRowWithoutEndRow(ExcelFormat format) throws Exception {
+        File file = writeRows(format);
+        FailureCollectingReadListener<SimpleData> listener = new FailureCollectingReadListener<>();
+        FesodSheet.read(file, SimpleData.class, listener)
+                .excelType(format.toExcelTypeEnum())
+                .sheet()
+                .startRow(990)
+                .doRead();
+
+        // The rows after LAST_VALID_ROW fail to convert
+        Assertions.assertEquals(ROW_COUNT - 989, listener.getFailedRowIndexes().size());
+        Assertions.assertEquals(990, listener.getFailedRowIndexes().get(0));
+        Assertions.assertEquals(1, listener.getFinishedCount());
+    }
+
+    @Test
+    void readsRowRangeWithByteScanner() throws Exception {
+        File file = writeRows(ExcelFormat.XLSX);
+        FailureCollectingReadListener<SimpleData> listener = new FailureCollectingReadListener<>();
+        FesodSheet.read(file, SimpleData.class, listener)
+                .xlsxByteScanner(true)
+                .sheet()
+                .startRow(101)
+                .endRow(200)
+                .doRead();
+
+        assertRows(listener, 100, 100);
+    }
+
+    @Test
+    void readsRowRangeWithExtra() throws Exception {
+        File file = writeRows(ExcelFormat.XLSX);
+        FailureCollectingReadListener<SimpleData> listener = new FailureCollectingReadListener<>();
+        FesodSheet.read(file, SimpleData.class, listener)
+                .extraRead(CellExtraTypeEnum.MERGE)
+                .sheet()
+                .startRow(101)
+                .endRow(200)
+                .doRead();
+
+        assertRows(listener, 100, 100);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void readsCommentsAfterEndRow(boolean byteScanner) {
+        File file = readFile("extra" + File.separator + "extra.xlsx");
+        List<CellExtra> extras = new ArrayList<>();
+        FesodSheet.read(file, new AnalysisEventListener<Map<Integer, String>>() {
+                    @Override
+                    public void invoke(Map<Integer, String> data, AnalysisContext context) {}
+
+                    @Override
+                    public void extra(CellExtra extra, AnalysisContext context) {
+                        extras.add(extra);
+                    }
+
+                    @Override
+                    public void doAfterAllAnalysed(AnalysisContext context) {}
+                })
+                .xlsxByteScanner(byteScanner)
+                .extraRead(CellExtraTypeEnum.COMMENT)
+                .sheet()
+                .endRow(1)
+                .doRead();
+
+        // The comment is in a row after the last one read
+        Assertions.assertEquals(1, extras.size());
+        Assertions.assertEquals(CellExtraTypeEnum.COMMENT, extras.get(0).getType());
+        Assertions.assertEquals(4, extras.get(0).getRowIndex());
+        Assertions.assertEquals(0, extras.get(0).getColumnIndex());
+    }
+
+    private static void assertRows(FailureCollectingReadListener<SimpleData> listener, int firstRow, int rowCount) {
+        Assertions.assertEquals(rowCount, listener.getRowCount());
+        for (int i = 0; i < rowCount; i++) {
+            Assertions.assertEquals("Name" + (firstRow + i), listener.getRows().get(i).getName());
+            Assertions.assertEquals(firstRow + i, listener.getRows().get(i).getAge());
+        }
+        Assertions.assertEquals(1, listener.getFinishedCount());
+    }
+
+    private File writeRows(ExcelFormat format) throws Exception {
+        File file = createTempFile("rowRange", format);
+        FesodSheet.write(file)
+                .head(TestDataBuilder.simpleDataHead())
+                .excelType(format.toExcelTypeEnum())
+                .sheet()
+                .doWrite(TestDataBuilder.simpleDataRows(ROW_COUNT, i -> i > LAST_VALID_ROW));
+        return file;
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.sheet.read;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.apache.fesod.sheet.FesodSheet;
+import org.apache.fesod.sheet.context.AnalysisContext;
+import org.apache.fesod.sheet.metadata.data.ReadCellData;
+import org.apache.fesod.sheet.read.listener.CellMapReadListener;
+import org.apache.fesod.sheet.read.listener.ReadListener;
+import org.apache.fesod.sheet.testkit.Tags;
+import org.apache.fesod.sheet.testkit.base.AbstractExcelTest;
+import org.apache.fesod.sheet.testkit.enums.ExcelFormat;
+import org.apache.fesod.sheet.testkit.params.ExcelFormatSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+
+/**
+ * The cells of a row never leak into the next one, whether or not the row cell map is reused.
+ */
+@Tag(Tags.READ)
+public class RowReuseReadTest extends AbstractExcelTest {
+
+    @ParameterizedTest
+    @ExcelFormatSource
+    void readsShrinkingRows(ExcelFormat format) throws Exception {
+        File file = writeFile(format);
+
+        List<Map<Integer, String>> rows = FesodSheet.read(file)
+                .excelType(format.toExcelTypeEnum())
+                .sheet()
+                .doReadSync();
+
+        Assertions.assertEquals(3, rows.size());
+        Assertions.assertEquals(Arrays.asList("a0", "a1", "a2", "a3"), new ArrayList<>(rows.get(0).values()));
+        // Rows without a model are filled up to the head with nulls
+        Assertions.assertEquals(Arrays.asList("b0", null, null, null), new ArrayList<>(rows.get(1).values()));
+        Assertions.assertEquals(Arrays.asList("c0", "c1", null, null), new ArrayList<>(rows.get(2).values()));
+    }
+
+    @ParameterizedTest
+    @ExcelFormatSource
+    void keepsRawCellMaps(ExcelFormat format) throws Exception {
+        File file = writeFile(format);
+        List<Map<Integer, ReadCellData<?>>> cellMaps = new ArrayList<>();
+        FesodSheet.read(file, new ReadListener<Map<Integer, ReadCellData<?>>>() {
+                    @Override
+                    public void invoke(Map<Integer, ReadCellData<?>> data, AnalysisContext context) {
+                        cellMaps.add(data);
+                    }
+
+                    @Override
+                    public void doAfterAllAnalysed(AnalysisContext context) {}
+                })
+                .useDefaultListener(false)
+                .excelType(format.toExcelTypeEnum())
+                .sheet()
+                .doRead();
+
+        List<Map<Integer, String>> rows = new ArrayList<>();
+        for (Map<Integer, ReadCellData<?>> cellMap : cellMaps) {
+            Map<Integer, String> row = new TreeMap<>();
+            for (Map.Entry<Integer, ReadCellData<?>> entry : cellMap.entrySet()) {
+                row.put(entry.getKey(), entry.getValue().getStringValue());
+            }
+            rows.add(row);
+        }
+        Assertions.assertEquals(3, rows.size());
+        Assertions.assertEquals(Arrays.asList("a0", "a1", "a2", "a3"), new ArrayList<>(rows.get(0).values()));
+        Assertions.assertEquals(Collections.singletonList("b0"), new ArrayList<>(rows.get(1).values()));
+        Assertions.assertEquals(Arrays.asList("c0", "c1"), new ArrayList<>(rows.get(2).values()));
+    }
+
+    @ParameterizedTest
+    @ExcelFormatSource
+    void cellMapListenerSeesEachRow(ExcelFormat format) throws Exception {
+        File file = writeFile(format);
+        List<List<Integer>> columns = new ArrayList<>();
+        FesodSheet.read(file, new CellMapListener(columns))
+                .excelType(format.toExcelTypeEnum())
+                .sheet()
+                .doRead();
+
+        Assertions.assertEquals(
+                Arrays.asList(Arrays.asList(0, 1, 2, 3), Arrays.asList(0), Arrays.asList(0, 1)), columns);
+    }
+
+    private File writeFile(ExcelFormat format) throws Exception {
+        File file = createTempFile("rowReuse", format);
+        List<List<String>> head = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            head.add(Collections.singletonList("h" + i));
+        }
+        List<List<Object>> data = new ArrayList<>();
+        data.add(Arrays.asList("a0", "a1", "a2", "a3"));
+        data.add(Arrays.asList("b0"));
+        data.add(Arrays.asList("c0", "c1"));
+        FesodSheet.write(file)
+                .head(head)
+                .excelType(format.toExcelTypeEnum())
+                .sheet()
+                .doWrite(data);
+        return file;
+    }
+
+    private static class CellMapListener implements CellMapReadListener {
+        private final List<List<Integer>> columns;
+
+        private CellMapListener(List<List<Integer>> columns) {
+            this.columns = columns;
+        }
+
+        @Override
+        public void invoke(Map<Integer, ReadCellData<?>> data, AnalysisContext context) {
+            columns.add(new ArrayList<>(data.keySet()));
+        }
+
+        @Override
+        public void doAfterAllAnalysed(AnalysisContext context) {}
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.sheet.read;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.fesod.sheet.FesodSheet;
+import org.apache.fesod.sheet.context.AnalysisContext;
+import org.apache.fesod.sheet.enums.CellDataTypeEnum;
+import org.apache.fesod.sheet.exception.ExcelDataConvertException;
+import org.apache.fesod.sheet.read.listener.RowViewReadListener;
+import org.apache.fesod.sheet.read.metadata.RowView;
+import org.apache.fesod.sheet.testkit.Tags;
+import org.apache.fesod.sheet.testkit.base.AbstractExcelTest;
+import org.apache.fesod.sheet.testkit.enums.ExcelFormat;
+import org.apache.fesod.sheet.testkit.params.ExcelFormatSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+
+/**
+ * A {@link RowViewReadListener} reads the same strings as a read without a model.
+ */
+@Tag(Tags.READ)
+public class RowViewReadTest extends AbstractExcelTest {
+
+    private static final int ROWS = 6;
+    private static final int COLUMNS = 5;
+
+    @ParameterizedTest
+    @ExcelFormatSource
+    void readsRowsThroughView(ExcelFormat format) throws Exception {
+        File file = createTempFile("rowView", format);
+        List<List<Object>> data = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            data.add(Arrays.asList(i, "name" + i, i * 2.5D, i % 2 == 0, i % 3 == 0 ? null : String.valueOf(i * 10)));
+        }
+        List<List<String>> head = new ArrayList<>();
+        for (String name : new String[] {"id", "name", "score", "active", "text"}) {
+            head.add(Collections.singletonList(name));
+        }
+        FesodSheet.write(file)
+                .head(head)
+                .excelType(format.toExcelTypeEnum())
+                .sheet()
+                .doWrite(data);
+
+        List<Map<Integer, String>> expected = FesodSheet.read(file)
+                .excelType(format.toExcelTypeEnum())
+                .sheet()
+                .doReadSync();
+
+        List<List<String>> strings = new ArrayList<>();
+        Set<RowView> views = Collections.newSetFromMap(new IdentityHashMap<>());
+        FesodSheet.read(file, new RowViewReadListener() {
+                    @Override
+                    public void invokeRow(RowView rowView, AnalysisContext context) {
+                        views.add(rowView);
+                        int i = rowView.getRowIndex() - 1;
+                        List<String> row = new ArrayList<>();
+                        for (int column = 0; column < COLUMNS; column++) {
+                            row.add(rowView.getString(column));
+                        }
+                        strings.add(row);
+
+                        Assertions.assertEquals(i, rowView.getLong(0));
+                        Assertions.assertEquals(i * 2.5D, rowView.getDouble(2));
+                        Assertions.assertEquals((long) (i * 2.5D), rowView.getLong(2));
+                        Assertions.assertFalse(rowView.isEmpty(1));
+                        Assertions.assertTrue(rowView.isEmpty(COLUMNS));
+                        Assertions.assertEquals(CellDataTypeEnum.EMPTY, rowView.cellType(COLUMNS));
+                        Assertions.assertNull(rowView.getString(COLUMNS));
+                        Assertions.assertThrows(ExcelDataConvertException.class, () -> rowView.getDouble(COLUMNS));
+                        if (i % 3 == 0) {
+                            Assertions.assertTrue(rowView.isEmpty(4));
+                        } else {
+                            Assertions.assertEquals(i * 10L, rowView.getLong(4));
+                        }
+                    }
+
+                    @Override
+                    public void doAfterAllAnalysed(AnalysisContext context) {}
+                })
+                .excelType(format.toExcelTypeEnum())
+                .sheet()
+                .doRead();
+
+        Assertions.assertEquals(1, views.size());
+        Assertions.assertEquals(expected.size(), strings.size());
+        for (int i = 0; i < expected.size(); i++) {
+            for (int column = 0; column < COLUMNS; column++) {
+                Assertions.assertEquals(expected.get(i).get(column), strings.get(i).get(column));
+            }
+        }
+    }
+}
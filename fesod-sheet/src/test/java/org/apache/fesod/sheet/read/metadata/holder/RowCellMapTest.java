@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.sheet.read.metadata.holder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.fesod.sheet.enums.CellDataTypeEnum;
+import org.apache.fesod.sheet.metadata.Cell;
+import org.apache.fesod.sheet.metadata.data.ReadCellData;
+import org.apache.fesod.sheet.testkit.Tags;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link RowCellMap} behaves like a map ordered by column index.
+ */
+@Tag(Tags.UNIT)
+public class RowCellMapTest {
+
+    @Test
+    void iteratesColumnsInOrder() {
+        RowCellMap map = new RowCellMap();
+        map.put(130, cell("c"));
+        map.put(3, cell("a"));
+        map.put(64, cell("b"));
+
+        Assertions.assertEquals(3, map.size());
+        Assertions.assertEquals(131, map.getColumnCount());
+        Assertions.assertEquals(Arrays.asList(3, 64, 130), new ArrayList<>(map.keySet()));
+        Assertions.assertEquals("b", ((ReadCellData<?>) map.get(64)).getStringValue());
+        Assertions.assertNull(map.get(4));
+        Assertions.assertNull(map.get(1000));
+        Assertions.assertFalse(map.containsKey("3"));
+    }
+
+    @Test
+    void replacesAndRemovesCells() {
+        RowCellMap map = new RowCellMap();
+        Cell first = cell("a");
+        Assertions.assertNull(map.put(1, first));
+        Assertions.assertSame(first, map.put(1, cell("b")));
+        Assertions.assertEquals(1, map.size());
+
+        map.put(2, cell("c"));
+        Iterator<Map.Entry<Integer, Cell>> iterator = map.entrySet().iterator();
+        iterator.next();
+        iterator.remove();
+        Assertions.assertEquals(Arrays.asList(2), new ArrayList<>(map.keySet()));
+
+        Assertions.assertNotNull(map.remove(2));
+        Assertions.assertTrue(map.isEmpty());
+    }
+
+    @Test
+    void clearsForNextRow() {
+        RowCellMap map = new RowCellMap();
+        for (int i = 0; i < 200; i += 7) {
+            map.put(i, cell(String.valueOf(i)));
+        }
+        map.clear();
+        Assertions.assertTrue(map.isEmpty());
+        Assertions.assertEquals(0, map.getColumnCount());
+        Assertions.assertNull(map.get(7));
+
+        map.put(5, cell("x"));
+        List<Integer> keys = new ArrayList<>(map.keySet());
+        Assertions.assertEquals(Arrays.asList(5), keys);
+    }
+
+    @Test
+    void equalsOtherMaps() {
+        RowCellMap map = new RowCellMap();
+        Map<Integer, Cell> expected = new LinkedHashMap<>();
+        for (int i = 0; i < 3; i++) {
+            Cell cell = cell(String.valueOf(i));
+            map.put(i, cell);
+            expected.put(i, cell);
+        }
+        Assertions.assertEquals(expected, map);
+        Assertions.assertEquals(expected.hashCode(), map.hashCode());
+    }
+
+    private static Cell cell(String value) {
+        return new ReadCellData<>(CellDataTypeEnum.STRING, value);
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.sheet.sheet;
+
+import java.io.File;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.fesod.sheet.ExcelReader;
+import org.apache.fesod.sheet.ExcelWriter;
+import org.apache.fesod.sheet.FesodSheet;
+import org.apache.fesod.sheet.context.AnalysisContext;
+import org.apache.fesod.sheet.exception.ExcelDataConvertException;
+import org.apache.fesod.sheet.testkit.Tags;
+import org.apache.fesod.sheet.testkit.base.AbstractExcelTest;
+import org.apache.fesod.sheet.testkit.builders.TestDataBuilder;
+import org.apache.fesod.sheet.testkit.enums.ExcelFormat;
+import org.apache.fesod.sheet.testkit.listeners.CollectingReadListener;
+import org.apache.fesod.sheet.testkit.models.SimpleData;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag(Tags.ROUND_TRIP)
+public class ParallelSheetsReadTest extends AbstractExcelTest {
+
+    private static final int SHEET_COUNT = 6;
+
+    @Test
+    void eachSheetListenerOnlyReceivesItsSheet() throws Exception {
+        File file = writeSheets();
+        Map<Integer, CollectingReadListener<SimpleData>> listenerMap = new ConcurrentHashMap<>();
+        Map<Integer, String> threadMap = new ConcurrentHashMap<>();
+        FesodSheet.read(file, SimpleData.class, null)
+                .parallelSheets(3)
+                .readListenerFactory(readSheet -> {
+                    CollectingReadListener<SimpleData> listener = new CollectingReadListener<SimpleData>() {
+                        @Override
+                        public void invoke(SimpleData data, AnalysisContext context) {
+                            Assertions.assertEquals(
+                                    readSheet.getSheetNo(),
+                                    context.readSheetHolder().getSheetNo());
+                            threadMap.merge(
+                                    readSheet.getSheetNo(), Thread.currentThread().getName(), (oldName, newName) -> {
+                                        Assertions.assertEquals(oldName, newName);
+                                        return oldName;
+                                    });
+                            super.invoke(data, context);
+                        }
+                    };
+                    Assertions.assertNull(listenerMap.put(readSheet.getSheetNo(), listener));
+                    return listener;
+                })
+                .doReadAll();
+
+        Assertions.assertEquals(SHEET_COUNT, listenerMap.size());
+        for (int sheetNo = 0; sheetNo < SHEET_COUNT; sheetNo++) {
+            List<SimpleData> rows = listenerMap.get(sheetNo).getRows();
+            Assertions.assertEquals(rowCount(sheetNo), rows.size());
+            for (int i = 0; i < rows.size(); i++) {
+                Assertions.assertEquals("S" + sheetNo + "Name" + i, rows.get(i).getName());
+            }
+            Assertions.assertTrue(threadMap.get(sheetNo).startsWith("fesod-sheet-reader-"));
+        }
+    }
+
+    @Test
+    void readsSelectedSheetsOnly() throws Exception {
+        File file = writeSheets();
+        Map<Integer, CollectingReadListener<SimpleData>> listenerMap = new ConcurrentHashMap<>();
+        try (ExcelReader excelReader = FesodSheet.read(file, SimpleData.class, null)
+                .parallelSheets(4)
+                .readListenerFactory(readSheet -> listenerMap.computeIfAbsent(
+                        readSheet.getSheetNo(), key -> new CollectingReadListener<SimpleData>()))
+                .build()) {
+            excelReader.read(
+                    FesodSheet.readSheet(1).build(),
+                    FesodSheet.readSheet(4).build());
+        }
+        Assertions.assertEquals(2, listenerMap.size());
+        Assertions.assertEquals(rowCount(1), listenerMap.get(1).getRowCount());
+        Assertions.assertEquals(rowCount(4), listenerMap.get(4).getRowCount());
+    }
+
+    @Test
+    void rethrowsSheetFailure() throws Exception {
+        File file = writeSheets();
+        Assertions.assertThrows(ExcelDataConvertException.class, () -> FesodSheet.read(
+                        file, SimpleData.class, null)
+                .parallelSheets(2)
+                .readListenerFactory(readSheet -> new CollectingReadListener<SimpleData>() {
+                    @Override
+                    public void invoke(SimpleData data, AnalysisContext context) {
+                        if (readSheet.getSheetNo() == 2) {
+                            throw new ExcelDataConvertException(
+                                    context.readRowHolder().getRowIndex(), 0, null, null, "failure");
+                        }
+                    }
+                })
+                .doReadAll());
+    }
+
+    private File writeSheets() throws Exception {
+        File file = createTempFile("parallelSheets", ExcelFormat.XLSX);
+        try (ExcelWriter excelWriter = FesodSheet.write(file, SimpleData.class).build()) {
+            for (int sheetNo = 0; sheetNo < SHEET_COUNT; sheetNo++) {
+                excelWriter.write(
+                        TestDataBuilder.simpleData(rowCount(sheetNo), "S" + sheetNo),
+                        FesodSheet.writerSheet(sheetNo, "Sheet" + sheetNo).build());
+            }
+        }
+        return file;
+    }
+
+    private int rowCount(int sheetNo) {
+        return 200 + sheetNo * 50;
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.sheet.style;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.fesod.common.util.BooleanUtils;
+import org.apache.fesod.sheet.FesodSheet;
+import org.apache.fesod.sheet.testkit.Tags;
+import org.apache.fesod.sheet.testkit.base.AbstractExcelTest;
+import org.apache.fesod.sheet.testkit.enums.ExcelFormat;
+import org.apache.fesod.sheet.write.handler.CellWriteHandler;
+import org.apache.fesod.sheet.write.handler.context.CellWriteHandlerContext;
+import org.apache.fesod.sheet.write.metadata.style.WriteCellStyle;
+import org.apache.fesod.sheet.write.style.HorizontalCellStyleStrategy;
+import org.apache.poi.ss.usermodel.BorderStyle;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.xssf.usermodel.XSSFSheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Content styles that only depend on the column are built once per column and shared by its cells.
+ */
+@Tag(Tags.WRITE)
+public class ColumnStylePlanTest extends AbstractExcelTest {
+
+    private static final int ROWS = 5;
+
+    @Test
+    void shareColumnStyle() throws Exception {
+        File file = createTempFile("columnStylePlan", ExcelFormat.XLSX);
+        FesodSheet.write(file, AnnotationStyleData.class)
+                .registerWriteHandler(new HorizontalCellStyleStrategy(null, borderStyle()))
+                .sheet()
+                .doWrite(data());
+
+        try (XSSFWorkbook workbook = new XSSFWorkbook(file)) {
+            XSSFSheet sheet = workbook.getSheetAt(0);
+            for (int column = 0; column < 2; column++) {
+                CellStyle first = sheet.getRow(1).getCell(column).getCellStyle();
+                for (int row = 2; row <= ROWS; row++) {
+                    Assertions.assertEquals(
+                            first.getIndex(), sheet.getRow(row).getCell(column).getCellStyle().getIndex());
+                }
+                Assertions.assertEquals(BorderStyle.THIN, first.getBorderLeft());
+            }
+            Assertions.assertEquals(40, sheet.getRow(1).getCell(0).getCellStyle().getFillForegroundColor());
+            Assertions.assertEquals(17, sheet.getRow(1).getCell(1).getCellStyle().getFillForegroundColor());
+            Assertions.assertNotEquals(
+                    sheet.getRow(1).getCell(0).getCellStyle().getIndex(),
+                    sheet.getRow(1).getCell(1).getCellStyle().getIndex());
+        }
+    }
+
+    @Test
+    void styleSingleCells() throws Exception {
+        File file = createTempFile("columnStylePlanSingleCells", ExcelFormat.XLSX);
+        FesodSheet.write(file, AnnotationStyleData.class)
+                .registerWriteHandler(new HorizontalCellStyleStrategy(null, borderStyle()))
+                .registerWriteHandler(new CellWriteHandler() {
+                    @Override
+                    public void afterCellDispose(CellWriteHandlerContext context) {
+                        if (BooleanUtils.isFalse(context.getHead()) && context.getRelativeRowIndex() == 2) {
+                            context.getFirstCellData().getOrCreateStyle().setWrapped(true);
+                        }
+                    }
+                })
+                .sheet()
+                .doWrite(data());
+
+        try (XSSFWorkbook workbook = new XSSFWorkbook(file)) {
+            XSSFSheet sheet = workbook.getSheetAt(0);
+            for (int row = 1; row <= ROWS; row++) {
+                CellStyle cellStyle = sheet.getRow(row).getCell(0).getCellStyle();
+                Assertions.assertEquals(row == 3, cellStyle.getWrapText());
+                Assertions.assertEquals(BorderStyle.THIN, cellStyle.getBorderLeft());
+                Assertions.assertEquals(40, cellStyle.getFillForegroundColor());
+            }
+        }
+    }
+
+    private static WriteCellStyle borderStyle() {
+        WriteCellStyle writeCellStyle = new WriteCellStyle();
+        writeCellStyle.setBorderLeft(BorderStyle.THIN);
+        return writeCellStyle;
+    }
+
+    private static List<AnnotationStyleData> data() {
+        List<AnnotationStyleData> list = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            AnnotationStyleData data = new AnnotationStyleData();
+            data.setString("string" + i);
+            data.setString1("string1" + i);
+            list.add(data);
+        }
+        return list;
+    }
+}
@@ -24,9 +24,10 @@ package org.apache.fesod.sheet.testkit;
  *
  * <h2>Usage with Maven Surefire</h2>
  * <pre>
- * mvn test -Dtest.groups=unit              # fast feedback: util tests only
- * mvn test -Dtest.excludedGroups=fuzz      # exclude slow fuzz tests
- * mvn test                                 # run all (default)
+ * mvn test -Dtest.groups=unit                     # fast feedback: util tests only
+ * mvn test -Dtest.excludedGroups=fuzz,benchmark   # exclude slow fuzz tests
+ * mvn test                                        # run all but the benchmarks (default)
+ * mvn test -Pbenchmark                            # run the benchmarks only
  * </pre>
  *
  * <h2>Tag Definitions</h2>
@@ -37,6 +38,7 @@ package org.apache.fesod.sheet.testkit;
  *   <li>{@link #WRITE} — write-only tests (sheet creation, handlers, freeze panes)</li>
  *   <li>{@link #FORMAT} — format-specific tests (CSV, BOM, charset, date formats)</li>
  *   <li>{@link #FUZZ} — fuzzing tests (slow, property-based random input)</li>
+ *   <li>{@link #BENCHMARK} — timing comparisons, excluded unless the {@code benchmark} profile is active</li>
  * </ul>
  */
 public final class Tags {
@@ -59,6 +61,9 @@ public final class Tags {
     /** Fuzzing tests (slow, property-based random input). */
     public static final String FUZZ = "fuzz";
 
+    /** Timing comparisons, excluded unless the {@code benchmark} profile is active. */
+    public static final String BENCHMARK = "benchmark";
+
     private Tags() {
         // utility class
     }
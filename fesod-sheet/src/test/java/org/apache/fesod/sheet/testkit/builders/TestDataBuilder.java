@@ -23,8 +23,11 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.sql.Timestamp;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.function.IntPredicate;
 import org.apache.fesod.sheet.converter.CellDataWriteData;
 import org.apache.fesod.sheet.converter.ConverterWriteData;
 import org.apache.fesod.sheet.converter.CustomConverterWriteData;
@@ -123,6 +126,54 @@ public final class TestDataBuilder {
         return list;
     }
 
+    /**
+     * Creates the "Name" and "Age" head of {@link SimpleData}, for the rows of {@link #simpleDataRows}.
+     */
+    public static List<List<String>> simpleDataHead() {
+        List<List<String>> head = new ArrayList<>();
+        head.add(Collections.singletonList("Name"));
+        head.add(Collections.singletonList("Age"));
+        return head;
+    }
+
+    /**
+     * Creates rows of name "Name{i}" and age "{i}" as text, to be read as {@link SimpleData}. The age is "bad{i}" in
+     * the rows matched by {@code badAge}, so that it can not be converted.
+     */
+    public static List<List<Object>> simpleDataRows(int count, IntPredicate badAge) {
+        List<List<Object>> list = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            List<Object> row = new ArrayList<>();
+            row.add("Name" + i);
+            row.add(badAge.test(i) ? "bad" + i : String.valueOf(i));
+            list.add(row);
+        }
+        return list;
+    }
+
+    /**
+     * Creates the "name", "number" and "flag" head of {@link #indexedRows}.
+     */
+    public static List<List<String>> indexedRowsHead() {
+        List<List<String>> head = new ArrayList<>();
+        head.add(Collections.singletonList("name"));
+        head.add(Collections.singletonList("number"));
+        head.add(Collections.singletonList("flag"));
+        return head;
+    }
+
+    /**
+     * Creates rows of name "{prefix}{i}", number {@code i} and flag "{@code i} is even", with {@code i} counting from
+     * {@code first}, to be written without a model.
+     */
+    public static List<List<Object>> indexedRows(String prefix, int first, int count) {
+        List<List<Object>> list = new ArrayList<>();
+        for (int i = first; i < first + count; i++) {
+            list.add(Arrays.asList(prefix + i, i, i % 2 == 0));
+        }
+        return list;
+    }
+
     /**
      * Creates a list of {@link SimpleData} with name and date fields populated.
      */
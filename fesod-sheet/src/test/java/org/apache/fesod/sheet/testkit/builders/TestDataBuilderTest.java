@@ -19,6 +19,7 @@
 
 package org.apache.fesod.sheet.testkit.builders;
 
+import java.util.Arrays;
 import java.util.List;
 import org.apache.fesod.sheet.converter.ConverterWriteData;
 import org.apache.fesod.sheet.style.FillAnnotationData;
@@ -123,4 +124,13 @@ class TestDataBuilderTest {
         Assertions.assertEquals(
                 "sheet-1", TestDataBuilder.titleData(2, "sheet-").get(1).getTitle());
     }
+
+    @Test
+    void indexedRowsCountFromFirst() {
+        List<List<Object>> rows = TestDataBuilder.indexedRows("row", 5, 2);
+        Assertions.assertEquals(2, rows.size());
+        Assertions.assertEquals(Arrays.asList("row5", 5, false), rows.get(0));
+        Assertions.assertEquals(Arrays.asList("row6", 6, true), rows.get(1));
+        Assertions.assertEquals(3, TestDataBuilder.indexedRowsHead().size());
+    }
 }
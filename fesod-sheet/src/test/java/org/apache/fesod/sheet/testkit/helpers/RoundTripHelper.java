@@ -26,10 +26,13 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import org.apache.fesod.sheet.FesodSheet;
+import org.apache.fesod.sheet.testkit.builders.TestDataBuilder;
 import org.apache.fesod.sheet.testkit.enums.ApiMode;
 import org.apache.fesod.sheet.testkit.enums.ExcelFormat;
 import org.apache.fesod.sheet.testkit.listeners.CollectingReadListener;
+import org.junit.jupiter.api.Assertions;
 
 /**
  * Encapsulates write-then-read boilerplate for round-trip tests.
@@ -123,6 +126,22 @@ public final class RoundTripHelper {
         return result;
     }
 
+    // ---- Rows without a model ----
+
+    /**
+     * Reads a sheet written with {@link TestDataBuilder#indexedRows} as it is, and checks its {@code count} rows.
+     */
+    public static void assertIndexedRows(File file, int sheetNo, String prefix, int count) {
+        List<Map<Integer, String>> rows = FesodSheet.read(file).sheet(sheetNo).doReadSync();
+        Assertions.assertEquals(count, rows.size());
+        for (int i = 0; i < count; i++) {
+            Map<Integer, String> row = rows.get(i);
+            Assertions.assertEquals(prefix + i, row.get(0));
+            Assertions.assertEquals(String.valueOf(i), row.get(1));
+            Assertions.assertEquals(String.valueOf(i % 2 == 0), row.get(2));
+        }
+    }
+
     // ---- API-mode-aware round trip ----
 
     /**
@@ -23,7 +23,9 @@ import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import org.apache.fesod.sheet.FesodSheet;
 import org.apache.fesod.sheet.testkit.Tags;
+import org.apache.fesod.sheet.testkit.builders.TestDataBuilder;
 import org.apache.fesod.sheet.testkit.enums.ApiMode;
 import org.apache.fesod.sheet.testkit.enums.ExcelFormat;
 import org.apache.fesod.sheet.testkit.models.SimpleData;
@@ -142,4 +144,18 @@ class RoundTripHelperTest {
         Assertions.assertFalse(result.isEmpty());
         Assertions.assertEquals(4, result.size());
     }
+
+    @ParameterizedTest
+    @EnumSource(ExcelFormat.class)
+    void assertIndexedRowsReadsWrittenRows(ExcelFormat format) throws IOException {
+        File file = format.createTempFile("rth-indexed", tempDir);
+        FesodSheet.write(file)
+                .excelType(format.toExcelTypeEnum())
+                .head(TestDataBuilder.indexedRowsHead())
+                .sheet()
+                .doWrite(TestDataBuilder.indexedRows("row", 0, 10));
+
+        RoundTripHelper.assertIndexedRows(file, 0, "row", 10);
+        Assertions.assertThrows(AssertionError.class, () -> RoundTripHelper.assertIndexedRows(file, 0, "other", 10));
+    }
 }
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.sheet.testkit.helpers;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Enumeration;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+import org.apache.poi.util.IOUtils;
+import org.junit.jupiter.api.Assertions;
+
+/**
+ * Copies an xlsx file part by part, changing the XML on the way, to read files that the writer does not produce.
+ */
+public final class XlsxRewriteHelper {
+
+    private XlsxRewriteHelper() {}
+
+    /**
+     * Copies the xlsx, rewriting the XML of every worksheet.
+     */
+    public static void rewriteSheets(File source, File target, UnaryOperator<String> rewriter) throws IOException {
+        copy(source, target, null, null, XlsxRewriteHelper::isSheet, rewriter);
+    }
+
+    /**
+     * Copies the xlsx, replacing {@code search} in every worksheet, which must contain it.
+     */
+    public static void replaceInSheets(File source, File target, String search, String replacement)
+            throws IOException {
+        rewriteSheets(source, target, xml -> {
+            Assertions.assertTrue(xml.contains(search), search);
+            return xml.replace(search, replacement);
+        });
+    }
+
+    /**
+     * Copies the xlsx, rewriting the XML of a single part such as {@code xl/workbook.xml}.
+     */
+    public static void rewritePart(File source, File target, String partName, UnaryOperator<String> rewriter)
+            throws IOException {
+        copy(source, target, null, null, partName::equals, rewriter);
+    }
+
+    /**
+     * Copies the xlsx with an extra part put before all the others.
+     */
+    public static void prependPart(File source, File target, String partName, byte[] content) throws IOException {
+        copy(source, target, partName, content, name -> false, UnaryOperator.identity());
+    }
+
+    private static boolean isSheet(String partName) {
+        return partName.startsWith("xl/worksheets/") && partName.endsWith(".xml");
+    }
+
+    private static void copy(
+            File source,
+            File target,
+            String firstPartName,
+            byte[] firstPart,
+            Predicate<String> rewritten,
+            UnaryOperator<String> rewriter)
+            throws IOException {
+        try (ZipFile zipFile = new ZipFile(source);
+                ZipOutputStream zipOutputStream = new ZipOutputStream(new FileOutputStream(target))) {
+            if (firstPartName != null) {
+                zipOutputStream.putNextEntry(new ZipEntry(firstPartName));
+                zipOutputStream.write(firstPart);
+                zipOutputStream.closeEntry();
+            }
+            Enumeration<? extends ZipEntry> entries = zipFile.entries();
+            while (entries.hasMoreElements()) {
+                ZipEntry entry = entries.nextElement();
+                byte[] content = IOUtils.toByteArray(zipFile.getInputStream(entry));
+                if (rewritten.test(entry.getName())) {
+                    content = rewriter.apply(new String(content, StandardCharsets.UTF_8))
+                            .getBytes(StandardCharsets.UTF_8);
+                }
+                zipOutputStream.putNextEntry(new ZipEntry(entry.getName()));
+                zipOutputStream.write(content);
+                zipOutputStream.closeEntry();
+            }
+        }
+    }
+}
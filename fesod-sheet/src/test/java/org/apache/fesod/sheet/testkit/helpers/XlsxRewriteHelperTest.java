@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.sheet.testkit.helpers;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipFile;
+import org.apache.fesod.sheet.FesodSheet;
+import org.apache.fesod.sheet.testkit.Tags;
+import org.apache.fesod.sheet.testkit.enums.ExcelFormat;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@Tag(Tags.UNIT)
+class XlsxRewriteHelperTest {
+
+    @TempDir
+    File tempDir;
+
+    private File source;
+
+    @BeforeEach
+    void writeSource() throws IOException {
+        source = ExcelFormat.XLSX.createTempFile("rewrite-source", tempDir);
+        FesodSheet.write(source).sheet().doWrite(Collections.singletonList(Collections.singletonList("before")));
+    }
+
+    @Test
+    void replaceInSheetsChangesTheCells() throws IOException {
+        File target = ExcelFormat.XLSX.createTempFile("rewrite-sheets", tempDir);
+
+        XlsxRewriteHelper.replaceInSheets(source, target, "before", "after");
+
+        List<Map<Integer, String>> rows = FesodSheet.read(target).headRowNumber(0).sheet().doReadSync();
+        Assertions.assertEquals("after", rows.get(0).get(0));
+        Assertions.assertThrows(
+                AssertionError.class, () -> XlsxRewriteHelper.replaceInSheets(source, target, "missing", "after"));
+    }
+
+    @Test
+    void prependPartPutsThePartFirst() throws IOException {
+        File target = ExcelFormat.XLSX.createTempFile("rewrite-prepend", tempDir);
+
+        XlsxRewriteHelper.prependPart(source, target, "extra.xml", "<extra/>".getBytes(StandardCharsets.UTF_8));
+
+        try (ZipFile zipFile = new ZipFile(target)) {
+            Assertions.assertEquals("extra.xml", zipFile.entries().nextElement().getName());
+        }
+        Assertions.assertEquals(1, FesodSheet.read(target).headRowNumber(0).sheet().doReadSync().size());
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fesod.sheet.testkit.listeners;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.apache.fesod.sheet.context.AnalysisContext;
+
+/**
+ * A {@link CollectingReadListener} that also collects the rows that failed instead of stopping the read, and counts
+ * the calls to {@link #doAfterAllAnalysed(AnalysisContext)}.
+ *
+ * @param <T> the row model type
+ */
+public class FailureCollectingReadListener<T> extends CollectingReadListener<T> {
+
+    private final List<Integer> failedRowIndexes = new ArrayList<Integer>();
+    private final List<Exception> exceptions = new ArrayList<Exception>();
+    private int finishedCount;
+
+    @Override
+    public void onException(Exception exception, AnalysisContext context) {
+        exceptions.add(exception);
+        failedRowIndexes.add(context.readRowHolder().getRowIndex());
+    }
+
+    @Override
+    public void doAfterAllAnalysed(AnalysisContext context) {
+        finishedCount++;
+    }
+
+    /**
+     * Returns an unmodifiable view of the indexes of the rows that failed, in read order.
+     */
+    public List<Integer> getFailedRowIndexes() {
+        return Collections.unmodifiableList(failedRowIndexes);
+    }
+
+    /**
+     * Returns an unmodifiable view of the exceptions of the rows that failed, in read order.
+     */
+    public List<Exception> getExceptions() {
+        return Collections.unmodifiableList(exceptions);
+    }
+
+    /**
+     * Returns how many times the read finished.
+     */
+    public int getFinishedCount() {
+        return finishedCount;
+    }
+
+    /**
+     * Clears the collected rows and failures, allowing reuse of the same listener instance.
+     */
+    @Override
+    public void clear() {
+        super.clear();
+        failedRowIndexes.clear();
+        exceptions.clear();
+        finishedCount = 0;
+    }
+}
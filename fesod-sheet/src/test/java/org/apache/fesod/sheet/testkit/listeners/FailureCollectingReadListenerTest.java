@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fesod.sheet.testkit.listeners;
+
+import java.io.File;
+import java.util.Arrays;
+import org.apache.fesod.sheet.FesodSheet;
+import org.apache.fesod.sheet.exception.ExcelDataConvertException;
+import org.apache.fesod.sheet.testkit.Tags;
+import org.apache.fesod.sheet.testkit.base.AbstractExcelTest;
+import org.apache.fesod.sheet.testkit.builders.TestDataBuilder;
+import org.apache.fesod.sheet.testkit.enums.ExcelFormat;
+import org.apache.fesod.sheet.testkit.models.SimpleData;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag(Tags.UNIT)
+class FailureCollectingReadListenerTest extends AbstractExcelTest {
+
+    @Test
+    @Tag(Tags.ROUND_TRIP)
+    void collectsRowsAndFailures() throws Exception {
+        File file = createTempFile("failureCollecting", ExcelFormat.XLSX);
+        FesodSheet.write(file)
+                .head(TestDataBuilder.simpleDataHead())
+                .sheet()
+                .doWrite(TestDataBuilder.simpleDataRows(10, i -> i == 3 || i == 7));
+        FailureCollectingReadListener<SimpleData> listener = new FailureCollectingReadListener<SimpleData>();
+
+        FesodSheet.read(file, SimpleData.class, listener).sheet().doRead();
+
+        Assertions.assertEquals(8, listener.getRowCount());
+        Assertions.assertEquals("Name4", listener.getRows().get(3).getName());
+        Assertions.assertEquals(4, listener.getRows().get(3).getAge());
+        // The head is row 0
+        Assertions.assertEquals(Arrays.asList(4, 8), listener.getFailedRowIndexes());
+        Assertions.assertInstanceOf(ExcelDataConvertException.class, listener.getExceptions().get(0));
+        Assertions.assertEquals(1, listener.getFinishedCount());
+    }
+
+    @Test
+    void clearResetsFailures() {
+        FailureCollectingReadListener<String> listener = new FailureCollectingReadListener<String>();
+        listener.invoke("row0", null);
+        listener.doAfterAllAnalysed(null);
+
+        listener.clear();
+
+        Assertions.assertEquals(0, listener.getRowCount());
+        Assertions.assertTrue(listener.getFailedRowIndexes().isEmpty());
+        Assertions.assertTrue(listener.getExceptions().isEmpty());
+        Assertions.assertEquals(0, listener.getFinishedCount());
+    }
+}
@@ -412,14 +412,16 @@ class DateUtilsTest {
         boolean res1 = DateUtils.isADateFormat(formatId, formatStr);
         Assertions.assertTrue(res1);
 
-        Field threadLocalField = DateUtils.class.getDeclaredField("DATE_THREAD_LOCAL");
-        threadLocalField.setAccessible(true);
-        ThreadLocal<Map<Short, Boolean>> tl = (ThreadLocal<Map<Short, Boolean>>) threadLocalField.get(null);
+        Field cacheField = DateUtils.class.getDeclaredField("DATE_FORMAT_STRING_CACHE");
+        cacheField.setAccessible(true);
+        Map<String, Boolean> cache = (Map<String, Boolean>) cacheField.get(null);
 
-        Map<Short, Boolean> cache = tl.get();
-        Assertions.assertNotNull(cache);
-        Assertions.assertTrue(cache.containsKey(formatId));
-        Assertions.assertTrue(cache.get(formatId));
+        Assertions.assertTrue(cache.containsKey(formatStr));
+        Assertions.assertTrue(cache.get(formatStr));
+
+        // The cache is kept by format string, so another index with the same format shares it
+        Assertions.assertTrue(DateUtils.isADateFormat((short) 201, formatStr));
+        Assertions.assertFalse(DateUtils.isADateFormat(formatId, "0.00"));
 
         boolean res2 = DateUtils.isADateFormat(formatId, formatStr);
         Assertions.assertTrue(res2);
@@ -429,22 +431,17 @@ class DateUtilsTest {
     void test_removeThreadLocalCache() throws NoSuchFieldException, IllegalAccessException {
         DateUtils.format(new Date(), "yyyy-MM-dd");
         DateUtils.format(LocalDate.of(2026, 7, 13), "MMMM", Locale.US);
-        DateUtils.isADateFormat((short) 100, "yyyy-MM-dd");
 
-        Field f1 = DateUtils.class.getDeclaredField("DATE_THREAD_LOCAL");
         Field f2 = DateUtils.class.getDeclaredField("DATE_FORMAT_THREAD_LOCAL");
         Field f3 = DateUtils.class.getDeclaredField("DATE_TIME_FORMATTER_THREAD_LOCAL");
-        f1.setAccessible(true);
         f2.setAccessible(true);
         f3.setAccessible(true);
 
-        Assertions.assertNotNull(((ThreadLocal<?>) f1.get(null)).get());
         Assertions.assertNotNull(((ThreadLocal<?>) f2.get(null)).get());
         Assertions.assertNotNull(((ThreadLocal<?>) f3.get(null)).get());
 
         DateUtils.removeThreadLocalCache();
 
-        Assertions.assertNull(((ThreadLocal<?>) f1.get(null)).get());
         Assertions.assertNull(((ThreadLocal<?>) f2.get(null)).get());
         Assertions.assertNull(((ThreadLocal<?>) f3.get(null)).get());
     }
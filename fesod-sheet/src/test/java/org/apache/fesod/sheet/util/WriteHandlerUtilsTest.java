@@ -24,6 +24,7 @@ import org.apache.fesod.sheet.metadata.Head;
 import org.apache.fesod.sheet.metadata.property.ExcelContentProperty;
 import org.apache.fesod.sheet.testkit.Tags;
 import org.apache.fesod.sheet.write.handler.chain.CellHandlerExecutionChain;
+import org.apache.fesod.sheet.write.handler.chain.CellHandlerHook;
 import org.apache.fesod.sheet.write.handler.chain.RowHandlerExecutionChain;
 import org.apache.fesod.sheet.write.handler.chain.SheetHandlerExecutionChain;
 import org.apache.fesod.sheet.write.handler.chain.WorkbookHandlerExecutionChain;
@@ -357,7 +358,8 @@ class WriteHandlerUtilsTest {
     void test_beforeCellCreate_execution() {
         CellWriteHandlerContext context = Mockito.mock(CellWriteHandlerContext.class);
         Mockito.when(context.getWriteContext()).thenReturn(writeContext);
-        Mockito.when(abstractWriteHolder.getCellHandlerExecutionChain()).thenReturn(cellChain);
+        Mockito.when(abstractWriteHolder.cellHandlerExecutionChain(CellHandlerHook.BEFORE_CELL_CREATE))
+                .thenReturn(cellChain);
 
         Assertions.assertDoesNotThrow(() -> WriteHandlerUtils.beforeCellCreate(context));
         Mockito.verify(cellChain).beforeCellCreate(context);
@@ -367,7 +369,8 @@ class WriteHandlerUtilsTest {
     void test_beforeCellCreate_chain_null() {
         CellWriteHandlerContext context = Mockito.mock(CellWriteHandlerContext.class);
         Mockito.when(context.getWriteContext()).thenReturn(writeContext);
-        Mockito.when(abstractWriteHolder.getCellHandlerExecutionChain()).thenReturn(null);
+        Mockito.when(abstractWriteHolder.cellHandlerExecutionChain(CellHandlerHook.BEFORE_CELL_CREATE))
+                .thenReturn(null);
 
         Assertions.assertDoesNotThrow(() -> WriteHandlerUtils.beforeCellCreate(context));
     }
@@ -376,7 +379,8 @@ class WriteHandlerUtilsTest {
     void test_afterCellCreate_execution() {
         CellWriteHandlerContext context = Mockito.mock(CellWriteHandlerContext.class);
         Mockito.when(context.getWriteContext()).thenReturn(writeContext);
-        Mockito.when(abstractWriteHolder.getCellHandlerExecutionChain()).thenReturn(cellChain);
+        Mockito.when(abstractWriteHolder.cellHandlerExecutionChain(CellHandlerHook.AFTER_CELL_CREATE))
+                .thenReturn(cellChain);
 
         Assertions.assertDoesNotThrow(() -> WriteHandlerUtils.afterCellCreate(context));
         Mockito.verify(cellChain).afterCellCreate(context);
@@ -386,7 +390,7 @@ class WriteHandlerUtilsTest {
     void test_afterCellCreate_chain_null() {
         CellWriteHandlerContext context = Mockito.mock(CellWriteHandlerContext.class);
         Mockito.when(context.getWriteContext()).thenReturn(writeContext);
-        Mockito.when(abstractWriteHolder.getCellHandlerExecutionChain()).thenReturn(null);
+        Mockito.when(abstractWriteHolder.cellHandlerExecutionChain(CellHandlerHook.AFTER_CELL_CREATE)).thenReturn(null);
 
         Assertions.assertDoesNotThrow(() -> WriteHandlerUtils.afterCellCreate(context));
     }
@@ -395,7 +399,8 @@ class WriteHandlerUtilsTest {
     void test_afterCellDataConverted_execution() {
         CellWriteHandlerContext context = Mockito.mock(CellWriteHandlerContext.class);
         Mockito.when(context.getWriteContext()).thenReturn(writeContext);
-        Mockito.when(abstractWriteHolder.getCellHandlerExecutionChain()).thenReturn(cellChain);
+        Mockito.when(abstractWriteHolder.cellHandlerExecutionChain(CellHandlerHook.AFTER_CELL_DATA_CONVERTED))
+                .thenReturn(cellChain);
 
         Assertions.assertDoesNotThrow(() -> WriteHandlerUtils.afterCellDataConverted(context));
         Mockito.verify(cellChain).afterCellDataConverted(context);
@@ -405,7 +410,8 @@ class WriteHandlerUtilsTest {
     void test_afterCellDataConverted_chain_null() {
         CellWriteHandlerContext context = Mockito.mock(CellWriteHandlerContext.class);
         Mockito.when(context.getWriteContext()).thenReturn(writeContext);
-        Mockito.when(abstractWriteHolder.getCellHandlerExecutionChain()).thenReturn(null);
+        Mockito.when(abstractWriteHolder.cellHandlerExecutionChain(CellHandlerHook.AFTER_CELL_DATA_CONVERTED))
+                .thenReturn(null);
 
         Assertions.assertDoesNotThrow(() -> WriteHandlerUtils.afterCellDataConverted(context));
     }
@@ -414,7 +420,8 @@ class WriteHandlerUtilsTest {
     void test_afterCellDispose_execution() {
         CellWriteHandlerContext context = Mockito.mock(CellWriteHandlerContext.class);
         Mockito.when(context.getWriteContext()).thenReturn(writeContext);
-        Mockito.when(abstractWriteHolder.getCellHandlerExecutionChain()).thenReturn(cellChain);
+        Mockito.when(abstractWriteHolder.cellHandlerExecutionChain(CellHandlerHook.AFTER_CELL_DISPOSE))
+                .thenReturn(cellChain);
 
         Assertions.assertDoesNotThrow(() -> WriteHandlerUtils.afterCellDispose(context));
         Mockito.verify(cellChain).afterCellDispose(context);
@@ -424,7 +431,8 @@ class WriteHandlerUtilsTest {
     void test_afterCellDispose_chain_null() {
         CellWriteHandlerContext context = Mockito.mock(CellWriteHandlerContext.class);
         Mockito.when(context.getWriteContext()).thenReturn(writeContext);
-        Mockito.when(abstractWriteHolder.getCellHandlerExecutionChain()).thenReturn(null);
+        Mockito.when(abstractWriteHolder.cellHandlerExecutionChain(CellHandlerHook.AFTER_CELL_DISPOSE))
+                .thenReturn(null);
 
         Assertions.assertDoesNotThrow(() -> WriteHandlerUtils.afterCellDispose(context));
     }
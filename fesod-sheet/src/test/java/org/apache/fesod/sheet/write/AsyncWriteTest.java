@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.sheet.write;
+
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.fesod.sheet.ExcelWriter;
+import org.apache.fesod.sheet.FesodSheet;
+import org.apache.fesod.sheet.testkit.Tags;
+import org.apache.fesod.sheet.testkit.base.AbstractExcelTest;
+import org.apache.fesod.sheet.testkit.builders.TestDataBuilder;
+import org.apache.fesod.sheet.testkit.enums.ExcelFormat;
+import org.apache.fesod.sheet.testkit.helpers.RoundTripHelper;
+import org.apache.fesod.sheet.write.metadata.WriteSheet;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Writing the batches in the background.
+ */
+@Tag(Tags.WRITE)
+public class AsyncWriteTest extends AbstractExcelTest {
+
+    private static final int BATCH_COUNT = 10;
+    private static final int BATCH_SIZE = 100;
+
+    @Test
+    void writesBatchesInOrder() throws Exception {
+        File file = createTempFile("asyncWrite", ExcelFormat.XLSX);
+        try (ExcelWriter excelWriter = FesodSheet.write(file)
+                .asyncWriteQueueSize(2)
+                .head(TestDataBuilder.indexedRowsHead())
+                .build()) {
+            WriteSheet writeSheet = FesodSheet.writerSheet("data").build();
+            for (int i = 0; i < BATCH_COUNT; i++) {
+                excelWriter.write(batch(i), writeSheet);
+            }
+        }
+
+        RoundTripHelper.assertIndexedRows(file, 0, "row", BATCH_COUNT * BATCH_SIZE);
+    }
+
+    @Test
+    void getsSuppliersOnThreads() throws Exception {
+        File file = createTempFile("asyncWriteSuppliers", ExcelFormat.XLSX);
+        try (ExcelWriter excelWriter = FesodSheet.write(file)
+                .asyncWriteQueueSize(4)
+                .asyncSupplierThreads(3)
+                .head(TestDataBuilder.indexedRowsHead())
+                .build()) {
+            WriteSheet writeSheet = FesodSheet.writerSheet("data").build();
+            for (int i = 0; i < BATCH_COUNT; i++) {
+                int batchNo = i;
+                excelWriter.write(
+                        () -> {
+                            // The later batches are ready first
+                            sleep(BATCH_COUNT - batchNo);
+                            return batch(batchNo);
+                        },
+                        writeSheet);
+            }
+        }
+
+        RoundTripHelper.assertIndexedRows(file, 0, "row", BATCH_COUNT * BATCH_SIZE);
+    }
+
+    @Test
+    void waitsWhenQueueIsFull() throws Exception {
+        File file = createTempFile("asyncWriteQueue", ExcelFormat.XLSX);
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicInteger handedOver = new AtomicInteger();
+        try (ExcelWriter excelWriter = FesodSheet.write(file)
+                .asyncWriteQueueSize(1)
+                .head(TestDataBuilder.indexedRowsHead())
+                .build()) {
+            WriteSheet writeSheet = FesodSheet.writerSheet("data").build();
+            Thread producer = new Thread(() -> {
+                for (int i = 0; i < BATCH_COUNT; i++) {
+                    int batchNo = i;
+                    excelWriter.write(
+                            () -> {
+                                await(latch);
+                                return batch(batchNo);
+                            },
+                            writeSheet);
+                    handedOver.incrementAndGet();
+                }
+            });
+            producer.start();
+            Thread.sleep(200);
+            Assertions.assertEquals(1, handedOver.get());
+
+            latch.countDown();
+            producer.join(TimeUnit.SECONDS.toMillis(30));
+            Assertions.assertEquals(BATCH_COUNT, handedOver.get());
+        }
+
+        RoundTripHelper.assertIndexedRows(file, 0, "row", BATCH_COUNT * BATCH_SIZE);
+    }
+
+    @Test
+    void finishThrowsException() throws Exception {
+        File file = createTempFile("asyncWriteException", ExcelFormat.XLSX);
+        AtomicBoolean written = new AtomicBoolean();
+        // Fail only once both batches are handed over, the next write would throw otherwise
+        CountDownLatch latch = new CountDownLatch(1);
+        ExcelWriter excelWriter = FesodSheet.write(file)
+                .asyncWriteQueueSize(2)
+                .head(TestDataBuilder.indexedRowsHead())
+                .build();
+        WriteSheet writeSheet = FesodSheet.writerSheet("data").build();
+        excelWriter.write(
+                () -> {
+                    await(latch);
+                    throw new IllegalStateException("supplier failed");
+                },
+                writeSheet);
+        excelWriter.write(
+                () -> {
+                    written.set(true);
+                    return batch(0);
+                },
+                writeSheet);
+        latch.countDown();
+
+        IllegalStateException exception = Assertions.assertThrows(IllegalStateException.class, excelWriter::finish);
+        Assertions.assertEquals("supplier failed", exception.getMessage());
+        Assertions.assertFalse(written.get());
+        // Thrown only once
+        excelWriter.finish();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static List<List<Object>> batch(int batchNo) {
+        return TestDataBuilder.indexedRows("row", batchNo * BATCH_SIZE, BATCH_SIZE);
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.sheet.write;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import org.apache.fesod.sheet.FesodSheet;
+import org.apache.fesod.sheet.annotation.ExcelProperty;
+import org.apache.fesod.sheet.testkit.Tags;
+import org.apache.fesod.sheet.testkit.base.AbstractExcelTest;
+import org.apache.fesod.sheet.testkit.enums.ExcelFormat;
+import org.apache.fesod.sheet.testkit.params.ExcelFormatSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+
+/**
+ * Objects are written through their getters, the properties that are not in the head go after the head columns.
+ */
+@Tag(Tags.WRITE)
+public class ModelWriteTest extends AbstractExcelTest {
+
+    private static final int ROW_COUNT = 10;
+
+    @ParameterizedTest
+    @ExcelFormatSource
+    void writesModelsOfDifferentClasses(ExcelFormat format) throws Exception {
+        File file = createTempFile("modelWrite", format);
+        List<Object> data = new ArrayList<>();
+        for (int i = 0; i < ROW_COUNT; i++) {
+            HeadRow row = i % 2 == 0 ? new HeadRow() : new ExtraRow();
+            row.setName("Name" + i);
+            row.setNumber(i);
+            if (row instanceof ExtraRow) {
+                ((ExtraRow) row).setExtra("Extra" + i);
+                ((ExtraRow) row).setWriteOnly("WriteOnly" + i);
+            }
+            data.add(row);
+        }
+        FesodSheet.write(file, HeadRow.class)
+                .excelType(format.toExcelTypeEnum())
+                .sheet()
+                .doWrite(data);
+
+        List<Map<Integer, String>> rows = FesodSheet.read(file)
+                .excelType(format.toExcelTypeEnum())
+                .sheet()
+                .doReadSync();
+
+        Assertions.assertEquals(ROW_COUNT, rows.size());
+        for (int i = 0; i < ROW_COUNT; i++) {
+            Map<Integer, String> row = rows.get(i);
+            Assertions.assertEquals("Name" + i, row.get(0));
+            Assertions.assertEquals(String.valueOf(i), row.get(1));
+            if (i % 2 == 0) {
+                Assertions.assertNull(row.get(2));
+            } else {
+                Assertions.assertEquals("Extra" + i, row.get(2));
+            }
+            Assertions.assertNull(row.get(3));
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class HeadRow {
+        @ExcelProperty("name")
+        private String name;
+
+        @ExcelProperty("number")
+        private Integer number;
+    }
+
+    @Getter
+    @Setter
+    public static class ExtraRow extends HeadRow {
+        private String extra;
+
+        @Getter(AccessLevel.NONE)
+        private String writeOnly;
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.sheet.write;
+
+import java.io.File;
+import java.util.Enumeration;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import org.apache.fesod.sheet.ExcelWriter;
+import org.apache.fesod.sheet.FesodSheet;
+import org.apache.fesod.sheet.testkit.Tags;
+import org.apache.fesod.sheet.testkit.base.AbstractExcelTest;
+import org.apache.fesod.sheet.testkit.builders.TestDataBuilder;
+import org.apache.fesod.sheet.testkit.enums.ExcelFormat;
+import org.apache.fesod.sheet.testkit.helpers.RoundTripHelper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The compression level and threads of the xlsx parts.
+ */
+@Tag(Tags.WRITE)
+public class XlsxCompressionWriteTest extends AbstractExcelTest {
+
+    private static final int SHEET_COUNT = 4;
+    private static final int ROW_COUNT = 500;
+
+    @Test
+    void compressesSheetsOnThreads() throws Exception {
+        File file = createTempFile("compressionThreads", ExcelFormat.XLSX);
+        write(file, null, 3);
+
+        assertSheets(file);
+        Assertions.assertEquals(ZipEntry.DEFLATED, sheetEntryMethod(file));
+    }
+
+    @Test
+    void storesPartsWithLevelZero() throws Exception {
+        File stored = createTempFile("compressionStored", ExcelFormat.XLSX);
+        write(stored, 0, 2);
+        File deflated = createTempFile("compressionDeflated", ExcelFormat.XLSX);
+        write(deflated, 9, 0);
+
+        assertSheets(stored);
+        assertSheets(deflated);
+        Assertions.assertEquals(ZipEntry.STORED, sheetEntryMethod(stored));
+        Assertions.assertTrue(stored.length() > deflated.length());
+    }
+
+    @Test
+    void rejectsInvalidLevel() throws Exception {
+        File file = createTempFile("compressionInvalid", ExcelFormat.XLSX);
+        Assertions.assertThrows(RuntimeException.class, () -> FesodSheet.write(file)
+                .compressionLevel(10)
+                .sheet()
+                .doWrite(TestDataBuilder.indexedRows("sheet0-", 0, ROW_COUNT)));
+    }
+
+    private static void write(File file, Integer compressionLevel, int compressionThreads) {
+        try (ExcelWriter excelWriter = FesodSheet.write(file)
+                .compressionLevel(compressionLevel)
+                .compressionThreads(compressionThreads)
+                .head(TestDataBuilder.indexedRowsHead())
+                .build()) {
+            for (int i = 0; i < SHEET_COUNT; i++) {
+                excelWriter.write(
+                        TestDataBuilder.indexedRows("sheet" + i + "-", 0, ROW_COUNT),
+                        FesodSheet.writerSheet(i, "sheet" + i).build());
+            }
+        }
+    }
+
+    private static void assertSheets(File file) {
+        for (int i = 0; i < SHEET_COUNT; i++) {
+            RoundTripHelper.assertIndexedRows(file, i, "sheet" + i + "-", ROW_COUNT);
+        }
+    }
+
+    private static int sheetEntryMethod(File file) throws Exception {
+        try (ZipFile zipFile = new ZipFile(file)) {
+            Enumeration<? extends ZipEntry> entries = zipFile.entries();
+            while (entries.hasMoreElements()) {
+                ZipEntry zipEntry = entries.nextElement();
+                if (zipEntry.getName().startsWith("xl/worksheets/sheet")) {
+                    return zipEntry.getMethod();
+                }
+            }
+        }
+        throw new AssertionError("No sheet in " + file);
+    }
+}
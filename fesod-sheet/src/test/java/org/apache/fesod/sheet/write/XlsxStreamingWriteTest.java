@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.sheet.write;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.List;
+import org.apache.fesod.sheet.ExcelWriter;
+import org.apache.fesod.sheet.FesodSheet;
+import org.apache.fesod.sheet.metadata.xlsx.XlsxStreamingWorkbook;
+import org.apache.fesod.sheet.testkit.Tags;
+import org.apache.fesod.sheet.testkit.base.AbstractExcelTest;
+import org.apache.fesod.sheet.testkit.builders.TestDataBuilder;
+import org.apache.fesod.sheet.testkit.enums.ExcelFormat;
+import org.apache.fesod.sheet.testkit.helpers.RoundTripHelper;
+import org.apache.fesod.sheet.write.handler.SheetWriteHandler;
+import org.apache.fesod.sheet.write.handler.context.SheetWriteHandlerContext;
+import org.apache.fesod.sheet.write.merge.OnceAbsoluteMergeStrategy;
+import org.apache.fesod.sheet.write.metadata.WriteSheet;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.usermodel.WorkbookFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The streaming xlsx writer produces the same workbook as the default one.
+ */
+@Tag(Tags.WRITE)
+public class XlsxStreamingWriteTest extends AbstractExcelTest {
+
+    /**
+     * More than the row access window, so rows are flushed while writing.
+     */
+    private static final int ROW_COUNT = 1000;
+
+    @Test
+    void writesRowsDirectly() throws Exception {
+        File file = createTempFile("xlsxStreaming", ExcelFormat.XLSX);
+        FesodSheet.write(file)
+                .xlsxStreaming(true)
+                .head(TestDataBuilder.indexedRowsHead())
+                .registerWriteHandler(new OnceAbsoluteMergeStrategy(1, 2, 2, 3))
+                .registerWriteHandler(new ColumnWidthHandler())
+                .sheet("data")
+                .doWrite(data("row"));
+
+        RoundTripHelper.assertIndexedRows(file, 0, "row", ROW_COUNT);
+
+        try (Workbook workbook = WorkbookFactory.create(file)) {
+            Sheet sheet = workbook.getSheet("data");
+            Assertions.assertEquals(ROW_COUNT, sheet.getLastRowNum());
+            Assertions.assertEquals(CellType.NUMERIC, sheet.getRow(1).getCell(1).getCellType());
+            Assertions.assertEquals(1, sheet.getNumMergedRegions());
+            Assertions.assertEquals(20 * 256, sheet.getColumnWidth(0));
+            Assertions.assertTrue(sheet.getRow(0).getCell(0).getCellStyle().getIndex() > 0);
+        }
+    }
+
+    @Test
+    void writesSheetsOneAfterAnother() throws Exception {
+        File file = createTempFile("xlsxStreamingSheets", ExcelFormat.XLSX);
+        try (ExcelWriter excelWriter = FesodSheet.write(file)
+                .xlsxStreaming(true)
+                .head(TestDataBuilder.indexedRowsHead())
+                .build()) {
+            excelWriter.write(data("first"), FesodSheet.writerSheet(0, "first").build());
+            excelWriter.write(data("second"), FesodSheet.writerSheet(1, "second").build());
+            // Empty sheet
+            excelWriter.write(Collections.emptyList(), FesodSheet.writerSheet(2, "third").build());
+        }
+
+        RoundTripHelper.assertIndexedRows(file, 0, "first", ROW_COUNT);
+        RoundTripHelper.assertIndexedRows(file, 1, "second", ROW_COUNT);
+        Assertions.assertTrue(FesodSheet.read(file).sheet(2).doReadSync().isEmpty());
+    }
+
+    @Test
+    void rejectsFinishedSheet() throws Exception {
+        File file = createTempFile("xlsxStreamingFinished", ExcelFormat.XLSX);
+        ExcelWriter excelWriter = FesodSheet.write(file)
+                .xlsxStreaming(true)
+                .head(TestDataBuilder.indexedRowsHead())
+                .build();
+        WriteSheet first = FesodSheet.writerSheet(0, "first").build();
+        excelWriter.write(data("first"), first);
+        excelWriter.write(data("second"), FesodSheet.writerSheet(1, "second").build());
+        Assertions.assertThrows(RuntimeException.class, () -> excelWriter.write(data("again"), first));
+    }
+
+    @Test
+    void usesStreamingWorkbookOnlyWhenPossible() throws Exception {
+        File file = createTempFile("xlsxStreamingFallback", ExcelFormat.XLSX);
+        try (ExcelWriter excelWriter = FesodSheet.write(file).xlsxStreaming(true).build()) {
+            Assertions.assertTrue(
+                    excelWriter.writeContext().writeWorkbookHolder().getWorkbook() instanceof XlsxStreamingWorkbook);
+        }
+        try (ExcelWriter excelWriter = FesodSheet.write(file).xlsxStreaming(true).inMemory(true).build()) {
+            Assertions.assertFalse(
+                    excelWriter.writeContext().writeWorkbookHolder().getWorkbook() instanceof XlsxStreamingWorkbook);
+        }
+    }
+
+    private static List<List<Object>> data(String prefix) {
+        return TestDataBuilder.indexedRows(prefix, 0, ROW_COUNT);
+    }
+
+    private static class ColumnWidthHandler implements SheetWriteHandler {
+        @Override
+        public void afterSheetCreate(SheetWriteHandlerContext context) {
+            context.getWriteSheetHolder().getSheet().setColumnWidth(0, 20 * 256);
+        }
+    }
+}
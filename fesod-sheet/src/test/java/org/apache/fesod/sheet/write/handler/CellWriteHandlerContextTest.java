@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.sheet.write.handler;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.fesod.sheet.FesodSheet;
+import org.apache.fesod.sheet.testkit.Tags;
+import org.apache.fesod.sheet.testkit.base.AbstractExcelTest;
+import org.apache.fesod.sheet.testkit.builders.TestDataBuilder;
+import org.apache.fesod.sheet.testkit.enums.ExcelFormat;
+import org.apache.fesod.sheet.testkit.helpers.RoundTripHelper;
+import org.apache.fesod.sheet.write.handler.context.CellWriteHandlerContext;
+import org.apache.fesod.sheet.write.handler.context.SheetWriteHandlerContext;
+import org.apache.fesod.sheet.write.metadata.holder.WriteSheetHolder;
+import org.apache.fesod.sheet.write.metadata.style.WriteCellStyle;
+import org.apache.fesod.sheet.write.style.AbstractCellStyleStrategy;
+import org.apache.fesod.sheet.write.style.HorizontalCellStyleStrategy;
+import org.apache.fesod.sheet.write.style.column.LongestMatchColumnWidthStyleStrategy;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The cell handlers are only called for the hooks they implement, and the context of the cells is reused when every
+ * handler is one of the library, not a subclass of it.
+ */
+@Tag(Tags.WRITE)
+public class CellWriteHandlerContextTest extends AbstractExcelTest {
+
+    private static final int ROW_COUNT = 10;
+    private static final int COLUMN_COUNT = 3;
+    private static final List<List<Object>> DATA = TestDataBuilder.indexedRows("row", 0, ROW_COUNT);
+
+    @Test
+    void reusesContextOfLibraryHandlers() throws Exception {
+        File file = createTempFile("cellContextReused", ExcelFormat.XLSX);
+        List<WriteSheetHolder> holderList = new ArrayList<>();
+        SheetWriteHandler holderHandler = new SheetWriteHandler() {
+            @Override
+            public void afterSheetCreate(SheetWriteHandlerContext context) {
+                holderList.add(context.getWriteSheetHolder());
+            }
+        };
+        FesodSheet.write(file)
+                .head(TestDataBuilder.indexedRowsHead())
+                .registerWriteHandler(new HorizontalCellStyleStrategy(new WriteCellStyle(), new WriteCellStyle()))
+                .registerWriteHandler(new LongestMatchColumnWidthStyleStrategy())
+                .registerWriteHandler(holderHandler)
+                .sheet()
+                .doWrite(DATA);
+
+        Assertions.assertEquals(1, holderList.size());
+        Assertions.assertTrue(holderList.get(0).isReuseCellWriteHandlerContext());
+        RoundTripHelper.assertIndexedRows(file, 0, "row", ROW_COUNT);
+    }
+
+    @Test
+    void createsContextForSubclassesOfLibraryHandlers() throws Exception {
+        File file = createTempFile("cellContextSubclass", ExcelFormat.XLSX);
+        RecordingStyleStrategy styleStrategy = new RecordingStyleStrategy();
+        FesodSheet.write(file)
+                .head(TestDataBuilder.indexedRowsHead())
+                .registerWriteHandler(styleStrategy)
+                .sheet()
+                .doWrite(DATA);
+
+        Assertions.assertEquals(ROW_COUNT * COLUMN_COUNT, styleStrategy.cellCount);
+        Assertions.assertEquals(ROW_COUNT * COLUMN_COUNT, styleStrategy.contextMap.size());
+        RoundTripHelper.assertIndexedRows(file, 0, "row", ROW_COUNT);
+    }
+
+    @Test
+    void createsContextForOtherHandlers() throws Exception {
+        File file = createTempFile("cellContextKept", ExcelFormat.XLSX);
+        List<CellWriteHandlerContext> contextList = new ArrayList<>();
+        CellWriteHandler keepingHandler = new CellWriteHandler() {
+            @Override
+            public void afterCellCreate(CellWriteHandlerContext context) {
+                if (!context.getHead()) {
+                    contextList.add(context);
+                }
+            }
+        };
+        FesodSheet.write(file)
+                .head(TestDataBuilder.indexedRowsHead())
+                .registerWriteHandler(keepingHandler)
+                .sheet()
+                .doWrite(DATA);
+
+        Assertions.assertEquals(ROW_COUNT * COLUMN_COUNT, contextList.size());
+        Map<CellWriteHandlerContext, Boolean> contextMap = new IdentityHashMap<>();
+        for (int i = 0; i < contextList.size(); i++) {
+            CellWriteHandlerContext context = contextList.get(i);
+            contextMap.put(context, Boolean.TRUE);
+            Assertions.assertEquals(i / COLUMN_COUNT + 1, context.getRowIndex());
+            Assertions.assertEquals(i % COLUMN_COUNT, context.getColumnIndex());
+        }
+        Assertions.assertEquals(contextList.size(), contextMap.size());
+        RoundTripHelper.assertIndexedRows(file, 0, "row", ROW_COUNT);
+    }
+
+    private static class RecordingStyleStrategy extends AbstractCellStyleStrategy {
+        private final Map<CellWriteHandlerContext, Boolean> contextMap = new IdentityHashMap<>();
+        private int cellCount;
+
+        @Override
+        protected void setHeadCellStyle(CellWriteHandlerContext context) {}
+
+        @Override
+        protected void setContentCellStyle(CellWriteHandlerContext context) {
+            Assertions.assertEquals(cellCount / COLUMN_COUNT + 1, context.getRowIndex());
+            Assertions.assertEquals(cellCount % COLUMN_COUNT, context.getColumnIndex());
+            Assertions.assertEquals(
+                    DATA.get(cellCount / COLUMN_COUNT).get(cellCount % COLUMN_COUNT), context.getOriginalValue());
+            contextMap.put(context, Boolean.TRUE);
+            cellCount++;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fesod.sheet.write.handler.chain;
+
+import java.util.List;
+import org.apache.fesod.sheet.metadata.Head;
+import org.apache.fesod.sheet.metadata.data.WriteCellData;
+import org.apache.fesod.sheet.testkit.Tags;
+import org.apache.fesod.sheet.write.handler.AbstractCellWriteHandler;
+import org.apache.fesod.sheet.write.handler.CellWriteHandler;
+import org.apache.fesod.sheet.write.handler.context.CellWriteHandlerContext;
+import org.apache.fesod.sheet.write.handler.impl.FillStyleCellWriteHandler;
+import org.apache.fesod.sheet.write.metadata.holder.WriteSheetHolder;
+import org.apache.fesod.sheet.write.metadata.holder.WriteTableHolder;
+import org.apache.poi.ss.usermodel.Cell;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link CellHandlerHook}
+ */
+@Tag(Tags.UNIT)
+class CellHandlerHookTest {
+
+    @Test
+    void test_isImplementedBy_contextMethod() {
+        CellWriteHandler handler = new CellWriteHandler() {
+            @Override
+            public void afterCellCreate(CellWriteHandlerContext context) {}
+        };
+
+        Assertions.assertFalse(CellHandlerHook.BEFORE_CELL_CREATE.isImplementedBy(handler));
+        Assertions.assertTrue(CellHandlerHook.AFTER_CELL_CREATE.isImplementedBy(handler));
+        Assertions.assertFalse(CellHandlerHook.AFTER_CELL_DATA_CONVERTED.isImplementedBy(handler));
+        Assertions.assertFalse(CellHandlerHook.AFTER_CELL_DISPOSE.isImplementedBy(handler));
+    }
+
+    @Test
+    void test_isImplementedBy_parameterMethod() {
+        CellWriteHandler handler = new CellWriteHandler() {
+            @Override
+            public void afterCellDispose(
+                    WriteSheetHolder writeSheetHolder,
+                    WriteTableHolder writeTableHolder,
+                    List<WriteCellData<?>> cellDataList,
+                    Cell cell,
+                    Head head,
+                    Integer relativeRowIndex,
+                    Boolean isHead) {}
+        };
+
+        Assertions.assertFalse(CellHandlerHook.AFTER_CELL_CREATE.isImplementedBy(handler));
+        Assertions.assertTrue(CellHandlerHook.AFTER_CELL_DISPOSE.isImplementedBy(handler));
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void test_isImplementedBy_abstractCellWriteHandler() {
+        CellWriteHandler empty = new AbstractCellWriteHandler() {};
+        CellWriteHandler converted = new AbstractCellWriteHandler() {
+            @Override
+            public void afterCellDataConverted(
+                    WriteSheetHolder writeSheetHolder,
+                    WriteTableHolder writeTableHolder,
+                    WriteCellData<?> cellData,
+                    Cell cell,
+                    Head head,
+                    Integer relativeRowIndex,
+                    Boolean isHead) {}
+        };
+
+        for (CellHandlerHook hook : CellHandlerHook.values()) {
+            Assertions.assertFalse(hook.isImplementedBy(empty));
+            Assertions.assertEquals(hook == CellHandlerHook.AFTER_CELL_DATA_CONVERTED, hook.isImplementedBy(converted));
+        }
+    }
+
+    @Test
+    void test_isImplementedBy_fillStyle() {
+        CellWriteHandler handler = new FillStyleCellWriteHandler();
+
+        Assertions.assertFalse(CellHandlerHook.BEFORE_CELL_CREATE.isImplementedBy(handler));
+        Assertions.assertFalse(CellHandlerHook.AFTER_CELL_CREATE.isImplementedBy(handler));
+        Assertions.assertFalse(CellHandlerHook.AFTER_CELL_DATA_CONVERTED.isImplementedBy(handler));
+        Assertions.assertTrue(CellHandlerHook.AFTER_CELL_DISPOSE.isImplementedBy(handler));
+    }
+}